@@ -0,0 +1,78 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+import com.chompchompfig.rockpaperscissors.domain.Game.Iterations;
+import com.chompchompfig.rockpaperscissors.domain.Game.Parallelism;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.BenchmarkMoveStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures playing and summarizing whole Games, for different numbers of iterations and player one strategies.
+ * Player two always moves randomly. Parallel play uses as many chunks as the parallelism parameter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameBenchmark {
+
+    @Param({"1000", "100000"})
+    private int iterations;
+    @Param({"RANDOM", "SPLITTABLE_RANDOM", "FIXED"})
+    private BenchmarkMoveStrategy strategy;
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private Game game = new Game();
+    private Iterations gameIterations;
+    private Parallelism gameParallelism;
+    private Player playerOne;
+    private Player playerTwo;
+    private Collection<GamePlay> gamePlays;
+
+    @Setup
+    public void setUp() {
+        gameIterations = Iterations.of(iterations);
+        gameParallelism = Parallelism.of(parallelism);
+        playerOne = Player.newPlayer(Player.PlayerName.of("ONE"), strategy.newMoveStrategy());
+        playerTwo = Player.newPlayer(Player.PlayerName.of("TWO"),
+                BenchmarkMoveStrategy.SPLITTABLE_RANDOM.newMoveStrategy());
+        gamePlays = game.play(gameIterations, playerOne, playerTwo);
+    }
+
+    @Benchmark
+    public Collection<GamePlay> play() {
+        return game.play(gameIterations, playerOne, playerTwo);
+    }
+
+    @Benchmark
+    public GameSummary summarize() {
+        return game.summarize(gamePlays);
+    }
+
+    @Benchmark
+    public GameSummary playLazilyAndSummarizeStream() {
+        return game.summarizeStream(game.playLazily(gameIterations, playerOne, playerTwo));
+    }
+
+    @Benchmark
+    public GameSummary playInParallel() {
+        return game.playInParallel(gameIterations, gameParallelism, playerOne, playerTwo);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.chompchompfig.rockpaperscissors.domain.moves;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing a classic Move from its name, as done for every move received from the remote strategy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClassicMovesBenchmark {
+
+    @Param({"Rock", "scissors"})
+    private String moveName;
+
+    @Benchmark
+    public Move from() {
+        return ClassicMoves.from(moveName);
+    }
+
+}
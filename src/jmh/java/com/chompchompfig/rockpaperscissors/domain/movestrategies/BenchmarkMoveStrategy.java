@@ -0,0 +1,34 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+
+/**
+ * The local MoveStrategies benchmarks can be parameterized with
+ */
+public enum BenchmarkMoveStrategy {
+
+    RANDOM {
+        @Override
+        public MoveStrategy newMoveStrategy() {
+            return new RandomMoveStrategy(ClassicMoves.ALL);
+        }
+    },
+    SPLITTABLE_RANDOM {
+        @Override
+        public MoveStrategy newMoveStrategy() {
+            return new SplittableRandomMoveStrategy(ClassicMoves.ALL);
+        }
+    },
+    FIXED {
+        @Override
+        public MoveStrategy newMoveStrategy() {
+            return new FixedMoveStrategy(ClassicMoves.ROCK_MOVE);
+        }
+    };
+
+    /**
+     * @return <p>a new MoveStrategy of this kind, picking classic moves</p>
+     */
+    public abstract MoveStrategy newMoveStrategy();
+}
@@ -0,0 +1,51 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of bulk move generation by a single thread, picking a whole block of classic moves at a
+ * time. The RandomMoveStrategy draws a 32 bit random int per move, while the SplittableRandomMoveStrategy extracts
+ * many moves out of every 64 bit random word
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveGenerationBenchmark {
+
+    private static final int MOVES_BLOCK_SIZE = 1024;
+
+    private MoveStrategy randomMoveStrategy = new RandomMoveStrategy(ClassicMoves.ALL);
+    private MoveStrategy splittableRandomMoveStrategy = new SplittableRandomMoveStrategy(ClassicMoves.ALL);
+    private byte[] ordinals = new byte[MOVES_BLOCK_SIZE];
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES_BLOCK_SIZE)
+    public byte[] randomMoveStrategyFillNextMoves() {
+        randomMoveStrategy.fillNextMoves(ordinals, 0, MOVES_BLOCK_SIZE);
+        return ordinals;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES_BLOCK_SIZE)
+    public byte[] splittableRandomMoveStrategyFillNextMoves() {
+        splittableRandomMoveStrategy.fillNextMoves(ordinals, 0, MOVES_BLOCK_SIZE);
+        return ordinals;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures MoveStrategy.getNextMove for every local strategy, called by a single thread and by as many threads as
+ * available processors sharing the same strategy
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveStrategyBenchmark {
+
+    @Param({"RANDOM", "SPLITTABLE_RANDOM", "FIXED"})
+    private BenchmarkMoveStrategy strategy;
+
+    private MoveStrategy moveStrategy;
+
+    @Setup
+    public void setUp() {
+        moveStrategy = strategy.newMoveStrategy();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Move getNextMoveSingleThreaded() {
+        return moveStrategy.getNextMove();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Move getNextMoveMultiThreaded() {
+        return moveStrategy.getNextMove();
+    }
+
+}
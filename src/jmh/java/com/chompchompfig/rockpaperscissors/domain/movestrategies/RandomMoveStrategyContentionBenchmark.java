@@ -0,0 +1,47 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a single random MoveStrategy shared by as many threads as available processors, the
+ * way the randomMoveStrategy bean is shared by both players and every thread serving the RESTful API. The
+ * RandomMoveStrategy makes all of them compete for the seed of the same java.util.Random, while the
+ * SplittableRandomMoveStrategy gives each thread its own generator
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class RandomMoveStrategyContentionBenchmark {
+
+    private MoveStrategy sharedRandomMoveStrategy = new RandomMoveStrategy(ClassicMoves.ALL);
+    private MoveStrategy sharedSplittableRandomMoveStrategy = new SplittableRandomMoveStrategy(ClassicMoves.ALL);
+
+    @Benchmark
+    public Move sharedRandomMoveStrategy() {
+        return sharedRandomMoveStrategy.getNextMove();
+    }
+
+    @Benchmark
+    public Move sharedSplittableRandomMoveStrategy() {
+        return sharedSplittableRandomMoveStrategy.getNextMove();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.output;
+
+import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.FixedMoveStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the text rendering of a single GamePlay through a GameTextRenderer, to be compared with
+ * GamePlayBenchmark, which renders it with GamePlay.toString
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameTextRendererBenchmark {
+
+    private GamePlay gamePlay = GamePlay.of(
+            Player.newPlayer(Player.PlayerName.of("ONE"), new FixedMoveStrategy(ClassicMoves.PAPER_MOVE)),
+            Player.newPlayer(Player.PlayerName.of("TWO"), new FixedMoveStrategy(ClassicMoves.ROCK_MOVE)));
+    private GameTextRenderer gameTextRenderer = new GameTextRenderer(ClassicMoves.MOVE_SET);
+
+    @Benchmark
+    public String render() {
+        return gameTextRenderer.render(gamePlay);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.BenchmarkMoveStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the next move API, both calling the controller straight away and going through the whole Spring MVC
+ * dispatching, including the asynchronous dispatch of the deferred response, and JSON serialization, with no induced
+ * latency. Every call is made by a single thread, and by as many threads as available processors
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveStrategyControllerBenchmark {
+
+    private static final String NEXT_MOVE_URI = RockPaperScissorsMoveStrategyController.API_URI
+            + "/movestrategy/random/nextmove";
+
+    private RockPaperScissorsMoveStrategyController controller;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        controller = new RockPaperScissorsMoveStrategyController();
+        ReflectionTestUtils.setField(controller, "moveStrategyRegistry", new MoveStrategyRegistry(
+                Collections.singletonMap("random", BenchmarkMoveStrategy.SPLITTABLE_RANDOM.newMoveStrategy()),
+                new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(controller, "inducedLatency", InducedLatency.none());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getMoveStrategyNextMoveSingleThreaded() {
+        return controller.getMoveStrategyNextMove("random").getResult();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object getMoveStrategyNextMoveMultiThreaded() {
+        return controller.getMoveStrategyNextMove("random").getResult();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String getNextMoveThroughMvcSingleThreaded() throws Exception {
+        return performNextMoveRequest();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String getNextMoveThroughMvcMultiThreaded() throws Exception {
+        return performNextMoveRequest();
+    }
+
+    private String performNextMoveRequest() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders.get(NEXT_MOVE_URI)).andReturn();
+        return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult)).andReturn().getResponse()
+                .getContentAsString();
+    }
+
+}
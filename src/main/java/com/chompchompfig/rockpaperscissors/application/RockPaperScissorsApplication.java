@@ -3,26 +3,46 @@ package com.chompchompfig.rockpaperscissors.application;
 import com.chompchompfig.rockpaperscissors.domain.Game;
 import com.chompchompfig.rockpaperscissors.domain.Move;
 import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
 import com.chompchompfig.rockpaperscissors.domain.moves.Paper;
 import com.chompchompfig.rockpaperscissors.domain.moves.Rock;
 import com.chompchompfig.rockpaperscissors.domain.moves.Scissors;
 import com.chompchompfig.rockpaperscissors.domain.movestrategies.FixedMoveStrategy;
-import com.chompchompfig.rockpaperscissors.domain.movestrategies.RandomMoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.SplittableRandomMoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.WeightedRandomMoveStrategy;
+import com.chompchompfig.rockpaperscissors.infrastructure.movestrategy.ConfigurableKeepAliveStrategy;
+import com.chompchompfig.rockpaperscissors.infrastructure.movestrategy.HttpClientPoolMetrics;
+import com.chompchompfig.rockpaperscissors.infrastructure.movestrategy.PrefetchingMoveStrategy;
+import com.chompchompfig.rockpaperscissors.infrastructure.journal.GameJournal;
+import com.chompchompfig.rockpaperscissors.infrastructure.rest.MoveStrategyRegistry;
+import com.chompchompfig.rockpaperscissors.infrastructure.session.GameSessionJournalReplayer;
+import com.chompchompfig.rockpaperscissors.infrastructure.session.GameSessionStore;
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.client.circuitbreaker.EnableCircuitBreaker;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The Spring Boot entry point for the Rock Paper Scissors Game. This class also holds the Spring Configuration
@@ -42,8 +62,9 @@ public class RockPaperScissorsApplication {
 	}
 
 	@Bean("randomMoveStrategy")
-	public MoveStrategy randomMoveStrategy() {
-    	return new RandomMoveStrategy(CLASSIC_MOVES);
+	public MoveStrategy randomMoveStrategy(@Value("${rockpapersicssors.random.seed:#{null}}") Long randomSeed) {
+		return (randomSeed == null) ? new SplittableRandomMoveStrategy(CLASSIC_MOVES) :
+				new SplittableRandomMoveStrategy(CLASSIC_MOVES, randomSeed);
 	}
 
 	@Bean("fixedRockMoveStrategy")
@@ -51,6 +72,73 @@ public class RockPaperScissorsApplication {
 		return new FixedMoveStrategy(new Rock());
 	}
 
+	/**
+	 * The MoveStrategies served by the RESTful API, by name. Besides the random one, there is a fixed strategy per
+	 * classic move, and a weighted random one, picking Paper, Rock and Scissors in proportion to the configured weights
+	 */
+	@Bean
+	public MoveStrategyRegistry moveStrategyRegistry(
+			@Qualifier("randomMoveStrategy") MoveStrategy randomMoveStrategy,
+			@Qualifier("fixedRockMoveStrategy") MoveStrategy fixedRockMoveStrategy,
+			@Value("${rockpapersicssors.api.strategy.weighted.weights:1,1,1}") int[] weights,
+			MeterRegistry meterRegistry) {
+		Map<String, MoveStrategy> moveStrategies = new LinkedHashMap<>();
+		moveStrategies.put("random", randomMoveStrategy);
+		moveStrategies.put("rock", fixedRockMoveStrategy);
+		moveStrategies.put("paper", new FixedMoveStrategy(new Paper()));
+		moveStrategies.put("scissors", new FixedMoveStrategy(new Scissors()));
+		moveStrategies.put("weighted", new WeightedRandomMoveStrategy(CLASSIC_MOVES, weights));
+		return new MoveStrategyRegistry(moveStrategies, meterRegistry);
+	}
+
+	/**
+	 * The journal of the GameSessions played through the RESTful API, only when a journal directory is configured. The
+	 * sessions still open in the journal are put back into the store before any request is served, and the sessions
+	 * evicted from the store from then on are journaled as closed, so they are not put back after the next restart
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty("rockpapersicssors.journal.dir")
+	public GameJournal gameJournal(MoveStrategyRegistry moveStrategyRegistry, GameSessionStore gameSessionStore,
+			@Value("${rockpapersicssors.journal.dir}") File journalDirectory,
+			@Value("${rockpapersicssors.journal.segment.records:1048576}") int recordsPerSegment,
+			@Value("${rockpapersicssors.journal.segments.max:16}") int maxSegments,
+			@Value("${rockpapersicssors.journal.commit.interval.millis:10}") long commitIntervalMillis)
+			throws IOException {
+		GameSessionJournalReplayer replayer = new GameSessionJournalReplayer(name ->
+				moveStrategyRegistry.getNames().contains(name) ?
+						moveStrategyRegistry.get(name).getMoveStrategy() : null);
+		GameJournal gameJournal = new GameJournal(journalDirectory, recordsPerSegment, maxSegments,
+				commitIntervalMillis, replayer);
+		gameSessionStore.setEvictionListener(sessionId -> gameJournal.appendClosed(UUID.fromString(sessionId)));
+		replayer.restoreInto(gameSessionStore);
+		return gameJournal;
+	}
+
+	/**
+	 * The MoveStrategy used in REMOTE mode. Unless the prefetch depth is set to 0, remote moves are fetched ahead of
+	 * demand by a number of background fetchers, so playing doesn't wait a round trip per move. The deadline to wait
+	 * for a prefetched move before falling back defaults to the remote api timeout. When collapsing is enabled, moves
+	 * requested concurrently, by the fetchers or by parallel game plays, are fetched together in batched requests
+	 */
+	@Profile("tool")
+	@Bean("prefetchingRemoteMoveStrategy")
+	public MoveStrategy prefetchingRemoteMoveStrategy(
+			@Qualifier("remoteMoveStrategy") MoveStrategy singleRemoteMoveStrategy,
+			@Qualifier("collapsingRemoteMoveStrategy") MoveStrategy collapsingRemoteMoveStrategy,
+			@Value("${rockpapersicssors.api.collapsing:false}") boolean collapsing,
+			@Value("${rockpaperscissors.api.moves.fallback.name:Rock}") String fallbackMoveName,
+			@Value("${rockpapersicssors.api.prefetch.depth:256}") int prefetchDepth,
+			@Value("${rockpapersicssors.api.prefetch.fetchers:4}") int prefetchFetchers,
+			@Value("${rockpapersicssors.api.prefetch.deadline.millis:${rockpapersicssors.api.timeout.millis:2000}}")
+					long prefetchDeadlineMillis) {
+		MoveStrategy remoteMoveStrategy = collapsing ? collapsingRemoteMoveStrategy : singleRemoteMoveStrategy;
+		if (prefetchDepth == 0) {
+			return remoteMoveStrategy;
+		}
+		return new PrefetchingMoveStrategy(remoteMoveStrategy, ClassicMoves.from(fallbackMoveName), prefetchDepth,
+				prefetchFetchers, prefetchDeadlineMillis);
+	}
+
     @Bean
 	public Game classicRockPaperScissorsGame() {
         return new Game();
@@ -61,13 +149,44 @@ public class RockPaperScissorsApplication {
     	return new RestTemplate(httpRequestFactory);
 	}
 
+	/**
+	 * The pool of connections to the remote move endpoint. Every move in REMOTE mode is a request of its own, so
+	 * connections are kept alive and reused rather than opened per move, and checked for staleness only after being
+	 * idle for a while, instead of before every request
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public PoolingHttpClientConnectionManager httpClientConnectionManager(
+			@Value("${rockpapersicssors.api.pool.max.total:20}") int maxTotalConnections,
+			@Value("${rockpapersicssors.api.pool.max.per.route:20}") int maxConnectionsPerRoute,
+			@Value("${rockpapersicssors.api.pool.validate.after.inactivity.millis:1000}") int validateAfterInactivityMillis) {
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxTotalConnections);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+		connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+		return connectionManager;
+	}
+
+	@Bean
+	public HttpClientPoolMetrics httpClientPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+		return new HttpClientPoolMetrics(connectionManager);
+	}
+
 	@Bean
 	public ClientHttpRequestFactory getClientHttpRequestFactory(
-			@Value("${rockpapersicssors.api.timeout.millis: 2000}") int serviceApiResponseTimeoutMillis) {
+			@Value("${rockpapersicssors.api.timeout.millis: 2000}") int serviceApiResponseTimeoutMillis,
+			@Value("${rockpapersicssors.api.pool.keepalive.millis:30000}") long keepAliveMillis,
+			@Value("${rockpapersicssors.api.pool.idle.eviction.millis:30000}") long idleEvictionMillis,
+			PoolingHttpClientConnectionManager connectionManager) {
 		RequestConfig config = RequestConfig.custom().setConnectTimeout(serviceApiResponseTimeoutMillis)
 				.setConnectionRequestTimeout(serviceApiResponseTimeoutMillis)
 				.setSocketTimeout(serviceApiResponseTimeoutMillis).build();
-		CloseableHttpClient client = HttpClientBuilder.create().setDefaultRequestConfig(config).build();
+		HttpClientBuilder clientBuilder = HttpClientBuilder.create().setDefaultRequestConfig(config)
+				.setConnectionManager(connectionManager)
+				.setKeepAliveStrategy(new ConfigurableKeepAliveStrategy(keepAliveMillis));
+		if (idleEvictionMillis > 0) {
+			clientBuilder.evictExpiredConnections().evictIdleConnections(idleEvictionMillis, TimeUnit.MILLISECONDS);
+		}
+		CloseableHttpClient client = clientBuilder.build();
 		return new HttpComponentsClientHttpRequestFactory(client);
 	}
 
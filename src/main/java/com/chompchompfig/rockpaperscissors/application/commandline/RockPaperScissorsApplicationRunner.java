@@ -4,10 +4,21 @@ import com.chompchompfig.rockpaperscissors.domain.Game;
 import com.chompchompfig.rockpaperscissors.domain.GamePlay;
 import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
 import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.SummaryAccumulator;
+import com.chompchompfig.rockpaperscissors.domain.Tournament;
+import com.chompchompfig.rockpaperscissors.infrastructure.output.AsyncConsoleTextSink;
+import com.chompchompfig.rockpaperscissors.infrastructure.output.FileChannelTextSink;
+import com.chompchompfig.rockpaperscissors.infrastructure.output.GameTextRenderer;
+import com.chompchompfig.rockpaperscissors.infrastructure.output.TextSink;
+import com.chompchompfig.rockpaperscissors.infrastructure.playlog.PlayLogCompression;
+import com.chompchompfig.rockpaperscissors.infrastructure.playlog.PlayLogReader;
+import com.chompchompfig.rockpaperscissors.infrastructure.playlog.PlayLogWriter;
+import com.chompchompfig.rockpaperscissors.infrastructure.rest.MoveStrategyRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
@@ -15,11 +26,15 @@ import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static java.lang.System.exit;
 
@@ -44,17 +59,29 @@ public class RockPaperScissorsApplicationRunner implements ApplicationRunner {
     public static final String GAME_MODE_OPTION_ARG_NAME = "mode";
     public static final String GAME_ITERATIONS_OPTION_ARG_NAME = "iterations";
     public static final String GAME_FILE_OUTPUT_OPTION_ARG_NAME = "file";
+    public static final String GAME_PARALLELISM_OPTION_ARG_NAME = "parallelism";
+    public static final String GAME_FILE_FORMAT_OPTION_ARG_NAME = "format";
+    public static final String GAME_CONVERT_OPTION_ARG_NAME = "convert";
+    public static final String GAME_PLAYERS_OPTION_ARG_NAME = "players";
+    public static final String TOURNAMENT_RANKING_LINE_PATTERN = "%d. %s won : %d, lost : %d, drawn : %d";
 
     public static final String ROCK_PAPER_SCISSORS_GAME_USAGE =
-            "Usage : --mode=[fair, unfair, remote] --iterations=non_zero_positive_integer --file=output_filename";
+            "Usage : --mode=[fair, unfair, remote, tournament] --iterations=non_zero_positive_integer " +
+                    "--file=output_filename --parallelism=non_zero_positive_integer --format=[text, binary] " +
+                    "--convert=binary_play_log_filename --players=integer_greater_than_one";
 
     public static final String FAILED_WRITING_RESULTS_FILE_ERROR_MSG = "Error writing results to output file ";
     public static final String INVALID_ARGUMENTS_ERROR_MSG = "Invalid input arguments!!!!";
+    public static final String MISSING_BINARY_FILE_ERROR_MSG = "The binary format can only be written to a file";
+    public static final String UNSUPPORTED_GAME_MODE_ERROR_MSG = "Game plays can't be performed in the mode ";
 
     public static final int SUCCESS_EXIT_CODE = 0;
     public static final int FAILURE_EXIT_CODE = -1;
 
-    public enum GameMode { FAIR, UNFAIR, REMOTE};
+    public enum GameMode { FAIR, UNFAIR, REMOTE, TOURNAMENT};
+    public enum FileFormat { TEXT, BINARY };
+    public enum ConsoleOutput { LOGGER, ASYNC };
+    public enum RemoteClient { BLOCKING, ASYNC };
 
     private static final Logger logger = LoggerFactory.getLogger(RockPaperScissorsApplicationRunner.class);
 
@@ -64,11 +91,34 @@ public class RockPaperScissorsApplicationRunner implements ApplicationRunner {
     @Qualifier("fixedRockMoveStrategy")
     @Autowired
     private MoveStrategy fixedRockMoveClassicStrategy;
-    @Qualifier("remoteMoveStrategy")
+    @Qualifier("prefetchingRemoteMoveStrategy")
     @Autowired
     private MoveStrategy remoteMoveStrategy;
+    @Qualifier("asyncRemoteMoveStrategy")
+    @Autowired
+    private MoveStrategy asyncRemoteMoveStrategy;
     @Autowired
     private Game classicGame;
+    @Autowired
+    private MoveStrategyRegistry moveStrategyRegistry;
+    @Value("${rockpapersicssors.output.buffer.bytes:" + FileChannelTextSink.DEFAULT_BUFFER_SIZE + "}")
+    private int outputBufferSize = FileChannelTextSink.DEFAULT_BUFFER_SIZE;
+    @Value("${rockpapersicssors.output.fsync:NEVER}")
+    private FileChannelTextSink.FsyncPolicy outputFsyncPolicy = FileChannelTextSink.FsyncPolicy.NEVER;
+    @Value("${rockpapersicssors.output.compression:NONE}")
+    private PlayLogCompression outputCompression = PlayLogCompression.NONE;
+    @Value("${rockpapersicssors.output.compression.threads:0}")
+    private int outputCompressionThreads;
+    @Value("${rockpapersicssors.api.client:BLOCKING}")
+    private RemoteClient remoteClient = RemoteClient.BLOCKING;
+    @Value("${rockpapersicssors.output.console:ASYNC}")
+    private ConsoleOutput consoleOutput = ConsoleOutput.ASYNC;
+    @Value("${rockpapersicssors.output.console.ring.size:" + AsyncConsoleTextSink.DEFAULT_RING_SIZE + "}")
+    private int consoleRingSize = AsyncConsoleTextSink.DEFAULT_RING_SIZE;
+    @Value("${rockpapersicssors.output.console.batch.bytes:" + AsyncConsoleTextSink.DEFAULT_BATCH_SIZE + "}")
+    private int consoleBatchSize = AsyncConsoleTextSink.DEFAULT_BATCH_SIZE;
+
+    private GameTextRenderer gameTextRenderer;
 
     @Override
     public void run(ApplicationArguments arguments) {
@@ -76,118 +126,365 @@ public class RockPaperScissorsApplicationRunner implements ApplicationRunner {
             GameMode selectedGameMode = getGameMode(arguments);
             Game.Iterations selectedGameIterations = getGameIterations(arguments);
             Optional<String> selectedFileNamePrintDestination = getFileNamePrintDestination(arguments);
+            Optional<Game.Parallelism> selectedGameParallelism = getGameParallelism(arguments);
+            FileFormat selectedFileFormat = getFileFormat(arguments);
+            Optional<String> selectedPlayLogToConvert = getPlayLogToConvert(arguments);
+
+            if (selectedPlayLogToConvert.isPresent()) {
+                logger.info("Converting play log " + selectedPlayLogToConvert.get() + " to text, and printing to "
+                        + selectedFileNamePrintDestination.orElse("Console"));
+                convertPlayLogToSelected(selectedPlayLogToConvert.get(), selectedFileNamePrintDestination);
+                exitApplicationWithSuccess();
+                return;
+            }
 
             logger.info("Playing Rock Paper Scissors in mode " + selectedGameMode + " with iterations "
                     + selectedGameIterations + ", and printing to " + selectedFileNamePrintDestination.orElse("Console"));
 
-            Collection<GamePlay> gamePlays = performSelectedGamePlays(selectedGameMode, selectedGameIterations);
-            Game.GameSummary gameSummary = getGameSummary(gamePlays);
-
-            printToSelected(selectedFileNamePrintDestination, gamePlays, gameSummary);
+            if (selectedGameMode == GameMode.TOURNAMENT) {
+                List<Player> tournamentPlayers = newTournamentPlayers(getTournamentPlayers(arguments));
+                Tournament.ScoreMatrix scoreMatrix = performTournament(selectedGameIterations,
+                        selectedGameParallelism.orElse(
+                                Game.Parallelism.of(Runtime.getRuntime().availableProcessors())), tournamentPlayers);
+                printRankingToSelected(selectedFileNamePrintDestination, scoreMatrix);
+            } else if (selectedGameParallelism.isPresent()) {
+                Game.GameSummary gameSummary = performSelectedGamePlaysInParallel(selectedGameMode,
+                        selectedGameIterations, selectedGameParallelism.get());
+                printSummaryToSelected(selectedFileNamePrintDestination, gameSummary);
+            } else if (selectedFileFormat == FileFormat.BINARY) {
+                String binaryFileNameDestination = selectedFileNamePrintDestination.orElseThrow(
+                        () -> new IllegalArgumentException(MISSING_BINARY_FILE_ERROR_MSG));
+                Stream<GamePlay> gamePlays = performSelectedGamePlays(selectedGameMode, selectedGameIterations);
+                printToBinaryFile(binaryFileNameDestination, gamePlays);
+            } else {
+                Stream<GamePlay> gamePlays = performSelectedGamePlays(selectedGameMode, selectedGameIterations);
+                printToSelected(selectedFileNamePrintDestination, gamePlays);
+            }
             exitApplicationWithSuccess();
-        } catch(FileNotFoundException e) {
+        } catch(IOException e) {
             exitApplicationWithFileWritingFailure(e);
+        } catch(UncheckedIOException e) {
+            exitApplicationWithFileWritingFailure(e.getCause());
         } catch (IllegalArgumentException e) {
             exitApplicationWithFailure();
         }
     }
 
     /**
-     * Gets the GameSummary for the given game plays. Just added this one liner for easier testing
+     * Gets the GameSummary for the given game plays, handing each one of them to the given printer, in order, before
+     * adding it to the summary. This way the game plays are traversed just once, and never held in memory altogether
+     * @param gamePlays <p>the game plays to print and summarize</p>
+     * @param gamePlayPrinter <p>the printer each game play is handed to</p>
+     * @return <p>the GameSummary for the given game plays</p>
      */
-    Game.GameSummary getGameSummary(Collection<GamePlay> gamePlays) {
-        return classicGame.summarize(gamePlays);
+    Game.GameSummary getGameSummary(Stream<GamePlay> gamePlays, Consumer<GamePlay> gamePlayPrinter) {
+        SummaryAccumulator summaryAccumulator = new SummaryAccumulator();
+        gamePlays.forEachOrdered(gamePlay -> {
+            gamePlayPrinter.accept(gamePlay);
+            summaryAccumulator.add(gamePlay);
+        });
+        return summaryAccumulator.toGameSummary();
     }
 
     /**
      * Performs a number of Rock, Paper, Scissors game plays in the given mode and for the given number of iterations
      * @param selectedGameMode <p>the GameMode in which to perform the game plays</p>
      * @param selectedGameIterations <p>the number of game plays to perform</p>
-     * @return <p>a collection of the game plays performed</p>
+     * @return <p>a lazy stream of the game plays performed</p>
+     * @throws IllegalArgumentException <p>in case game plays can't be performed in the given mode</p>
+     */
+    Stream<GamePlay> performSelectedGamePlays(GameMode selectedGameMode, Game.Iterations selectedGameIterations) {
+        switch (selectedGameMode) {
+            case FAIR : return performFairPlays(selectedGameIterations);
+            case UNFAIR : return performUnfairPlays(selectedGameIterations);
+            case REMOTE : return performRemotePlays(selectedGameIterations);
+            default : throw new IllegalArgumentException(UNSUPPORTED_GAME_MODE_ERROR_MSG + selectedGameMode);
+        }
+    }
+
+    /**
+     * Performs a number of Rock, Paper, Scissors game plays in the given mode and for the given number of iterations,
+     * split in as many chunks, played in parallel, as the given parallelism. Only the summary of the game plays is
+     * kept, since there is no meaningful order to print the game plays in
+     * @param selectedGameMode <p>the GameMode in which to perform the game plays</p>
+     * @param selectedGameIterations <p>the number of game plays to perform</p>
+     * @param selectedGameParallelism <p>the number of chunks to play in parallel</p>
+     * @return <p>the GameSummary of the game plays performed</p>
+     * @throws IllegalArgumentException <p>in case game plays can't be performed in the given mode</p>
+     */
+    Game.GameSummary performSelectedGamePlaysInParallel(GameMode selectedGameMode,
+                                                        Game.Iterations selectedGameIterations,
+                                                        Game.Parallelism selectedGameParallelism) {
+        Player playerOne = Player.newPlayer(VALID_PLAYER_ONE_PLAYERNAME, randomMoveStrategy);
+        Player playerTwo = Player.newPlayer(VALID_PLAYER_TWO_PLAYERNAME, getPlayerTwoMoveStrategy(selectedGameMode));
+        return classicGame.playInParallel(selectedGameIterations, selectedGameParallelism, playerOne, playerTwo);
+    }
+
+    /**
+     * Plays a round-robin Tournament between the given players, each matchup for the given number of iterations, in
+     * as many threads as the given parallelism
+     * @param selectedGameIterations <p>the number of game plays of every matchup</p>
+     * @param selectedGameParallelism <p>the number of threads playing the matchups</p>
+     * @param tournamentPlayers <p>the players of the Tournament</p>
+     * @return <p>the ScoreMatrix of the Tournament</p>
+     */
+    Tournament.ScoreMatrix performTournament(Game.Iterations selectedGameIterations,
+                                             Game.Parallelism selectedGameParallelism,
+                                             List<Player> tournamentPlayers) {
+        return new Tournament(classicGame).play(selectedGameIterations, selectedGameParallelism, tournamentPlayers);
+    }
+
+    /**
+     * Creates the players of a Tournament, out of the MoveStrategies in the registry. Without a number of players,
+     * there is a player per strategy, named after it. Otherwise, the players take the strategies in turns, and are
+     * named after their strategy and their position
+     * @param numberOfPlayers <p>the number of players, or empty for a player per strategy</p>
+     * @return <p>the players of the Tournament</p>
+     */
+    List<Player> newTournamentPlayers(Optional<Integer> numberOfPlayers) {
+        List<String> strategyNames = new ArrayList<>(moveStrategyRegistry.getNames());
+        List<Player> tournamentPlayers = new ArrayList<>();
+        for (int player = 0; player < numberOfPlayers.orElse(strategyNames.size()); player++) {
+            String strategyName = strategyNames.get(player % strategyNames.size());
+            String playerName = numberOfPlayers.isPresent() ? strategyName + "-" + player : strategyName;
+            tournamentPlayers.add(Player.newPlayer(Player.PlayerName.of(playerName),
+                    moveStrategyRegistry.get(strategyName).getMoveStrategy()));
+        }
+        return tournamentPlayers;
+    }
+
+    /**
+     * Prints the ranking of the given Tournament to the destination file. In case the destination file is empty, the
+     * system console will be the output destination
+     * @param fileNameDestination <p>the file name destination to print the ranking to</p>
+     * @param scoreMatrix <p>the ScoreMatrix of the Tournament</p>
+     * @throws FileNotFoundException <p>if the destination file is invalid</p>
+     * @throws IOException <p>if writing to the destination file failed</p>
+     */
+    void printRankingToSelected(Optional<String> fileNameDestination, Tournament.ScoreMatrix scoreMatrix)
+            throws IOException {
+        if (fileNameDestination.isPresent()) {
+            try (FileChannelTextSink fileSink = newFileSink(fileNameDestination.get())) {
+                renderRanking(scoreMatrix, fileSink::println);
+            }
+        } else {
+            renderRanking(scoreMatrix, logger::info);
+        }
+    }
+
+    /**
+     * Renders the ranking of the given Tournament, a line per player, from first to last
+     * @param scoreMatrix <p>the ScoreMatrix of the Tournament</p>
+     * @param linePrinter <p>the printer each line is handed to</p>
      */
-    Collection<GamePlay> performSelectedGamePlays(GameMode selectedGameMode, Game.Iterations selectedGameIterations) {
-        Collection<GamePlay> gamePlays = new ArrayList<>();
+    void renderRanking(Tournament.ScoreMatrix scoreMatrix, Consumer<String> linePrinter) {
+        int[] ranking = scoreMatrix.getRanking();
+        long gamePlaysPerPlayer = (long) (scoreMatrix.size() - 1) * scoreMatrix.getIterations();
+        for (int position = 0; position < ranking.length; position++) {
+            int player = ranking[position];
+            long gamePlaysWon = scoreMatrix.getTotalGamePlaysWon(player);
+            long gamePlaysLost = scoreMatrix.getTotalGamePlaysLost(player);
+            linePrinter.accept(String.format(TOURNAMENT_RANKING_LINE_PATTERN, position + 1,
+                    scoreMatrix.getPlayerName(player).getValue(), gamePlaysWon, gamePlaysLost,
+                    gamePlaysPerPlayer - gamePlaysWon - gamePlaysLost));
+        }
+    }
+
+    /**
+     * Gets the MoveStrategy the second player uses in the given mode. The first player always moves randomly. This
+     * is the one place where modes are mapped to strategies, whether game plays are performed lazily or in parallel
+     * @param selectedGameMode <p>the GameMode in which to perform the game plays</p>
+     * @return <p>the MoveStrategy of the second player</p>
+     * @throws IllegalArgumentException <p>in case game plays can't be performed in the given mode</p>
+     */
+    MoveStrategy getPlayerTwoMoveStrategy(GameMode selectedGameMode) {
         switch (selectedGameMode) {
-            case FAIR : gamePlays = performFairPlays(selectedGameIterations); break;
-            case UNFAIR : gamePlays = performUnfairPlays(selectedGameIterations); break;
-            case REMOTE : gamePlays = performRemotePlays(selectedGameIterations); break;
+            case FAIR : return randomMoveStrategy;
+            case UNFAIR : return fixedRockMoveClassicStrategy;
+            case REMOTE : return getRemoteMoveStrategy();
+            default : throw new IllegalArgumentException(UNSUPPORTED_GAME_MODE_ERROR_MSG + selectedGameMode);
         }
-        return gamePlays;
     }
 
     /**
-     * Prints the given game plays and summary to the destination file. In case the destination file is empty,
+     * Prints the given game summary to the destination file. In case the destination file is empty, the system
+     * console will be the output destination
+     * @param fileNameDestination <p>the file name destination to print the game summary to</p>
+     * @param gameSummary <p>the game summary to print</p>
+     * @throws FileNotFoundException <p>if the destination file is invalid</p>
+     * @throws IOException <p>if writing to the destination file failed</p>
+     */
+    void printSummaryToSelected(Optional<String> fileNameDestination, Game.GameSummary gameSummary)
+            throws IOException {
+        if (fileNameDestination.isPresent()) {
+            try (FileChannelTextSink fileSink = newFileSink(fileNameDestination.get())) {
+                printGameSummaryToSink(fileSink, gameSummary);
+            }
+        } else {
+            printSummary(gameSummary);
+        }
+    }
+
+    /**
+     * Prints the given game plays and their summary to the destination file. In case the destination file is empty,
      * the system console will be the output destination
      * @param fileNameDestination <p>the file name destination to print the game plays and summary to</p>
      * @param gamePlays <p>the game plays to print</p>
-     * @param gameSummary <p>the game summary to print</p>
+     * @throws FileNotFoundException <p>if the destination file is invalid</p>
+     * @throws IOException <p>if writing to the destination file failed</p>
      */
-    void printToSelected(Optional<String> fileNameDestination, Collection<GamePlay> gamePlays, Game.GameSummary gameSummary)
-            throws FileNotFoundException {
+    void printToSelected(Optional<String> fileNameDestination, Stream<GamePlay> gamePlays)
+            throws IOException {
         if (fileNameDestination.isPresent()) {
-            printToFile(fileNameDestination.get(), gamePlays, gameSummary);
+            printToFile(fileNameDestination.get(), gamePlays);
         } else {
-            printToConsole(gamePlays, gameSummary);
+            printToConsole(gamePlays);
         }
     }
 
     /**
-     * Prints the given game plays and summary to a file with the given filename
+     * Prints the given game plays and their summary to a file with the given filename. Each game play is written
+     * to the file as soon as it is played, so neither the game plays nor their text are ever held in memory
+     * altogether
      * @param fileNameDestination <p>the name of the file to write the contents to</p>
      * @param gamePlays <p>the game plays to print</p>
-     * @param gameSummary <p>the game summary to print</p>
      * @throws FileNotFoundException <p>if the destination file is invalid</p>
+     * @throws IOException <p>if writing to the destination file failed</p>
+     */
+    void printToFile(String fileNameDestination, Stream<GamePlay> gamePlays) throws IOException {
+        try (FileChannelTextSink fileSink = newFileSink(fileNameDestination)) {
+            Game.GameSummary gameSummary = getGameSummary(gamePlays, gp -> printGamePlayToSink(fileSink, gp));
+            printGameSummaryToSink(fileSink, gameSummary);
+        }
+    }
+
+    /**
+     * Writes the given game plays to a binary play log with the given filename, and prints their summary to the
+     * system console. Each game play takes just a few bits of the file, written as soon as its block gets full. When
+     * the blocks are compressed, they are compressed by a pool of threads of its own while the game keeps playing
+     * @param fileNameDestination <p>the name of the file to write the play log to</p>
+     * @param gamePlays <p>the game plays to write</p>
+     * @throws FileNotFoundException <p>if the destination file is invalid</p>
+     * @throws IOException <p>if writing to the destination file failed</p>
+     */
+    void printToBinaryFile(String fileNameDestination, Stream<GamePlay> gamePlays) throws IOException {
+        ExecutorService compressionExecutor = newCompressionExecutor();
+        try (PlayLogWriter playLogWriter = new PlayLogWriter(new File(fileNameDestination),
+                VALID_PLAYER_ONE_PLAYERNAME, VALID_PLAYER_TWO_PLAYERNAME, classicGame.getMoveSet(),
+                PlayLogWriter.DEFAULT_PLAYS_PER_BLOCK, outputCompression, compressionExecutor)) {
+            Game.GameSummary gameSummary = getGameSummary(gamePlays, playLogWriter::write);
+            printSummary(gameSummary);
+        } finally {
+            if (compressionExecutor != null) {
+                compressionExecutor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Creates the pool of threads compressing the blocks of a play log, with the configured number of threads, or
+     * as many as available processors if not configured
+     * @return <p>a new pool of threads, or null if the blocks are not compressed</p>
      */
-    void printToFile(String fileNameDestination, Collection<GamePlay> gamePlays, Game.GameSummary gameSummary)
-            throws FileNotFoundException {
-        try (PrintWriter filePrintWriter = new PrintWriter(new File(fileNameDestination))) {
-            printGamePlaysToFile(filePrintWriter, gamePlays);
-            printGameSummaryToFile(filePrintWriter, gameSummary);
-        } catch (FileNotFoundException e) {
-            throw e;
+    ExecutorService newCompressionExecutor() {
+        if (outputCompression == PlayLogCompression.NONE) {
+            return null;
         }
+        return (outputCompressionThreads > 0) ? new ForkJoinPool(outputCompressionThreads) : new ForkJoinPool();
     }
 
-    void exitApplicationWithFileWritingFailure(FileNotFoundException e) {
+    /**
+     * Converts a binary play log back to text, printing its game plays and their summary exactly as they would have
+     * been printed when played, to the destination file or the system console
+     * @param playLogFileName <p>the name of the binary play log to convert</p>
+     * @param fileNameDestination <p>the file name destination to print the game plays and summary to</p>
+     * @throws IOException <p>if the play log can't be read, or writing to the destination file failed</p>
+     */
+    void convertPlayLogToSelected(String playLogFileName, Optional<String> fileNameDestination) throws IOException {
+        try (PlayLogReader playLogReader = new PlayLogReader(new File(playLogFileName))) {
+            printToSelected(fileNameDestination, playLogReader.stream());
+        }
+    }
+
+    /**
+     * Opens a new file sink, with the configured buffer size and fsync policy, for the given file name
+     * @param fileNameDestination <p>the name of the file to write the contents to</p>
+     * @return <p>a new sink writing to the given file</p>
+     * @throws FileNotFoundException <p>if the destination file is invalid</p>
+     */
+    FileChannelTextSink newFileSink(String fileNameDestination) throws FileNotFoundException {
+        return new FileChannelTextSink(new File(fileNameDestination), outputBufferSize, outputFsyncPolicy);
+    }
+
+    void exitApplicationWithFileWritingFailure(IOException e) {
         logger.error(FAILED_WRITING_RESULTS_FILE_ERROR_MSG, e);
         exit(FAILURE_EXIT_CODE);
     }
 
     /**
-     * Prints the given game plays to the given PrintWriter
-     * @param fileWriter <p>the PrintWriter where to print the contents</p>
-     * @param gamePlays <p>the game plays to print</p>
+     * Prints the given game play to the given sink
+     * @param sink <p>the sink where to print the contents</p>
+     * @param gamePlay <p>the game play to print</p>
      */
-    void printGamePlaysToFile(PrintWriter fileWriter, Collection<GamePlay> gamePlays) {
-        gamePlays.stream().forEach(gp -> fileWriter.println(gp));
+    void printGamePlayToSink(TextSink sink, GamePlay gamePlay) {
+        getGameTextRenderer().renderLine(gamePlay, sink);
     }
 
     /**
-     * Prints the given game plays to the given PrintWriter
-     * @param fileWriter <p>the PrintWriter where to print the contents</p>
+     * Prints the given game summary to the given sink
+     * @param sink <p>the sink where to print the contents</p>
      * @param gameSummary <p>the game summary to print</p>
      */
-    void printGameSummaryToFile(PrintWriter fileWriter, Game.GameSummary gameSummary) {
-        fileWriter.println(GAME_SUMMARY_HORIZONTAL_LINE);
-        fileWriter.println(gameSummary);
+    void printGameSummaryToSink(TextSink sink, Game.GameSummary gameSummary) {
+        sink.println(GAME_SUMMARY_HORIZONTAL_LINE);
+        sink.println(GameTextRenderer.render(gameSummary, new StringBuilder()));
     }
 
     /**
-     * Prints the given game plays and summary to the system console
-     * @param gamePlays <p>the game plays to print</p>
-     * @param gameSummary <p>the game summary to print</p>
+     * Gets the renderer of the game plays and summaries printed, created the first time it is needed, once the
+     * classic Game is in place
+     * @return <p>the renderer for the game plays of the classic Game</p>
      */
-    void printToConsole(Collection<GamePlay> gamePlays, Game.GameSummary gameSummary) {
-        printGamePlays(gamePlays);
-        printSummary(gameSummary);
+    GameTextRenderer getGameTextRenderer() {
+        if (gameTextRenderer == null) {
+            gameTextRenderer = new GameTextRenderer(classicGame.getMoveSet());
+        }
+        return gameTextRenderer;
     }
 
     /**
-     * Prints the given game plays to the system console
+     * Prints the given game plays and their summary to the system console. Unless the console output is configured
+     * to go through the logger, game plays are handed to an asynchronous console sink, so the game never waits on
+     * the terminal, and all of them have been printed once the sink is closed
      * @param gamePlays <p>the game plays to print</p>
+     * @throws IOException <p>if writing to the system console failed</p>
+     */
+    void printToConsole(Stream<GamePlay> gamePlays) throws IOException {
+        if (consoleOutput == ConsoleOutput.LOGGER) {
+            Game.GameSummary gameSummary = getGameSummary(gamePlays, this::printGamePlay);
+            printSummary(gameSummary);
+        } else {
+            try (AsyncConsoleTextSink consoleSink = newConsoleSink()) {
+                Game.GameSummary gameSummary = getGameSummary(gamePlays, gp -> printGamePlayToSink(consoleSink, gp));
+                printGameSummaryToSink(consoleSink, gameSummary);
+            }
+        }
+    }
+
+    /**
+     * Opens a new asynchronous sink, with the configured ring and batch sizes, writing to the system console
+     * @return <p>a new sink writing to the system console</p>
+     */
+    AsyncConsoleTextSink newConsoleSink() {
+        return new AsyncConsoleTextSink(consoleRingSize, consoleBatchSize);
+    }
+
+    /**
+     * Prints the given game play to the system console
+     * @param gamePlay <p>the game play to print</p>
      */
-    void printGamePlays(Collection<GamePlay> gamePlays) {
-        gamePlays.stream().forEach(gp -> logger.info(gp.toString()));
+    void printGamePlay(GamePlay gamePlay) {
+        logger.info(getGameTextRenderer().render(gamePlay));
     }
 
     /**
@@ -196,40 +493,55 @@ public class RockPaperScissorsApplicationRunner implements ApplicationRunner {
      */
     void printSummary(Game.GameSummary gameSummary) {
         logger.info(GAME_SUMMARY_HORIZONTAL_LINE);
-        logger.info(gameSummary.toString());
+        logger.info(GameTextRenderer.render(gameSummary, new StringBuilder()).toString());
     }
 
     /**
      * Performs the given number of game plays in FAIR mode
      * @param iterations <p>the number of game plays to perform</p>
-     * @return <p>a collection of game plays performed in FAIR mode</p>
+     * @return <p>a lazy stream of game plays performed in FAIR mode</p>
      */
-    Collection<GamePlay> performFairPlays(Game.Iterations iterations) {
-        Player playerOne = Player.newPlayer(VALID_PLAYER_ONE_PLAYERNAME, randomMoveStrategy);
-        Player playerTwo = Player.newPlayer(VALID_PLAYER_TWO_PLAYERNAME, randomMoveStrategy);
-        return classicGame.play(iterations, playerOne, playerTwo);
+    Stream<GamePlay> performFairPlays(Game.Iterations iterations) {
+        return performPlays(GameMode.FAIR, iterations);
     }
 
     /**
      * Performs the given number of game plays in UNFAIR mode
      * @param iterations <p>the number of game plays to perform</p>
-     * @return <p>a collection of game plays performed in UNFAIR mode</p>
+     * @return <p>a lazy stream of game plays performed in UNFAIR mode</p>
      */
-    Collection<GamePlay> performUnfairPlays(Game.Iterations iterations) {
-        Player playerOne = Player.newPlayer(VALID_PLAYER_ONE_PLAYERNAME, randomMoveStrategy);
-        Player playerTwo = Player.newPlayer(VALID_PLAYER_TWO_PLAYERNAME, fixedRockMoveClassicStrategy);
-        return classicGame.play(iterations, playerOne, playerTwo);
+    Stream<GamePlay> performUnfairPlays(Game.Iterations iterations) {
+        return performPlays(GameMode.UNFAIR, iterations);
     }
 
     /**
      * Performs the given number of game plays in REMOTE mode
      * @param iterations <p>the number of game plays to perform</p>
-     * @return <p>a collection of game plays performed in REMOTE mode</p>
+     * @return <p>a lazy stream of game plays performed in REMOTE mode</p>
+     */
+    Stream<GamePlay> performRemotePlays(Game.Iterations iterations) {
+        return performPlays(GameMode.REMOTE, iterations);
+    }
+
+    /**
+     * Performs the given number of game plays in the given mode, against the second player's MoveStrategy for it
+     * @param gameMode <p>the GameMode in which to perform the game plays</p>
+     * @param iterations <p>the number of game plays to perform</p>
+     * @return <p>a lazy stream of game plays performed in the given mode</p>
      */
-    Collection<GamePlay> performRemotePlays(Game.Iterations iterations) {
+    private Stream<GamePlay> performPlays(GameMode gameMode, Game.Iterations iterations) {
         Player playerOne = Player.newPlayer(VALID_PLAYER_ONE_PLAYERNAME, randomMoveStrategy);
-        Player playerTwo = Player.newPlayer(VALID_PLAYER_TWO_PLAYERNAME, remoteMoveStrategy);
-        return classicGame.play(iterations, playerOne, playerTwo);
+        Player playerTwo = Player.newPlayer(VALID_PLAYER_TWO_PLAYERNAME, getPlayerTwoMoveStrategy(gameMode));
+        return classicGame.playLazily(iterations, playerOne, playerTwo);
+    }
+
+    /**
+     * Gets the MoveStrategy fetching moves from the remote endpoint, either one request at a time through a blocking
+     * client, which may prefetch them in the background, or with many requests in flight through a non-blocking one
+     * @return <p>the remote MoveStrategy for the configured RemoteClient</p>
+     */
+    MoveStrategy getRemoteMoveStrategy() {
+        return (remoteClient == RemoteClient.ASYNC) ? asyncRemoteMoveStrategy : remoteMoveStrategy;
     }
 
     /**
@@ -272,6 +584,61 @@ public class RockPaperScissorsApplicationRunner implements ApplicationRunner {
         return Game.Iterations.of(correctedGameIterations);
     }
 
+    /**
+     * Gets the Parallelism from the given command line arguments. Argument validation is also performed. In case
+     * there is no matching argument in the command line, the game plays won't be performed in parallel
+     * @param arguments <p>the command line arguments to get the Parallelism from</p>
+     * @return <p>the Parallelism parsed from the command line arguments, or empty if the option was missing</p>
+     */
+    Optional<Game.Parallelism> getGameParallelism(ApplicationArguments arguments) {
+        Optional<List<String>> gameParallelismOptions =
+                Optional.ofNullable(arguments.getOptionValues(GAME_PARALLELISM_OPTION_ARG_NAME));
+        Optional<String> gameParallelism = gameParallelismOptions.flatMap(g -> g.stream().findFirst());
+        return gameParallelism.map(gp -> Game.Parallelism.of(Integer.parseInt(gp)));
+    }
+
+    /**
+     * Gets the number of players of a Tournament from the given command line arguments. Argument validation is
+     * also performed. In case there is no matching argument in the command line, there is a player per MoveStrategy
+     * @param arguments <p>the command line arguments to get the number of players from</p>
+     * @return <p>the number of players parsed from the command line arguments, or empty if the option was missing</p>
+     * @throws IllegalArgumentException <p>in case the number of players is not a number greater than one</p>
+     */
+    Optional<Integer> getTournamentPlayers(ApplicationArguments arguments) {
+        Optional<List<String>> tournamentPlayersOptions =
+                Optional.ofNullable(arguments.getOptionValues(GAME_PLAYERS_OPTION_ARG_NAME));
+        Optional<Integer> tournamentPlayers =
+                tournamentPlayersOptions.flatMap(p -> p.stream().findFirst()).map(Integer::parseInt);
+        if (tournamentPlayers.isPresent() && (tournamentPlayers.get() < 2)) {
+            throw new IllegalArgumentException(Tournament.PLAYERS_VALIDATION_ERROR_MSG);
+        }
+        return tournamentPlayers;
+    }
+
+    /**
+     * Gets the FileFormat from the given command line arguments. Argument validation is also performed. In case
+     * there is no matching argument in the command line, game plays are printed as text
+     * @param arguments <p>the command line arguments to get the FileFormat from</p>
+     * @return <p>the FileFormat parsed from the command line arguments</p>
+     */
+    FileFormat getFileFormat(ApplicationArguments arguments) {
+        Optional<List<String>> fileFormatOptions =
+                Optional.ofNullable(arguments.getOptionValues(GAME_FILE_FORMAT_OPTION_ARG_NAME));
+        Optional<String> fileFormatName = fileFormatOptions.flatMap(f -> f.stream().findFirst());
+        return fileFormatName.map(ffn -> FileFormat.valueOf(ffn.toUpperCase())).orElse(FileFormat.TEXT);
+    }
+
+    /**
+     * Gets the name of the binary play log to convert to text from the command line
+     * @param arguments <p>the command line arguments to get the play log name from</p>
+     * @return <p>the name of the play log to convert, or empty if the convert option was missing</p>
+     */
+    Optional<String> getPlayLogToConvert(ApplicationArguments arguments) {
+        Optional<List<String>> playLogToConvertOptions =
+                Optional.ofNullable(arguments.getOptionValues(GAME_CONVERT_OPTION_ARG_NAME));
+        return playLogToConvertOptions.flatMap(p -> p.stream().findFirst());
+    }
+
     void exitApplicationWithSuccess() {
         exit(SUCCESS_EXIT_CODE);
     }
@@ -1,5 +1,6 @@
 package com.chompchompfig.rockpaperscissors.domain;
 
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
 import com.google.auto.value.AutoValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,8 +9,13 @@ import javax.validation.constraints.NotNull;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -19,7 +25,33 @@ import java.util.stream.Stream;
  */
 public class Game {
 
+    public static final String PARALLEL_PLAY_INTERRUPTED_ERROR_MSG = "Parallel game play got interrupted";
+    public static final String PARALLEL_PLAY_FAILED_ERROR_MSG = "Parallel game play failed";
+
     private static final Logger logger = LoggerFactory.getLogger(Game.class);
+    private static final int MOVES_BLOCK_SIZE = 1024;
+    private static final Result[] RESULTS = Result.values();
+
+    private MoveSet moveSet;
+
+    /**
+     * Creates a new classic Rock, Paper, Scissors Game
+     */
+    public Game() {
+        this(ClassicMoves.MOVE_SET);
+    }
+
+    /**
+     * Creates a new Rock, Paper, Scissors Game, or one of its variations, played with the Moves of the given MoveSet
+     * @param moveSet <p>the MoveSet players perform their moves from</p>
+     */
+    public Game(@NotNull MoveSet moveSet) {
+        this.moveSet = moveSet;
+    }
+
+    public MoveSet getMoveSet() {
+        return moveSet;
+    }
 
     /**
      * Plays the Rock, Paper, Scissors game for the given number of iterations a players
@@ -31,9 +63,186 @@ public class Game {
      */
     public Collection<GamePlay> play(@NotNull Iterations iterations, @NotNull Player playerOne,
                                      @NotNull Player playerTwo) {
-        List<GamePlay> gamePlays = new ArrayList<>();
-        IntStream.range(0, iterations.getValue()).forEach(t -> gamePlays.add(play(playerOne, playerTwo)));
-        return gamePlays;
+        return playLazily(iterations, playerOne, playerTwo).collect(Collectors.toList());
+    }
+
+    /**
+     * Plays the Rock, Paper, Scissors game for the given number of iterations and players, lazily. This is, the
+     * GamePlays are only performed when the returned Stream gets to them, a block at a time, so consumers processing
+     * the GamePlays one at a time will never need to hold them all in memory, no matter the number of iterations.
+     * The players perform the moves of a whole block at once
+     * @param iterations <p>the number of Iterations to play</p>
+     * @param playerOne <p>the first player playing the game</p>
+     * @param playerTwo <p>the second player playing the game</p>
+     * @return <p>a lazy Stream of GamePlays performed by the given players, whose size should match the number of
+     * iterations given</p>
+     */
+    public Stream<GamePlay> playLazily(@NotNull Iterations iterations, @NotNull Player playerOne,
+                                       @NotNull Player playerTwo) {
+        int numberOfBlocks = (iterations.getValue() + MOVES_BLOCK_SIZE - 1) / MOVES_BLOCK_SIZE;
+        return IntStream.range(0, numberOfBlocks).boxed().flatMap(block -> playBlock(
+                Math.min(MOVES_BLOCK_SIZE, iterations.getValue() - block * MOVES_BLOCK_SIZE), playerOne, playerTwo));
+    }
+
+    /**
+     * Plays a block of GamePlays, having each player perform all the moves of the block at once
+     * @param blockSize <p>the number of GamePlays in the block</p>
+     * @param playerOne <p>the first player playing the game</p>
+     * @param playerTwo <p>the second player playing the game</p>
+     * @return <p>a Stream of the GamePlays in the block</p>
+     */
+    private Stream<GamePlay> playBlock(int blockSize, Player playerOne, Player playerTwo) {
+        byte[] playerOneMoveOrdinals = new byte[blockSize];
+        byte[] playerTwoMoveOrdinals = new byte[blockSize];
+        playerOne.performMoves(playerOneMoveOrdinals, 0, blockSize);
+        playerTwo.performMoves(playerTwoMoveOrdinals, 0, blockSize);
+        return IntStream.range(0, blockSize).mapToObj(index -> play(playerOne, playerTwo,
+                moveSet.getMove(playerOneMoveOrdinals[index]), moveSet.getMove(playerTwoMoveOrdinals[index])));
+    }
+
+    /**
+     * Plays the Rock, Paper, Scissors game for the given number of iterations and players, keeping the resulting
+     * GamePlays in a compact GamePlayBatch
+     * @param iterations <p>the number of Iterations to play</p>
+     * @param playerOne <p>the first player playing the game</p>
+     * @param playerTwo <p>the second player playing the game</p>
+     * @return <p>a GamePlayBatch with the GamePlays performed by the given players, whose size should match the
+     * number of iterations given</p>
+     */
+    public GamePlayBatch playBatch(@NotNull Iterations iterations, @NotNull Player playerOne,
+                                   @NotNull Player playerTwo) {
+        GamePlayBatch gamePlayBatch = new GamePlayBatch(playerOne.getPlayerName(), playerTwo.getPlayerName(), moveSet,
+                iterations.getValue());
+        playLazily(iterations, playerOne, playerTwo).forEach(gamePlayBatch::add);
+        return gamePlayBatch;
+    }
+
+    /**
+     * Plays the Rock, Paper, Scissors game for the given number of iterations and players in parallel, in a
+     * ForkJoinPool with as many threads as the given parallelism
+     * @param iterations <p>the number of Iterations to play</p>
+     * @param parallelism <p>the number of chunks the iterations are split into, and threads playing them</p>
+     * @param playerOne <p>the first player playing the game</p>
+     * @param playerTwo <p>the second player playing the game</p>
+     * @return <p>the GameSummary of all the GamePlays performed by the given players</p>
+     * @see Game#playInParallel(Iterations, Parallelism, Player, Player, ExecutorService)
+     */
+    public GameSummary playInParallel(@NotNull Iterations iterations, @NotNull Parallelism parallelism,
+                                      @NotNull Player playerOne, @NotNull Player playerTwo) {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism.getValue());
+        try {
+            return playInParallel(iterations, parallelism, playerOne, playerTwo, forkJoinPool);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Plays the Rock, Paper, Scissors game for the given number of iterations and players in parallel, in the given
+     * executor. The iterations are split into as many chunks as the given parallelism, and each chunk is played by
+     * its own split of the given players, so that no MoveStrategy state is shared between chunks. Each chunk is
+     * summarized on its own, and the partial GameSummaries are merged at the end. The GamePlays themselves are
+     * never created, only their results get counted
+     * @param iterations <p>the number of Iterations to play</p>
+     * @param parallelism <p>the number of chunks the iterations are split into</p>
+     * @param playerOne <p>the first player playing the game</p>
+     * @param playerTwo <p>the second player playing the game</p>
+     * @param executor <p>the executor to play the chunks in</p>
+     * @return <p>the GameSummary of all the GamePlays performed by the given players</p>
+     * @throws IllegalStateException <p>in case the parallel play got interrupted or failed</p>
+     */
+    public GameSummary playInParallel(@NotNull Iterations iterations, @NotNull Parallelism parallelism,
+                                      @NotNull Player playerOne, @NotNull Player playerTwo,
+                                      @NotNull ExecutorService executor) {
+        int numberOfChunks = Math.min(parallelism.getValue(), iterations.getValue());
+        List<Future<GameSummary>> partialGameSummaries = new ArrayList<>(numberOfChunks);
+        for (int chunk = 0; chunk < numberOfChunks; chunk++) {
+            Iterations chunkIterations = chunkIterations(iterations, numberOfChunks, chunk);
+            Player chunkPlayerOne = playerOne.split();
+            Player chunkPlayerTwo = playerTwo.split();
+            partialGameSummaries.add(executor.submit(
+                    () -> playAndSummarize(chunkIterations, chunkPlayerOne, chunkPlayerTwo)));
+        }
+        return mergePartialGameSummaries(partialGameSummaries);
+    }
+
+    /**
+     * Plays the Rock, Paper, Scissors game for the given number of iterations and players, only counting the results
+     * of the game plays
+     * @param iterations <p>the number of Iterations to play</p>
+     * @param playerOne <p>the first player playing the game</p>
+     * @param playerTwo <p>the second player playing the game</p>
+     * @return <p>the GameSummary of all the game plays performed by the given players</p>
+     * @see Game#playAndCount(Iterations, Player, Player, long[])
+     */
+    GameSummary playAndSummarize(Iterations iterations, Player playerOne, Player playerTwo) {
+        long[] gamePlaysByPlayerOneResult = new long[RESULTS.length];
+        playAndCount(iterations, playerOne, playerTwo, gamePlaysByPlayerOneResult);
+        return summarizeResults(gamePlaysByPlayerOneResult, playerOne.getPlayerName(), playerTwo.getPlayerName());
+    }
+
+    /**
+     * Plays the Rock, Paper, Scissors game for the given number of iterations and players, adding the number of game
+     * plays with each Result for the first player to the given counts. The players perform their moves a block at a
+     * time, and the results are looked up straight from the move ordinals, so nothing gets allocated per game play
+     * @param iterations <p>the number of Iterations to play</p>
+     * @param playerOne <p>the first player playing the game</p>
+     * @param playerTwo <p>the second player playing the game</p>
+     * @param gamePlaysByPlayerOneResult <p>the number of game plays by the ordinal of their Result for player one,
+     *                                   added to as the game plays are performed</p>
+     */
+    void playAndCount(Iterations iterations, Player playerOne, Player playerTwo, long[] gamePlaysByPlayerOneResult) {
+        byte[] playerOneMoveOrdinals = new byte[Math.min(MOVES_BLOCK_SIZE, iterations.getValue())];
+        byte[] playerTwoMoveOrdinals = new byte[playerOneMoveOrdinals.length];
+        for (int played = 0; played < iterations.getValue(); played += playerOneMoveOrdinals.length) {
+            int blockSize = Math.min(playerOneMoveOrdinals.length, iterations.getValue() - played);
+            playerOne.performMoves(playerOneMoveOrdinals, 0, blockSize);
+            playerTwo.performMoves(playerTwoMoveOrdinals, 0, blockSize);
+            for (int index = 0; index < blockSize; index++) {
+                gamePlaysByPlayerOneResult[
+                        moveSet.resultOf(playerOneMoveOrdinals[index], playerTwoMoveOrdinals[index]).ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of iterations of the given chunk, once the whole iterations are split in even chunks. The
+     * remainder of the split is spread among the first chunks
+     * @param iterations <p>the whole number of Iterations to play</p>
+     * @param numberOfChunks <p>the number of chunks the iterations are split into</p>
+     * @param chunk <p>the index of the chunk</p>
+     * @return <p>the Iterations the given chunk has to play</p>
+     */
+    private static Iterations chunkIterations(Iterations iterations, int numberOfChunks, int chunk) {
+        int chunkIterations = iterations.getValue() / numberOfChunks;
+        int remainder = iterations.getValue() % numberOfChunks;
+        return Iterations.of(chunkIterations + ((chunk < remainder) ? 1 : 0));
+    }
+
+    /**
+     * Waits for the given partial GameSummaries to be available and merges them into a single one
+     * @param partialGameSummaries <p>the partial GameSummaries to merge</p>
+     * @return <p>a GameSummary with the game plays of all the partial ones</p>
+     * @throws IllegalStateException <p>in case waiting got interrupted or a partial GameSummary failed</p>
+     */
+    private GameSummary mergePartialGameSummaries(List<Future<GameSummary>> partialGameSummaries) {
+        GameSummary gameSummary = GameSummary.empty();
+        try {
+            for (Future<GameSummary> partialGameSummary : partialGameSummaries) {
+                gameSummary = gameSummary.merge(partialGameSummary.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(PARALLEL_PLAY_INTERRUPTED_ERROR_MSG, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(PARALLEL_PLAY_FAILED_ERROR_MSG, e.getCause());
+        } finally {
+            partialGameSummaries.forEach(p -> p.cancel(true));
+        }
+        return gameSummary;
     }
 
     /**
@@ -44,7 +253,22 @@ public class Game {
      */
     public GamePlay play(@NotNull Player playerOne, @NotNull Player playerTwo) {
         GamePlay gamePlay = GamePlay.of(playerOne, playerTwo);
-        logger.debug("Playing " + gamePlay);
+        logger.debug("Playing {}", gamePlay);
+        return gamePlay;
+    }
+
+    /**
+     * Plays the Rock, Paper, Scissors game with the given players and the moves they already performed
+     * @param playerOne <p>the first player playing the game</p>
+     * @param playerTwo <p>the second player playing the game</p>
+     * @param playerOneMove <p>the move performed by the first player</p>
+     * @param playerTwoMove <p>the move performed by the second player</p>
+     * @return <p>a GamePlay performed by the given players</p>
+     */
+    private GamePlay play(Player playerOne, Player playerTwo, Move playerOneMove, Move playerTwoMove) {
+        GamePlay gamePlay = GamePlay.of(playerOne.getPlayerName(), playerTwo.getPlayerName(), playerOneMove,
+                playerTwoMove);
+        logger.debug("Playing {}", gamePlay);
         return gamePlay;
     }
 
@@ -55,31 +279,49 @@ public class Game {
      * @return <p>a summarized representation of the given GamePlays</p>
      */
     public GameSummary summarize(@NotNull Collection<GamePlay> gamePlays) {
-        Map<Boolean, List<GamePlay>> gamePlayByIsDraw = partitionGamePlaysByDrawResult(gamePlays);
-        long numberOfDrawGamePlays = gamePlayByIsDraw.get(true).stream().count();
-        Map<Player.PlayerName, Long> gamePlaysWonByPlayerName = getGamePlaysWonByPlayerName(gamePlayByIsDraw.get(false));
-        return new GameSummary(numberOfDrawGamePlays, gamePlaysWonByPlayerName);
+        return summarizeStream(gamePlays.stream());
     }
 
     /**
-     * Partitions the given game plays according to their result, whether it is DRAW or not
-     * @param gamePlays <p>the collection of game plays to partition</p>
-     * @return <p>a Map containing the given game plays partitioned by the Result.isDraw predicate</p>
+     * Creates a GameSummary from a Stream of GamePlays, in a single pass. Only the number of plays drawn and won by
+     * each player are kept along the way, in a SummaryAccumulator, so the GamePlays can be discarded as soon as they
+     * are counted
+     * @param gamePlays <p>the Stream of GamePlays we would like to summarize</p>
+     * @return <p>a summarized representation of the given GamePlays</p>
      */
-    private Map<Boolean, List<GamePlay>> partitionGamePlaysByDrawResult(@NotNull Collection<GamePlay> gamePlays) {
-        return gamePlays.stream().collect(Collectors.partitioningBy(GamePlay::isDraw));
+    public GameSummary summarizeStream(@NotNull Stream<GamePlay> gamePlays) {
+        return gamePlays.collect(SummaryAccumulator.toGameSummaryCollector());
     }
 
     /**
-     * Gets the number of plays won by each player, given a collection of game plays. Notice that this collection
-     * can not contain DRAW plays. This is, they should all have a winner
-     * @param gamePlaysWithWinner <p>the collection of game plays with an effective winner, from which to calculate the
-     *                            total games won</p>
-     * @return <p>a Map containing the number of plays from the given list won by each player</p>
+     * Creates a GameSummary from a GamePlayBatch, straight from its packed columns. No GamePlay is created along the
+     * way
+     * @param gamePlayBatch <p>the batch of GamePlays we would like to summarize</p>
+     * @return <p>a summarized representation of the GamePlays in the given batch</p>
      */
-    private Map<Player.PlayerName, Long> getGamePlaysWonByPlayerName(List<GamePlay> gamePlaysWithWinner) {
-        return gamePlaysWithWinner.stream().collect(
-                Collectors.groupingBy(g -> g.getWinner().get().getPlayerName(), Collectors.counting()));
+    public GameSummary summarizeBatch(@NotNull GamePlayBatch gamePlayBatch) {
+        long[] gamePlaysByPlayerOneResult = new long[RESULTS.length];
+        for (int index = 0; index < gamePlayBatch.size(); index++) {
+            gamePlaysByPlayerOneResult[gamePlayBatch.getPlayerOneResult(index).ordinal()]++;
+        }
+        return summarizeResults(gamePlaysByPlayerOneResult, gamePlayBatch.getPlayerOneName(),
+                gamePlayBatch.getPlayerTwoName());
+    }
+
+    /**
+     * Creates a GameSummary from the number of game plays between two players with each Result for the first one
+     * @param gamePlaysByPlayerOneResult <p>the number of game plays by the ordinal of their Result for player one</p>
+     * @param playerOneName <p>the name of the first player playing the game</p>
+     * @param playerTwoName <p>the name of the second player playing the game</p>
+     * @return <p>a summarized representation of the counted game plays</p>
+     */
+    private GameSummary summarizeResults(long[] gamePlaysByPlayerOneResult, Player.PlayerName playerOneName,
+                                         Player.PlayerName playerTwoName) {
+        SummaryAccumulator summaryAccumulator = new SummaryAccumulator();
+        summaryAccumulator.addDrawGamePlays(gamePlaysByPlayerOneResult[Result.DRAWS.ordinal()]);
+        summaryAccumulator.addGamePlaysWon(playerOneName, gamePlaysByPlayerOneResult[Result.WINS.ordinal()]);
+        summaryAccumulator.addGamePlaysWon(playerTwoName, gamePlaysByPlayerOneResult[Result.LOSES.ordinal()]);
+        return summaryAccumulator.toGameSummary();
     }
 
     /**
@@ -117,6 +359,39 @@ public class Game {
 
     }
 
+    /**
+     * A Value Object representing the number of chunks, and threads, a Game can be played in parallel with
+     */
+    @AutoValue
+    public static abstract class Parallelism {
+
+        public static final String PARALLELISM_VALIDATION_ERROR_MSG = "Parallelism can't be less or equal than zero";
+
+        public abstract int getValue();
+
+        /**
+         * Creates a new valid Parallelism with the given actual number of chunks
+         * @param parallelism <p>the actual number of chunks</p>
+         * @return <p>a new Parallelism instance matching the given actual parallelism value</p>
+         */
+        public static Parallelism of(int parallelism) {
+            validateParallelism(parallelism);
+            return new AutoValue_Game_Parallelism(parallelism);
+        }
+
+        /**
+         * Validates the given parallelism
+         * @param parallelism <p>the actual parallelism to validate</p>
+         * @throws IllegalArgumentException <p>in case the parallelism is equal or below zero</p>
+         */
+        private static void validateParallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException(PARALLELISM_VALIDATION_ERROR_MSG);
+            }
+        }
+
+    }
+
     /**
      * A Game report for multiple GamePlays, with total games won and drawn
      */
@@ -140,6 +415,28 @@ public class Game {
             this.gamePlaysWonByPlayerName = gamePlaysWonByPlayerName;
         }
 
+        /**
+         * @return <p>a new GameSummary with no game plays at all</p>
+         */
+        public static GameSummary empty() {
+            return new GameSummary(0, new HashMap<>());
+        }
+
+        /**
+         * Merges this GameSummary with another one, typically summarizing a different chunk of game plays of the
+         * same Game. Neither of the summaries is modified
+         * @param otherGameSummary <p>the GameSummary to merge with this one</p>
+         * @return <p>a new GameSummary with the game plays drawn and won of both summaries added up</p>
+         */
+        public GameSummary merge(@NotNull GameSummary otherGameSummary) {
+            Map<Player.PlayerName, Long> mergedGamePlaysWonByPlayerName = new HashMap<>(gamePlaysWonByPlayerName);
+            otherGameSummary.getGamePlaysWonByPlayerName().forEach(
+                    (playerName, gamePlaysWon) -> mergedGamePlaysWonByPlayerName.merge(playerName, gamePlaysWon,
+                            Long::sum));
+            return new GameSummary(drawGamePlays + otherGameSummary.getDrawGamePlays(),
+                    mergedGamePlaysWonByPlayerName);
+        }
+
         public long getDrawGamePlays() {
             return drawGamePlays;
         }
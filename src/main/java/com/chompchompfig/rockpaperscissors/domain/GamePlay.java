@@ -12,23 +12,35 @@ public class GamePlay {
 
     public static final String GAME_PLAY_FORMATTING_STRING = "GamePlay'{' {0}, Move[{1}]:{2} - Move[{3}]:{4} '}'";
 
-    private Player playerOne;
-    private Player playerTwo;
+    private Player.PlayerName playerOneName;
+    private Player.PlayerName playerTwoName;
 
     private Move playerOneMove;
     private Move playerTwoMove;
+    private Result playerOneResult;
 
     /**
-     * Creates a new instance of a GamePlay given two Players. A GamePlay creation requires players perform
-     * their corresponding moves
-     * @param playerOne <p>the first player part of this game play</p>
-     * @param playerTwo <p>the second player part of this game play</p>
+     * Creates a new instance of a GamePlay given the names of two Players and the moves they performed
+     * @param playerOneName <p>the name of the first player part of this game play</p>
+     * @param playerTwoName <p>the name of the second player part of this game play</p>
+     * @param playerOneMove <p>the move performed by the first player</p>
+     * @param playerTwoMove <p>the move performed by the second player</p>
      */
-    private GamePlay(Player playerOne, Player playerTwo) {
-        this.playerOne = playerOne;
-        this.playerTwo = playerTwo;
-        this.playerOneMove = playerOne.performMove();
-        this.playerTwoMove = playerTwo.performMove();
+    private GamePlay(Player.PlayerName playerOneName, Player.PlayerName playerTwoName, Move playerOneMove,
+                     Move playerTwoMove) {
+        this.playerOneName = playerOneName;
+        this.playerTwoName = playerTwoName;
+        this.playerOneMove = playerOneMove;
+        this.playerTwoMove = playerTwoMove;
+        this.playerOneResult = playerOneMove.playedAgainst(playerTwoMove);
+    }
+
+    public Player.PlayerName getPlayerOneName() {
+        return playerOneName;
+    }
+
+    public Player.PlayerName getPlayerTwoName() {
+        return playerTwoName;
     }
 
     /**
@@ -70,23 +82,24 @@ public class GamePlay {
     }
 
     /**
-     * Gets the result of the GamePlay considering the different players' moves
+     * Gets the result of the GamePlay considering the different players' moves. It is evaluated just once, when the
+     * GamePlay is created
      */
     private Result getResult() {
-        return playerOneMove.playedAgainst(playerTwoMove);
+        return playerOneResult;
     }
 
     /**
-     * Gets the winner of the GamePlay if there is one. Notice that if the GamePlay is draw, then there will be no
-     * actual winner
-     * @return <p>the winner of the GamePlay if not draw. Empty otherwise</p>
+     * Gets the name of the winner of the GamePlay if there is one. Notice that if the GamePlay is draw, then there
+     * will be no actual winner
+     * @return <p>the name of the winner of the GamePlay if not draw. Empty otherwise</p>
      */
-    Optional<Player> getWinner() {
-        Player winner = null;
+    Optional<Player.PlayerName> getWinner() {
+        Player.PlayerName winner = null;
         if (!getResult().equals(Result.DRAWS)) {
-            winner = playerTwo;
+            winner = playerTwoName;
             if (getResult().equals(Result.WINS)) {
-                winner = playerOne;
+                winner = playerOneName;
             }
         }
         return Optional.ofNullable(winner);
@@ -95,17 +108,17 @@ public class GamePlay {
     @Override
     public String toString() {
         return MessageFormat.format(GAME_PLAY_FORMATTING_STRING, getResultString(),
-                playerOne.getPlayerName().getValue(), getPlayerOneMove(),
-                playerTwo.getPlayerName().getValue(), getPlayerTwoMove());
+                playerOneName.getValue(), getPlayerOneMove(),
+                playerTwoName.getValue(), getPlayerTwoMove());
     }
 
     /**
      * Creates a nicely formatted String identifying the winner of the GamePlay
-     * @param winner <p>the effective winner of the GamePlay</p>
+     * @param winner <p>the name of the effective winner of the GamePlay</p>
      * @return <p>a String identifying the winner of the GamePlay</p>
      */
-    private String getPlayerWinsFormattedString(Player winner) {
-        return winner.toString() + " " + Result.WINS;
+    private String getPlayerWinsFormattedString(Player.PlayerName winner) {
+        return Player.toString(winner) + " " + Result.WINS;
     }
 
     /**
@@ -124,6 +137,22 @@ public class GamePlay {
      * @return <p>a new instance of GamePlay involving the given players</p>
      */
     public static GamePlay of(@NotNull Player playerOne, @NotNull Player playerTwo) {
-        return new GamePlay(playerOne, playerTwo);
+        return new GamePlay(playerOne.getPlayerName(), playerTwo.getPlayerName(), playerOne.performMove(),
+                playerTwo.performMove());
+    }
+
+    /**
+     * Creates a new instance of a GamePlay given the names of two players and the moves they already performed. A
+     * GamePlay creation requires players perform their corresponding moves, so this is only meant to recreate
+     * GamePlays which were already played, or whose moves were performed elsewhere
+     * @param playerOneName <p>the name of the first player to create the GamePlay with</p>
+     * @param playerTwoName <p>the name of the second player to create the GamePlay with</p>
+     * @param playerOneMove <p>the move already performed by the first player</p>
+     * @param playerTwoMove <p>the move already performed by the second player</p>
+     * @return <p>a new instance of GamePlay involving the given players and moves</p>
+     */
+    static GamePlay of(@NotNull Player.PlayerName playerOneName, @NotNull Player.PlayerName playerTwoName,
+                       @NotNull Move playerOneMove, @NotNull Move playerTwoMove) {
+        return new GamePlay(playerOneName, playerTwoName, playerOneMove, playerTwoMove);
     }
 }
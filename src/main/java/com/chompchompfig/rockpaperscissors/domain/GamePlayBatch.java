@@ -0,0 +1,245 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import javax.validation.constraints.NotNull;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A compact, columnar history of GamePlays performed by the same two players. The names of the players are stored
+ * just once for the whole batch, while each player's moves are stored as their ordinals in the MoveSet, packed in a
+ * column of long words using as few bits per move as the MoveSet allows. Classic moves take just two bits each.
+ * GamePlays are only created on demand, as views over the packed columns
+ */
+public class GamePlayBatch {
+
+    public static final String MOVE_SET_VALIDATION_ERROR_MSG = "Invalid MoveSet for a GamePlayBatch!";
+    public static final String CAPACITY_VALIDATION_ERROR_MSG = "GamePlayBatch capacity can't be negative";
+
+    private static final int MAX_BITS_PER_MOVE = Byte.SIZE;
+    private static final int DEFAULT_CAPACITY = Long.SIZE;
+
+    private Player.PlayerName playerOneName;
+    private Player.PlayerName playerTwoName;
+    private MoveSet moveSet;
+
+    private int bitsPerMove;
+    private int movesPerWordShift;
+    private long moveMask;
+
+    private long[] playerOneMoves;
+    private long[] playerTwoMoves;
+    private int size;
+
+    /**
+     * Creates a new, empty, batch of GamePlays for the players with the given names
+     * @param playerOneName <p>the name of the first player of every GamePlay in the batch</p>
+     * @param playerTwoName <p>the name of the second player of every GamePlay in the batch</p>
+     * @param moveSet <p>the MoveSet the players perform their moves from</p>
+     * @param capacity <p>the number of GamePlays the batch is expected to hold. The batch will grow beyond that if
+     *                 needed</p>
+     * @throws IllegalArgumentException <p>in case the MoveSet or capacity are invalid</p>
+     */
+    public GamePlayBatch(@NotNull Player.PlayerName playerOneName, @NotNull Player.PlayerName playerTwoName,
+                         MoveSet moveSet, int capacity) {
+        validateMoveSet(moveSet);
+        validateCapacity(capacity);
+        this.playerOneName = playerOneName;
+        this.playerTwoName = playerTwoName;
+        this.moveSet = moveSet;
+        this.bitsPerMove = bitsPerMoveFor(moveSet.size());
+        this.movesPerWordShift = Integer.numberOfTrailingZeros(Long.SIZE / bitsPerMove);
+        this.moveMask = (1L << bitsPerMove) - 1;
+        this.playerOneMoves = new long[wordsFor(capacity)];
+        this.playerTwoMoves = new long[wordsFor(capacity)];
+    }
+
+    /**
+     * Creates a new, empty, batch of GamePlays for the players with the given names, with a default capacity
+     * @see GamePlayBatch#GamePlayBatch(Player.PlayerName, Player.PlayerName, MoveSet, int)
+     */
+    public GamePlayBatch(@NotNull Player.PlayerName playerOneName, @NotNull Player.PlayerName playerTwoName,
+                         MoveSet moveSet) {
+        this(playerOneName, playerTwoName, moveSet, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Validates a MoveSet to not be null, and its ordinals to fit in the bits available per move
+     * @param moveSet <p>the MoveSet to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private void validateMoveSet(MoveSet moveSet) {
+        if ((moveSet == null) || (moveSet.size() > (1 << MAX_BITS_PER_MOVE))) {
+            throw new IllegalArgumentException(MOVE_SET_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Validates the initial capacity of the batch
+     * @param capacity <p>the capacity to validate</p>
+     * @throws IllegalArgumentException <p>in case the capacity is negative</p>
+     */
+    private void validateCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(CAPACITY_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Gets the number of bits needed to store the ordinal of any Move in a MoveSet of the given size. Only powers of
+     * two are used, so that no move ever straddles two long words
+     * @param numberOfMoves <p>the number of Moves in the MoveSet</p>
+     * @return <p>the number of bits each move will take in the packed columns</p>
+     */
+    private static int bitsPerMoveFor(int numberOfMoves) {
+        int bitsPerMove = 1;
+        while ((1 << bitsPerMove) < numberOfMoves) {
+            bitsPerMove <<= 1;
+        }
+        return bitsPerMove;
+    }
+
+    /**
+     * Appends a GamePlay to this batch. Only the moves of the GamePlay are kept, since the players are assumed to be
+     * the ones of the batch
+     * @param gamePlay <p>the GamePlay to append</p>
+     */
+    public void add(@NotNull GamePlay gamePlay) {
+        add(gamePlay.getPlayerOneMove(), gamePlay.getPlayerTwoMove());
+    }
+
+    /**
+     * Appends a GamePlay, given the moves performed by each player, to this batch
+     * @param playerOneMove <p>the Move performed by the first player</p>
+     * @param playerTwoMove <p>the Move performed by the second player</p>
+     * @throws IllegalArgumentException <p>in case any of the moves is not supported by this batch</p>
+     */
+    public void add(Move playerOneMove, Move playerTwoMove) {
+        int playerOneOrdinal = ordinalOf(playerOneMove);
+        int playerTwoOrdinal = ordinalOf(playerTwoMove);
+        ensureCapacity(size + 1);
+        setOrdinal(playerOneMoves, size, playerOneOrdinal);
+        setOrdinal(playerTwoMoves, size, playerTwoOrdinal);
+        size++;
+    }
+
+    /**
+     * Gets the ordinal of the given Move within the MoveSet of this batch
+     * @param move <p>the Move to get the ordinal for</p>
+     * @return <p>the ordinal of the given Move</p>
+     * @throws IllegalArgumentException <p>in case the Move doesn't belong to the MoveSet of this batch</p>
+     */
+    private int ordinalOf(Move move) {
+        moveSet.validateMoveBelongsToSet(move);
+        return move.getOrdinal();
+    }
+
+    /**
+     * Makes sure the packed columns can hold the given number of GamePlays, growing them otherwise
+     * @param minimumCapacity <p>the number of GamePlays the columns should be able to hold</p>
+     */
+    private void ensureCapacity(int minimumCapacity) {
+        int minimumWords = wordsFor(minimumCapacity);
+        if (minimumWords > playerOneMoves.length) {
+            int newWords = Math.max(minimumWords, playerOneMoves.length + (playerOneMoves.length >> 1));
+            playerOneMoves = Arrays.copyOf(playerOneMoves, newWords);
+            playerTwoMoves = Arrays.copyOf(playerTwoMoves, newWords);
+        }
+    }
+
+    /**
+     * @return <p>the number of long words needed to hold the given number of packed moves</p>
+     */
+    private int wordsFor(int numberOfMoves) {
+        return (int) (((long) numberOfMoves + (1 << movesPerWordShift) - 1) >>> movesPerWordShift);
+    }
+
+    private void setOrdinal(long[] column, int index, int ordinal) {
+        int shift = (index & ((1 << movesPerWordShift) - 1)) * bitsPerMove;
+        int word = index >>> movesPerWordShift;
+        column[word] = (column[word] & ~(moveMask << shift)) | ((long) ordinal << shift);
+    }
+
+    private int getOrdinal(long[] column, int index) {
+        int shift = (index & ((1 << movesPerWordShift) - 1)) * bitsPerMove;
+        return (int) ((column[index >>> movesPerWordShift] >>> shift) & moveMask);
+    }
+
+    /**
+     * @return <p>the number of GamePlays in this batch</p>
+     */
+    public int size() {
+        return size;
+    }
+
+    public Player.PlayerName getPlayerOneName() {
+        return playerOneName;
+    }
+
+    public Player.PlayerName getPlayerTwoName() {
+        return playerTwoName;
+    }
+
+    public MoveSet getMoveSet() {
+        return moveSet;
+    }
+
+    /**
+     * Gets the ordinal of the Move performed by the first player in the GamePlay at the given position
+     * @param index <p>the position of the GamePlay in this batch</p>
+     * @return <p>the ordinal of the Move performed by the first player</p>
+     */
+    public int getPlayerOneMoveOrdinal(int index) {
+        validateIndex(index);
+        return getOrdinal(playerOneMoves, index);
+    }
+
+    /**
+     * Gets the ordinal of the Move performed by the second player in the GamePlay at the given position
+     * @param index <p>the position of the GamePlay in this batch</p>
+     * @return <p>the ordinal of the Move performed by the second player</p>
+     */
+    public int getPlayerTwoMoveOrdinal(int index) {
+        validateIndex(index);
+        return getOrdinal(playerTwoMoves, index);
+    }
+
+    /**
+     * Gets the Result for the first player of the GamePlay at the given position, straight from the packed columns
+     * @param index <p>the position of the GamePlay in this batch</p>
+     * @return <p>the Result of the GamePlay for the first player</p>
+     */
+    public Result getPlayerOneResult(int index) {
+        validateIndex(index);
+        return moveSet.resultOf(getOrdinal(playerOneMoves, index), getOrdinal(playerTwoMoves, index));
+    }
+
+    /**
+     * Gets a view of the GamePlay at the given position
+     * @param index <p>the position of the GamePlay in this batch</p>
+     * @return <p>a GamePlay with the players of this batch and the moves stored at the given position</p>
+     */
+    public GamePlay get(int index) {
+        validateIndex(index);
+        return GamePlay.of(playerOneName, playerTwoName, moveSet.getMove(getOrdinal(playerOneMoves, index)),
+                moveSet.getMove(getOrdinal(playerTwoMoves, index)));
+    }
+
+    /**
+     * @return <p>a lazy Stream of views of all the GamePlays in this batch, in the order they were added</p>
+     */
+    public Stream<GamePlay> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Validates the given position to be within this batch
+     * @param index <p>the position to validate</p>
+     * @throws IndexOutOfBoundsException <p>in case the validation failed</p>
+     */
+    private void validateIndex(int index) {
+        if ((index < 0) || (index >= size)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
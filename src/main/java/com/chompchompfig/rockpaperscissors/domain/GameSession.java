@@ -0,0 +1,118 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+
+import javax.validation.constraints.NotNull;
+import java.util.function.Consumer;
+
+/**
+ * A match between a player submitting their moves one at a time, typically a remote client, and an opponent
+ * countering each one of them with the next move of its MoveStrategy. Only the number of game plays drawn, won and
+ * lost by the player are kept, in primitive counters, so a session takes the same little memory however long it is
+ * played. Game plays in the same session are serialized on the session itself, while different sessions never
+ * contend with each other
+ */
+public class GameSession {
+
+    public static final String PLAYER_NAMES_VALIDATION_ERROR_MSG =
+            "The player and the opponent in a GameSession must have different names";
+
+    // the player's moves are submitted one at a time, rather than picked by a strategy of their own, so only the
+    // player's name is kept
+    private Player.PlayerName playerName;
+    private Player opponent;
+    private long drawGamePlays;
+    private long gamePlaysWon;
+    private long gamePlaysLost;
+
+    /**
+     * Creates a new GameSession, with no game plays yet, between the player with the given name and the given
+     * opponent
+     * @param playerName <p>the name of the player submitting their moves</p>
+     * @param opponent <p>the opponent countering the player's moves</p>
+     * @throws IllegalArgumentException <p>in case the player and the opponent have the same name</p>
+     */
+    public GameSession(@NotNull Player.PlayerName playerName, @NotNull Player opponent) {
+        if (playerName.equals(opponent.getPlayerName())) {
+            throw new IllegalArgumentException(PLAYER_NAMES_VALIDATION_ERROR_MSG);
+        }
+        this.playerName = playerName;
+        this.opponent = opponent;
+    }
+
+    public Player.PlayerName getPlayerName() {
+        return playerName;
+    }
+
+    public Player.PlayerName getOpponentName() {
+        return opponent.getPlayerName();
+    }
+
+    /**
+     * Plays the given move of the player against the next move of the opponent, counting the Result
+     * @param move <p>the move submitted by the player</p>
+     * @return <p>the GamePlay with the player as player one, and the opponent's counter-move</p>
+     * @throws IllegalArgumentException <p>in case the move can't be played against the opponent's one</p>
+     */
+    public GamePlay play(@NotNull Move move) {
+        return play(move, gamePlay -> { });
+    }
+
+    /**
+     * Plays the given move of the player against the next move of the opponent, handing the GamePlay over to the
+     * given consumer before counting its Result, typically to record it somewhere else first. In case the consumer
+     * throws an exception, the Result is not counted, and the exception is thrown back
+     * @param move <p>the move submitted by the player</p>
+     * @param beforeCounting <p>takes the GamePlay before its Result is counted, while game plays in this session are
+     *                       still serialized</p>
+     * @return <p>the GamePlay with the player as player one, and the opponent's counter-move</p>
+     * @throws IllegalArgumentException <p>in case the move can't be played against the opponent's one</p>
+     */
+    public synchronized GamePlay play(@NotNull Move move, @NotNull Consumer<GamePlay> beforeCounting) {
+        GamePlay gamePlay = GamePlay.of(playerName, opponent.getPlayerName(), move, opponent.performMove());
+        beforeCounting.accept(gamePlay);
+        count(gamePlay.getPlayerOneResult());
+        return gamePlay;
+    }
+
+    /**
+     * Counts the Result of a game play already played, typically one recovered after a restart, without playing it
+     * again, so the opponent's MoveStrategy is left untouched
+     * @param playerResult <p>the Result of the game play for the player</p>
+     */
+    public synchronized void replay(@NotNull Result playerResult) {
+        count(playerResult);
+    }
+
+    /**
+     * Sets the counts of the game plays already played, typically as recovered after a restart, replacing the ones
+     * counted so far
+     * @param drawGamePlays <p>the number of game plays drawn</p>
+     * @param gamePlaysWon <p>the number of game plays won by the player</p>
+     * @param gamePlaysLost <p>the number of game plays lost by the player</p>
+     */
+    public synchronized void restore(long drawGamePlays, long gamePlaysWon, long gamePlaysLost) {
+        this.drawGamePlays = drawGamePlays;
+        this.gamePlaysWon = gamePlaysWon;
+        this.gamePlaysLost = gamePlaysLost;
+    }
+
+    private void count(Result playerResult) {
+        switch (playerResult) {
+            case WINS : gamePlaysWon++; break;
+            case LOSES : gamePlaysLost++; break;
+            default : drawGamePlays++;
+        }
+    }
+
+    /**
+     * @return <p>a GameSummary of the game plays in this session so far</p>
+     */
+    public synchronized GameSummary getGameSummary() {
+        SummaryAccumulator summaryAccumulator = new SummaryAccumulator();
+        summaryAccumulator.addDrawGamePlays(drawGamePlays);
+        summaryAccumulator.addGamePlaysWon(playerName, gamePlaysWon);
+        summaryAccumulator.addGamePlaysWon(opponent.getPlayerName(), gamePlaysLost);
+        return summaryAccumulator.toGameSummary();
+    }
+}
@@ -13,4 +13,16 @@ public interface Move {
      */
     Result playedAgainst(Move move);
 
+    /**
+     * Gets the ordinal of this Move. This is, its position within the MoveSet it belongs to
+     * @return <p>the ordinal of this Move</p>
+     */
+    int getOrdinal();
+
+    /**
+     * Gets the MoveSet this Move belongs to, which holds the rules this Move is played with
+     * @return <p>the MoveSet of this Move</p>
+     */
+    MoveSet getMoveSet();
+
 }
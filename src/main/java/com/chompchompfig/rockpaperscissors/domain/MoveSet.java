@@ -0,0 +1,252 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of Moves a Rock, Paper, Scissors game, or one of its variations, can be played with. Every Move in the set is
+ * identified by its ordinal, and the Result of playing any two Moves against each other is precomputed in an
+ * outcome matrix indexed by their ordinals. This way, evaluating a game play is a single array lookup, no matter
+ * how many Moves the set has
+ */
+public class MoveSet {
+
+    public static final String MOVES_VALIDATION_ERROR_MSG = "Invalid Moves for a MoveSet!";
+    public static final String MOVE_ORDINAL_VALIDATION_ERROR_MSG = "Move ordinal doesn't match its position ";
+    public static final String FOREIGN_MOVE_ERROR_MSG = "Move doesn't belong to the MoveSet ";
+
+    private static final Result[] RESULTS = Result.values();
+
+    private String name;
+    private int numberOfMoves;
+    private List<Move> moves;
+    private byte[] outcomes;
+    private Map<String, Move> movesByName;
+
+    /**
+     * Creates a new, still empty, balanced MoveSet, where each Move beats the half of the Moves preceding it, and
+     * loses against the half of the Moves following it, going round the set in a circular fashion
+     * @param name <p>the name of the MoveSet</p>
+     * @param numberOfMoves <p>the number of Moves the set will have</p>
+     * @throws IllegalArgumentException <p>in case the number of Moves can't make a balanced set</p>
+     */
+    private MoveSet(String name, int numberOfMoves) {
+        validateNumberOfMoves(numberOfMoves);
+        this.name = name;
+        this.numberOfMoves = numberOfMoves;
+        this.outcomes = newBalancedOutcomes(numberOfMoves);
+    }
+
+    /**
+     * Validates the number of Moves of a balanced set. It has to be odd, so that every Move beats as many Moves as
+     * the ones it loses against
+     * @param numberOfMoves <p>the number of Moves to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private static void validateNumberOfMoves(int numberOfMoves) {
+        if ((numberOfMoves <= 0) || (numberOfMoves % 2 == 0) || (numberOfMoves > Byte.MAX_VALUE)) {
+            throw new IllegalArgumentException(MOVES_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Validates the given Moves to be as many as this set can hold, and every one of them to be placed in the
+     * position given by its ordinal
+     * @param moves <p>the list of moves to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private void validateMoveOrdinals(List<? extends Move> moves) {
+        if (moves.size() != numberOfMoves) {
+            throw new IllegalArgumentException(MOVES_VALIDATION_ERROR_MSG);
+        }
+        for (int ordinal = 0; ordinal < moves.size(); ordinal++) {
+            if (moves.get(ordinal).getOrdinal() != ordinal) {
+                throw new IllegalArgumentException(MOVE_ORDINAL_VALIDATION_ERROR_MSG + moves.get(ordinal));
+            }
+        }
+    }
+
+    /**
+     * Sets the Moves of this set, once and for all
+     * @param moves <p>the Moves in the set, each one of them placed in the position given by its ordinal</p>
+     */
+    private void setMoves(List<? extends Move> moves) {
+        validateMoveOrdinals(moves);
+        this.moves = Collections.unmodifiableList(new ArrayList<>(moves));
+        this.movesByName = new HashMap<>();
+        moves.forEach(m -> movesByName.put(m.toString().toLowerCase(), m));
+    }
+
+    /**
+     * Precomputes the Result of every Move against every other one in a balanced set, where each Move beats the half
+     * of the Moves preceding it
+     * @param numberOfMoves <p>the number of Moves in the set</p>
+     * @return <p>the ordinal of the Result of the first Move against the second one, indexed by the Moves'
+     * ordinals</p>
+     */
+    private static byte[] newBalancedOutcomes(int numberOfMoves) {
+        byte[] outcomes = new byte[numberOfMoves * numberOfMoves];
+        int half = numberOfMoves / 2;
+        for (int move = 0; move < numberOfMoves; move++) {
+            for (int otherMove = 0; otherMove < numberOfMoves; otherMove++) {
+                int distance = Math.floorMod(move - otherMove, numberOfMoves);
+                Result result = (distance == 0) ? Result.DRAWS : (distance <= half) ? Result.WINS : Result.LOSES;
+                outcomes[move * numberOfMoves + otherMove] = (byte) result.ordinal();
+            }
+        }
+        return outcomes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return <p>all the Moves in this set, in ordinal order</p>
+     */
+    public List<Move> getMoves() {
+        return moves;
+    }
+
+    /**
+     * @return <p>the number of Moves in this set</p>
+     */
+    public int size() {
+        return numberOfMoves;
+    }
+
+    /**
+     * Gets the Move in this set with the given ordinal
+     * @param ordinal <p>the ordinal of the Move</p>
+     * @return <p>the Move with the given ordinal</p>
+     */
+    public Move getMove(int ordinal) {
+        return moves.get(ordinal);
+    }
+
+    /**
+     * Gets the Result of playing the Move with the given ordinal against the Move with the other given ordinal
+     * @param moveOrdinal <p>the ordinal of the Move played</p>
+     * @param otherMoveOrdinal <p>the ordinal of the Move it is played against</p>
+     * @return <p>the Result for the first Move</p>
+     */
+    public Result resultOf(int moveOrdinal, int otherMoveOrdinal) {
+        return RESULTS[outcomes[moveOrdinal * numberOfMoves + otherMoveOrdinal]];
+    }
+
+    /**
+     * Gets the Result of playing a Move from this set against another one from this set too
+     * @param move <p>the Move played</p>
+     * @param otherMove <p>the Move it is played against</p>
+     * @return <p>the Result for the first Move</p>
+     * @throws IllegalArgumentException <p>in case any of the Moves doesn't belong to this set</p>
+     */
+    public Result resultOf(@NotNull Move move, @NotNull Move otherMove) {
+        validateMoveBelongsToSet(move);
+        validateMoveBelongsToSet(otherMove);
+        return resultOf(move.getOrdinal(), otherMove.getOrdinal());
+    }
+
+    /**
+     * Validates the given Move to belong to this set
+     * @param move <p>the Move to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    public void validateMoveBelongsToSet(@NotNull Move move) {
+        if (move.getMoveSet() != this) {
+            throw new IllegalArgumentException(FOREIGN_MOVE_ERROR_MSG + name + ": " + move);
+        }
+    }
+
+    /**
+     * Gets a Move from this set given its name, ignoring case
+     * @param moveName <p>the Move name</p>
+     * @return <p>the Move in this set with the given name</p>
+     * @throws IllegalArgumentException <p>in case there is no Move with the given name in this set</p>
+     */
+    public Move from(String moveName) {
+        Move move = (moveName == null) ? null : movesByName.get(moveName.toLowerCase());
+        if (move == null) {
+            throw new IllegalArgumentException("Can't create a Move in " + name + " from " + moveName);
+        }
+        return move;
+    }
+
+    @Override
+    public String toString() {
+        return "MoveSet {" + name + "}";
+    }
+
+    /**
+     * Creates a new balanced MoveSet with the given Moves, where each Move beats the half of the Moves preceding it,
+     * and loses against the half of the Moves following it, going round the list in a circular fashion
+     * @param name <p>the name of the MoveSet</p>
+     * @param moves <p>an odd number of Moves, each one of them placed in the position given by its ordinal</p>
+     * @return <p>a new MoveSet with the given Moves</p>
+     * @throws IllegalArgumentException <p>in case the Moves can't make a balanced set</p>
+     */
+    public static MoveSet balanced(String name, @NotNull List<? extends Move> moves) {
+        MoveSet moveSet = new MoveSet(name, moves.size());
+        moveSet.setMoves(moves);
+        return moveSet;
+    }
+
+    /**
+     * Creates a new balanced MoveSet with a NamedMove for each one of the given names. Each Move beats the half of
+     * the Moves preceding it, and loses against the half of the Moves following it, going round the list in a
+     * circular fashion
+     * @param name <p>the name of the MoveSet</p>
+     * @param moveNames <p>an odd number of Move names, in ordinal order</p>
+     * @return <p>a new MoveSet with NamedMoves for the given names</p>
+     * @throws IllegalArgumentException <p>in case the names can't make a balanced set</p>
+     */
+    public static MoveSet balancedOfNames(String name, @NotNull List<String> moveNames) {
+        MoveSet moveSet = new MoveSet(name, moveNames.size());
+        List<Move> namedMoves = new ArrayList<>(moveNames.size());
+        for (int ordinal = 0; ordinal < moveNames.size(); ordinal++) {
+            namedMoves.add(new NamedMove(moveNames.get(ordinal), ordinal, moveSet));
+        }
+        moveSet.setMoves(namedMoves);
+        return moveSet;
+    }
+
+    /**
+     * A Move only identified by its name and its ordinal within a MoveSet. Its game rules are those of the MoveSet
+     */
+    public static class NamedMove implements Move {
+
+        private String name;
+        private int ordinal;
+        private MoveSet moveSet;
+
+        private NamedMove(String name, int ordinal, MoveSet moveSet) {
+            this.name = name;
+            this.ordinal = ordinal;
+            this.moveSet = moveSet;
+        }
+
+        @Override
+        public Result playedAgainst(Move move) {
+            return moveSet.resultOf(this, move);
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        @Override
+        public MoveSet getMoveSet() {
+            return moveSet;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -11,4 +11,28 @@ public interface MoveStrategy {
      */
     Move getNextMove();
 
+    /**
+     * Fills a block of the given array with the ordinals of the next Moves to perform, in the order they would have
+     * been returned by getNextMove. Strategies able to pick many moves at once should override this method, so
+     * callers pay a single call per block of moves, instead of one per move. The default just loops over getNextMove
+     * @param ordinals <p>the array to write the ordinals of the next Moves to</p>
+     * @param offset <p>the position in the array of the first ordinal to write</p>
+     * @param count <p>the number of Moves to pick</p>
+     */
+    default void fillNextMoves(byte[] ordinals, int offset, int count) {
+        for (int index = offset; index < offset + count; index++) {
+            ordinals[index] = (byte) getNextMove().getOrdinal();
+        }
+    }
+
+    /**
+     * Creates a MoveStrategy picking moves the same way as this one, but without sharing any mutable state with it,
+     * so that both can be used concurrently, for instance by different chunks of a parallel Game. Stateless
+     * strategies can just return themselves, which is the default
+     * @return <p>a MoveStrategy independent from this one</p>
+     */
+    default MoveStrategy split() {
+        return this;
+    }
+
 }
@@ -55,9 +55,37 @@ public class Player {
         return moveStrategy.getNextMove();
     }
 
+    /**
+     * Performs a block of moves at once, writing their ordinals to the given array
+     * @param ordinals <p>the array to write the ordinals of the moves performed to</p>
+     * @param offset <p>the position in the array of the first ordinal to write</p>
+     * @param count <p>the number of moves to perform</p>
+     * @see MoveStrategy#fillNextMoves(byte[], int, int)
+     */
+    public void performMoves(byte[] ordinals, int offset, int count) {
+        moveStrategy.fillNextMoves(ordinals, offset, count);
+    }
+
+    /**
+     * Creates a new Player with the same name as this one, and a split of its MoveStrategy. The new Player can then
+     * play concurrently with this one without sharing any MoveStrategy state
+     * @return <p>a new Player with the same name and a split of the MoveStrategy of this one</p>
+     * @see MoveStrategy#split()
+     */
+    public Player split() {
+        return new Player(playerName, moveStrategy.split());
+    }
+
     @Override
     public String toString() {
-        return "Player {" + getPlayerName().getValue() + "}";
+        return toString(getPlayerName());
+    }
+
+    /**
+     * @return <p>the String representation of the Player with the given name</p>
+     */
+    static String toString(PlayerName playerName) {
+        return "Player {" + playerName.getValue() + "}";
     }
 
     /**
@@ -0,0 +1,109 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+
+import javax.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * A mutable, single pass accumulator of GamePlays into a GameSummary. GamePlays are folded in one at a time with
+ * primitive counters, so nothing gets allocated per GamePlay, but for the counter of a player the first time they
+ * win. Accumulators are not thread safe. Concurrent writers should each fold their GamePlays into their own
+ * accumulator, and merge the partial accumulators at the end
+ */
+public class SummaryAccumulator {
+
+    private long drawGamePlays;
+    private Map<Player.PlayerName, GamePlaysWonCounter> gamePlaysWonByPlayerName = new HashMap<>();
+
+    private Player.PlayerName lastWinner;
+    private GamePlaysWonCounter lastWinnerCounter;
+
+    /**
+     * Folds a GamePlay into this accumulator
+     * @param gamePlay <p>the GamePlay to fold in</p>
+     */
+    public void add(@NotNull GamePlay gamePlay) {
+        switch (gamePlay.getPlayerOneResult()) {
+            case WINS : addGamePlayWon(gamePlay.getPlayerOneName()); break;
+            case LOSES : addGamePlayWon(gamePlay.getPlayerTwoName()); break;
+            default : drawGamePlays++;
+        }
+    }
+
+    /**
+     * Adds a single game play won by the given player. Consecutive game plays are typically won by the same few
+     * players, so the counter of the last winner is kept at hand, to save looking it up by name
+     * @param winner <p>the name of the player who won the game play</p>
+     */
+    private void addGamePlayWon(Player.PlayerName winner) {
+        if (winner != lastWinner) {
+            lastWinner = winner;
+            lastWinnerCounter = getGamePlaysWonCounter(winner);
+        }
+        lastWinnerCounter.gamePlaysWon++;
+    }
+
+    /**
+     * Adds a number of game plays drawn at once
+     * @param drawGamePlays <p>the number of game plays drawn</p>
+     */
+    public void addDrawGamePlays(long drawGamePlays) {
+        this.drawGamePlays += drawGamePlays;
+    }
+
+    /**
+     * Adds a number of game plays won by the given player at once. Nothing is added if the number is zero, so that
+     * players who never won don't show up in the GameSummary
+     * @param playerName <p>the name of the player who won the game plays</p>
+     * @param gamePlaysWon <p>the number of game plays won</p>
+     */
+    public void addGamePlaysWon(@NotNull Player.PlayerName playerName, long gamePlaysWon) {
+        if (gamePlaysWon > 0) {
+            getGamePlaysWonCounter(playerName).gamePlaysWon += gamePlaysWon;
+        }
+    }
+
+    private GamePlaysWonCounter getGamePlaysWonCounter(Player.PlayerName playerName) {
+        return gamePlaysWonByPlayerName.computeIfAbsent(playerName, p -> new GamePlaysWonCounter());
+    }
+
+    /**
+     * Merges the game plays folded into another accumulator into this one. The other accumulator is left untouched
+     * @param otherSummaryAccumulator <p>the accumulator to merge into this one</p>
+     * @return <p>this accumulator, with the game plays of both accumulators</p>
+     */
+    public SummaryAccumulator merge(@NotNull SummaryAccumulator otherSummaryAccumulator) {
+        addDrawGamePlays(otherSummaryAccumulator.drawGamePlays);
+        otherSummaryAccumulator.gamePlaysWonByPlayerName.forEach(
+                (playerName, counter) -> addGamePlaysWon(playerName, counter.gamePlaysWon));
+        return this;
+    }
+
+    /**
+     * @return <p>a GameSummary of all the game plays folded into this accumulator so far</p>
+     */
+    public GameSummary toGameSummary() {
+        Map<Player.PlayerName, Long> gamePlaysWon = new HashMap<>();
+        gamePlaysWonByPlayerName.forEach((playerName, counter) -> gamePlaysWon.put(playerName, counter.gamePlaysWon));
+        return new GameSummary(drawGamePlays, gamePlaysWon);
+    }
+
+    /**
+     * @return <p>a Collector summarizing a Stream of GamePlays in a single pass, with one accumulator per thread
+     * when the Stream is parallel</p>
+     */
+    public static Collector<GamePlay, SummaryAccumulator, GameSummary> toGameSummaryCollector() {
+        return Collector.of(SummaryAccumulator::new, SummaryAccumulator::add, SummaryAccumulator::merge,
+                SummaryAccumulator::toGameSummary);
+    }
+
+    /**
+     * A mutable counter of the game plays won by a player
+     */
+    private static class GamePlaysWonCounter {
+        private long gamePlaysWon;
+    }
+}
@@ -0,0 +1,319 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.Iterations;
+import com.chompchompfig.rockpaperscissors.domain.Game.Parallelism;
+
+import javax.validation.constraints.NotNull;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * A round-robin Rock, Paper, Scissors tournament, where every player plays a Game of the same number of iterations
+ * against every other player, once. The N*(N-1)/2 matchups are split recursively into tasks for a ForkJoinPool, so
+ * idle threads steal the pending halves of busy ones, and the pool keeps all of its threads playing until the very
+ * last matchup, however uneven they turn out. Each matchup is played by splits of its two players, so no MoveStrategy
+ * state is shared between threads, and only the results of its game plays are counted, straight into a ScoreMatrix
+ * of primitive longs
+ */
+public class Tournament {
+
+    public static final int MAX_PLAYERS = 46340;
+    public static final String PLAYERS_VALIDATION_ERROR_MSG = "A Tournament takes between 2 and " + MAX_PLAYERS +
+            " players";
+    public static final String PLAYER_NAMES_VALIDATION_ERROR_MSG = "The players in a Tournament must have different" +
+            " names";
+
+    // matchups are grouped into tasks of at least this many game plays, so short Games don't drown in task overhead
+    private static final int MIN_GAME_PLAYS_PER_TASK = 1 << 16;
+    private static final int WINS = Result.WINS.ordinal();
+    private static final int LOSES = Result.LOSES.ordinal();
+
+    private Game game;
+
+    /**
+     * Creates a new Tournament, whose matchups are played as the given Game
+     * @param game <p>the Game every matchup is played as</p>
+     */
+    public Tournament(@NotNull Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Plays the Tournament between the given players in a ForkJoinPool with as many threads as the given parallelism
+     * @param iterations <p>the number of Iterations every matchup is played for</p>
+     * @param parallelism <p>the number of threads playing the matchups</p>
+     * @param players <p>the players of the Tournament</p>
+     * @return <p>the ScoreMatrix of the Tournament, with the players in the given order</p>
+     * @see Tournament#play(Iterations, List, ForkJoinPool)
+     */
+    public ScoreMatrix play(@NotNull Iterations iterations, @NotNull Parallelism parallelism,
+                            @NotNull List<Player> players) {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism.getValue());
+        try {
+            return play(iterations, players, forkJoinPool);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Plays the Tournament between the given players in the given ForkJoinPool, waiting for every matchup to be
+     * played
+     * @param iterations <p>the number of Iterations every matchup is played for</p>
+     * @param players <p>the players of the Tournament</p>
+     * @param forkJoinPool <p>the pool to play the matchups in</p>
+     * @return <p>the ScoreMatrix of the Tournament, with the players in the given order</p>
+     * @throws IllegalArgumentException <p>in case there are too few or too many players, or any two of them have the
+     * same name</p>
+     */
+    public ScoreMatrix play(@NotNull Iterations iterations, @NotNull List<Player> players,
+                            @NotNull ForkJoinPool forkJoinPool) {
+        validatePlayers(players);
+        Player[] tournamentPlayers = players.toArray(new Player[0]);
+        long[] gamePlaysWon = new long[tournamentPlayers.length * tournamentPlayers.length];
+        long matchups = (long) tournamentPlayers.length * (tournamentPlayers.length - 1) / 2;
+        int matchupsPerTask = Math.max(1, MIN_GAME_PLAYS_PER_TASK / iterations.getValue());
+        forkJoinPool.invoke(new Matchups(iterations, tournamentPlayers, gamePlaysWon, matchupsPerTask, 0, matchups));
+        return new ScoreMatrix(Arrays.stream(tournamentPlayers).map(Player::getPlayerName)
+                .toArray(Player.PlayerName[]::new), iterations.getValue(), gamePlaysWon);
+    }
+
+    /**
+     * Validates the given players to be within bounds, and to have different names
+     * @param players <p>the players to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private static void validatePlayers(List<Player> players) {
+        if ((players.size() < 2) || (players.size() > MAX_PLAYERS)) {
+            throw new IllegalArgumentException(PLAYERS_VALIDATION_ERROR_MSG);
+        }
+        Set<Player.PlayerName> playerNames = new HashSet<>();
+        for (Player player : players) {
+            if (!playerNames.add(player.getPlayerName())) {
+                throw new IllegalArgumentException(PLAYER_NAMES_VALIDATION_ERROR_MSG);
+            }
+        }
+    }
+
+    /**
+     * A range of the matchups of a Tournament, numbered row by row over the upper triangle of the ScoreMatrix. This
+     * is, matchup 0 is player 0 against player 1, and matchup N-1 is player 1 against player 2
+     */
+    private class Matchups extends RecursiveAction {
+
+        private Iterations iterations;
+        private Player[] players;
+        private long[] gamePlaysWon;
+        private int matchupsPerTask;
+        private long fromMatchup;
+        private long toMatchup;
+
+        Matchups(Iterations iterations, Player[] players, long[] gamePlaysWon, int matchupsPerTask, long fromMatchup,
+                 long toMatchup) {
+            this.iterations = iterations;
+            this.players = players;
+            this.gamePlaysWon = gamePlaysWon;
+            this.matchupsPerTask = matchupsPerTask;
+            this.fromMatchup = fromMatchup;
+            this.toMatchup = toMatchup;
+        }
+
+        @Override
+        protected void compute() {
+            if (toMatchup - fromMatchup <= matchupsPerTask) {
+                playMatchups();
+            } else {
+                long middleMatchup = (fromMatchup + toMatchup) >>> 1;
+                invokeAll(new Matchups(iterations, players, gamePlaysWon, matchupsPerTask, fromMatchup, middleMatchup),
+                        new Matchups(iterations, players, gamePlaysWon, matchupsPerTask, middleMatchup, toMatchup));
+            }
+        }
+
+        /**
+         * Plays every matchup in the range, one after the other. Each matchup only writes the two cells of the
+         * ScoreMatrix for its players, so no matchup ever writes where another one does
+         */
+        private void playMatchups() {
+            long[] gamePlaysByPlayerResult = new long[Result.values().length];
+            int player = rowOf(fromMatchup);
+            int opponent = (int) (player + 1 + fromMatchup - firstMatchupOf(player));
+            for (long matchup = fromMatchup; matchup < toMatchup; matchup++) {
+                Arrays.fill(gamePlaysByPlayerResult, 0);
+                game.playAndCount(iterations, split(players[player]), split(players[opponent]),
+                        gamePlaysByPlayerResult);
+                gamePlaysWon[player * players.length + opponent] = gamePlaysByPlayerResult[WINS];
+                gamePlaysWon[opponent * players.length + player] = gamePlaysByPlayerResult[LOSES];
+                if (++opponent == players.length) {
+                    player++;
+                    opponent = player + 1;
+                }
+            }
+        }
+
+        /**
+         * @return <p>the player playing the given matchup as the first player, found by a binary search over the
+         * first matchup of every row</p>
+         */
+        private int rowOf(long matchup) {
+            int lowRow = 0;
+            int highRow = players.length - 2;
+            while (lowRow < highRow) {
+                int middleRow = (lowRow + highRow + 1) >>> 1;
+                if (firstMatchupOf(middleRow) <= matchup) {
+                    lowRow = middleRow;
+                } else {
+                    highRow = middleRow - 1;
+                }
+            }
+            return lowRow;
+        }
+
+        /**
+         * @return <p>the number of the matchup of the given player against the player right after it</p>
+         */
+        private long firstMatchupOf(int player) {
+            return (long) player * (2L * players.length - player - 1) / 2;
+        }
+    }
+
+    /**
+     * Splits the given player, so that its split can play a matchup on its own. The same player is split by many
+     * threads at once, so splits are serialized on the player, whatever its MoveStrategy
+     * @param player <p>the player to split</p>
+     * @return <p>a split of the given player</p>
+     */
+    private static Player split(Player player) {
+        synchronized (player) {
+            return player.split();
+        }
+    }
+
+    /**
+     * The scores of a Tournament, as the number of game plays each player won against each other player, held in a
+     * single array of primitive longs, row by row. Draws and losses are derived from the wins of both players of a
+     * matchup, so they take no room of their own
+     */
+    public static class ScoreMatrix {
+
+        private Player.PlayerName[] playerNames;
+        private int iterations;
+        private long[] gamePlaysWon;
+
+        /**
+         * Creates a new ScoreMatrix
+         * @param playerNames <p>the names of the players, in the order of the rows and columns</p>
+         * @param iterations <p>the number of game plays in every matchup</p>
+         * @param gamePlaysWon <p>the number of game plays the player of each row won against the player of each
+         *                     column, row by row</p>
+         */
+        ScoreMatrix(Player.PlayerName[] playerNames, int iterations, long[] gamePlaysWon) {
+            this.playerNames = playerNames;
+            this.iterations = iterations;
+            this.gamePlaysWon = gamePlaysWon;
+        }
+
+        /**
+         * @return <p>the number of players in the Tournament</p>
+         */
+        public int size() {
+            return playerNames.length;
+        }
+
+        public Player.PlayerName getPlayerName(int player) {
+            return playerNames[player];
+        }
+
+        /**
+         * @return <p>the number of game plays in every matchup</p>
+         */
+        public int getIterations() {
+            return iterations;
+        }
+
+        /**
+         * @return <p>the number of game plays the given player won against the given opponent</p>
+         */
+        public long getGamePlaysWon(int player, int opponent) {
+            validateIndex(player);
+            validateIndex(opponent);
+            return gamePlaysWon[player * playerNames.length + opponent];
+        }
+
+        /**
+         * @return <p>the number of game plays the given player lost against the given opponent</p>
+         */
+        public long getGamePlaysLost(int player, int opponent) {
+            return getGamePlaysWon(opponent, player);
+        }
+
+        /**
+         * @return <p>the number of game plays the given player drew with the given opponent, 0 against itself</p>
+         */
+        public long getDrawGamePlays(int player, int opponent) {
+            if (player == opponent) {
+                validateIndex(player);
+                return 0;
+            }
+            return iterations - getGamePlaysWon(player, opponent) - getGamePlaysLost(player, opponent);
+        }
+
+        /**
+         * @return <p>the number of game plays the given player won against all of the other players</p>
+         */
+        public long getTotalGamePlaysWon(int player) {
+            validateIndex(player);
+            long totalGamePlaysWon = 0;
+            for (int index = player * playerNames.length; index < (player + 1) * playerNames.length; index++) {
+                totalGamePlaysWon += gamePlaysWon[index];
+            }
+            return totalGamePlaysWon;
+        }
+
+        /**
+         * @return <p>the number of game plays the given player lost against all of the other players</p>
+         */
+        public long getTotalGamePlaysLost(int player) {
+            validateIndex(player);
+            long totalGamePlaysLost = 0;
+            for (int opponent = 0; opponent < playerNames.length; opponent++) {
+                totalGamePlaysLost += gamePlaysWon[opponent * playerNames.length + player];
+            }
+            return totalGamePlaysLost;
+        }
+
+        /**
+         * Ranks the players by the number of game plays they won in the whole Tournament, breaking ties by the number
+         * of game plays they lost, and then by their order
+         * @return <p>the players, from first to last, as their positions in this ScoreMatrix</p>
+         */
+        public int[] getRanking() {
+            long[] totalGamePlaysWon = new long[playerNames.length];
+            long[] totalGamePlaysLost = new long[playerNames.length];
+            for (int player = 0; player < playerNames.length; player++) {
+                totalGamePlaysWon[player] = getTotalGamePlaysWon(player);
+                totalGamePlaysLost[player] = getTotalGamePlaysLost(player);
+            }
+            Comparator<Integer> byTotalGamePlaysWon = Comparator.comparingLong(player -> -totalGamePlaysWon[player]);
+            return IntStream.range(0, playerNames.length).boxed()
+                    .sorted(byTotalGamePlaysWon.thenComparingLong(player -> totalGamePlaysLost[player]))
+                    .mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * Validates the given position to be within this ScoreMatrix
+         * @param player <p>the position to validate</p>
+         * @throws IndexOutOfBoundsException <p>in case the validation failed</p>
+         */
+        private void validateIndex(int player) {
+            if ((player < 0) || (player >= playerNames.length)) {
+                throw new IndexOutOfBoundsException("Index: " + player + ", Size: " + playerNames.length);
+            }
+        }
+    }
+}
@@ -1,30 +1,29 @@
 package com.chompchompfig.rockpaperscissors.domain.moves;
 
 import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
 import com.chompchompfig.rockpaperscissors.domain.Result;
 
 /**
- * A Classic Rock Paper Scissors game Move. Classic Moves include Rock, Paper and Scissors
+ * A Classic Rock Paper Scissors game Move. Classic Moves include Rock, Paper and Scissors, and they are all played
+ * according to the rules of the classic MoveSet
  */
 public interface ClassicMove extends Move {
 
     /**
-     * Gets the result of a Classic Rock Paper Scissors game, should this Classic Move be played against Paper
-     * @param move <p>a Paper Classic Move this one would be played against</p>
-     * @return <p>the Result of playing this Classic Move against Paper</p>
+     * @see Move#playedAgainst(Move)
      */
-    Result playedAgainst(Paper move);
-    /**
-     * Gets the result of a Classic Rock Paper Scissors game, should this Classic Move be played against Rock
-     * @param move <p>a Rock Classic Move this one would be played against</p>
-     * @return <p>the Result of playing this Classic Move against Rock</p>
-     */
-    Result playedAgainst(Rock move);
+    @Override
+    default Result playedAgainst(Move move) {
+        return getMoveSet().resultOf(this, move);
+    }
+
     /**
-     * Gets the result of a Classic Rock Paper Scissors game, should this Classic Move be played against Scissors
-     * @param move <p>a Scissors Classic Move this one would be played against</p>
-     * @return <p>the Result of playing this Classic Move against Scissors</p>
+     * @see Move#getMoveSet()
      */
-    Result playedAgainst(Scissors move);
+    @Override
+    default MoveSet getMoveSet() {
+        return ClassicMoves.MOVE_SET;
+    }
 
 }
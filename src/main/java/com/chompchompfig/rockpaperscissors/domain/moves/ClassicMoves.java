@@ -1,5 +1,6 @@
 package com.chompchompfig.rockpaperscissors.domain.moves;
 
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
 import com.google.common.collect.Lists;
 
 import java.util.List;
@@ -14,6 +15,10 @@ public class ClassicMoves {
     public static final ClassicMove SCISSORS_MOVE = new Scissors();
     public static final List<ClassicMove> ALL = Lists.newArrayList(ROCK_MOVE, PAPER_MOVE, SCISSORS_MOVE);
 
+    public static final String MOVE_SET_NAME = "RockPaperScissors";
+    // each classic move beats the one preceding it, Paper beats Rock, Scissors beat Paper, and Rock beats Scissors
+    public static final MoveSet MOVE_SET = MoveSet.balanced(MOVE_SET_NAME, ALL);
+
     /**
      * Gets a ClassMove given its name
      * @param moveName <p>the Move name</p>
@@ -1,42 +1,19 @@
 package com.chompchompfig.rockpaperscissors.domain.moves;
 
-import com.chompchompfig.rockpaperscissors.domain.Move;
-import com.chompchompfig.rockpaperscissors.domain.Result;
-
 /**
  * A Classic Paper Move in a Classic Rock, Paper, Scissors game
  */
 public class Paper implements ClassicMove {
 
     public static final String MOVE_NAME = "Paper";
-
-    @Override
-    public Result playedAgainst(Move move) {
-        return ((ClassicMove) move).playedAgainst(this).opposite();
-    }
-
-    /**
-     * @see ClassicMove#playedAgainst(Rock)
-     */
-    @Override
-    public Result playedAgainst(Rock move) {
-        return Result.WINS;
-    }
-
-    /**
-     * @see ClassicMove#playedAgainst(Paper)
-     */
-    @Override
-    public Result playedAgainst(Paper move) {
-        return Result.DRAWS;
-    }
+    public static final int ORDINAL = 1;
 
     /**
-     * @see ClassicMove#playedAgainst(Scissors)
+     * @see com.chompchompfig.rockpaperscissors.domain.Move#getOrdinal()
      */
     @Override
-    public Result playedAgainst(Scissors move) {
-        return Result.LOSES;
+    public int getOrdinal() {
+        return ORDINAL;
     }
 
     @Override
@@ -0,0 +1,30 @@
+package com.chompchompfig.rockpaperscissors.domain.moves;
+
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import java.util.List;
+
+/**
+ * The MoveSet of the RPS-101 game variation, with 101 different moves
+ */
+public class RockPaperScissors101Moves {
+
+    public static final String MOVE_SET_NAME = "RPS-101";
+    // the RPS-101 chart lists each move right before the 50 moves it beats, hence the reverse order
+    private static final List<String> CHART_MOVE_NAMES = ImmutableList.of(
+            "Dynamite", "Tornado", "Quicksand", "Pit", "Chain", "Gun", "Law", "Whip", "Sword", "Rock",
+            "Death", "Wall", "Sun", "Camera", "Fire", "Chainsaw", "School", "Scissors", "Poison", "Cage",
+            "Axe", "Peace", "Computer", "Castle", "Snake", "Blood", "Porcupine", "Vulture", "Monkey", "King",
+            "Queen", "Prince", "Princess", "Police", "Woman", "Baby", "Man", "Home", "Train", "Car",
+            "Noise", "Bicycle", "Tree", "Turnip", "Duck", "Wolf", "Cat", "Bird", "Fish", "Spider",
+            "Cockroach", "Brain", "Community", "Cross", "Money", "Vampire", "Sponge", "Church", "Butter", "Book",
+            "Paper", "Cloud", "Airplane", "Moon", "Grass", "Film", "Toilet", "Air", "Planet", "Guitar",
+            "Bowl", "Cup", "Beer", "Rain", "Water", "TV", "Rainbow", "UFO", "Alien", "Prayer",
+            "Mountain", "Satan", "Dragon", "Diamond", "Platinum", "Gold", "Devil", "Fence", "Video Game", "Math",
+            "Robot", "Heart", "Electricity", "Lightning", "Medusa", "Power", "Laser", "Nuke", "Sky", "Tank",
+            "Helicopter");
+    public static final MoveSet MOVE_SET = MoveSet.balancedOfNames(MOVE_SET_NAME, Lists.reverse(CHART_MOVE_NAMES));
+
+}
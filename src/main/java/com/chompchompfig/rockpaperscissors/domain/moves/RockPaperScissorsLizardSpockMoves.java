@@ -0,0 +1,18 @@
+package com.chompchompfig.rockpaperscissors.domain.moves;
+
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * The MoveSet of the Rock, Paper, Scissors, Lizard, Spock game variation
+ */
+public class RockPaperScissorsLizardSpockMoves {
+
+    public static final String MOVE_SET_NAME = "RockPaperScissorsLizardSpock";
+    // ordered so that each move beats the two preceding it. Spock vaporizes Rock, Paper disproves Spock and covers
+    // Rock, Lizard eats Paper and poisons Spock, Scissors decapitate Lizard and cut Paper, Rock crushes Scissors and
+    // Lizard, and Spock smashes Scissors
+    public static final MoveSet MOVE_SET = MoveSet.balancedOfNames(MOVE_SET_NAME,
+            ImmutableList.of("Rock", "Spock", "Paper", "Lizard", "Scissors"));
+
+}
@@ -1,42 +1,19 @@
 package com.chompchompfig.rockpaperscissors.domain.moves;
 
-import com.chompchompfig.rockpaperscissors.domain.Move;
-import com.chompchompfig.rockpaperscissors.domain.Result;
-
 /**
  * A Classic Scissors Move in a Classic Rock, Paper, Scissors game
  */
 public class Scissors implements ClassicMove {
 
     public static final String MOVE_NAME = "Scissors";
-
-    @Override
-    public Result playedAgainst(Move move) {
-        return ((ClassicMove) move).playedAgainst(this).opposite();
-    }
-
-    /**
-     * @see ClassicMove#playedAgainst(Rock)
-     */
-    @Override
-    public Result playedAgainst(Rock move) {
-        return Result.LOSES;
-    }
-
-    /**
-     * @see ClassicMove#playedAgainst(Paper)
-     */
-    @Override
-    public Result playedAgainst(Paper move) {
-        return Result.WINS;
-    }
+    public static final int ORDINAL = 2;
 
     /**
-     * @see ClassicMove#playedAgainst(Scissors)
+     * @see com.chompchompfig.rockpaperscissors.domain.Move#getOrdinal()
      */
     @Override
-    public Result playedAgainst(Scissors move) {
-        return Result.DRAWS;
+    public int getOrdinal() {
+        return ORDINAL;
     }
 
     @Override
@@ -3,6 +3,8 @@ package com.chompchompfig.rockpaperscissors.domain.movestrategies;
 import com.chompchompfig.rockpaperscissors.domain.Move;
 import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
 
+import java.util.Arrays;
+
 /**
  * A Rock, Paper, Scissors MoveStrategy where the next move is fixed
  */
@@ -27,4 +29,12 @@ public class FixedMoveStrategy implements MoveStrategy {
         return move;
     }
 
+    /**
+     * @see MoveStrategy#fillNextMoves(byte[], int, int)
+     */
+    @Override
+    public void fillNextMoves(byte[] ordinals, int offset, int count) {
+        Arrays.fill(ordinals, offset, offset + count, (byte) move.getOrdinal());
+    }
+
 }
@@ -0,0 +1,133 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A source of uniformly distributed random digits in a given base, extracting many of them out of every 64 bit
+ * random word. Only powers base^k below 2^63 are considered, so that the remainders of the words modulo base^k are
+ * positive longs. A word is only used when it falls below the largest multiple of base^k representable in 64 bits,
+ * and is otherwise rejected and replaced by the next one. An accepted word is then uniform over that multiple, so its
+ * remainder modulo base^k is uniform over [0, base^k), and the k base digits of the remainder are independent and
+ * uniform over [0, base). The number of digits k taken per word is the one maximizing the expected digits per word
+ * once rejections are accounted for. For base 3 that is 38 digits, with less than a 5% rejection rate
+ * <p>Instances keep the digits left from the last word, so they are not thread safe</p>
+ */
+public class RandomDigits {
+
+    public static final String BASE_VALIDATION_ERROR_MSG = "Invalid base for random digits!";
+
+    private static final double TWO_TO_THE_64 = Math.pow(2, Long.SIZE);
+
+    private int base;
+    private LongSupplier randomWords;
+
+    private int digitsPerWord;
+    private long digitsPerWordModulus;
+    private long acceptanceLimit;
+
+    private long remainingDigitsValue;
+    private int remainingDigits;
+
+    /**
+     * Creates a new source of random digits in the given base
+     * @param base <p>the base of the digits, between 1 and 256</p>
+     * @param randomWords <p>the source of uniformly distributed 64 bit random words</p>
+     * @throws IllegalArgumentException <p>in case the base is invalid</p>
+     */
+    public RandomDigits(int base, LongSupplier randomWords) {
+        validateBase(base);
+        this.base = base;
+        this.randomWords = randomWords;
+        if (base > 1) {
+            chooseDigitsPerWord();
+        }
+    }
+
+    /**
+     * Validates the base of the digits to be positive and to fit in a byte
+     * @param base <p>the base to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private static void validateBase(int base) {
+        if ((base <= 0) || (base > (1 << Byte.SIZE))) {
+            throw new IllegalArgumentException(BASE_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Chooses the number of digits to take from every accepted word, out of all the powers of the base below 2^63,
+     * as the one with the highest expected number of digits per random word drawn. Larger powers would leave
+     * remainders which are negative as signed longs, and can't be split into digits with signed arithmetic
+     */
+    private void chooseDigitsPerWord() {
+        double bestExpectedDigits = 0;
+        long modulus = 1;
+        for (int digits = 1; modulus <= Long.MAX_VALUE / base; digits++) {
+            modulus *= base;
+            long limit = Long.divideUnsigned(-1L, modulus) * modulus;
+            double expectedDigits = digits * (toUnsignedDouble(limit) / TWO_TO_THE_64);
+            if (expectedDigits > bestExpectedDigits) {
+                bestExpectedDigits = expectedDigits;
+                digitsPerWord = digits;
+                digitsPerWordModulus = modulus;
+                acceptanceLimit = limit;
+            }
+        }
+    }
+
+    private static double toUnsignedDouble(long value) {
+        return (value >>> 1) * 2.0 + (value & 1);
+    }
+
+    public int getBase() {
+        return base;
+    }
+
+    /**
+     * @return <p>the number of digits extracted from every accepted random word</p>
+     */
+    public int getDigitsPerWord() {
+        return digitsPerWord;
+    }
+
+    /**
+     * @return <p>the next random digit, uniformly distributed in [0, base)</p>
+     */
+    public int nextDigit() {
+        if (base == 1) {
+            return 0;
+        }
+        if (remainingDigits == 0) {
+            remainingDigitsValue = nextAcceptedWord();
+            remainingDigits = digitsPerWord;
+        }
+        int digit = (int) (remainingDigitsValue % base);
+        remainingDigitsValue /= base;
+        remainingDigits--;
+        return digit;
+    }
+
+    /**
+     * Draws random words until one of them falls below the acceptance limit
+     * @return <p>the accepted word modulo base^k, which is then uniform in [0, base^k), and positive</p>
+     */
+    private long nextAcceptedWord() {
+        long word;
+        do {
+            word = randomWords.getAsLong();
+        } while (Long.compareUnsigned(word, acceptanceLimit) >= 0);
+        return Long.remainderUnsigned(word, digitsPerWordModulus);
+    }
+
+    /**
+     * Fills a block of the given array with random digits
+     * @param digits <p>the array to write the digits to</p>
+     * @param offset <p>the position in the array of the first digit to write</p>
+     * @param count <p>the number of digits to write</p>
+     */
+    public void fill(byte[] digits, int offset, int count) {
+        for (int index = offset; index < offset + count; index++) {
+            digits[index] = (byte) nextDigit();
+        }
+    }
+}
@@ -15,6 +15,7 @@ public class RandomMoveStrategy implements MoveStrategy {
 
     private Random random = new Random();
     private List<? extends Move> allMoves;
+    private byte[] allMoveOrdinals;
 
     /**
      * Creates a new MoveStrategy which will pick next Move randomly from a list
@@ -23,6 +24,20 @@ public class RandomMoveStrategy implements MoveStrategy {
     public RandomMoveStrategy(List<? extends Move> allMoves) {
         validateMoves(allMoves);
         this.allMoves = allMoves;
+        this.allMoveOrdinals = toMoveOrdinals(allMoves);
+    }
+
+    /**
+     * Gets the ordinals of the given Moves, in the same order
+     * @param moves <p>the Moves to get the ordinals of</p>
+     * @return <p>the ordinal of each one of the given Moves</p>
+     */
+    static byte[] toMoveOrdinals(List<? extends Move> moves) {
+        byte[] moveOrdinals = new byte[moves.size()];
+        for (int index = 0; index < moves.size(); index++) {
+            moveOrdinals[index] = (byte) moves.get(index).getOrdinal();
+        }
+        return moveOrdinals;
     }
 
     /**
@@ -45,4 +60,23 @@ public class RandomMoveStrategy implements MoveStrategy {
         int nextMoveIndex = random.nextInt(allMoves.size());
         return allMoves.get(nextMoveIndex);
     }
+
+    /**
+     * @see MoveStrategy#fillNextMoves(byte[], int, int)
+     */
+    @Override
+    public void fillNextMoves(byte[] ordinals, int offset, int count) {
+        for (int index = offset; index < offset + count; index++) {
+            ordinals[index] = allMoveOrdinals[random.nextInt(allMoveOrdinals.length)];
+        }
+    }
+
+    /**
+     * @see MoveStrategy#split()
+     * @return <p>a new RandomMoveStrategy, with its own Random, picking moves from the same list</p>
+     */
+    @Override
+    public MoveStrategy split() {
+        return new RandomMoveStrategy(allMoves);
+    }
 }
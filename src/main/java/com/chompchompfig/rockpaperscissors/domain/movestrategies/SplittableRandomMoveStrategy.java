@@ -0,0 +1,106 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A Rock, Paper, Scissors MoveStrategy where the next move is selected randomly from a collection of possible Moves,
+ * safe to be shared among many concurrent callers. Unlike the RandomMoveStrategy, whose single java.util.Random makes
+ * every caller compete for the same seed, each thread gets its own SplittableRandom, split from a root generator the
+ * first time the thread asks for a move. A root seed can be given, so that a Game played by a single thread, or in
+ * parallel chunks with split strategies, is reproducible. Moves are picked as RandomDigits in base the number of
+ * possible Moves, so many of them come out of every 64 bit random word drawn
+ */
+public class SplittableRandomMoveStrategy implements MoveStrategy {
+
+    private List<? extends Move> allMoves;
+    private byte[] allMoveOrdinals;
+    private SplittableRandom rootRandom;
+    private ThreadLocal<RandomDigits> threadRandomDigits = ThreadLocal.withInitial(this::newThreadRandomDigits);
+
+    /**
+     * Creates a new MoveStrategy which will pick next Move randomly from a list, with an unpredictable seed
+     * @param allMoves <p>the list of possible next Moves</p>
+     */
+    public SplittableRandomMoveStrategy(List<? extends Move> allMoves) {
+        this(allMoves, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new MoveStrategy which will pick next Move randomly from a list, with the given root seed
+     * @param allMoves <p>the list of possible next Moves</p>
+     * @param seed <p>the seed every generator of this strategy, and its splits, will derive from</p>
+     */
+    public SplittableRandomMoveStrategy(List<? extends Move> allMoves, long seed) {
+        this(allMoves, new SplittableRandom(seed));
+    }
+
+    private SplittableRandomMoveStrategy(List<? extends Move> allMoves, SplittableRandom rootRandom) {
+        validateMoves(allMoves);
+        this.allMoves = allMoves;
+        this.allMoveOrdinals = RandomMoveStrategy.toMoveOrdinals(allMoves);
+        this.rootRandom = rootRandom;
+    }
+
+    /**
+     * Validates a list of possible next Moves to not be null, nor too many to be RandomDigits
+     * @param allMoves <p>the list of moves to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    void validateMoves(List<? extends Move> allMoves) {
+        if ((allMoves == null) || allMoves.isEmpty() || (allMoves.size() > (1 << Byte.SIZE))) {
+            throw new IllegalArgumentException(RandomMoveStrategy.MOVES_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Splits a new generator off the root one. SplittableRandom is not thread safe, so splitting has to be
+     * serialized. It only happens once per thread and split strategy though, so it is never contended
+     * @return <p>a new SplittableRandom, independent from the root one</p>
+     */
+    private synchronized SplittableRandom splitRootRandom() {
+        return rootRandom.split();
+    }
+
+    /**
+     * @return <p>new RandomDigits, in base the number of possible Moves, drawing words from a split of the root
+     * generator</p>
+     */
+    private RandomDigits newThreadRandomDigits() {
+        return new RandomDigits(allMoves.size(), splitRootRandom()::nextLong);
+    }
+
+    /**
+     * @see MoveStrategy#getNextMove()
+     * @return <p>the randomly selected Move to be used next</p>
+     */
+    @Override
+    public Move getNextMove() {
+        int nextMoveIndex = threadRandomDigits.get().nextDigit();
+        return allMoves.get(nextMoveIndex);
+    }
+
+    /**
+     * @see MoveStrategy#fillNextMoves(byte[], int, int)
+     */
+    @Override
+    public void fillNextMoves(byte[] ordinals, int offset, int count) {
+        RandomDigits randomDigits = threadRandomDigits.get();
+        for (int index = offset; index < offset + count; index++) {
+            ordinals[index] = allMoveOrdinals[randomDigits.nextDigit()];
+        }
+    }
+
+    /**
+     * @see MoveStrategy#split()
+     * @return <p>a new SplittableRandomMoveStrategy, whose root generator is split from the root of this one. Splits
+     * taken in the same order from strategies with the same seed always pick the same moves</p>
+     */
+    @Override
+    public MoveStrategy split() {
+        return new SplittableRandomMoveStrategy(allMoves, splitRootRandom());
+    }
+}
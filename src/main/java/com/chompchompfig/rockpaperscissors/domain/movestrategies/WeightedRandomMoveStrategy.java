@@ -0,0 +1,85 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A Rock, Paper, Scissors MoveStrategy where the next move is selected randomly from a collection of possible Moves,
+ * each one with its own weight, so that some Moves are picked more often than others. A Move is picked with a
+ * probability of its weight over the sum of all the weights, by drawing a number below that sum, and scanning the
+ * cumulative weights for the range it falls in, as there are only ever a handful of Moves. It is safe to be shared
+ * among many concurrent callers, as every thread draws from its own ThreadLocalRandom
+ */
+public class WeightedRandomMoveStrategy implements MoveStrategy {
+
+    public static final String WEIGHTS_VALIDATION_ERROR_MSG =
+            "There must be a non negative weight per Move, adding up to a positive total";
+
+    private List<? extends Move> allMoves;
+    private int[] cumulativeWeights;
+
+    /**
+     * Creates a new MoveStrategy which will pick next Move randomly from a list, with the given weights
+     * @param allMoves <p>the list of possible next Moves</p>
+     * @param weights <p>the weight of each Move, in the same order as the list of Moves</p>
+     * @throws IllegalArgumentException <p>in case the Moves or their weights are invalid</p>
+     */
+    public WeightedRandomMoveStrategy(List<? extends Move> allMoves, int... weights) {
+        validateMoves(allMoves);
+        this.allMoves = allMoves;
+        this.cumulativeWeights = toCumulativeWeights(allMoves, weights);
+    }
+
+    private static void validateMoves(List<? extends Move> allMoves) {
+        if ((allMoves == null) || allMoves.isEmpty()) {
+            throw new IllegalArgumentException(RandomMoveStrategy.MOVES_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Adds up the given weights, validating them along the way
+     * @param allMoves <p>the list of possible next Moves</p>
+     * @param weights <p>the weight of each Move</p>
+     * @return <p>the sum of the weights of each Move and every Move before it</p>
+     * @throws IllegalArgumentException <p>in case there isn't a weight per Move, any weight is negative, or they add
+     * up to 0, or more than an int can hold</p>
+     */
+    private static int[] toCumulativeWeights(List<? extends Move> allMoves, int[] weights) {
+        if ((weights == null) || (weights.length != allMoves.size())) {
+            throw new IllegalArgumentException(WEIGHTS_VALIDATION_ERROR_MSG);
+        }
+        int[] cumulativeWeights = new int[weights.length];
+        long totalWeight = 0;
+        for (int index = 0; index < weights.length; index++) {
+            if (weights[index] < 0) {
+                throw new IllegalArgumentException(WEIGHTS_VALIDATION_ERROR_MSG);
+            }
+            totalWeight += weights[index];
+            if (totalWeight > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(WEIGHTS_VALIDATION_ERROR_MSG);
+            }
+            cumulativeWeights[index] = (int) totalWeight;
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException(WEIGHTS_VALIDATION_ERROR_MSG);
+        }
+        return cumulativeWeights;
+    }
+
+    /**
+     * @see MoveStrategy#getNextMove()
+     * @return <p>the randomly selected Move to be used next</p>
+     */
+    @Override
+    public Move getNextMove() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= draw) {
+            index++;
+        }
+        return allMoves.get(index);
+    }
+}
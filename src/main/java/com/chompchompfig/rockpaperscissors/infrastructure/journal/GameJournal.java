@@ -0,0 +1,586 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.journal;
+
+import com.chompchompfig.rockpaperscissors.domain.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.validation.constraints.NotNull;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.chompchompfig.rockpaperscissors.infrastructure.journal.GameJournalFormat.*;
+
+/**
+ * An append-only journal of the GameSessions played, so they survive a restart. Every session opened, game play
+ * played and session closed is appended as a fixed size record into a memory mapped segment file, so appending is
+ * just a few writes to memory, with no system call. Segments are preallocated, and once one is full, it is flushed
+ * and the journal rolls over to a new one, deleting the oldest segments beyond the number to retain. The journal keeps
+ * the names and the counts of game plays of every session still open, and writes a snapshot of them at the start of
+ * every new segment, so deleting the segments before it never loses a session still open, however long ago it was
+ * opened.
+ * <p>Records are in the page cache as soon as they are appended, so they survive the process crashing, and are
+ * flushed to disk by group commits. A committer thread flushes every record appended since the last commit in one go,
+ * every commit interval, so a single flush covers all the records appended meanwhile, by any number of threads.
+ * Callers needing a record on disk before going on can wait for the commit covering it, and with a commit interval
+ * of 0 every record is flushed as it is appended</p>
+ * <p>When a journal is opened, every valid record already in its directory is replayed first, in order, and new
+ * records are appended after the last valid one, in a new segment. A record torn by a crash fails its checksum, so
+ * the replay stops right before it. Appending is thread safe</p>
+ * @see GameJournalFormat
+ */
+public class GameJournal implements Closeable {
+
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1024 * 1024;
+    public static final String RECORDS_PER_SEGMENT_VALIDATION_ERROR_MSG =
+            "Records per segment must be positive, and fit a segment in 2GB";
+    public static final String MAX_SEGMENTS_VALIDATION_ERROR_MSG = "Segments to retain must be positive";
+    public static final String COMMIT_INTERVAL_VALIDATION_ERROR_MSG = "Commit interval can't be negative";
+    public static final String NAME_VALIDATION_ERROR_MSG = "Journaled names must take between 0 and "
+            + MAX_NAME_BYTES + " bytes in UTF-8 ";
+    public static final String DIRECTORY_ERROR_MSG = "Can't create the journal directory ";
+    public static final String CLOSED_JOURNAL_ERROR_MSG = "The journal is already closed";
+    public static final String SNAPSHOT_SIZE_ERROR_MSG = "Too many open sessions to fit their snapshot in a segment: ";
+
+    private static final Result[] RESULTS = Result.values();
+    private static final byte[] NO_NAME = new byte[0];
+    private static final String COMMITTER_THREAD_NAME = "game-journal-committer";
+
+    private static final Logger logger = LoggerFactory.getLogger(GameJournal.class);
+
+    private File directory;
+    private int recordsPerSegment;
+    private int maxSegments;
+    private ScheduledExecutorService committer;
+
+    private MappedByteBuffer segment;
+    private int segmentCapacity;
+    private int segmentRecords;
+    private Map<UUID, OpenSession> openSessions = new HashMap<>();
+    private long lastSequence;
+    private boolean closed;
+
+    private final Object commitLock = new Object();
+    private volatile long committedSequence;
+
+    /**
+     * Opens the journal in the given directory, creating it if it doesn't exist yet, after replaying the records
+     * already in it. New records go into a new segment, starting with a snapshot of the sessions still open
+     * @param directory <p>the directory holding the segment files</p>
+     * @param recordsPerSegment <p>the number of records in every segment, on top of its snapshot of the open
+     *                          sessions</p>
+     * @param maxSegments <p>the number of segments to retain, the oldest ones beyond them are deleted</p>
+     * @param commitIntervalMillis <p>the time in milliseconds between group commits, or 0 to commit every record as
+     *                             it is appended</p>
+     * @param recoveryVisitor <p>the visitor the records already in the journal are replayed into</p>
+     * @throws IOException <p>in case the directory can't be created, or any segment can't be read or created</p>
+     * @throws IllegalArgumentException <p>in case any of the numbers is out of bounds</p>
+     */
+    public GameJournal(File directory, int recordsPerSegment, int maxSegments, long commitIntervalMillis,
+                       @NotNull RecordVisitor recoveryVisitor) throws IOException {
+        validate(recordsPerSegment, maxSegments, commitIntervalMillis);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException(DIRECTORY_ERROR_MSG + directory);
+        }
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.maxSegments = maxSegments;
+        this.lastSequence = replay(directory, new OpenSessionsTracker(recoveryVisitor));
+        this.committedSequence = lastSequence;
+        discardSegmentsAfter(lastSequence);
+        openSegment(lastSequence + 1);
+        if (commitIntervalMillis > 0) {
+            this.committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, COMMITTER_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            committer.scheduleWithFixedDelay(this::groupCommit, commitIntervalMillis, commitIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Deletes the segments starting beyond the given sequence, left behind a torn record, so that they can't be taken
+     * as following the records appended from now on
+     */
+    private void discardSegmentsAfter(long sequence) {
+        for (File segmentFile : segmentFiles(directory)) {
+            if ((firstSequenceOf(segmentFile) > sequence + 1) && !segmentFile.delete()) {
+                logger.warn("Could not delete the journal segment {}", segmentFile);
+            }
+        }
+    }
+
+    private static void validate(int recordsPerSegment, int maxSegments, long commitIntervalMillis) {
+        if ((recordsPerSegment <= 0) || (recordsPerSegment > MAX_SEGMENT_RECORDS)) {
+            throw new IllegalArgumentException(RECORDS_PER_SEGMENT_VALIDATION_ERROR_MSG);
+        }
+        if (maxSegments <= 0) {
+            throw new IllegalArgumentException(MAX_SEGMENTS_VALIDATION_ERROR_MSG);
+        }
+        if (commitIntervalMillis < 0) {
+            throw new IllegalArgumentException(COMMIT_INTERVAL_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Validates the given name can be journaled
+     * @param name <p>the name of a player, or of a MoveStrategy</p>
+     * @throws IllegalArgumentException <p>in case the name is null, or takes more than 15 bytes in UTF-8</p>
+     */
+    public static void validateName(String name) {
+        encodeName(name);
+    }
+
+    /**
+     * Appends the opening of a GameSession
+     * @param sessionId <p>the id of the session</p>
+     * @param playerName <p>the name of the player of the session</p>
+     * @param strategyName <p>the name of the MoveStrategy played by the opponent</p>
+     * @return <p>the sequence of the record</p>
+     * @throws IllegalArgumentException <p>in case any of the names takes more than 15 bytes in UTF-8</p>
+     * @throws IllegalStateException <p>in case the journal is already closed</p>
+     */
+    public long appendOpened(@NotNull UUID sessionId, String playerName, String strategyName) {
+        return commitIfEveryRecord(append(OPENED, sessionId, 0, 0, 0, encodeName(playerName),
+                encodeName(strategyName)));
+    }
+
+    /**
+     * Appends a game play in a GameSession
+     * @param sessionId <p>the id of the session</p>
+     * @param playerOrdinal <p>the ordinal of the move of the player</p>
+     * @param opponentOrdinal <p>the ordinal of the move of the opponent</p>
+     * @param playerResult <p>the Result of the game play for the player</p>
+     * @return <p>the sequence of the record</p>
+     * @throws IllegalStateException <p>in case the journal is already closed</p>
+     */
+    public long appendPlayed(@NotNull UUID sessionId, int playerOrdinal, int opponentOrdinal,
+                             @NotNull Result playerResult) {
+        return commitIfEveryRecord(append(PLAYED, sessionId, playerOrdinal, opponentOrdinal, playerResult.ordinal(),
+                NO_NAME, NO_NAME));
+    }
+
+    /**
+     * Appends the closing of a GameSession
+     * @param sessionId <p>the id of the session</p>
+     * @return <p>the sequence of the record</p>
+     * @throws IllegalStateException <p>in case the journal is already closed</p>
+     */
+    public long appendClosed(@NotNull UUID sessionId) {
+        return commitIfEveryRecord(append(CLOSED, sessionId, 0, 0, 0, NO_NAME, NO_NAME));
+    }
+
+    private synchronized long append(byte type, UUID sessionId, int playerOrdinal, int opponentOrdinal,
+                                     int resultOrdinal, byte[] playerName, byte[] strategyName) {
+        if (closed) {
+            throw new IllegalStateException(CLOSED_JOURNAL_ERROR_MSG);
+        }
+        if (segmentRecords == segmentCapacity) {
+            rollSegment();
+        }
+        int offset = startRecord(type, sessionId);
+        segment.put(offset + PLAYER_ORDINAL_OFFSET, (byte) playerOrdinal);
+        segment.put(offset + OPPONENT_ORDINAL_OFFSET, (byte) opponentOrdinal);
+        segment.put(offset + RESULT_OFFSET, (byte) resultOrdinal);
+        putName(segment, offset + PLAYER_NAME_OFFSET, playerName);
+        putName(segment, offset + STRATEGY_NAME_OFFSET, strategyName);
+        long sequence = endRecord(offset);
+        switch (type) {
+            case OPENED : trackOpened(sessionId, playerName, strategyName); break;
+            case PLAYED : trackPlayed(sessionId, RESULTS[resultOrdinal]); break;
+            default : openSessions.remove(sessionId);
+        }
+        return sequence;
+    }
+
+    /**
+     * Starts the record following the last one, in the current segment, which must have room for it
+     * @return <p>the offset of the record in the segment</p>
+     */
+    private int startRecord(byte type, UUID sessionId) {
+        int offset = segmentRecords * RECORD_SIZE;
+        segment.putLong(offset + SEQUENCE_OFFSET, lastSequence + 1);
+        segment.putLong(offset + SESSION_ID_OFFSET, sessionId.getMostSignificantBits());
+        segment.putLong(offset + SESSION_ID_OFFSET + Long.BYTES, sessionId.getLeastSignificantBits());
+        segment.put(offset + TYPE_OFFSET, type);
+        return offset;
+    }
+
+    /**
+     * Completes the record started at the given offset with its checksum, making it the last one
+     * @return <p>the sequence of the record</p>
+     */
+    private long endRecord(int offset) {
+        segment.putInt(offset + CHECKSUM_OFFSET, checksum(segment, offset));
+        segmentRecords++;
+        return ++lastSequence;
+    }
+
+    private void trackOpened(UUID sessionId, byte[] playerName, byte[] strategyName) {
+        openSessions.putIfAbsent(sessionId, new OpenSession(playerName, strategyName));
+    }
+
+    private void trackPlayed(UUID sessionId, Result playerResult) {
+        OpenSession openSession = openSessions.get(sessionId);
+        if (openSession != null) {
+            switch (playerResult) {
+                case WINS : openSession.gamePlaysWon++; break;
+                case LOSES : openSession.gamePlaysLost++; break;
+                default : openSession.drawGamePlays++;
+            }
+        }
+    }
+
+    private long commitIfEveryRecord(long sequence) {
+        if (committer == null) {
+            commit();
+        }
+        return sequence;
+    }
+
+    /**
+     * Flushes the full segment, and rolls over to a new one
+     */
+    private void rollSegment() {
+        segment.force();
+        markCommitted(lastSequence);
+        try {
+            openSegment(lastSequence + 1);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates and maps a new, zeroed, segment, and writes the snapshot of the sessions still open into it. Only once
+     * the snapshot is flushed, the oldest segments beyond the ones to retain are deleted, so a crash while writing it
+     * leaves the segments before it in place, and the snapshot records replayed restate what they already held
+     * @param firstSequence <p>the sequence of the first record in the segment</p>
+     */
+    private void openSegment(long firstSequence) throws IOException {
+        long snapshotRecords = 2L * openSessions.size();
+        if (recordsPerSegment + snapshotRecords > MAX_SEGMENT_RECORDS) {
+            throw new IOException(SNAPSHOT_SIZE_ERROR_MSG + openSessions.size());
+        }
+        File segmentFile = segmentFile(directory, firstSequence);
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile, "rw")) {
+            file.setLength(0);
+            file.setLength((recordsPerSegment + snapshotRecords) * RECORD_SIZE);
+            segment = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, file.length());
+        }
+        segmentCapacity = recordsPerSegment + (int) snapshotRecords;
+        segmentRecords = 0;
+        writeSnapshot();
+        segment.force();
+        markCommitted(lastSequence);
+        File[] segmentFiles = segmentFiles(directory);
+        for (int oldest = 0; oldest < segmentFiles.length - maxSegments; oldest++) {
+            if (!segmentFiles[oldest].delete()) {
+                logger.warn("Could not delete the journal segment {}", segmentFiles[oldest]);
+            }
+        }
+    }
+
+    /**
+     * Writes an OPENED record, followed by a COUNTED record, for every session still open
+     */
+    private void writeSnapshot() {
+        for (Map.Entry<UUID, OpenSession> openSession : openSessions.entrySet()) {
+            int offset = startRecord(OPENED, openSession.getKey());
+            putName(segment, offset + PLAYER_NAME_OFFSET, openSession.getValue().playerName);
+            putName(segment, offset + STRATEGY_NAME_OFFSET, openSession.getValue().strategyName);
+            endRecord(offset);
+            offset = startRecord(COUNTED, openSession.getKey());
+            segment.putLong(offset + DRAW_GAME_PLAYS_OFFSET, openSession.getValue().drawGamePlays);
+            segment.putLong(offset + GAME_PLAYS_WON_OFFSET, openSession.getValue().gamePlaysWon);
+            segment.putLong(offset + GAME_PLAYS_LOST_OFFSET, openSession.getValue().gamePlaysLost);
+            endRecord(offset);
+        }
+    }
+
+    /**
+     * Flushes every record appended so far to disk, unless they already are
+     */
+    public void commit() {
+        MappedByteBuffer segmentToFlush;
+        long sequenceToCommit;
+        synchronized (this) {
+            segmentToFlush = segment;
+            sequenceToCommit = lastSequence;
+        }
+        if (sequenceToCommit > committedSequence) {
+            segmentToFlush.force();
+            markCommitted(sequenceToCommit);
+        }
+    }
+
+    private void groupCommit() {
+        try {
+            commit();
+        } catch (RuntimeException e) {
+            logger.error("Journal group commit failed", e);
+        }
+    }
+
+    private void markCommitted(long sequence) {
+        synchronized (commitLock) {
+            if (sequence > committedSequence) {
+                committedSequence = sequence;
+                commitLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits for the group commit flushing the record with the given sequence to disk
+     * @param sequence <p>the sequence of the record</p>
+     * @param timeoutMillis <p>the maximum time to wait in milliseconds</p>
+     * @return <p>whether the record is on disk</p>
+     * @throws InterruptedException <p>in case the calling thread got interrupted while waiting</p>
+     */
+    public boolean awaitCommit(long sequence, long timeoutMillis) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (commitLock) {
+            long remainingNanos;
+            while ((committedSequence < sequence) && ((remainingNanos = deadlineNanos - System.nanoTime()) > 0)) {
+                TimeUnit.NANOSECONDS.timedWait(commitLock, remainingNanos);
+            }
+            return committedSequence >= sequence;
+        }
+    }
+
+    /**
+     * @return <p>the sequence of the last record appended</p>
+     */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * @return <p>the sequence of the last record flushed to disk</p>
+     */
+    public long getCommittedSequence() {
+        return committedSequence;
+    }
+
+    /**
+     * Stops the committer, and flushes every record appended so far. No more records can be appended afterwards
+     */
+    @Override
+    public void close() {
+        if (committer != null) {
+            committer.shutdownNow();
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        commit();
+    }
+
+    /**
+     * Replays every valid record in the journal in the given directory into the given visitor, in sequence order. The
+     * replay stops at the first record which is torn, or doesn't follow the one before, so the records replayed are
+     * always a gap free prefix of the ones appended. Segments are mapped and read straight from the page cache
+     * @param directory <p>the directory holding the segment files</p>
+     * @param visitor <p>the visitor to replay the records into</p>
+     * @return <p>the sequence of the last valid record, 0 if there is none</p>
+     * @throws IOException <p>in case any segment can't be read</p>
+     */
+    public static long replay(File directory, @NotNull RecordVisitor visitor) throws IOException {
+        long expectedSequence = 0;
+        for (File segmentFile : segmentFiles(directory)) {
+            long firstSequence = firstSequenceOf(segmentFile);
+            if (expectedSequence == 0) {
+                expectedSequence = firstSequence;
+            } else if (firstSequence != expectedSequence) {
+                logger.warn("Journal segment {} doesn't follow sequence {}, stopping the replay", segmentFile,
+                        expectedSequence - 1);
+                break;
+            }
+            expectedSequence = replaySegment(mapReadOnly(segmentFile), expectedSequence, visitor);
+        }
+        return Math.max(0, expectedSequence - 1);
+    }
+
+    private static ByteBuffer mapReadOnly(File segmentFile) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile, "r")) {
+            return file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+        }
+    }
+
+    /**
+     * Replays the valid records of a segment, from its first one
+     * @return <p>the sequence expected for the record following the last valid one</p>
+     */
+    private static long replaySegment(ByteBuffer segment, long expectedSequence, RecordVisitor visitor) {
+        for (int offset = 0; offset + RECORD_SIZE <= segment.capacity(); offset += RECORD_SIZE) {
+            if ((segment.getLong(offset + SEQUENCE_OFFSET) != expectedSequence)
+                    || (segment.getInt(offset + CHECKSUM_OFFSET) != checksum(segment, offset))
+                    || !replayRecord(segment, offset, expectedSequence, visitor)) {
+                break;
+            }
+            expectedSequence++;
+        }
+        return expectedSequence;
+    }
+
+    private static boolean replayRecord(ByteBuffer segment, int offset, long sequence, RecordVisitor visitor) {
+        UUID sessionId = new UUID(segment.getLong(offset + SESSION_ID_OFFSET),
+                segment.getLong(offset + SESSION_ID_OFFSET + Long.BYTES));
+        switch (segment.get(offset + TYPE_OFFSET)) {
+            case OPENED :
+                visitor.opened(sequence, sessionId, getName(segment, offset + PLAYER_NAME_OFFSET),
+                        getName(segment, offset + STRATEGY_NAME_OFFSET));
+                return true;
+            case PLAYED :
+                int resultOrdinal = segment.get(offset + RESULT_OFFSET);
+                if ((resultOrdinal < 0) || (resultOrdinal >= RESULTS.length)) {
+                    return false;
+                }
+                visitor.played(sequence, sessionId, segment.get(offset + PLAYER_ORDINAL_OFFSET),
+                        segment.get(offset + OPPONENT_ORDINAL_OFFSET), RESULTS[resultOrdinal]);
+                return true;
+            case CLOSED :
+                visitor.closed(sequence, sessionId);
+                return true;
+            case COUNTED :
+                long drawGamePlays = segment.getLong(offset + DRAW_GAME_PLAYS_OFFSET);
+                long gamePlaysWon = segment.getLong(offset + GAME_PLAYS_WON_OFFSET);
+                long gamePlaysLost = segment.getLong(offset + GAME_PLAYS_LOST_OFFSET);
+                if ((drawGamePlays < 0) || (gamePlaysWon < 0) || (gamePlaysLost < 0)) {
+                    return false;
+                }
+                visitor.counted(sequence, sessionId, drawGamePlays, gamePlaysWon, gamePlaysLost);
+                return true;
+            default :
+                return false;
+        }
+    }
+
+    /**
+     * A visitor of the records replayed from a journal. Every method does nothing by default
+     */
+    public interface RecordVisitor {
+
+        /**
+         * Visits the opening of a GameSession
+         * @param sequence <p>the sequence of the record</p>
+         * @param sessionId <p>the id of the session</p>
+         * @param playerName <p>the name of the player of the session</p>
+         * @param strategyName <p>the name of the MoveStrategy played by the opponent</p>
+         */
+        default void opened(long sequence, UUID sessionId, String playerName, String strategyName) {
+        }
+
+        /**
+         * Visits a game play in a GameSession
+         * @param sequence <p>the sequence of the record</p>
+         * @param sessionId <p>the id of the session</p>
+         * @param playerOrdinal <p>the ordinal of the move of the player</p>
+         * @param opponentOrdinal <p>the ordinal of the move of the opponent</p>
+         * @param playerResult <p>the Result of the game play for the player</p>
+         */
+        default void played(long sequence, UUID sessionId, int playerOrdinal, int opponentOrdinal,
+                            Result playerResult) {
+        }
+
+        /**
+         * Visits the closing of a GameSession
+         * @param sequence <p>the sequence of the record</p>
+         * @param sessionId <p>the id of the session</p>
+         */
+        default void closed(long sequence, UUID sessionId) {
+        }
+
+        /**
+         * Visits the counts of the game plays in a GameSession, as snapshotted at the start of a segment, right after
+         * the opening of the session is restated. The counts cover every game play in the session before the record,
+         * so they replace, rather than add to, the ones replayed so far. Sessions restated in a snapshot may already
+         * have been opened by the records before it
+         * @param sequence <p>the sequence of the record</p>
+         * @param sessionId <p>the id of the session</p>
+         * @param drawGamePlays <p>the number of game plays drawn so far</p>
+         * @param gamePlaysWon <p>the number of game plays won by the player so far</p>
+         * @param gamePlaysLost <p>the number of game plays lost by the player so far</p>
+         */
+        default void counted(long sequence, UUID sessionId, long drawGamePlays, long gamePlaysWon,
+                             long gamePlaysLost) {
+        }
+    }
+
+    /**
+     * The names and counts of game plays of a session still open, to be snapshotted at the start of every segment
+     */
+    private static class OpenSession {
+
+        private byte[] playerName;
+        private byte[] strategyName;
+        private long drawGamePlays;
+        private long gamePlaysWon;
+        private long gamePlaysLost;
+
+        OpenSession(byte[] playerName, byte[] strategyName) {
+            this.playerName = playerName;
+            this.strategyName = strategyName;
+        }
+    }
+
+    /**
+     * Tracks the sessions still open as the journal is replayed when opened, handing every record over to the
+     * recovery visitor as well
+     */
+    private class OpenSessionsTracker implements RecordVisitor {
+
+        private RecordVisitor recoveryVisitor;
+
+        OpenSessionsTracker(RecordVisitor recoveryVisitor) {
+            this.recoveryVisitor = recoveryVisitor;
+        }
+
+        @Override
+        public void opened(long sequence, UUID sessionId, String playerName, String strategyName) {
+            trackOpened(sessionId, encodeName(playerName), encodeName(strategyName));
+            recoveryVisitor.opened(sequence, sessionId, playerName, strategyName);
+        }
+
+        @Override
+        public void played(long sequence, UUID sessionId, int playerOrdinal, int opponentOrdinal,
+                           Result playerResult) {
+            trackPlayed(sessionId, playerResult);
+            recoveryVisitor.played(sequence, sessionId, playerOrdinal, opponentOrdinal, playerResult);
+        }
+
+        @Override
+        public void closed(long sequence, UUID sessionId) {
+            openSessions.remove(sessionId);
+            recoveryVisitor.closed(sequence, sessionId);
+        }
+
+        @Override
+        public void counted(long sequence, UUID sessionId, long drawGamePlays, long gamePlaysWon,
+                            long gamePlaysLost) {
+            OpenSession openSession = openSessions.get(sessionId);
+            if (openSession != null) {
+                openSession.drawGamePlays = drawGamePlays;
+                openSession.gamePlaysWon = gamePlaysWon;
+                openSession.gamePlaysLost = gamePlaysLost;
+            }
+            recoveryVisitor.counted(sequence, sessionId, drawGamePlays, gamePlaysWon, gamePlaysLost);
+        }
+    }
+}
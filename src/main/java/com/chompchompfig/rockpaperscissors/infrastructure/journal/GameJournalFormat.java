@@ -0,0 +1,138 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.journal;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The layout of a game journal, shared by its writer and its replay. A journal is a directory of segment files, each
+ * one named after the sequence of its first record, zero padded so that segments sort by name in sequence order, and
+ * preallocated to hold a fixed number of fixed size records. Every record takes 64 bytes
+ * <ul>
+ *     <li>The sequence of the record, a long starting at 1 and growing by 1 with every record. The unused space at
+ *     the end of a segment is all zeros, so a sequence of 0 marks its end</li>
+ *     <li>The id of the GameSession, as the most and the least significant longs of its UUID</li>
+ *     <li>The record type, and, for PLAYED records, the ordinals of the moves of the player and the opponent, and the
+ *     ordinal of the Result for the player, a byte each</li>
+ *     <li>The checksum of the rest of the record, an int</li>
+ *     <li>For OPENED records, the names of the player and the opponent's MoveStrategy, in UTF-8, each one of them
+ *     preceded by its length in a byte, and padded to 16 bytes. For COUNTED records, the number of game plays drawn,
+ *     won and lost by the player so far, a long each. Other records leave them as zeros</li>
+ * </ul>
+ * Every segment starts with a snapshot of the sessions open when it was created, as an OPENED record followed by a
+ * COUNTED record for each one of them, so a segment and the ones after it hold everything needed to recover the open
+ * sessions, whatever the segments before it held. Segments are made larger than the fixed number of records by the
+ * size of their snapshot
+ * All numbers are big endian. A record is only valid if its checksum matches, and its sequence follows the one before
+ */
+final class GameJournalFormat {
+
+    static final int RECORD_SIZE = 64;
+    static final String SEGMENT_FILE_SUFFIX = ".journal";
+    static final String SEGMENT_FILE_NAME_PATTERN = "\\d{20}\\" + SEGMENT_FILE_SUFFIX;
+
+    static final byte OPENED = 1;
+    static final byte PLAYED = 2;
+    static final byte CLOSED = 3;
+    static final byte COUNTED = 4;
+
+    static final int SEQUENCE_OFFSET = 0;
+    static final int SESSION_ID_OFFSET = 8;
+    static final int TYPE_OFFSET = 24;
+    static final int PLAYER_ORDINAL_OFFSET = 25;
+    static final int OPPONENT_ORDINAL_OFFSET = 26;
+    static final int RESULT_OFFSET = 27;
+    static final int CHECKSUM_OFFSET = 28;
+    static final int PLAYER_NAME_OFFSET = 32;
+    static final int STRATEGY_NAME_OFFSET = 48;
+    static final int NAME_FIELD_SIZE = 16;
+    static final int MAX_NAME_BYTES = NAME_FIELD_SIZE - 1;
+    static final int DRAW_GAME_PLAYS_OFFSET = 32;
+    static final int GAME_PLAYS_WON_OFFSET = 40;
+    static final int GAME_PLAYS_LOST_OFFSET = 48;
+    static final int MAX_SEGMENT_RECORDS = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private static final long CHECKSUM_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private GameJournalFormat() {
+    }
+
+    /**
+     * Computes the checksum of the record at the given offset, covering every byte in it but the checksum itself
+     * @param segment <p>the segment holding the record</p>
+     * @param offset <p>the offset of the record in the segment</p>
+     * @return <p>the checksum of the record</p>
+     */
+    static int checksum(ByteBuffer segment, int offset) {
+        long hash = mix(0, segment.getLong(offset + SEQUENCE_OFFSET));
+        hash = mix(hash, segment.getLong(offset + SESSION_ID_OFFSET));
+        hash = mix(hash, segment.getLong(offset + SESSION_ID_OFFSET + Long.BYTES));
+        hash = mix(hash, segment.getInt(offset + TYPE_OFFSET));
+        for (int field = PLAYER_NAME_OFFSET; field < RECORD_SIZE; field += Long.BYTES) {
+            hash = mix(hash, segment.getLong(offset + field));
+        }
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * CHECKSUM_MULTIPLIER;
+    }
+
+    /**
+     * Encodes a name into the bytes of a name field, validating it fits
+     * @param name <p>the name to encode</p>
+     * @return <p>the UTF-8 bytes of the name</p>
+     * @throws IllegalArgumentException <p>in case the name is null, or takes more than MAX_NAME_BYTES</p>
+     */
+    static byte[] encodeName(String name) {
+        byte[] encodedName = (name == null) ? null : name.getBytes(StandardCharsets.UTF_8);
+        if ((encodedName == null) || (encodedName.length > MAX_NAME_BYTES)) {
+            throw new IllegalArgumentException(GameJournal.NAME_VALIDATION_ERROR_MSG + name);
+        }
+        return encodedName;
+    }
+
+    static void putName(ByteBuffer segment, int offset, byte[] encodedName) {
+        segment.put(offset, (byte) encodedName.length);
+        for (int index = 0; index < encodedName.length; index++) {
+            segment.put(offset + 1 + index, encodedName[index]);
+        }
+    }
+
+    static String getName(ByteBuffer segment, int offset) {
+        int length = Math.min(segment.get(offset) & 0xFF, MAX_NAME_BYTES);
+        byte[] encodedName = new byte[length];
+        for (int index = 0; index < length; index++) {
+            encodedName[index] = segment.get(offset + 1 + index);
+        }
+        return new String(encodedName, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return <p>the file of the segment starting with the given sequence, in the given journal directory</p>
+     */
+    static File segmentFile(File directory, long firstSequence) {
+        return new File(directory, String.format("%020d", firstSequence) + SEGMENT_FILE_SUFFIX);
+    }
+
+    /**
+     * @return <p>the sequence of the first record of the given segment file, as given by its name</p>
+     */
+    static long firstSequenceOf(File segmentFile) {
+        String name = segmentFile.getName();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_FILE_SUFFIX.length()));
+    }
+
+    /**
+     * @return <p>the segment files in the given journal directory, in sequence order</p>
+     */
+    static File[] segmentFiles(File directory) {
+        File[] segmentFiles = directory.listFiles((dir, name) -> name.matches(SEGMENT_FILE_NAME_PATTERN));
+        if (segmentFiles == null) {
+            return new File[0];
+        }
+        Arrays.sort(segmentFiles);
+        return segmentFiles;
+    }
+}
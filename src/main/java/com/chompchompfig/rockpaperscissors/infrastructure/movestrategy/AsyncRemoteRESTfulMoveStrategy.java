@@ -0,0 +1,220 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A Rock, Paper, Scissors MoveStrategy where the next move is fetched from a remote RESTful endpoint, through a
+ * non-blocking HTTP client, keeping a window of requests in flight at once. Requests are sent ahead of demand, each
+ * one completing a CompletableFuture of its Move, and getNextMove just takes the Move of the oldest request, so Moves
+ * are returned in the order they were requested. Since the window is topped up again on every Move taken, playing
+ * only waits on the remote endpoint when it can't keep up, rather than a round trip per Move.
+ * Fallback semantics are the same as RemoteRESTfulMoveStrategy's. Each request has the given timeout to complete,
+ * counted from when it was sent, and the fallback Move is returned in its place if it fails or times out. The HTTP
+ * client is started with the first Move requested
+ */
+@Profile("tool")
+@Component("asyncRemoteMoveStrategy")
+public class AsyncRemoteRESTfulMoveStrategy implements MoveStrategy, Closeable {
+
+    public static final String MAX_IN_FLIGHT_VALIDATION_ERROR_MSG = "Requests in flight must be positive";
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncRemoteRESTfulMoveStrategy.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private URI remoteApiMoveStrategyServiceUrl;
+    private Move fallbackMove;
+    private int maxInFlight;
+    private long timeoutNanos;
+    private Deque<PendingMove> pendingMoves = new ArrayDeque<>();
+
+    /**
+     * Creates a new instance of an asynchronous remote restful MoveStrategy, with the given fallback ClassicMove and
+     * accessing the given remote restful endpoint
+     * @param remoteApiMoveStrategyServiceUrlString <p>the URI string where the remote service providing the next
+     *                                              move is located</p>
+     * @param fallbackMoveName <p>the name of the ClassicMove to use as a fallback in case a request fails or times
+     *                         out</p>
+     * @param maxInFlight <p>the number of requests kept in flight at once</p>
+     * @param timeoutMillis <p>the time in milliseconds each request has to complete, since it is sent</p>
+     * @throws IllegalArgumentException <p>in case the number of requests in flight is not positive</p>
+     */
+    public AsyncRemoteRESTfulMoveStrategy(
+            @Value("${rockpaperscissors.api.moves.url}") String remoteApiMoveStrategyServiceUrlString,
+            @Value("${rockpaperscissors.api.moves.fallback.name:Rock}") String fallbackMoveName,
+            @Value("${rockpapersicssors.api.async.inflight:64}") int maxInFlight,
+            @Value("${rockpapersicssors.api.timeout.millis: 2000}") int timeoutMillis) {
+        validateMaxInFlight(maxInFlight);
+        this.remoteApiMoveStrategyServiceUrl = URI.create(remoteApiMoveStrategyServiceUrlString);
+        this.fallbackMove = ClassicMoves.from(fallbackMoveName);
+        this.maxInFlight = maxInFlight;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.httpAsyncClient = newHttpAsyncClient(maxInFlight, timeoutMillis);
+    }
+
+    private static void validateMaxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException(MAX_IN_FLIGHT_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Creates a non-blocking HTTP client with as many pooled connections as requests in flight, so requests never
+     * wait for a connection, and with the same timeouts as the blocking RestTemplate
+     * @param maxInFlight <p>the number of requests kept in flight at once</p>
+     * @param timeoutMillis <p>the connect and socket timeouts in milliseconds</p>
+     * @return <p>a new, not yet started, HTTP client</p>
+     */
+    private static CloseableHttpAsyncClient newHttpAsyncClient(int maxInFlight, int timeoutMillis) {
+        RequestConfig config = RequestConfig.custom().setConnectTimeout(timeoutMillis)
+                .setConnectionRequestTimeout(timeoutMillis).setSocketTimeout(timeoutMillis).build();
+        return HttpAsyncClients.custom().setMaxConnTotal(maxInFlight).setMaxConnPerRoute(maxInFlight)
+                .setDefaultRequestConfig(config).build();
+    }
+
+    /**
+     * @see MoveStrategy#getNextMove()
+     * @return <p>the Move of the oldest request in flight, or a fallback in case it failed or timed out</p>
+     */
+    @Override
+    public synchronized Move getNextMove() {
+        if (!httpAsyncClient.isRunning()) {
+            httpAsyncClient.start();
+        }
+        fillWindow();
+        Move nextMove = pendingMoves.poll().await();
+        fillWindow();
+        return nextMove;
+    }
+
+    /**
+     * Sends as many requests as needed to have the maximum number of them in flight
+     */
+    private void fillWindow() {
+        while (pendingMoves.size() < maxInFlight) {
+            pendingMoves.add(new PendingMove());
+        }
+    }
+
+    /**
+     * Gets the Move in the given response from the remote endpoint
+     * @param response <p>the response to read the Move from</p>
+     * @return <p>the Move received</p>
+     * @throws IOException <p>in case the response is not successful, or its body can't be read</p>
+     * @throws IllegalArgumentException <p>in case the Move received is not a ClassicMove</p>
+     */
+    private static Move toMove(HttpResponse response) throws IOException {
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+            throw new IOException("Unexpected response from the API " + response.getStatusLine());
+        }
+        try (InputStream body = response.getEntity().getContent()) {
+            RemoteNextMoveResource remoteNextMoveResource = objectMapper.readValue(body, RemoteNextMoveResource.class);
+            return ClassicMoves.from(remoteNextMoveResource.getMove());
+        }
+    }
+
+    /**
+     * Cancels the requests in flight and stops the HTTP client
+     * @throws IOException <p>in case the HTTP client failed to stop</p>
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        pendingMoves.forEach(PendingMove::cancel);
+        pendingMoves.clear();
+        httpAsyncClient.close();
+    }
+
+    /**
+     * A request in flight, whose future gets completed with the Move received, or the fallback Move if it fails
+     */
+    private class PendingMove implements FutureCallback<HttpResponse> {
+
+        private CompletableFuture<Move> move = new CompletableFuture<>();
+        private long deadlineNanos = System.nanoTime() + timeoutNanos;
+        private Future<HttpResponse> request;
+
+        private PendingMove() {
+            logger.debug("Accessing the remote api at " + remoteApiMoveStrategyServiceUrl);
+            request = httpAsyncClient.execute(new HttpGet(remoteApiMoveStrategyServiceUrl), this);
+        }
+
+        /**
+         * Waits for the Move of this request until its deadline, cancelling the request if it is not done by then
+         * @return <p>the Move received, or the fallback Move</p>
+         */
+        private Move await() {
+            try {
+                return move.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                cancel();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+            } catch (ExecutionException e) {
+                logger.debug("Failed waiting for the next move", e);
+            }
+            return getFallbackNextMove();
+        }
+
+        private void cancel() {
+            request.cancel(true);
+        }
+
+        @Override
+        public void completed(HttpResponse response) {
+            try {
+                Move nextMove = toMove(response);
+                logger.debug("Received from the API " + nextMove);
+                move.complete(nextMove);
+            } catch (IOException | RuntimeException e) {
+                failed(e);
+            }
+        }
+
+        @Override
+        public void failed(Exception e) {
+            logger.debug("Failed accessing the remote api", e);
+            move.complete(getFallbackNextMove());
+        }
+
+        @Override
+        public void cancelled() {
+            move.complete(getFallbackNextMove());
+        }
+    }
+
+    /**
+     * @return <p>the next Move to use as a fallback mechanism</p>
+     */
+    private Move getFallbackNextMove() {
+        logger.debug("Falling back to " + fallbackMove);
+        return fallbackMove;
+    }
+}
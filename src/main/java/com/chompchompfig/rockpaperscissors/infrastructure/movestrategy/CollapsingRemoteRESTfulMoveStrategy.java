@@ -0,0 +1,230 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.netflix.hystrix.HystrixCollapser;
+import com.netflix.hystrix.HystrixCollapserKey;
+import com.netflix.hystrix.HystrixCollapserProperties;
+import com.netflix.hystrix.HystrixCommand;
+import com.netflix.hystrix.HystrixCommandGroupKey;
+import com.netflix.hystrix.HystrixCommandKey;
+import com.netflix.hystrix.HystrixCommandProperties;
+import com.netflix.hystrix.HystrixCommandProperties.ExecutionIsolationStrategy;
+import com.netflix.hystrix.HystrixThreadPoolKey;
+import com.netflix.hystrix.HystrixThreadPoolProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Rock, Paper, Scissors MoveStrategy where next moves are fetched from a remote RESTful batch endpoint, collapsing
+ * concurrent requests. Every getNextMove call made within the same, small, time window is queued by a Hystrix
+ * collapser, and the whole window is then fetched in a single batched request, so concurrent callers, such as the
+ * prefetching fetchers or the parallel game plays, share one round trip instead of paying one each.
+ * Fallback semantics are the same as RemoteRESTfulMoveStrategy's, the batched request being a Hystrix command of its
+ * own, isolated either by a thread pool or by a semaphore, whose fallback answers every collapsed call with the
+ * fallback Move. Any call missing from a short response gets the fallback Move too
+ */
+@Profile("tool")
+@Component("collapsingRemoteMoveStrategy")
+public class CollapsingRemoteRESTfulMoveStrategy implements MoveStrategy {
+
+    public static final String WINDOW_VALIDATION_ERROR_MSG = "Collapsing window can't be negative";
+    public static final String MAX_BATCH_SIZE_VALIDATION_ERROR_MSG = "Max batch size must be positive";
+    public static final String MAX_CONCURRENT_VALIDATION_ERROR_MSG = "Max concurrent batches must be positive";
+
+    private static final String NEXT_MOVES_COUNT_PARAM_NAME = "count";
+    private static final String HYSTRIX_GROUP_KEY = "RemoteRESTfulMoveStrategy";
+    private static final String HYSTRIX_COLLAPSER_KEY = "remoteNextMoves";
+    private static final String HYSTRIX_COMMAND_KEY = "remoteNextMovesBatch";
+    private static final String HYSTRIX_THREAD_POOL_KEY = RemoteRESTfulMoveStrategy.HYSTRIX_THREAD_POOL_KEY;
+
+    private static final Logger logger = LoggerFactory.getLogger(CollapsingRemoteRESTfulMoveStrategy.class);
+    private static final AtomicInteger instanceNumbers = new AtomicInteger();
+
+    private RestTemplate restTemplate;
+    private URI remoteApiMoveStrategyBatchServiceUrl;
+    private Move fallbackMove;
+    private HystrixCollapser.Setter collapserSetter;
+    private HystrixCommand.Setter commandSetter;
+
+    /**
+     * Creates a new instance of a collapsing remote restful MoveStrategy, with the given fallback ClassicMove and
+     * accessing the given remote restful batch endpoint
+     * @param restTemplate <p>the RestTemplate to use to access the remote endpoint</p>
+     * @param remoteApiMoveStrategyBatchServiceUrlString <p>the URI string where the remote service providing batches
+     *                                                   of next moves is located</p>
+     * @param fallbackMoveName <p>the name of the ClassicMove to use as a fallback in case the remote service fails
+     *                         or is experiencing problems (slow response)</p>
+     * @param windowMillis <p>how long in milliseconds calls are collapsed before their batch is fetched</p>
+     * @param maxBatchSize <p>the maximum number of calls collapsed into a single batch</p>
+     * @param isolationStrategy <p>whether batches are fetched in a thread pool, or in the calling thread after
+     *                          acquiring a semaphore</p>
+     * @param maxConcurrent <p>the size of the thread pool, or the number of semaphore permits, that is, the maximum
+     *                      number of batches fetched at once</p>
+     * @throws IllegalArgumentException <p>in case the window, the max batch size or the max concurrent batches are
+     * invalid</p>
+     */
+    public CollapsingRemoteRESTfulMoveStrategy(@Autowired RestTemplate restTemplate,
+            @Value("${rockpaperscissors.api.moves.batch.url}") String remoteApiMoveStrategyBatchServiceUrlString,
+            @Value("${rockpaperscissors.api.moves.fallback.name:Rock}") String fallbackMoveName,
+            @Value("${rockpapersicssors.api.collapser.window.millis:2}") int windowMillis,
+            @Value("${rockpapersicssors.api.collapser.max.batch:100}") int maxBatchSize,
+            @Value("${rockpapersicssors.api.hystrix.isolation:THREAD}") ExecutionIsolationStrategy isolationStrategy,
+            @Value("${rockpapersicssors.api.hystrix.threads:10}") int maxConcurrent) {
+        validate(windowMillis, maxBatchSize, maxConcurrent);
+        this.restTemplate = restTemplate;
+        this.remoteApiMoveStrategyBatchServiceUrl = URI.create(remoteApiMoveStrategyBatchServiceUrlString);
+        this.fallbackMove = ClassicMoves.from(fallbackMoveName);
+        this.collapserSetter = newCollapserSetter(windowMillis, maxBatchSize);
+        this.commandSetter = newCommandSetter(isolationStrategy, maxConcurrent);
+    }
+
+    private static void validate(int windowMillis, int maxBatchSize, int maxConcurrent) {
+        if (windowMillis < 0) {
+            throw new IllegalArgumentException(WINDOW_VALIDATION_ERROR_MSG);
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException(MAX_BATCH_SIZE_VALIDATION_ERROR_MSG);
+        }
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException(MAX_CONCURRENT_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Creates the collapser configuration. There is no request context in the command line tool, so calls are
+     * collapsed globally, across every thread. Hystrix binds a global collapser, and its properties, to the first
+     * instance created with its key, so every strategy instance gets a key of its own
+     */
+    private static HystrixCollapser.Setter newCollapserSetter(int windowMillis, int maxBatchSize) {
+        String collapserKey = HYSTRIX_COLLAPSER_KEY + "-" + instanceNumbers.incrementAndGet();
+        return HystrixCollapser.Setter.withCollapserKey(HystrixCollapserKey.Factory.asKey(collapserKey))
+                .andScope(HystrixCollapser.Scope.GLOBAL)
+                .andCollapserPropertiesDefaults(HystrixCollapserProperties.Setter()
+                        .withTimerDelayInMilliseconds(windowMillis).withMaxRequestsInBatch(maxBatchSize)
+                        .withRequestCacheEnabled(false));
+    }
+
+    /**
+     * Creates the batched command configuration, sharing the thread pool of the single move Hystrix command. The
+     * maximum concurrency bounds the thread pool size in THREAD isolation, and the semaphore permits in SEMAPHORE
+     * isolation
+     */
+    private static HystrixCommand.Setter newCommandSetter(ExecutionIsolationStrategy isolationStrategy,
+                                                          int maxConcurrent) {
+        return HystrixCommand.Setter.withGroupKey(HystrixCommandGroupKey.Factory.asKey(HYSTRIX_GROUP_KEY))
+                .andCommandKey(HystrixCommandKey.Factory.asKey(HYSTRIX_COMMAND_KEY))
+                .andThreadPoolKey(HystrixThreadPoolKey.Factory.asKey(HYSTRIX_THREAD_POOL_KEY))
+                .andCommandPropertiesDefaults(HystrixCommandProperties.Setter()
+                        .withExecutionIsolationStrategy(isolationStrategy)
+                        .withExecutionIsolationSemaphoreMaxConcurrentRequests(maxConcurrent)
+                        .withRequestCacheEnabled(false))
+                .andThreadPoolPropertiesDefaults(HystrixThreadPoolProperties.Setter().withCoreSize(maxConcurrent));
+    }
+
+    /**
+     * @see MoveStrategy#getNextMove()
+     * @return <p>the selected next Move, fetched in a batch from a remote RESTful endpoint, or a fallback in case the
+     * service is unavailable</p>
+     */
+    @Override
+    public Move getNextMove() {
+        return new NextMoveCollapser().execute();
+    }
+
+    /**
+     * Fetches the given number of next moves from the remote batch endpoint
+     * @param count <p>the number of next moves to fetch</p>
+     * @return <p>the Moves received, in order, which may be fewer than requested</p>
+     */
+    private List<Move> fetchNextMoves(int count) {
+        URI nextMovesUri = UriComponentsBuilder.fromUri(remoteApiMoveStrategyBatchServiceUrl)
+                .queryParam(NEXT_MOVES_COUNT_PARAM_NAME, count).build().toUri();
+        logger.debug("Accessing the remote api at " + nextMovesUri);
+
+        RemoteNextMovesResource remoteNextMovesResource =
+                this.restTemplate.getForObject(nextMovesUri, RemoteNextMovesResource.class);
+
+        List<Move> nextMoves = new ArrayList<>(count);
+        for (RemoteNextMoveResource remoteNextMoveResource : remoteNextMovesResource.getMoves()) {
+            nextMoves.add(ClassicMoves.from(remoteNextMoveResource.getMove()));
+        }
+        logger.debug("Received from the API " + nextMoves.size() + " moves");
+        return nextMoves;
+    }
+
+    /**
+     * @return <p>the next Moves to use as a fallback mechanism for a whole batch</p>
+     */
+    private List<Move> getFallbackNextMoves(int count) {
+        logger.debug("Falling back to " + count + " moves " + fallbackMove);
+        return Collections.nCopies(count, fallbackMove);
+    }
+
+    /**
+     * A single getNextMove call, collapsed with every other call made within the same window into a NextMovesCommand
+     */
+    private class NextMoveCollapser extends HystrixCollapser<List<Move>, Move, Void> {
+
+        private NextMoveCollapser() {
+            super(collapserSetter);
+        }
+
+        @Override
+        public Void getRequestArgument() {
+            return null;
+        }
+
+        @Override
+        protected HystrixCommand<List<Move>> createCommand(Collection<CollapsedRequest<Move, Void>> requests) {
+            return new NextMovesCommand(requests.size());
+        }
+
+        @Override
+        protected void mapResponseToRequests(List<Move> nextMoves,
+                                             Collection<CollapsedRequest<Move, Void>> requests) {
+            Iterator<Move> nextMovesIterator = nextMoves.iterator();
+            for (CollapsedRequest<Move, Void> request : requests) {
+                request.setResponse(nextMovesIterator.hasNext() ? nextMovesIterator.next() : fallbackMove);
+            }
+        }
+    }
+
+    /**
+     * The Hystrix command fetching a whole batch of collapsed calls in a single request
+     */
+    private class NextMovesCommand extends HystrixCommand<List<Move>> {
+
+        private int count;
+
+        private NextMovesCommand(int count) {
+            super(commandSetter);
+            this.count = count;
+        }
+
+        @Override
+        protected List<Move> run() {
+            return fetchNextMoves(count);
+        }
+
+        @Override
+        protected List<Move> getFallback() {
+            return getFallbackNextMoves(count);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * A keep-alive strategy keeping pooled connections to the remote endpoint alive for a configurable duration. The
+ * default HttpClient strategy keeps connections alive forever unless the server says otherwise, which leaves the
+ * pool leasing connections the server has long closed. Here the timeout sent by the server in its Keep-Alive header,
+ * if any, is honored as long as it is shorter than the configured duration
+ */
+public class ConfigurableKeepAliveStrategy implements ConnectionKeepAliveStrategy {
+
+    public static final String KEEP_ALIVE_VALIDATION_ERROR_MSG = "Keep-alive duration must be positive";
+
+    private long keepAliveMillis;
+
+    /**
+     * Creates a new keep-alive strategy with the given maximum duration
+     * @param keepAliveMillis <p>the maximum time in milliseconds a connection is kept alive while idle</p>
+     * @throws IllegalArgumentException <p>in case the keep-alive duration is not positive</p>
+     */
+    public ConfigurableKeepAliveStrategy(long keepAliveMillis) {
+        validateKeepAliveMillis(keepAliveMillis);
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    private static void validateKeepAliveMillis(long keepAliveMillis) {
+        if (keepAliveMillis <= 0) {
+            throw new IllegalArgumentException(KEEP_ALIVE_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * @see ConnectionKeepAliveStrategy#getKeepAliveDuration(HttpResponse, HttpContext)
+     * @return <p>the timeout sent by the server, or the configured duration if the server sent none, or a longer
+     * one</p>
+     */
+    @Override
+    public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+        long serverKeepAliveMillis =
+                DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        return (serverKeepAliveMillis > 0) ? Math.min(serverKeepAliveMillis, keepAliveMillis) : keepAliveMillis;
+    }
+}
@@ -0,0 +1,48 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes the statistics of the connection pool used to reach the remote move endpoint as Micrometer gauges, which
+ * the actuator then publishes under its metrics endpoint, httpclient.pool.leased for instance. Gauges are sampled
+ * from the pool whenever they are read, so binding them costs nothing on the request path
+ */
+public class HttpClientPoolMetrics implements MeterBinder {
+
+    public static final String LEASED_METRIC_NAME = "httpclient.pool.leased";
+    public static final String PENDING_METRIC_NAME = "httpclient.pool.pending";
+    public static final String AVAILABLE_METRIC_NAME = "httpclient.pool.available";
+    public static final String MAX_METRIC_NAME = "httpclient.pool.max";
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    /**
+     * Creates new metrics for the given connection pool
+     * @param connectionManager <p>the connection pool to expose the statistics of</p>
+     */
+    public HttpClientPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindGauge(registry, LEASED_METRIC_NAME, "Connections currently leased to requests",
+                cm -> cm.getTotalStats().getLeased());
+        bindGauge(registry, PENDING_METRIC_NAME, "Requests waiting for a connection",
+                cm -> cm.getTotalStats().getPending());
+        bindGauge(registry, AVAILABLE_METRIC_NAME, "Idle connections kept alive in the pool",
+                cm -> cm.getTotalStats().getAvailable());
+        bindGauge(registry, MAX_METRIC_NAME, "Maximum number of connections in the pool",
+                cm -> cm.getTotalStats().getMax());
+    }
+
+    private void bindGauge(MeterRegistry registry, String name, String description,
+                           ToDoubleFunction<PoolingHttpClientConnectionManager> statistic) {
+        Gauge.builder(name, connectionManager, statistic).description(description).register(registry);
+    }
+}
@@ -0,0 +1,153 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A MoveStrategy decorating a slow one, typically a remote one, by fetching its Moves ahead of demand. A number of
+ * background fetchers keep calling the decorated strategy and put the Moves they get into a bounded queue, so
+ * getNextMove is just a poll of the queue, and the time to play is bound by how many Moves the decorated strategy
+ * can provide per second, rather than by how long each one of them takes. Fetchers wait whenever the queue is full,
+ * so at most as many Moves as the queue depth are fetched ahead. Only when the queue stays empty for longer than
+ * the configured deadline is the fallback Move returned instead.
+ * Moves are returned in the order the fetchers got them, which is only meaningful for strategies whose Moves don't
+ * depend on one another, such as a remote random one. Fetchers are started with the first Move requested
+ */
+public class PrefetchingMoveStrategy implements MoveStrategy, Closeable {
+
+    public static final String DEPTH_VALIDATION_ERROR_MSG = "Prefetch depth must be positive";
+    public static final String FETCHERS_VALIDATION_ERROR_MSG = "Number of fetchers must be positive";
+    public static final String DEADLINE_VALIDATION_ERROR_MSG = "Prefetch deadline can't be negative";
+
+    private static final String FETCHER_THREAD_NAME_PREFIX = "move-prefetcher-";
+    private static final long FAILURE_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final Logger logger = LoggerFactory.getLogger(PrefetchingMoveStrategy.class);
+
+    private MoveStrategy prefetchedMoveStrategy;
+    private Move fallbackMove;
+    private int fetchers;
+    private long deadlineMillis;
+    private BlockingQueue<Move> prefetchedMoves;
+    private volatile ExecutorService fetcherExecutor;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new prefetching MoveStrategy. No Move is fetched until the first one is requested
+     * @param prefetchedMoveStrategy <p>the MoveStrategy to fetch the Moves from</p>
+     * @param fallbackMove <p>the Move to return when no prefetched Move is available before the deadline</p>
+     * @param depth <p>the maximum number of Moves fetched ahead</p>
+     * @param fetchers <p>the number of background threads fetching Moves concurrently</p>
+     * @param deadlineMillis <p>how long to wait for a prefetched Move before falling back</p>
+     * @throws IllegalArgumentException <p>in case the depth, fetchers or deadline are invalid</p>
+     */
+    public PrefetchingMoveStrategy(MoveStrategy prefetchedMoveStrategy, Move fallbackMove, int depth, int fetchers,
+                                   long deadlineMillis) {
+        validate(depth, fetchers, deadlineMillis);
+        this.prefetchedMoveStrategy = prefetchedMoveStrategy;
+        this.fallbackMove = fallbackMove;
+        this.fetchers = fetchers;
+        this.deadlineMillis = deadlineMillis;
+        this.prefetchedMoves = new ArrayBlockingQueue<>(depth);
+    }
+
+    private static void validate(int depth, int fetchers, long deadlineMillis) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException(DEPTH_VALIDATION_ERROR_MSG);
+        }
+        if (fetchers <= 0) {
+            throw new IllegalArgumentException(FETCHERS_VALIDATION_ERROR_MSG);
+        }
+        if (deadlineMillis < 0) {
+            throw new IllegalArgumentException(DEADLINE_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * @see MoveStrategy#getNextMove()
+     * @return <p>the next prefetched Move, or the fallback Move if none was available before the deadline</p>
+     */
+    @Override
+    public Move getNextMove() {
+        startFetchers();
+        try {
+            Move nextMove = prefetchedMoves.poll(deadlineMillis, TimeUnit.MILLISECONDS);
+            if (nextMove != null) {
+                return nextMove;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.debug("No prefetched move available, falling back to " + fallbackMove);
+        return fallbackMove;
+    }
+
+    /**
+     * Starts the background fetchers, unless they are already running
+     */
+    private void startFetchers() {
+        if (fetcherExecutor == null) {
+            synchronized (this) {
+                if ((fetcherExecutor == null) && !closed) {
+                    ExecutorService executor = Executors.newFixedThreadPool(fetchers, newFetcherThreadFactory());
+                    for (int fetcher = 0; fetcher < fetchers; fetcher++) {
+                        executor.execute(this::fetch);
+                    }
+                    fetcherExecutor = executor;
+                }
+            }
+        }
+    }
+
+    private ThreadFactory newFetcherThreadFactory() {
+        AtomicInteger fetcherNumber = new AtomicInteger();
+        return runnable -> {
+            Thread fetcherThread = new Thread(runnable, FETCHER_THREAD_NAME_PREFIX + fetcherNumber.incrementAndGet());
+            fetcherThread.setDaemon(true);
+            return fetcherThread;
+        };
+    }
+
+    /**
+     * Keeps fetching Moves into the queue, waiting while it is full, until the strategy is closed. A failure
+     * fetching a Move just skips it after a short pause, as getNextMove falls back on its own if no Move makes it in
+     * time
+     */
+    private void fetch() {
+        while (!closed) {
+            try {
+                prefetchedMoves.put(prefetchedMoveStrategy.getNextMove());
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.debug("Failed prefetching the next move", e);
+                LockSupport.parkNanos(FAILURE_BACKOFF_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Stops the background fetchers. Moves already prefetched can still be returned
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (fetcherExecutor != null) {
+                fetcherExecutor.shutdownNow();
+            }
+        }
+    }
+}
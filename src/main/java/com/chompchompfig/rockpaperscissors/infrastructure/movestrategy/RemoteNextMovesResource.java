@@ -0,0 +1,23 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * A class to represent the NextMovesResource received from the API batch endpoint. As with RemoteNextMoveResource,
+ * it is a client representation of the resource on purpose, to keep the application decoupled from the endpoint
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RemoteNextMovesResource {
+
+    private List<RemoteNextMoveResource> moves;
+
+    public List<RemoteNextMoveResource> getMoves() {
+        return moves;
+    }
+
+    public void setMoves(List<RemoteNextMoveResource> moves) {
+        this.moves = moves;
+    }
+}
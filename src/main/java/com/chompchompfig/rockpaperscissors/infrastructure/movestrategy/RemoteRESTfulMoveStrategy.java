@@ -20,12 +20,16 @@ import java.net.URI;
  * Move, no matter the status of the remote endpoint. Therefore, there is a configurable fallback Move that it will
  * use in case of failure. Notice that this implementation relies on Spring RestTemplate, whose timeout values should
  * be properly configured beforehand. The class will use whatever RestTemplate is provided and will make no changes
- * to the timeout values whatsoever
+ * to the timeout values whatsoever. The Hystrix command isolation, a thread pool by default, is configured through the
+ * hystrix.command.remoteNextMove and hystrix.threadpool.remoteMoves properties
  */
 @Profile("tool")
 @Component("remoteMoveStrategy")
 public class RemoteRESTfulMoveStrategy implements MoveStrategy {
 
+    public static final String HYSTRIX_COMMAND_KEY = "remoteNextMove";
+    public static final String HYSTRIX_THREAD_POOL_KEY = "remoteMoves";
+
     private static final Logger logger = LoggerFactory.getLogger(RemoteRESTfulMoveStrategy.class);
 
     private RestTemplate restTemplate;
@@ -54,7 +58,8 @@ public class RemoteRESTfulMoveStrategy implements MoveStrategy {
      * @return <p>the selected next Move, fetched from a remote RESTful endpoint, or a fallback in case the service
      * is unavailable</p>
      */
-    @HystrixCommand(fallbackMethod = "getFallbackNextMove")
+    @HystrixCommand(commandKey = HYSTRIX_COMMAND_KEY, threadPoolKey = HYSTRIX_THREAD_POOL_KEY,
+            fallbackMethod = "getFallbackNextMove")
     @Override
     public Move getNextMove() {
         logger.debug("Accessing the remote api at " + remoteApiMoveStrategyServiceUrl);
@@ -0,0 +1,256 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.output;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A text sink handing lines over to a writer thread of its own, so the thread producing them never waits on the
+ * terminal. Lines, already encoded in UTF-8, are published into a bounded ring buffer, and the writer thread drains
+ * them in order into a batch buffer, which is written to the output stream in a single call once it gets full, or
+ * once there are no more lines to drain. When the writer falls behind and the ring buffer gets full, the producing
+ * thread waits for some room, so no more than as many lines as the ring buffer size are ever held in memory. Lines
+ * still in the ring buffer when the sink is closed, or when the JVM shuts down, are written before that completes
+ * <p>Sinks support a single producing thread</p>
+ */
+public class AsyncConsoleTextSink implements TextSink {
+
+    public static final int DEFAULT_RING_SIZE = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+    public static final String RING_SIZE_VALIDATION_ERROR_MSG = "Ring size must be a power of two, not less than 2";
+    public static final String BATCH_SIZE_VALIDATION_ERROR_MSG = "Batch size can't be less than 16 bytes";
+    public static final String SINK_CLOSED_ERROR_MSG = "The sink is already closed";
+    public static final String WRITER_FAILED_ERROR_MSG = "The writer thread failed unexpectedly";
+
+    private static final int MIN_RING_SIZE = 2;
+    private static final int MIN_BATCH_SIZE = 16;
+    private static final long IDLE_PARK_NANOS = 1000000L;
+    private static final long BACKPRESSURE_PARK_NANOS = 50000L;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String WRITER_THREAD_NAME = "async-console-text-sink";
+
+    private OutputStream outputStream;
+    private byte[][] ring;
+    private int ringMask;
+    private byte[] batch;
+    private int batchLength;
+    private AtomicLong publishedSequence = new AtomicLong();
+    private AtomicLong consumedSequence = new AtomicLong();
+    private volatile boolean writerWaiting;
+    private volatile boolean closed;
+    private volatile IOException failure;
+    private Thread writerThread;
+    private Thread shutdownHook;
+
+    /**
+     * Creates a new sink writing to the given output stream, and starts its writer thread
+     * @param outputStream <p>the output stream to write to, which is flushed but never closed by the sink</p>
+     * @param ringSize <p>the maximum number of lines waiting to be written, a power of two</p>
+     * @param batchSize <p>the size in bytes of the buffer lines are gathered into before being written</p>
+     * @throws IllegalArgumentException <p>in case the ring or the batch sizes are invalid</p>
+     */
+    public AsyncConsoleTextSink(OutputStream outputStream, int ringSize, int batchSize) {
+        validateRingSize(ringSize);
+        validateBatchSize(batchSize);
+        this.outputStream = outputStream;
+        this.ring = new byte[ringSize][];
+        this.ringMask = ringSize - 1;
+        this.batch = new byte[batchSize];
+        this.writerThread = new Thread(this::drain, WRITER_THREAD_NAME);
+        this.writerThread.setDaemon(true);
+        this.shutdownHook = new Thread(this::stopWriter);
+        this.writerThread.start();
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Creates a new sink writing straight to the standard output file descriptor, bypassing the synchronized and
+     * line flushing System.out
+     * @see AsyncConsoleTextSink#AsyncConsoleTextSink(OutputStream, int, int)
+     */
+    public AsyncConsoleTextSink(int ringSize, int batchSize) {
+        this(new FileOutputStream(FileDescriptor.out), ringSize, batchSize);
+    }
+
+    /**
+     * Validates the ring size to be a power of two, so positions in the ring are just masked sequences
+     * @param ringSize <p>the ring size to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private static void validateRingSize(int ringSize) {
+        if ((ringSize < MIN_RING_SIZE) || (Integer.bitCount(ringSize) != 1)) {
+            throw new IllegalArgumentException(RING_SIZE_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Validates the batch size
+     * @param batchSize <p>the batch size to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private static void validateBatchSize(int batchSize) {
+        if (batchSize < MIN_BATCH_SIZE) {
+            throw new IllegalArgumentException(BATCH_SIZE_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Publishes the given bytes to be written by the writer thread, waiting for some room in the ring buffer if it
+     * is full. The bytes are not copied, so they must not be modified afterwards
+     * @param bytes <p>the UTF-8 encoded text to append</p>
+     * @throws UncheckedIOException <p>in case the writer thread failed writing to the output stream</p>
+     * @throws IllegalStateException <p>in case the sink is already closed, or its writer thread is no longer
+     * running</p>
+     */
+    @Override
+    public void write(byte[] bytes) {
+        if (closed) {
+            throw new IllegalStateException(SINK_CLOSED_ERROR_MSG);
+        }
+        long sequence = publishedSequence.get();
+        while (sequence - consumedSequence.get() >= ring.length) {
+            throwIfFailed();
+            if (!writerThread.isAlive()) {
+                throwIfFailed();
+                throw new IllegalStateException(SINK_CLOSED_ERROR_MSG);
+            }
+            LockSupport.parkNanos(this, BACKPRESSURE_PARK_NANOS);
+        }
+        ring[(int) sequence & ringMask] = bytes;
+        publishedSequence.set(sequence + 1);
+        if (writerWaiting) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Publishes the given line, followed by the line separator, to be written by the writer thread
+     * @param line <p>the line to append</p>
+     * @throws UncheckedIOException <p>in case the writer thread failed writing to the output stream</p>
+     * @throws IllegalStateException <p>in case the sink is already closed</p>
+     */
+    @Override
+    public void println(CharSequence line) {
+        write((line + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Drains the ring buffer into the output stream until the sink gets closed and there is nothing left to drain.
+     * The batch is written whenever it gets full, and also whenever the ring buffer is empty, right before waiting
+     * for more lines, so lines never sit in the batch while the producing thread is slow. Whatever stops the writer
+     * thread is recorded as the failure of the sink, wrapped in an IOException unless it already is one, so the
+     * producing thread never waits on a writer thread which is gone
+     */
+    private void drain() {
+        try {
+            long consumed = consumedSequence.get();
+            while (true) {
+                long published = publishedSequence.get();
+                if (consumed == published) {
+                    writeBatch();
+                    outputStream.flush();
+                    if (closed && (consumed == publishedSequence.get())) {
+                        return;
+                    }
+                    waitForLines(consumed);
+                }
+                while (consumed < published) {
+                    int position = (int) consumed & ringMask;
+                    append(ring[position]);
+                    ring[position] = null;
+                    consumedSequence.lazySet(++consumed);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            failure = new IOException(WRITER_FAILED_ERROR_MSG, e);
+        } catch (Error e) {
+            failure = new IOException(WRITER_FAILED_ERROR_MSG, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Parks the writer thread until a line gets published after the given sequence, or the sink gets closed. The
+     * park is bounded, so a missed wake up only delays the writer thread
+     * @param consumed <p>the sequence of the next line to drain</p>
+     */
+    private void waitForLines(long consumed) {
+        writerWaiting = true;
+        if ((consumed == publishedSequence.get()) && !closed) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        writerWaiting = false;
+    }
+
+    /**
+     * Appends the given bytes to the batch, writing the batch first if they don't fit in it, and writing the bytes
+     * straight away if they don't even fit in an empty batch
+     * @param bytes <p>the bytes to append</p>
+     * @throws IOException <p>in case writing to the output stream failed</p>
+     */
+    private void append(byte[] bytes) throws IOException {
+        if (bytes.length > batch.length - batchLength) {
+            writeBatch();
+        }
+        if (bytes.length > batch.length) {
+            outputStream.write(bytes);
+        } else {
+            System.arraycopy(bytes, 0, batch, batchLength, bytes.length);
+            batchLength += bytes.length;
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        if (batchLength > 0) {
+            outputStream.write(batch, 0, batchLength);
+            batchLength = 0;
+        }
+    }
+
+    private void throwIfFailed() {
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * Waits for the writer thread to write every line published so far and flush the output stream, then stops it.
+     * Closing a sink twice has no effect
+     * @throws IOException <p>in case the writer thread failed writing to the output stream</p>
+     */
+    @Override
+    public void close() throws IOException {
+        stopWriter();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // the JVM is already shutting down, and the hook has just closed the sink, or is about to
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void stopWriter() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        boolean interrupted = false;
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
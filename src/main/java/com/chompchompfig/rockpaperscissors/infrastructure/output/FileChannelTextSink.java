@@ -0,0 +1,175 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.output;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A streaming text sink writing lines to a file as they are produced. Lines are encoded in UTF-8 straight into a
+ * single, reusable, direct ByteBuffer, which is only written to the FileChannel of the file once it gets full. This
+ * way writing tens of millions of lines costs a handful of system calls per megabyte instead of some per line.
+ * Whether and when the written contents are forced to the storage device is up to the given FsyncPolicy
+ * <p>Sinks are not thread safe</p>
+ */
+public class FileChannelTextSink implements TextSink {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    public static final String BUFFER_SIZE_VALIDATION_ERROR_MSG = "Output buffer size can't be less than 16 bytes";
+
+    private static final int MIN_BUFFER_SIZE = 16;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * When the contents written to the file are forced to the storage device
+     */
+    public enum FsyncPolicy {
+        /** Never, leaving it to the operating system */
+        NEVER,
+        /** Once, when the sink is closed */
+        ON_CLOSE,
+        /** Every time the buffer is written to the file, and when the sink is closed */
+        ON_FLUSH
+    }
+
+    private FileOutputStream fileOutputStream;
+    private FileChannel fileChannel;
+    private FsyncPolicy fsyncPolicy;
+    private CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer buffer;
+
+    /**
+     * Creates a new sink writing to the given file, truncating it if it already exists
+     * @param file <p>the file to write to</p>
+     * @param bufferSize <p>the size in bytes of the buffer lines are encoded into</p>
+     * @param fsyncPolicy <p>when the contents written are forced to the storage device</p>
+     * @throws FileNotFoundException <p>in case the file can't be opened for writing</p>
+     * @throws IllegalArgumentException <p>in case the buffer size is too small</p>
+     */
+    public FileChannelTextSink(File file, int bufferSize, FsyncPolicy fsyncPolicy) throws FileNotFoundException {
+        validateBufferSize(bufferSize);
+        this.fileOutputStream = new FileOutputStream(file);
+        this.fileChannel = fileOutputStream.getChannel();
+        this.fsyncPolicy = fsyncPolicy;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Creates a new sink writing to the given file with a default buffer size, and never forcing its contents to the
+     * storage device
+     * @see FileChannelTextSink#FileChannelTextSink(File, int, FsyncPolicy)
+     */
+    public FileChannelTextSink(File file) throws FileNotFoundException {
+        this(file, DEFAULT_BUFFER_SIZE, FsyncPolicy.NEVER);
+    }
+
+    /**
+     * Validates the buffer size to be big enough to hold any encoded character
+     * @param bufferSize <p>the buffer size to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private static void validateBufferSize(int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException(BUFFER_SIZE_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Appends the given text to the file, with no line separator
+     * @param text <p>the text to append</p>
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    public void append(CharSequence text) {
+        CharBuffer chars = (text instanceof CharBuffer) ? (CharBuffer) text : CharBuffer.wrap(text);
+        CoderResult coderResult = encoder.encode(chars, buffer, false);
+        while (coderResult.isOverflow()) {
+            flushBuffer();
+            coderResult = encoder.encode(chars, buffer, false);
+        }
+    }
+
+    /**
+     * Appends the given bytes to the file as they are. This is meant for text already encoded in UTF-8, typically
+     * rendered once and written many times, which then skips the encoder altogether
+     * @param bytes <p>the UTF-8 encoded text to append</p>
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    @Override
+    public void write(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Appends the given line to the file, followed by the line separator
+     * @param line <p>the line to append</p>
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    @Override
+    public void println(CharSequence line) {
+        append(line);
+        append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes whatever is left in the buffer to the file
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    public void flush() {
+        flushBuffer();
+    }
+
+    /**
+     * Writes the whole buffer to the file channel, and empties it
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    private void flushBuffer() {
+        try {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                fileChannel.write(buffer);
+            }
+            buffer.clear();
+            if (fsyncPolicy == FsyncPolicy.ON_FLUSH) {
+                fileChannel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes whatever is left in the buffer to the file, forces it to the storage device if the FsyncPolicy says so,
+     * and closes the file
+     * @throws IOException <p>in case writing to or closing the file failed</p>
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            encoder.encode(CharBuffer.allocate(0), buffer, true);
+            encoder.flush(buffer);
+            flushBuffer();
+            if (fsyncPolicy == FsyncPolicy.ON_CLOSE) {
+                fileChannel.force(false);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            fileOutputStream.close();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.output;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+import com.chompchompfig.rockpaperscissors.domain.GamePlayBatch;
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.Result;
+
+import javax.validation.constraints.NotNull;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Renders GamePlays and GameSummaries as the very same text their toString methods produce, without allocating
+ * anything per GamePlay. There are only as many different GamePlays between two players as pairs of Moves in the
+ * MoveSet, so the text of each one of them is rendered just once, with GamePlay.toString itself, both as a String
+ * and encoded in UTF-8. Rendering a GamePlay then boils down to looking its text up by the ordinals of its Moves.
+ * The texts are rendered again whenever a GamePlay between different players comes along, and GamePlays with Moves
+ * from a different MoveSet are just rendered with toString
+ * <p>Renderers are not thread safe</p>
+ */
+public class GameTextRenderer {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String GAME_SUMMARY_PREFIX = "GameSummary { ";
+    private static final String GAME_SUMMARY_SUFFIX = " }";
+
+    private MoveSet moveSet;
+    private Player.PlayerName playerOneName;
+    private Player.PlayerName playerTwoName;
+    private String[] gamePlayTexts;
+    private byte[][] gamePlayLines;
+
+    /**
+     * Creates a new renderer for the GamePlays of a Game played with the given MoveSet
+     * @param moveSet <p>the MoveSet of the GamePlays to render</p>
+     */
+    public GameTextRenderer(@NotNull MoveSet moveSet) {
+        this.moveSet = moveSet;
+    }
+
+    /**
+     * Gets the text of the given GamePlay
+     * @param gamePlay <p>the GamePlay to render</p>
+     * @return <p>the same text as the toString of the GamePlay</p>
+     */
+    public String render(@NotNull GamePlay gamePlay) {
+        int index = indexOf(gamePlay);
+        return (index < 0) ? gamePlay.toString() : gamePlayTexts[index];
+    }
+
+    /**
+     * Appends the text of the given GamePlay, followed by the line separator, to the given sink, already encoded
+     * @param gamePlay <p>the GamePlay to render</p>
+     * @param sink <p>the sink to append the text to</p>
+     */
+    public void renderLine(@NotNull GamePlay gamePlay, @NotNull TextSink sink) {
+        int index = indexOf(gamePlay);
+        if (index < 0) {
+            sink.println(gamePlay.toString());
+        } else {
+            sink.write(gamePlayLines[index]);
+        }
+    }
+
+    /**
+     * Gets the position of the texts of the given GamePlay, rendering the texts of all possible GamePlays first if
+     * its players are not the ones the current texts were rendered for
+     * @param gamePlay <p>the GamePlay to render</p>
+     * @return <p>the position of the texts of the GamePlay, or -1 if any of its Moves is from a different MoveSet</p>
+     */
+    private int indexOf(GamePlay gamePlay) {
+        Move playerOneMove = gamePlay.getPlayerOneMove();
+        Move playerTwoMove = gamePlay.getPlayerTwoMove();
+        if ((playerOneMove.getMoveSet() != moveSet) || (playerTwoMove.getMoveSet() != moveSet)) {
+            return -1;
+        }
+        if (!isRenderedFor(gamePlay.getPlayerOneName(), gamePlay.getPlayerTwoName())) {
+            renderGamePlays(gamePlay.getPlayerOneName(), gamePlay.getPlayerTwoName());
+        }
+        return playerOneMove.getOrdinal() * moveSet.size() + playerTwoMove.getOrdinal();
+    }
+
+    private boolean isRenderedFor(Player.PlayerName playerOneName, Player.PlayerName playerTwoName) {
+        return ((playerOneName == this.playerOneName) || playerOneName.equals(this.playerOneName))
+                && ((playerTwoName == this.playerTwoName) || playerTwoName.equals(this.playerTwoName));
+    }
+
+    /**
+     * Renders the texts of every possible GamePlay between the given players, as GamePlay.toString does
+     * @param playerOneName <p>the name of the first player</p>
+     * @param playerTwoName <p>the name of the second player</p>
+     */
+    private void renderGamePlays(Player.PlayerName playerOneName, Player.PlayerName playerTwoName) {
+        GamePlayBatch allGamePlays = new GamePlayBatch(playerOneName, playerTwoName, moveSet,
+                moveSet.size() * moveSet.size());
+        for (Move playerOneMove : moveSet.getMoves()) {
+            for (Move playerTwoMove : moveSet.getMoves()) {
+                allGamePlays.add(playerOneMove, playerTwoMove);
+            }
+        }
+        gamePlayTexts = new String[allGamePlays.size()];
+        gamePlayLines = new byte[allGamePlays.size()][];
+        for (int index = 0; index < allGamePlays.size(); index++) {
+            gamePlayTexts[index] = allGamePlays.get(index).toString();
+            gamePlayLines[index] = (gamePlayTexts[index] + LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+        }
+        this.playerOneName = playerOneName;
+        this.playerTwoName = playerTwoName;
+    }
+
+    /**
+     * Appends the text of the given GameSummary to the given StringBuilder, with no streams nor MessageFormat. It
+     * doesn't depend on the MoveSet, nor the players, so it needs no renderer
+     * @param gameSummary <p>the GameSummary to render</p>
+     * @param text <p>the StringBuilder to append the text to</p>
+     * @return <p>the given StringBuilder, with the same text as the toString of the GameSummary appended</p>
+     */
+    public static StringBuilder render(@NotNull GameSummary gameSummary, @NotNull StringBuilder text) {
+        text.append(GAME_SUMMARY_PREFIX).append(Result.DRAWS).append(GameSummary.GAME_SUMMARY_ENTRY_VALUE_SEPARATOR)
+                .append(gameSummary.getDrawGamePlays());
+        for (Map.Entry<Player.PlayerName, Long> gamePlaysWon : gameSummary.getGamePlaysWonByPlayerName().entrySet()) {
+            text.append(GameSummary.GAME_SUMMARY_ENTRY_DELIMITER).append(gamePlaysWon.getKey())
+                    .append(GameSummary.PLAYER_NAME_NUMBER_WON_SUBSTRING).append(gamePlaysWon.getValue().longValue());
+        }
+        return text.append(GAME_SUMMARY_SUFFIX);
+    }
+}
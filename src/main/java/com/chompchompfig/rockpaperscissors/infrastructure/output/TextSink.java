@@ -0,0 +1,25 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.output;
+
+import java.io.Closeable;
+import java.io.UncheckedIOException;
+
+/**
+ * A destination for the lines of text printed by the command line tool, such as the GamePlays and their summary
+ */
+public interface TextSink extends Closeable {
+
+    /**
+     * Appends the given bytes to the sink as they are. This is meant for text already encoded in UTF-8, typically
+     * rendered once and written many times, so the bytes must not be modified once handed to the sink
+     * @param bytes <p>the UTF-8 encoded text to append</p>
+     * @throws UncheckedIOException <p>in case writing to the sink failed</p>
+     */
+    void write(byte[] bytes);
+
+    /**
+     * Appends the given line to the sink, followed by the line separator
+     * @param line <p>the line to append</p>
+     * @throws UncheckedIOException <p>in case writing to the sink failed</p>
+     */
+    void println(CharSequence line);
+}
@@ -0,0 +1,92 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.playlog;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * How the blocks of a play log are compressed. Every block is compressed on its own, so blocks can be compressed and
+ * decompressed in parallel, and any of them can still be read without reading the ones before it
+ */
+public enum PlayLogCompression {
+
+    /** Blocks are stored as they are */
+    NONE {
+        @Override
+        byte[] compress(byte[] block, int length) {
+            return Arrays.copyOf(block, length);
+        }
+
+        @Override
+        void decompress(byte[] compressedBlock, byte[] block, int length) {
+            System.arraycopy(compressedBlock, 0, block, 0, length);
+        }
+    },
+
+    /** Blocks are compressed with raw Deflate, favouring speed, so compressing keeps up with playing */
+    DEFLATE {
+        @Override
+        byte[] compress(byte[] block, int length) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+            try {
+                deflater.setInput(block, 0, length);
+                deflater.finish();
+                byte[] compressedBlock = new byte[length + (length >> 3) + 64];
+                int compressedLength = 0;
+                while (!deflater.finished()) {
+                    if (compressedLength == compressedBlock.length) {
+                        compressedBlock = Arrays.copyOf(compressedBlock, compressedBlock.length * 2);
+                    }
+                    compressedLength += deflater.deflate(compressedBlock, compressedLength,
+                            compressedBlock.length - compressedLength);
+                }
+                return Arrays.copyOf(compressedBlock, compressedLength);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        void decompress(byte[] compressedBlock, byte[] block, int length) {
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(compressedBlock);
+                int decompressedLength = 0;
+                while ((decompressedLength < length) && !inflater.finished()) {
+                    int inflated = inflater.inflate(block, decompressedLength, length - decompressedLength);
+                    if ((inflated == 0) && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    decompressedLength += inflated;
+                }
+                if (decompressedLength != length) {
+                    throw new IllegalStateException(CORRUPTED_BLOCK_ERROR_MSG);
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalStateException(CORRUPTED_BLOCK_ERROR_MSG, e);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    public static final String CORRUPTED_BLOCK_ERROR_MSG = "Corrupted play log block";
+
+    /**
+     * Compresses a block
+     * @param block <p>the block to compress</p>
+     * @param length <p>the number of bytes of the block to compress</p>
+     * @return <p>a new array with the compressed block, and nothing else</p>
+     */
+    abstract byte[] compress(byte[] block, int length);
+
+    /**
+     * Decompresses a block
+     * @param compressedBlock <p>the compressed block</p>
+     * @param block <p>the array to write the decompressed block to</p>
+     * @param length <p>the number of bytes of the decompressed block</p>
+     * @throws IllegalStateException <p>in case the block can't be decompressed to the given length</p>
+     */
+    abstract void decompress(byte[] compressedBlock, byte[] block, int length);
+}
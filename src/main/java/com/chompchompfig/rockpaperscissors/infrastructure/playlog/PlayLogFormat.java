@@ -0,0 +1,105 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.playlog;
+
+/**
+ * The layout of a binary play log, shared by its writer and reader. A play log is made of
+ * <ul>
+ *     <li>A header, with the magic number, the format version, both player names, the name of the MoveSet and the
+ *     names of all its Moves in ordinal order, the bits taken by each move, the number of plays per block, and,
+ *     since version 2, the ordinal of the PlayLogCompression of the blocks</li>
+ *     <li>The blocks of plays. Each play is stored as the ordinals of the moves of both players, one after the
+ *     other, packed in as few bits per move as the MoveSet allows, a power of two so that no move straddles two
+ *     bytes. Classic moves take two bits each, so a play takes half a byte. Every block holds the same number of
+ *     plays, but for the last one, and is compressed on its own, so blocks may take different sizes in the file</li>
+ *     <li>The block index, with the total number of plays, the number of blocks and the file offset of each block</li>
+ *     <li>A trailer, with the file offset of the block index and the magic number again</li>
+ * </ul>
+ * All numbers are big endian, and all names are written in modified UTF-8, as DataOutput does
+ */
+final class PlayLogFormat {
+
+    static final int MAGIC = 0x5250534c;
+    static final short VERSION = 2;
+    static final short UNCOMPRESSED_VERSION = 1;
+    static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private PlayLogFormat() {
+    }
+
+    /**
+     * Gets the number of bits needed to store the ordinal of any Move in a MoveSet of the given size, rounded up to
+     * a power of two
+     * @param numberOfMoves <p>the number of Moves in the MoveSet</p>
+     * @return <p>the number of bits each move takes in a block</p>
+     */
+    static int bitsPerMoveFor(int numberOfMoves) {
+        int bitsPerMove = 1;
+        while ((1 << bitsPerMove) < numberOfMoves) {
+            bitsPerMove <<= 1;
+        }
+        return bitsPerMove;
+    }
+
+    /**
+     * @return <p>the number of bytes taken by a block of the given number of plays</p>
+     */
+    static int bytesPerBlock(int plays, int bitsPerMove) {
+        return (int) (((long) plays * 2 * bitsPerMove + Byte.SIZE - 1) / Byte.SIZE);
+    }
+
+    /**
+     * Packs the ordinals of the moves of a play into a block. The bits of the play are expected to be clear
+     * @param block <p>the block to pack the play into</p>
+     * @param play <p>the position of the play in the block</p>
+     * @param bitsPerMove <p>the bits taken by each move</p>
+     * @param playerOneOrdinal <p>the ordinal of the move performed by the first player</p>
+     * @param playerTwoOrdinal <p>the ordinal of the move performed by the second player</p>
+     */
+    static void pack(byte[] block, int play, int bitsPerMove, int playerOneOrdinal, int playerTwoOrdinal) {
+        packMove(block, 2 * play, bitsPerMove, playerOneOrdinal);
+        packMove(block, 2 * play + 1, bitsPerMove, playerTwoOrdinal);
+    }
+
+    private static void packMove(byte[] block, int move, int bitsPerMove, int ordinal) {
+        int movesPerByte = Byte.SIZE / bitsPerMove;
+        block[move / movesPerByte] |= ordinal << ((move % movesPerByte) * bitsPerMove);
+    }
+
+    /**
+     * Unpacks the ordinals of the moves of all the plays in a block into two separate columns
+     * @param block <p>the block to unpack</p>
+     * @param plays <p>the number of plays in the block</p>
+     * @param bitsPerMove <p>the bits taken by each move</p>
+     * @param playerOneOrdinals <p>the array to write the ordinals of the moves of the first player to</p>
+     * @param playerTwoOrdinals <p>the array to write the ordinals of the moves of the second player to</p>
+     */
+    static void unpack(byte[] block, int plays, int bitsPerMove, byte[] playerOneOrdinals, byte[] playerTwoOrdinals) {
+        for (int play = 0; play < plays; play++) {
+            playerOneOrdinals[play] = unpackMove(block, 2 * play, bitsPerMove);
+            playerTwoOrdinals[play] = unpackMove(block, 2 * play + 1, bitsPerMove);
+        }
+    }
+
+    /**
+     * Gets the position in a block of the first byte holding the given play. Plays never straddle two bytes but when
+     * a play takes two whole bytes, so a play is always held by the bytesPerBlock(1, bitsPerMove) bytes from there
+     * @param play <p>the position of the play in the block</p>
+     * @param bitsPerMove <p>the bits taken by each move</p>
+     * @return <p>the position of the first byte holding the play</p>
+     */
+    static int firstByteOf(int play, int bitsPerMove) {
+        return (int) ((long) play * 2 * bitsPerMove / Byte.SIZE);
+    }
+
+    /**
+     * Unpacks the ordinal of a single move in a block
+     * @param block <p>the block, or the part of it, holding the move</p>
+     * @param move <p>the position of the move in the block, two per play</p>
+     * @param bitsPerMove <p>the bits taken by each move</p>
+     * @return <p>the ordinal of the move</p>
+     */
+    static byte unpackMove(byte[] block, int move, int bitsPerMove) {
+        int movesPerByte = Byte.SIZE / bitsPerMove;
+        int moveMask = (1 << bitsPerMove) - 1;
+        return (byte) ((block[move / movesPerByte] >>> ((move % movesPerByte) * bitsPerMove)) & moveMask);
+    }
+}
@@ -0,0 +1,340 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.playlog;
+
+import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+import com.chompchompfig.rockpaperscissors.domain.GamePlayBatch;
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissors101Moves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissorsLizardSpockMoves;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A random access reader of binary play logs. The header and the block index are read when the reader is opened,
+ * so any play can be located by its position without scanning the plays before it, reading just the block holding
+ * it. Blocks are read with positional reads, which don't move the position of the FileChannel, and each block is
+ * decompressed on its own, so many threads can read and decompress blocks of the same reader at once. Getting a single
+ * play reads only the bytes holding it from an uncompressed play log, while the ordinals of the last block
+ * decompressed for a single play are kept, so getting nearby plays of a compressed play log doesn't decompress the
+ * same block again and again
+ * @see PlayLogFormat
+ */
+public class PlayLogReader implements Closeable {
+
+    public static final String INVALID_PLAY_LOG_ERROR_MSG = "Not a valid play log ";
+
+    private static final List<MoveSet> KNOWN_MOVE_SETS = Arrays.asList(ClassicMoves.MOVE_SET,
+            RockPaperScissorsLizardSpockMoves.MOVE_SET, RockPaperScissors101Moves.MOVE_SET);
+
+    private FileChannel fileChannel;
+    private Player.PlayerName playerOneName;
+    private Player.PlayerName playerTwoName;
+    private MoveSet moveSet;
+    private int bitsPerMove;
+    private int playsPerBlock;
+    private PlayLogCompression compression = PlayLogCompression.NONE;
+
+    private long plays;
+    private long[] blockOffsets;
+    private long blockIndexOffset;
+    private volatile BlockOrdinals lastBlockOrdinals;
+
+    /**
+     * Opens a play log for reading, reading its header and block index
+     * @param file <p>the file holding the play log</p>
+     * @throws IOException <p>in case the file can't be read, or it is not a valid play log</p>
+     */
+    public PlayLogReader(File file) throws IOException {
+        this.fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            readBlockIndex(file);
+            readHeader(file);
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    private void readBlockIndex(File file) throws IOException {
+        long fileSize = fileChannel.size();
+        if (fileSize < PlayLogFormat.TRAILER_SIZE) {
+            throw new IOException(INVALID_PLAY_LOG_ERROR_MSG + file);
+        }
+        ByteBuffer trailer = read(fileSize - PlayLogFormat.TRAILER_SIZE, PlayLogFormat.TRAILER_SIZE);
+        blockIndexOffset = trailer.getLong();
+        if ((trailer.getInt() != PlayLogFormat.MAGIC) || (blockIndexOffset < 0)
+                || (blockIndexOffset > fileSize - PlayLogFormat.TRAILER_SIZE)) {
+            throw new IOException(INVALID_PLAY_LOG_ERROR_MSG + file);
+        }
+        int blockIndexSize = (int) (fileSize - PlayLogFormat.TRAILER_SIZE - blockIndexOffset);
+        ByteBuffer blockIndex = read(blockIndexOffset, blockIndexSize);
+        plays = blockIndex.getLong();
+        blockOffsets = new long[blockIndex.getInt()];
+        for (int index = 0; index < blockOffsets.length; index++) {
+            blockOffsets[index] = blockIndex.getLong();
+        }
+    }
+
+    private void readHeader(File file) throws IOException {
+        DataInputStream headerInput = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(fileChannel.position(0))));
+        int magic = headerInput.readInt();
+        short version = headerInput.readShort();
+        if ((magic != PlayLogFormat.MAGIC)
+                || ((version != PlayLogFormat.VERSION) && (version != PlayLogFormat.UNCOMPRESSED_VERSION))) {
+            throw new IOException(INVALID_PLAY_LOG_ERROR_MSG + file);
+        }
+        playerOneName = Player.PlayerName.of(headerInput.readUTF());
+        playerTwoName = Player.PlayerName.of(headerInput.readUTF());
+        String moveSetName = headerInput.readUTF();
+        List<String> moveNames = new ArrayList<>();
+        for (int moves = headerInput.readShort(); moves > 0; moves--) {
+            moveNames.add(headerInput.readUTF());
+        }
+        moveSet = toMoveSet(moveSetName, moveNames);
+        bitsPerMove = headerInput.readByte();
+        playsPerBlock = headerInput.readInt();
+        if (version != PlayLogFormat.UNCOMPRESSED_VERSION) {
+            int compressionOrdinal = headerInput.readByte();
+            if ((compressionOrdinal < 0) || (compressionOrdinal >= PlayLogCompression.values().length)) {
+                throw new IOException(INVALID_PLAY_LOG_ERROR_MSG + file);
+            }
+            compression = PlayLogCompression.values()[compressionOrdinal];
+        }
+    }
+
+    /**
+     * Gets the MoveSet with the given name and Move names. The known MoveSets are reused, so the GamePlays read
+     * use the very same Moves the Game was played with. Any other MoveSet is recreated as a balanced one
+     * @param moveSetName <p>the name of the MoveSet</p>
+     * @param moveNames <p>the names of the Moves in the MoveSet, in ordinal order</p>
+     * @return <p>the MoveSet with the given name and Moves</p>
+     */
+    private static MoveSet toMoveSet(String moveSetName, List<String> moveNames) {
+        return KNOWN_MOVE_SETS.stream()
+                .filter(ms -> ms.getName().equals(moveSetName) && moveNamesOf(ms).equals(moveNames))
+                .findFirst().orElseGet(() -> MoveSet.balancedOfNames(moveSetName, moveNames));
+    }
+
+    private static List<String> moveNamesOf(MoveSet moveSet) {
+        return moveSet.getMoves().stream().map(Move::toString).collect(Collectors.toList());
+    }
+
+    public Player.PlayerName getPlayerOneName() {
+        return playerOneName;
+    }
+
+    public Player.PlayerName getPlayerTwoName() {
+        return playerTwoName;
+    }
+
+    public MoveSet getMoveSet() {
+        return moveSet;
+    }
+
+    public int getPlaysPerBlock() {
+        return playsPerBlock;
+    }
+
+    public PlayLogCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * @return <p>the number of plays in the play log</p>
+     */
+    public long size() {
+        return plays;
+    }
+
+    /**
+     * @return <p>the number of blocks in the play log</p>
+     */
+    public int getBlockCount() {
+        return blockOffsets.length;
+    }
+
+    /**
+     * Gets the number of plays in the given block. All blocks are full but for the last one
+     * @param block <p>the position of the block</p>
+     * @return <p>the number of plays in the block</p>
+     */
+    public int getBlockSize(int block) {
+        validateBlock(block);
+        return (int) Math.min(playsPerBlock, plays - (long) block * playsPerBlock);
+    }
+
+    /**
+     * Reads the ordinals of the moves of all the plays in a block, in two separate columns. This is the cheapest way
+     * to go through a play log, since no GamePlay gets created
+     * @param block <p>the position of the block to read</p>
+     * @param playerOneOrdinals <p>the array to write the ordinals of the moves of the first player to</p>
+     * @param playerTwoOrdinals <p>the array to write the ordinals of the moves of the second player to</p>
+     * @return <p>the number of plays read</p>
+     * @throws UncheckedIOException <p>in case reading the file failed</p>
+     * @throws IllegalStateException <p>in case the block can't be decompressed</p>
+     */
+    public int readBlockOrdinals(int block, byte[] playerOneOrdinals, byte[] playerTwoOrdinals) {
+        int blockSize = getBlockSize(block);
+        long blockEnd = (block + 1 < blockOffsets.length) ? blockOffsets[block + 1] : blockIndexOffset;
+        try {
+            byte[] blockBytes = read(blockOffsets[block], (int) (blockEnd - blockOffsets[block])).array();
+            if (compression != PlayLogCompression.NONE) {
+                byte[] compressedBlockBytes = blockBytes;
+                blockBytes = new byte[PlayLogFormat.bytesPerBlock(blockSize, bitsPerMove)];
+                compression.decompress(compressedBlockBytes, blockBytes, blockBytes.length);
+            }
+            PlayLogFormat.unpack(blockBytes, blockSize, bitsPerMove, playerOneOrdinals, playerTwoOrdinals);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return blockSize;
+    }
+
+    /**
+     * Reads all the plays in a block as a GamePlayBatch
+     * @param block <p>the position of the block to read</p>
+     * @return <p>a GamePlayBatch with the plays in the block</p>
+     * @throws UncheckedIOException <p>in case reading the file failed</p>
+     */
+    public GamePlayBatch readBlock(int block) {
+        byte[] playerOneOrdinals = new byte[playsPerBlock];
+        byte[] playerTwoOrdinals = new byte[playsPerBlock];
+        int blockSize = readBlockOrdinals(block, playerOneOrdinals, playerTwoOrdinals);
+        GamePlayBatch gamePlayBatch = new GamePlayBatch(playerOneName, playerTwoName, moveSet, blockSize);
+        for (int play = 0; play < blockSize; play++) {
+            gamePlayBatch.add(moveSet.getMove(playerOneOrdinals[play]), moveSet.getMove(playerTwoOrdinals[play]));
+        }
+        return gamePlayBatch;
+    }
+
+    /**
+     * Gets the play at the given position, reading just the bytes holding it when the play log is uncompressed, or
+     * else the block holding it, unless it is the last one decompressed
+     * @param index <p>the position of the play in the play log</p>
+     * @return <p>the GamePlay at the given position</p>
+     * @throws IndexOutOfBoundsException <p>in case there is no play at the given position</p>
+     * @throws UncheckedIOException <p>in case reading the file failed</p>
+     * @throws IllegalStateException <p>in case the block can't be decompressed</p>
+     */
+    public GamePlay get(long index) {
+        if ((index < 0) || (index >= plays)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + plays);
+        }
+        int block = (int) (index / playsPerBlock);
+        int play = (int) (index % playsPerBlock);
+        if (compression == PlayLogCompression.NONE) {
+            return readPlay(block, play);
+        }
+        BlockOrdinals blockOrdinals = lastBlockOrdinals;
+        if ((blockOrdinals == null) || (blockOrdinals.block != block)) {
+            blockOrdinals = new BlockOrdinals(block, playsPerBlock);
+            readBlockOrdinals(block, blockOrdinals.playerOneOrdinals, blockOrdinals.playerTwoOrdinals);
+            lastBlockOrdinals = blockOrdinals;
+        }
+        return toGamePlay(blockOrdinals.playerOneOrdinals[play], blockOrdinals.playerTwoOrdinals[play]);
+    }
+
+    /**
+     * Reads a single play of an uncompressed block, reading just the bytes holding it
+     * @param block <p>the position of the block holding the play</p>
+     * @param play <p>the position of the play in the block</p>
+     * @return <p>the GamePlay read</p>
+     * @throws UncheckedIOException <p>in case reading the file failed</p>
+     */
+    private GamePlay readPlay(int block, int play) {
+        int firstByte = PlayLogFormat.firstByteOf(play, bitsPerMove);
+        int playInBytes = play - firstByte * Byte.SIZE / (2 * bitsPerMove);
+        try {
+            byte[] playBytes = read(blockOffsets[block] + firstByte, PlayLogFormat.bytesPerBlock(1, bitsPerMove))
+                    .array();
+            return toGamePlay(PlayLogFormat.unpackMove(playBytes, 2 * playInBytes, bitsPerMove),
+                    PlayLogFormat.unpackMove(playBytes, 2 * playInBytes + 1, bitsPerMove));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private GamePlay toGamePlay(int playerOneOrdinal, int playerTwoOrdinal) {
+        GamePlayBatch gamePlayBatch = new GamePlayBatch(playerOneName, playerTwoName, moveSet, 1);
+        gamePlayBatch.add(moveSet.getMove(playerOneOrdinal), moveSet.getMove(playerTwoOrdinal));
+        return gamePlayBatch.get(0);
+    }
+
+    /**
+     * @return <p>a lazy Stream of all the GamePlays in the play log, in the order they were written, reading one
+     * block at a time. The Stream can be made parallel, to read and decompress many blocks at once</p>
+     */
+    public Stream<GamePlay> stream() {
+        return IntStream.range(0, blockOffsets.length).mapToObj(this::readBlock).flatMap(GamePlayBatch::stream);
+    }
+
+    /**
+     * Validates the given block position to be within the play log
+     * @param block <p>the position to validate</p>
+     * @throws IndexOutOfBoundsException <p>in case the validation failed</p>
+     */
+    private void validateBlock(int block) {
+        if ((block < 0) || (block >= blockOffsets.length)) {
+            throw new IndexOutOfBoundsException("Block: " + block + ", Blocks: " + blockOffsets.length);
+        }
+    }
+
+    /**
+     * Reads a number of bytes at the given position of the file, without moving the position of the FileChannel
+     * @param position <p>the position of the first byte to read</p>
+     * @param length <p>the number of bytes to read</p>
+     * @return <p>a heap ByteBuffer with the bytes read, ready to be read from</p>
+     * @throws IOException <p>in case reading the file failed, or it ended before all bytes were read</p>
+     */
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        while (bytes.hasRemaining()) {
+            if (fileChannel.read(bytes, position + bytes.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        bytes.flip();
+        return bytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+
+    /**
+     * The ordinals of the moves of all the plays in a block, never modified once read, so they can be shared by the
+     * threads getting plays of the same block
+     */
+    private static class BlockOrdinals {
+
+        private int block;
+        private byte[] playerOneOrdinals;
+        private byte[] playerTwoOrdinals;
+
+        BlockOrdinals(int block, int playsPerBlock) {
+            this.block = block;
+            this.playerOneOrdinals = new byte[playsPerBlock];
+            this.playerTwoOrdinals = new byte[playsPerBlock];
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.playlog;
+
+import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+
+import javax.validation.constraints.NotNull;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A writer of binary play logs, where every play takes just the bits of the ordinals of the moves of both players.
+ * Plays are packed into a block in memory, and each block is written to the file as soon as it gets full. Compressed
+ * blocks are handed to an executor as they get full, so they are compressed in parallel while the game keeps
+ * playing, and written to the file in order as soon as they, and all the ones before them, are done. The number of
+ * blocks being compressed at once is bounded, so a writer producing blocks faster than they can be compressed gets
+ * to wait. The block index is kept in memory, and written at the end of the file when the writer is closed
+ * <p>Writers are not thread safe</p>
+ * @see PlayLogFormat
+ */
+public class PlayLogWriter implements Closeable {
+
+    public static final int DEFAULT_PLAYS_PER_BLOCK = 64 * 1024;
+    public static final String PLAYS_PER_BLOCK_VALIDATION_ERROR_MSG = "Plays per block must be a positive number";
+    public static final String BLOCK_COMPRESSION_INTERRUPTED_ERROR_MSG = "Play log block compression got interrupted";
+    public static final String BLOCK_COMPRESSION_FAILED_ERROR_MSG = "Play log block compression failed";
+
+    private static final int MAX_PENDING_BLOCKS = 64;
+
+    private FileOutputStream fileOutputStream;
+    private FileChannel fileChannel;
+    private MoveSet moveSet;
+    private int bitsPerMove;
+    private int playsPerBlock;
+    private PlayLogCompression compression;
+    private ExecutorService compressionExecutor;
+    private Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+    private byte[] block;
+    private int blockPlays;
+    private long plays;
+    private long position;
+    private long[] blockOffsets = new long[16];
+    private int blocks;
+
+    /**
+     * Creates a new play log with the given players and MoveSet, truncating the file if it already exists
+     * @param file <p>the file to write the play log to</p>
+     * @param playerOneName <p>the name of the first player of every play</p>
+     * @param playerTwoName <p>the name of the second player of every play</p>
+     * @param moveSet <p>the MoveSet the players perform their moves from</p>
+     * @param playsPerBlock <p>the number of plays in every block</p>
+     * @param compression <p>how the blocks are compressed</p>
+     * @param compressionExecutor <p>the executor compressing the blocks, or null to compress them in the calling
+     *                            thread. The writer doesn't shut it down</p>
+     * @throws FileNotFoundException <p>in case the file can't be opened for writing</p>
+     * @throws IOException <p>in case writing the header failed</p>
+     * @throws IllegalArgumentException <p>in case the number of plays per block is invalid</p>
+     */
+    public PlayLogWriter(File file, @NotNull Player.PlayerName playerOneName, @NotNull Player.PlayerName playerTwoName,
+                         @NotNull MoveSet moveSet, int playsPerBlock, @NotNull PlayLogCompression compression,
+                         ExecutorService compressionExecutor) throws IOException {
+        validatePlaysPerBlock(playsPerBlock);
+        this.moveSet = moveSet;
+        this.bitsPerMove = PlayLogFormat.bitsPerMoveFor(moveSet.size());
+        this.playsPerBlock = playsPerBlock;
+        this.compression = compression;
+        this.compressionExecutor = compressionExecutor;
+        this.block = new byte[PlayLogFormat.bytesPerBlock(playsPerBlock, bitsPerMove)];
+        this.fileOutputStream = new FileOutputStream(file);
+        this.fileChannel = fileOutputStream.getChannel();
+        try {
+            writeHeader(playerOneName, playerTwoName);
+        } catch (IOException e) {
+            fileOutputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new play log with uncompressed blocks
+     * @see PlayLogWriter#PlayLogWriter(File, Player.PlayerName, Player.PlayerName, MoveSet, int, PlayLogCompression,
+     * ExecutorService)
+     */
+    public PlayLogWriter(File file, @NotNull Player.PlayerName playerOneName, @NotNull Player.PlayerName playerTwoName,
+                         @NotNull MoveSet moveSet, int playsPerBlock) throws IOException {
+        this(file, playerOneName, playerTwoName, moveSet, playsPerBlock, PlayLogCompression.NONE, null);
+    }
+
+    /**
+     * Creates a new play log with uncompressed blocks, and the default number of plays per block
+     * @see PlayLogWriter#PlayLogWriter(File, Player.PlayerName, Player.PlayerName, MoveSet, int, PlayLogCompression,
+     * ExecutorService)
+     */
+    public PlayLogWriter(File file, @NotNull Player.PlayerName playerOneName, @NotNull Player.PlayerName playerTwoName,
+                         @NotNull MoveSet moveSet) throws IOException {
+        this(file, playerOneName, playerTwoName, moveSet, DEFAULT_PLAYS_PER_BLOCK);
+    }
+
+    /**
+     * Validates the number of plays per block to be positive
+     * @param playsPerBlock <p>the number of plays per block to validate</p>
+     * @throws IllegalArgumentException <p>in case the validation failed</p>
+     */
+    private static void validatePlaysPerBlock(int playsPerBlock) {
+        if (playsPerBlock <= 0) {
+            throw new IllegalArgumentException(PLAYS_PER_BLOCK_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    private void writeHeader(Player.PlayerName playerOneName, Player.PlayerName playerTwoName) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOutput = new DataOutputStream(header);
+        headerOutput.writeInt(PlayLogFormat.MAGIC);
+        headerOutput.writeShort(PlayLogFormat.VERSION);
+        headerOutput.writeUTF(playerOneName.getValue());
+        headerOutput.writeUTF(playerTwoName.getValue());
+        headerOutput.writeUTF(moveSet.getName());
+        headerOutput.writeShort(moveSet.size());
+        for (Move move : moveSet.getMoves()) {
+            headerOutput.writeUTF(move.toString());
+        }
+        headerOutput.writeByte(bitsPerMove);
+        headerOutput.writeInt(playsPerBlock);
+        headerOutput.writeByte(compression.ordinal());
+        write(ByteBuffer.wrap(header.toByteArray()));
+    }
+
+    /**
+     * Appends a GamePlay to the play log. Only the moves of the GamePlay are kept, since the players are assumed to
+     * be the ones of the play log
+     * @param gamePlay <p>the GamePlay to append</p>
+     * @throws IllegalArgumentException <p>in case any of the moves doesn't belong to the MoveSet of the play log</p>
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    public void write(@NotNull GamePlay gamePlay) {
+        write(gamePlay.getPlayerOneMove(), gamePlay.getPlayerTwoMove());
+    }
+
+    /**
+     * Appends a play, given the moves performed by each player, to the play log
+     * @param playerOneMove <p>the Move performed by the first player</p>
+     * @param playerTwoMove <p>the Move performed by the second player</p>
+     * @throws IllegalArgumentException <p>in case any of the moves doesn't belong to the MoveSet of the play log</p>
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    public void write(@NotNull Move playerOneMove, @NotNull Move playerTwoMove) {
+        moveSet.validateMoveBelongsToSet(playerOneMove);
+        moveSet.validateMoveBelongsToSet(playerTwoMove);
+        PlayLogFormat.pack(block, blockPlays, bitsPerMove, playerOneMove.getOrdinal(), playerTwoMove.getOrdinal());
+        blockPlays++;
+        plays++;
+        if (blockPlays == playsPerBlock) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * @return <p>the number of plays written so far</p>
+     */
+    public long size() {
+        return plays;
+    }
+
+    /**
+     * Hands the plays packed so far into the current block over to be compressed, and writes every block whose
+     * compression is done, in order. Uncompressed blocks are written straight away
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    private void writeBlock() {
+        int length = PlayLogFormat.bytesPerBlock(blockPlays, bitsPerMove);
+        if (compression == PlayLogCompression.NONE) {
+            writeCompressedBlock(ByteBuffer.wrap(block, 0, length));
+            Arrays.fill(block, (byte) 0);
+        } else if (compressionExecutor == null) {
+            writeCompressedBlock(ByteBuffer.wrap(compression.compress(block, length)));
+            Arrays.fill(block, (byte) 0);
+        } else {
+            byte[] fullBlock = block;
+            pendingBlocks.add(compressionExecutor.submit(() -> compression.compress(fullBlock, length)));
+            block = new byte[block.length];
+            writeCompressedBlocks(MAX_PENDING_BLOCKS);
+        }
+        blockPlays = 0;
+    }
+
+    /**
+     * Writes the blocks handed over to be compressed, in order, as long as their compression is done, or there are
+     * more of them pending than the given maximum
+     * @param maxPendingBlocks <p>the number of blocks which may be left pending</p>
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     * @throws IllegalStateException <p>in case the compression of any block failed, or got interrupted</p>
+     */
+    private void writeCompressedBlocks(int maxPendingBlocks) {
+        try {
+            while (!pendingBlocks.isEmpty()
+                    && (pendingBlocks.peek().isDone() || (pendingBlocks.size() > maxPendingBlocks))) {
+                writeCompressedBlock(ByteBuffer.wrap(pendingBlocks.poll().get()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(BLOCK_COMPRESSION_INTERRUPTED_ERROR_MSG, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(BLOCK_COMPRESSION_FAILED_ERROR_MSG, e.getCause());
+        }
+    }
+
+    /**
+     * Writes a block, already compressed, to the file, and records it in the index
+     * @param compressedBlock <p>the bytes of the block to write</p>
+     * @throws UncheckedIOException <p>in case writing to the file failed</p>
+     */
+    private void writeCompressedBlock(ByteBuffer compressedBlock) {
+        try {
+            if (blocks == blockOffsets.length) {
+                blockOffsets = Arrays.copyOf(blockOffsets, blocks * 2);
+            }
+            blockOffsets[blocks++] = position;
+            write(compressedBlock);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            position += fileChannel.write(bytes);
+        }
+    }
+
+    /**
+     * Writes the last, partial, block, waits for every block pending compression to be written, writes the block
+     * index and the trailer, and closes the file
+     * @throws IOException <p>in case writing to or closing the file failed</p>
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (blockPlays > 0) {
+                writeBlock();
+            }
+            writeCompressedBlocks(0);
+            long blockIndexOffset = position;
+            ByteBuffer blockIndex = ByteBuffer.allocate(
+                    Long.BYTES + Integer.BYTES + blocks * Long.BYTES + PlayLogFormat.TRAILER_SIZE);
+            blockIndex.putLong(plays).putInt(blocks);
+            for (int index = 0; index < blocks; index++) {
+                blockIndex.putLong(blockOffsets[index]);
+            }
+            blockIndex.putLong(blockIndexOffset).putInt(PlayLogFormat.MAGIC);
+            blockIndex.flip();
+            write(blockIndex);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pendingBlocks.forEach(p -> p.cancel(true));
+            fileOutputStream.close();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+
+/**
+ * A Resource representing a GamePlay in a GameSession, from the point of view of the player who submitted the move
+ */
+public class GamePlayResource {
+
+    private GamePlay gamePlay;
+
+    /**
+     * Creates a new instance with the given underlying GamePlay
+     * @param gamePlay <p>a GamePlay with the session player as player one, to be represented by this resource</p>
+     */
+    public GamePlayResource(GamePlay gamePlay) {
+        this.gamePlay = gamePlay;
+    }
+
+    public String getMove() {
+        return gamePlay.getPlayerOneMove().toString();
+    }
+
+    public String getCounterMove() {
+        return gamePlay.getPlayerTwoMove().toString();
+    }
+
+    public String getResult() {
+        return gamePlay.getPlayerOneResult().name();
+    }
+}
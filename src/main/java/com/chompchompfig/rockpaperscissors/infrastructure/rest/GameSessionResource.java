@@ -0,0 +1,34 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.GameSession;
+
+/**
+ * A Resource representing a GameSession, along with the id it can be played with
+ */
+public class GameSessionResource {
+
+    private String id;
+    private GameSession gameSession;
+
+    /**
+     * Creates a new instance with the given underlying GameSession
+     * @param id <p>the id of the GameSession</p>
+     * @param gameSession <p>the GameSession to be represented by this resource</p>
+     */
+    public GameSessionResource(String id, GameSession gameSession) {
+        this.id = id;
+        this.gameSession = gameSession;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getPlayerName() {
+        return gameSession.getPlayerName().getValue();
+    }
+
+    public String getOpponentName() {
+        return gameSession.getOpponentName().getValue();
+    }
+}
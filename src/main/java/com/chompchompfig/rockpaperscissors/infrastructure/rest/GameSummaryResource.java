@@ -0,0 +1,36 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A Resource representing the GameSummary of a GameSession
+ */
+public class GameSummaryResource {
+
+    private GameSummary gameSummary;
+
+    /**
+     * Creates a new instance with the given underlying GameSummary
+     * @param gameSummary <p>the GameSummary to be represented by this resource</p>
+     */
+    public GameSummaryResource(GameSummary gameSummary) {
+        this.gameSummary = gameSummary;
+    }
+
+    public long getDrawGamePlays() {
+        return gameSummary.getDrawGamePlays();
+    }
+
+    /**
+     * @return <p>the number of game plays won by each player, by player name, sorted</p>
+     */
+    public Map<String, Long> getGamePlaysWonByPlayerName() {
+        Map<String, Long> gamePlaysWonByPlayerName = new TreeMap<>();
+        gameSummary.getGamePlaysWonByPlayerName().forEach(
+                (playerName, gamePlaysWon) -> gamePlaysWonByPlayerName.put(playerName.getValue(), gamePlaysWon));
+        return gamePlaysWonByPlayerName;
+    }
+}
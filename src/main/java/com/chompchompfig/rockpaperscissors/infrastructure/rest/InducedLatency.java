@@ -0,0 +1,185 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import javax.annotation.PreDestroy;
+import java.util.Random;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Simulates a slow response service without holding a servlet thread per delayed request. Each response is deferred
+ * for a latency drawn from the configured distribution, and completed by a shared scheduler, with a handful of
+ * threads, once it is due. The request thread is returned to the container straight away, so the number of delayed
+ * requests in flight is only bound by the connections the container accepts, rather than by its thread pool.
+ * <p>The latency distribution can be FIXED, always the configured latency, UNIFORM, between the configured minimum
+ * and latency, or LOGNORMAL, with the configured latency as its median and the configured p99 as its 99th
+ * percentile, giving a long tail of slow responses</p>
+ */
+@Component
+public class InducedLatency {
+
+    public enum Distribution { FIXED, UNIFORM, LOGNORMAL };
+
+    public static final String LATENCY_VALIDATION_ERROR_MSG = "Induced latency can't be negative";
+    public static final String UNIFORM_BOUNDS_VALIDATION_ERROR_MSG =
+            "Uniform induced latency minimum must be between 0 and the latency";
+    public static final String LOGNORMAL_PERCENTILES_VALIDATION_ERROR_MSG =
+            "Lognormal induced latency needs a positive median, not greater than its p99";
+    public static final String THREADS_VALIDATION_ERROR_MSG = "Induced latency scheduler threads must be positive";
+
+    private static final double STANDARD_NORMAL_P99 = 2.3263478740408408;
+    private static final String SCHEDULER_THREAD_NAME_PREFIX = "induced-latency-";
+
+    private static final Logger logger = LoggerFactory.getLogger(InducedLatency.class);
+
+    private Distribution distribution;
+    private long latencyMillis;
+    private long minLatencyMillis;
+    private double lognormalMu;
+    private double lognormalSigma;
+    private int schedulerThreads;
+    private volatile ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Creates a new induced latency. The scheduler is only started when the first response is deferred
+     * @param distribution <p>the distribution latencies are drawn from</p>
+     * @param latencyMillis <p>the fixed latency, the maximum of the uniform one, or the median of the lognormal one,
+     *                      in milliseconds. 0 turns the induced latency off</p>
+     * @param minLatencyMillis <p>the minimum of the uniform latency in milliseconds</p>
+     * @param p99LatencyMillis <p>the 99th percentile of the lognormal latency in milliseconds</p>
+     * @param schedulerThreads <p>the number of threads completing deferred responses</p>
+     * @throws IllegalArgumentException <p>in case any of the latencies, or the threads, are invalid for the given
+     * distribution</p>
+     */
+    public InducedLatency(
+            @Value("${rockpapersicssors.api.induced.latency.distribution:FIXED}") Distribution distribution,
+            @Value("${rockpapersicssors.api.induced.latency: 0}") long latencyMillis,
+            @Value("${rockpapersicssors.api.induced.latency.min:0}") long minLatencyMillis,
+            @Value("${rockpapersicssors.api.induced.latency.p99:${rockpapersicssors.api.induced.latency: 0}}")
+                    long p99LatencyMillis,
+            @Value("${rockpapersicssors.api.induced.latency.threads:2}") int schedulerThreads) {
+        validate(distribution, latencyMillis, minLatencyMillis, p99LatencyMillis, schedulerThreads);
+        this.distribution = distribution;
+        this.latencyMillis = latencyMillis;
+        this.minLatencyMillis = minLatencyMillis;
+        this.schedulerThreads = schedulerThreads;
+        if ((distribution == Distribution.LOGNORMAL) && (latencyMillis > 0)) {
+            this.lognormalMu = Math.log(latencyMillis);
+            this.lognormalSigma = (Math.log(p99LatencyMillis) - lognormalMu) / STANDARD_NORMAL_P99;
+        }
+    }
+
+    /**
+     * @return <p>an induced latency which is always 0, completing every response straight away</p>
+     */
+    public static InducedLatency none() {
+        return new InducedLatency(Distribution.FIXED, 0, 0, 0, 1);
+    }
+
+    private static void validate(Distribution distribution, long latencyMillis, long minLatencyMillis,
+                                 long p99LatencyMillis, int schedulerThreads) {
+        if (latencyMillis < 0) {
+            throw new IllegalArgumentException(LATENCY_VALIDATION_ERROR_MSG);
+        }
+        if ((distribution == Distribution.UNIFORM) && ((minLatencyMillis < 0) || (minLatencyMillis > latencyMillis))) {
+            throw new IllegalArgumentException(UNIFORM_BOUNDS_VALIDATION_ERROR_MSG);
+        }
+        if ((distribution == Distribution.LOGNORMAL) && (latencyMillis > 0) && (p99LatencyMillis < latencyMillis)) {
+            throw new IllegalArgumentException(LOGNORMAL_PERCENTILES_VALIDATION_ERROR_MSG);
+        }
+        if (schedulerThreads <= 0) {
+            throw new IllegalArgumentException(THREADS_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Draws the next latency from the configured distribution
+     * @return <p>the next latency in milliseconds, 0 when the induced latency is off</p>
+     */
+    public long nextLatencyMillis() {
+        return nextLatencyMillis(ThreadLocalRandom.current());
+    }
+
+    long nextLatencyMillis(Random random) {
+        if (latencyMillis == 0) {
+            return 0;
+        }
+        switch (distribution) {
+            case UNIFORM :
+                return minLatencyMillis + (long) (random.nextDouble() * (latencyMillis - minLatencyMillis + 1));
+            case LOGNORMAL :
+                return Math.round(Math.exp(lognormalMu + lognormalSigma * random.nextGaussian()));
+            default :
+                return latencyMillis;
+        }
+    }
+
+    /**
+     * Defers the response given by the supplier for the next induced latency. The supplier is called once the
+     * latency has elapsed, by a scheduler thread, or straight away in the calling thread when the latency is 0. Any
+     * exception thrown by the supplier completes the response with that error instead
+     * @param response <p>the supplier of the response to defer</p>
+     * @param <T> <p>the type of the response</p>
+     * @return <p>the deferred response</p>
+     */
+    public <T> DeferredResult<T> defer(Supplier<T> response) {
+        DeferredResult<T> deferredResult = new DeferredResult<>();
+        long nextLatencyMillis = nextLatencyMillis();
+        if (nextLatencyMillis == 0) {
+            complete(deferredResult, response);
+        } else {
+            getScheduler().schedule(() -> complete(deferredResult, response), nextLatencyMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        return deferredResult;
+    }
+
+    private static <T> void complete(DeferredResult<T> deferredResult, Supplier<T> response) {
+        try {
+            deferredResult.setResult(response.get());
+        } catch (RuntimeException e) {
+            logger.debug("Failed completing a deferred response", e);
+            deferredResult.setErrorResult(e);
+        }
+    }
+
+    /**
+     * Gets the shared scheduler, starting it unless it is already running
+     */
+    private ScheduledThreadPoolExecutor getScheduler() {
+        if (scheduler == null) {
+            synchronized (this) {
+                if (scheduler == null) {
+                    AtomicInteger threadNumber = new AtomicInteger();
+                    ScheduledThreadPoolExecutor newScheduler = new ScheduledThreadPoolExecutor(schedulerThreads,
+                            runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        SCHEDULER_THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    scheduler = newScheduler;
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * Stops the scheduler, if it was ever started, dropping the responses not yet due
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MoveStrategies served by the RESTful API, each one under its own name, so a single service can host every
+ * strategy, rather than one deployment per strategy. Strategies are all registered up front, along with a request
+ * counter and a latency timer of their own, tagged with the strategy name, so looking one up by name is just a
+ * lookup into a HashMap, which allocates nothing, and an unknown name is reported as a NoSuchElementException,
+ * translated into a 404 Not Found by the CustomRestExceptionHandler
+ */
+public class MoveStrategyRegistry {
+
+    public static final String REQUESTS_METRIC_NAME = "movestrategy.requests";
+    public static final String LATENCY_METRIC_NAME = "movestrategy.latency";
+    public static final String STRATEGY_TAG_NAME = "strategy";
+    public static final String NAMES_VALIDATION_ERROR_MSG = "MoveStrategy names can't be null nor empty";
+    public static final String UNKNOWN_MOVE_STRATEGY_ERROR_MSG = "Unknown MoveStrategy ";
+
+    private Map<String, RegisteredMoveStrategy> registeredMoveStrategies = new HashMap<>();
+
+    /**
+     * Creates a new registry with the given named MoveStrategies, registering their meters in the given registry
+     * @param moveStrategies <p>the MoveStrategies to serve, by name</p>
+     * @param meterRegistry <p>the registry to register the request counter and latency timer of each strategy in</p>
+     * @throws IllegalArgumentException <p>in case any name is null or empty</p>
+     */
+    public MoveStrategyRegistry(Map<String, ? extends MoveStrategy> moveStrategies, MeterRegistry meterRegistry) {
+        moveStrategies.forEach((name, moveStrategy) -> {
+            validateName(name);
+            registeredMoveStrategies.put(name, new RegisteredMoveStrategy(name, moveStrategy, meterRegistry));
+        });
+    }
+
+    private static void validateName(String name) {
+        if ((name == null) || name.isEmpty()) {
+            throw new IllegalArgumentException(NAMES_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Gets the MoveStrategy registered under the given name
+     * @param name <p>the name of the MoveStrategy</p>
+     * @return <p>the registered MoveStrategy, along with its meters</p>
+     * @throws NoSuchElementException <p>in case there is no MoveStrategy registered under the given name</p>
+     */
+    public RegisteredMoveStrategy get(String name) {
+        RegisteredMoveStrategy registeredMoveStrategy = registeredMoveStrategies.get(name);
+        if (registeredMoveStrategy == null) {
+            throw new NoSuchElementException(UNKNOWN_MOVE_STRATEGY_ERROR_MSG + name);
+        }
+        return registeredMoveStrategy;
+    }
+
+    /**
+     * @return <p>the names of every registered MoveStrategy, sorted</p>
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(new TreeSet<>(registeredMoveStrategies.keySet()));
+    }
+
+    /**
+     * A MoveStrategy registered under a name, counting the requests it serves, and timing how long they take
+     */
+    public static class RegisteredMoveStrategy {
+
+        private String name;
+        private MoveStrategy moveStrategy;
+        private Counter requests;
+        private Timer latency;
+
+        private RegisteredMoveStrategy(String name, MoveStrategy moveStrategy, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.moveStrategy = moveStrategy;
+            this.requests = Counter.builder(REQUESTS_METRIC_NAME).tag(STRATEGY_TAG_NAME, name)
+                    .description("Requests served by the MoveStrategy").register(meterRegistry);
+            this.latency = Timer.builder(LATENCY_METRIC_NAME).tag(STRATEGY_TAG_NAME, name)
+                    .description("Time taken to respond to the requests served by the MoveStrategy")
+                    .register(meterRegistry);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public MoveStrategy getMoveStrategy() {
+            return moveStrategy;
+        }
+
+        /**
+         * @see MoveStrategy#getNextMove()
+         */
+        public Move getNextMove() {
+            return moveStrategy.getNextMove();
+        }
+
+        /**
+         * Counts a new request served by the MoveStrategy
+         */
+        public void countRequest() {
+            requests.increment();
+        }
+
+        /**
+         * Records the latency of a request served by the MoveStrategy
+         * @param startNanos <p>the System.nanoTime when the request started</p>
+         */
+        public void recordLatencySince(long startNanos) {
+            latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+/**
+ * A Resource representing the request to create a new GameSession, between the named player and the opponent playing
+ * the named MoveStrategy
+ */
+public class NewGameSessionResource {
+
+    private String playerName;
+    private String strategy;
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public void setPlayerName(String playerName) {
+        this.playerName = playerName;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+}
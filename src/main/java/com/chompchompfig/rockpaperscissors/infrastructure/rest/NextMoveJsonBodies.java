@@ -0,0 +1,67 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The pre-serialized JSON responses of the next move endpoint, one per distinct Move. There are only ever a handful of
+ * Moves, so each one is serialized as a NextMoveResource the first time it is played, into a response with its
+ * Content-Type and Content-Length already set, and shared by every later request playing the same Move. Responses
+ * are then written as they are by the byte array message converter, without any object mapping, nor allocating a new
+ * resource or body per request. Moves are serialized by the application's ObjectMapper, so they look the same as in any
+ * other response, and the headers of the shared responses are read-only. The shared bodies must never be modified
+ */
+@Component
+public class NextMoveJsonBodies {
+
+    public static final String SERIALIZATION_ERROR_MSG = "Could not serialize the next move ";
+
+    private ObjectMapper objectMapper;
+    private ConcurrentMap<Move, ResponseEntity<byte[]>> responses = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new, empty, set of pre-serialized responses
+     * @param objectMapper <p>the ObjectMapper the Moves are serialized with</p>
+     */
+    @Autowired
+    public NextMoveJsonBodies(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Gets the pre-serialized response for the given next Move, serializing it the first time the Move is asked for
+     * @param nextMove <p>the next Move to respond with</p>
+     * @return <p>the shared 200 OK response, with the Move as a JSON NextMoveResource body</p>
+     * @throws IllegalStateException <p>in case the Move could not be serialized</p>
+     */
+    public ResponseEntity<byte[]> get(Move nextMove) {
+        ResponseEntity<byte[]> response = responses.get(nextMove);
+        return (response != null) ? response : responses.computeIfAbsent(nextMove, this::newResponse);
+    }
+
+    private ResponseEntity<byte[]> newResponse(Move nextMove) {
+        byte[] body = serialize(nextMove);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON_UTF8);
+        headers.setContentLength(body.length);
+        return new ResponseEntity<>(body, HttpHeaders.readOnlyHttpHeaders(headers), HttpStatus.OK);
+    }
+
+    private byte[] serialize(Move nextMove) {
+        try {
+            return objectMapper.writeValueAsBytes(new NextMoveResource(nextMove));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(SERIALIZATION_ERROR_MSG + nextMove, e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A streamed response body with the next moves in a MoveStrategy, as newline delimited JSON, one NextMoveResource per
+ * line. Moves are selected while the body is being written, and gathered into a fixed size buffer which is written to
+ * the response whenever it gets full, so the container sends the body in chunks as it goes, and no more than the
+ * buffer is ever held in memory, however many moves are asked for. The JSON line of each distinct Move is only
+ * encoded the first time it is selected
+ */
+public class NextMovesNdjsonBody implements StreamingResponseBody {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    public static final String BUFFER_SIZE_VALIDATION_ERROR_MSG = "Buffer size must be positive";
+
+    private static final byte[] LINE_PREFIX = "{\"move\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LINE_SUFFIX = "\"}\n".getBytes(StandardCharsets.UTF_8);
+
+    private MoveStrategy moveStrategy;
+    private long count;
+    private int bufferSize;
+    private Map<Move, byte[]> encodedLines = new HashMap<>();
+
+    /**
+     * Creates a new body with the given number of next moves in the given MoveStrategy
+     * @param moveStrategy <p>the MoveStrategy to select the next moves from</p>
+     * @param count <p>the number of next moves to write</p>
+     * @param bufferSize <p>the size in bytes of the buffer lines are gathered into before being written</p>
+     * @throws IllegalArgumentException <p>in case the buffer size is not positive</p>
+     */
+    public NextMovesNdjsonBody(MoveStrategy moveStrategy, long count, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException(BUFFER_SIZE_VALIDATION_ERROR_MSG);
+        }
+        this.moveStrategy = moveStrategy;
+        this.count = count;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Writes every next move line to the given output stream, flushing it once done
+     * @param outputStream <p>the response output stream</p>
+     * @throws IOException <p>in case writing to the response failed, typically because the client went away</p>
+     */
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[bufferSize];
+        int bufferLength = 0;
+        for (long move = 0; move < count; move++) {
+            byte[] line = getEncodedLine(moveStrategy.getNextMove());
+            if (line.length > buffer.length - bufferLength) {
+                outputStream.write(buffer, 0, bufferLength);
+                bufferLength = 0;
+            }
+            if (line.length > buffer.length) {
+                outputStream.write(line);
+            } else {
+                System.arraycopy(line, 0, buffer, bufferLength, line.length);
+                bufferLength += line.length;
+            }
+        }
+        outputStream.write(buffer, 0, bufferLength);
+        outputStream.flush();
+    }
+
+    private byte[] getEncodedLine(Move move) {
+        return encodedLines.computeIfAbsent(move, NextMovesNdjsonBody::encodeLine);
+    }
+
+    private static byte[] encodeLine(Move move) {
+        byte[] moveName = move.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] line = new byte[LINE_PREFIX.length + moveName.length + LINE_SUFFIX.length];
+        System.arraycopy(LINE_PREFIX, 0, line, 0, LINE_PREFIX.length);
+        System.arraycopy(moveName, 0, line, LINE_PREFIX.length, moveName.length);
+        System.arraycopy(LINE_SUFFIX, 0, line, LINE_PREFIX.length + moveName.length, LINE_SUFFIX.length);
+        return line;
+    }
+}
@@ -0,0 +1,23 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import java.util.List;
+
+/**
+ * A Resource representing a batch of Next Moves in a MoveStrategy, in the order they were selected
+ */
+public class NextMovesResource {
+
+    private List<NextMoveResource> nextMoves;
+
+    /**
+     * Creates a new instance with the given next move resources
+     * @param nextMoves <p>the next move resources to be represented by this resource</p>
+     */
+    public NextMovesResource(List<NextMoveResource> nextMoves) {
+        this.nextMoves = nextMoves;
+    }
+
+    public List<NextMoveResource> getMoves() {
+        return nextMoves;
+    }
+}
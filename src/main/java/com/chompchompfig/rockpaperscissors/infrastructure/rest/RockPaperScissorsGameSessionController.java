@@ -0,0 +1,178 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+import com.chompchompfig.rockpaperscissors.domain.GameSession;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.infrastructure.journal.GameJournal;
+import com.chompchompfig.rockpaperscissors.infrastructure.rest.MoveStrategyRegistry.RegisteredMoveStrategy;
+import com.chompchompfig.rockpaperscissors.infrastructure.session.GameSessionStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * A RESTful Rock Paper Scissors GameSession implementation. A client creates a session against the opponent playing
+ * one of the MoveStrategies in the registry, then submits its moves one at a time, getting the opponent's
+ * counter-move and the Result of each GamePlay back, and can read the running GameSummary of the session at any time.
+ * Unknown, or evicted, sessions are answered with a 404 Not Found. When a GameJournal is configured, every session
+ * created, game play and session deleted is appended to it, so the open sessions can be recovered after a restart.
+ * The journal is then the source of truth, so every change is appended before it is made in memory, or undone when
+ * appending fails, and a failing journal is answered with a 503 Service Unavailable
+ */
+@RestController
+public class RockPaperScissorsGameSessionController {
+
+    public static final String API_GAME_SESSIONS_URI = RockPaperScissorsMoveStrategyController.API_URI + "/gamesessions";
+    public static final String API_GAME_SESSION_URI = API_GAME_SESSIONS_URI + "/{sessionId}";
+    public static final String API_GAME_SESSION_GAME_PLAYS_URI = API_GAME_SESSION_URI + "/gameplays";
+    public static final String API_GAME_SESSION_SUMMARY_URI = API_GAME_SESSION_URI + "/summary";
+    public static final String PLAYER_NAME_VALIDATION_ERROR_MSG = "The playerName can't be null nor empty";
+    public static final String STRATEGY_VALIDATION_ERROR_MSG = "The strategy can't be null";
+    public static final String JOURNAL_UNAVAILABLE_ERROR_MSG = "The GameSession journal is unavailable";
+
+    private static final Logger logger = LoggerFactory.getLogger(RockPaperScissorsGameSessionController.class);
+
+    @Autowired
+    private MoveStrategyRegistry moveStrategyRegistry;
+    @Autowired
+    private GameSessionStore gameSessionStore;
+    @Autowired(required = false)
+    private GameJournal gameJournal;
+
+    /**
+     * Creates a new GameSession between the given player and the opponent playing the given MoveStrategy, which is
+     * named after it. The session is journaled under its new id before being stored, so it can't be evicted, and
+     * journaled as closed, before being journaled as opened
+     * @param newGameSession <p>the name of the player, and the name of the opponent's MoveStrategy</p>
+     * @return <p>a 201 Created response, locating the new session, with the session itself as body</p>
+     * @throws IllegalArgumentException <p>in case any of the names is missing, or both are the same, or any of them is
+     * too long to be journaled</p>
+     * @throws java.util.NoSuchElementException <p>in case there is no MoveStrategy with the given name</p>
+     * @throws ResponseStatusException <p>in case the session can't be journaled</p>
+     */
+    @PostMapping(value = API_GAME_SESSIONS_URI, consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public ResponseEntity<GameSessionResource> createGameSession(
+            @RequestBody NewGameSessionResource newGameSession) {
+        validate(newGameSession);
+        RegisteredMoveStrategy moveStrategy = moveStrategyRegistry.get(newGameSession.getStrategy());
+        Player opponent = Player.newPlayer(Player.PlayerName.of(moveStrategy.getName()),
+                moveStrategy.getMoveStrategy());
+        GameSession gameSession = new GameSession(Player.PlayerName.of(newGameSession.getPlayerName()), opponent);
+        if (gameJournal != null) {
+            GameJournal.validateName(newGameSession.getPlayerName());
+            GameJournal.validateName(moveStrategy.getName());
+        }
+        UUID sessionUuid = UUID.randomUUID();
+        appendToJournal(journal -> journal.appendOpened(sessionUuid, newGameSession.getPlayerName(),
+                moveStrategy.getName()));
+        String sessionId = sessionUuid.toString();
+        gameSessionStore.add(sessionId, gameSession);
+        logger.debug("Created GameSession {} against MoveStrategy {}", sessionId, moveStrategy.getName());
+        return ResponseEntity.created(new UriTemplate(API_GAME_SESSION_URI).expand(sessionId))
+                .body(new GameSessionResource(sessionId, gameSession));
+    }
+
+    private static void validate(NewGameSessionResource newGameSession) {
+        if ((newGameSession.getPlayerName() == null) || newGameSession.getPlayerName().isEmpty()) {
+            throw new IllegalArgumentException(PLAYER_NAME_VALIDATION_ERROR_MSG);
+        }
+        if (newGameSession.getStrategy() == null) {
+            throw new IllegalArgumentException(STRATEGY_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Gets the given GameSession
+     * @param sessionId <p>the id of the session</p>
+     * @return <p>a resource representing the session</p>
+     * @throws java.util.NoSuchElementException <p>in case there is no session with the given id</p>
+     */
+    @GetMapping(value = API_GAME_SESSION_URI, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public GameSessionResource getGameSession(@PathVariable String sessionId) {
+        return new GameSessionResource(sessionId, gameSessionStore.get(sessionId));
+    }
+
+    /**
+     * Plays the given move of the player in the given GameSession, against the opponent's counter-move. The GamePlay
+     * is journaled before its Result is counted in the session, so it is never counted unless journaled
+     * @param sessionId <p>the id of the session</p>
+     * @param submittedMove <p>the classic move submitted by the player</p>
+     * @return <p>a resource representing the GamePlay, with the opponent's counter-move and the player's Result</p>
+     * @throws IllegalArgumentException <p>in case the move is not a classic one</p>
+     * @throws java.util.NoSuchElementException <p>in case there is no session with the given id</p>
+     * @throws ResponseStatusException <p>in case the GamePlay can't be journaled</p>
+     */
+    @PostMapping(value = API_GAME_SESSION_GAME_PLAYS_URI, consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public GamePlayResource playGameSession(@PathVariable String sessionId,
+                                            @RequestBody SubmittedMoveResource submittedMove) {
+        GameSession gameSession = gameSessionStore.get(sessionId);
+        GamePlay gamePlay = gameSession.play(ClassicMoves.from(submittedMove.getMove()), playedGamePlay ->
+                appendToJournal(journal -> journal.appendPlayed(UUID.fromString(sessionId),
+                        ClassicMoves.ALL.indexOf(playedGamePlay.getPlayerOneMove()),
+                        ClassicMoves.ALL.indexOf(playedGamePlay.getPlayerTwoMove()),
+                        playedGamePlay.getPlayerOneResult())));
+        return new GamePlayResource(gamePlay);
+    }
+
+    /**
+     * Gets the running GameSummary of the given GameSession
+     * @param sessionId <p>the id of the session</p>
+     * @return <p>a resource representing the GameSummary of the game plays in the session so far</p>
+     * @throws java.util.NoSuchElementException <p>in case there is no session with the given id</p>
+     */
+    @GetMapping(value = API_GAME_SESSION_SUMMARY_URI, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public GameSummaryResource getGameSessionSummary(@PathVariable String sessionId) {
+        return new GameSummaryResource(gameSessionStore.get(sessionId).getGameSummary());
+    }
+
+    /**
+     * Ends the given GameSession, removing it from the store straight away, rather than waiting for it to expire. The
+     * session is journaled as closed before being removed, so it stays in the store unless journaled
+     * @param sessionId <p>the id of the session</p>
+     * @throws java.util.NoSuchElementException <p>in case there is no session with the given id</p>
+     * @throws ResponseStatusException <p>in case the closing of the session can't be journaled</p>
+     */
+    @DeleteMapping(API_GAME_SESSION_URI)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteGameSession(@PathVariable String sessionId) {
+        gameSessionStore.get(sessionId);
+        appendToJournal(journal -> journal.appendClosed(UUID.fromString(sessionId)));
+        gameSessionStore.remove(sessionId);
+        logger.debug("Deleted GameSession {}", sessionId);
+    }
+
+    /**
+     * Appends a record to the GameJournal, if one is configured. The journal only fails when it is closed, or when it
+     * can't roll over to a new segment, neither of which is down to the request, so failures are answered with a 503
+     * Service Unavailable, rather than with the 405 the IllegalStateException would map to
+     * @param append <p>appends the record to the given journal</p>
+     * @throws ResponseStatusException <p>in case appending failed</p>
+     */
+    private void appendToJournal(Consumer<GameJournal> append) {
+        if (gameJournal != null) {
+            try {
+                append.accept(gameJournal);
+            } catch (IllegalStateException e) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, JOURNAL_UNAVAILABLE_ERROR_MSG, e);
+            }
+        }
+    }
+}
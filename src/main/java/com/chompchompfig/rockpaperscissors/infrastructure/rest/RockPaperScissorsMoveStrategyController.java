@@ -1,17 +1,25 @@
 package com.chompchompfig.rockpaperscissors.infrastructure.rest;
 
-import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.infrastructure.rest.MoveStrategyRegistry.RegisteredMoveStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
- * A RESTful Rock Paper Scissors MoveStrategy implementation
+ * A RESTful Rock Paper Scissors MoveStrategy implementation, serving every MoveStrategy in the registry under its own
+ * name. Unknown names are answered with a 404 Not Found
  */
 @RestController
 public class RockPaperScissorsMoveStrategyController {
@@ -19,44 +27,127 @@ public class RockPaperScissorsMoveStrategyController {
     public static final String API_URI = "/api";
     public static final String API_MOVE_STRATEGY_URI = API_URI + "/movestrategy/{strategyName}";
     public static final String API_MOVE_STRATEGY_NEXT_MOVE_URI = API_MOVE_STRATEGY_URI + "/nextmove";
+    public static final String API_MOVE_STRATEGY_NEXT_MOVES_URI = API_MOVE_STRATEGY_URI + "/nextmoves";
+    public static final String API_MOVE_STRATEGY_NEXT_MOVES_STREAM_URI = API_MOVE_STRATEGY_NEXT_MOVES_URI + "/stream";
+    public static final String NEXT_MOVES_COUNT_PARAM_NAME = "count";
+    public static final int MAX_NEXT_MOVES_COUNT = 1000;
+    public static final long MAX_STREAMED_NEXT_MOVES_COUNT = 10000000L;
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String NEXT_MOVES_COUNT_VALIDATION_ERROR_MSG =
+            "The count of next moves must be between 1 and " + MAX_NEXT_MOVES_COUNT;
+    public static final String STREAMED_NEXT_MOVES_COUNT_VALIDATION_ERROR_MSG =
+            "The count of streamed next moves must be between 1 and " + MAX_STREAMED_NEXT_MOVES_COUNT;
 
     private static final Logger logger = LoggerFactory.getLogger(RockPaperScissorsMoveStrategyController.class);
 
     @Autowired
-    private MoveStrategy randomMoveStrategy;
-    @Value("${rockpapersicssors.api.induced.latency: 0}")
-    private long inducedLatencyMilliseconds;
+    private MoveStrategyRegistry moveStrategyRegistry;
+    @Autowired
+    private InducedLatency inducedLatency;
+    @Autowired
+    private NextMoveJsonBodies nextMoveJsonBodies;
 
     /**
-     * Gets the next move in the specified MoveStrategy
+     * Gets the next move in the specified MoveStrategy. The response is completed asynchronously, once the induced
+     * latency, if any, has elapsed, without holding the request thread meanwhile
      * @param strategyName <p>the name of the MoveStrategy we would like to get its next move from</p>
-     * @return <p>a resource representing the next move in the selected MoveStrategy</p>
+     * @return <p>a deferred response with the pre-serialized JSON NextMoveResource of the next move in the selected
+     * MoveStrategy</p>
+     * @throws java.util.NoSuchElementException <p>in case there is no MoveStrategy with the given name</p>
      */
     @GetMapping(value = API_MOVE_STRATEGY_NEXT_MOVE_URI, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
-    public NextMoveResource getMoveStrategyNextMove(@PathVariable String strategyName) {
-        simulateInducedLatency();
-        logger.debug("Selecting next move for MoveStrategy " + strategyName);
-        return getMoveStrategyRandomNextMove(); // for now always defaulting to the same random strategy
+    public DeferredResult<ResponseEntity<byte[]>> getMoveStrategyNextMove(@PathVariable String strategyName) {
+        RegisteredMoveStrategy moveStrategy = moveStrategyRegistry.get(strategyName);
+        logger.debug("Selecting next move for MoveStrategy {}", strategyName);
+        return deferTimed(moveStrategy, () -> nextMoveJsonBodies.get(moveStrategy.getNextMove()));
+    }
+
+    /**
+     * Gets a batch of next moves in the specified MoveStrategy, in a single response, so clients needing many moves
+     * at once, like a collapsing client, pay a single round trip and a single induced latency for all of them
+     * @param strategyName <p>the name of the MoveStrategy we would like to get its next moves from</p>
+     * @param count <p>the number of next moves to get, between 1 and MAX_NEXT_MOVES_COUNT</p>
+     * @return <p>a deferred resource representing the next moves in the selected MoveStrategy, in order</p>
+     * @throws IllegalArgumentException <p>in case the count is out of bounds</p>
+     * @throws java.util.NoSuchElementException <p>in case there is no MoveStrategy with the given name</p>
+     */
+    @GetMapping(value = API_MOVE_STRATEGY_NEXT_MOVES_URI, produces = MediaType.APPLICATION_JSON_UTF8_VALUE)
+    public DeferredResult<NextMovesResource> getMoveStrategyNextMoves(@PathVariable String strategyName,
+            @RequestParam(value = NEXT_MOVES_COUNT_PARAM_NAME, defaultValue = "1") int count) {
+        validateNextMovesCount(count);
+        RegisteredMoveStrategy moveStrategy = moveStrategyRegistry.get(strategyName);
+        logger.debug("Selecting {} next moves for MoveStrategy {}", count, strategyName);
+        return deferTimed(moveStrategy, () -> getNextMoves(moveStrategy, count));
+    }
+
+    /**
+     * Streams the next moves in the specified MoveStrategy as newline delimited JSON, one move resource per line.
+     * Moves are selected as the body is written, and sent in chunks, so the response is never buffered as a whole,
+     * and a single request can pull far more moves than a JSON batch. The request is timed until the whole body is
+     * written, rather than until the response is ready, as the moves are only selected then
+     * @param strategyName <p>the name of the MoveStrategy we would like to get its next moves from</p>
+     * @param count <p>the number of next moves to stream, between 1 and MAX_STREAMED_NEXT_MOVES_COUNT</p>
+     * @return <p>the deferred streamed body with the next moves in the selected MoveStrategy, in order</p>
+     * @throws IllegalArgumentException <p>in case the count is out of bounds</p>
+     * @throws java.util.NoSuchElementException <p>in case there is no MoveStrategy with the given name</p>
+     */
+    @GetMapping(value = API_MOVE_STRATEGY_NEXT_MOVES_STREAM_URI, produces = APPLICATION_NDJSON_VALUE)
+    public DeferredResult<StreamingResponseBody> streamMoveStrategyNextMoves(@PathVariable String strategyName,
+            @RequestParam(value = NEXT_MOVES_COUNT_PARAM_NAME, defaultValue = "1") long count) {
+        validateStreamedNextMovesCount(count);
+        RegisteredMoveStrategy moveStrategy = moveStrategyRegistry.get(strategyName);
+        logger.debug("Streaming {} next moves for MoveStrategy {}", count, strategyName);
+        long startNanos = System.nanoTime();
+        moveStrategy.countRequest();
+        StreamingResponseBody body = new NextMovesNdjsonBody(moveStrategy.getMoveStrategy(), count,
+                NextMovesNdjsonBody.DEFAULT_BUFFER_SIZE);
+        return inducedLatency.defer(() -> outputStream -> {
+            body.writeTo(outputStream);
+            moveStrategy.recordLatencySince(startNanos);
+        });
+    }
+
+    private static void validateNextMovesCount(int count) {
+        if ((count < 1) || (count > MAX_NEXT_MOVES_COUNT)) {
+            throw new IllegalArgumentException(NEXT_MOVES_COUNT_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    private static void validateStreamedNextMovesCount(long count) {
+        if ((count < 1) || (count > MAX_STREAMED_NEXT_MOVES_COUNT)) {
+            throw new IllegalArgumentException(STREAMED_NEXT_MOVES_COUNT_VALIDATION_ERROR_MSG);
+        }
     }
 
     /**
-     * Selects the next move from a RandomMoveStrategy
-     * @return <p>a NextMoveResource representing the next move in the RandomMoveStrategy</p>
+     * Defers the response given by the supplier for the induced latency, counting the request, and timing it until
+     * the response is ready, in the meters of the given MoveStrategy
+     * @param moveStrategy <p>the MoveStrategy serving the request</p>
+     * @param response <p>the supplier of the response</p>
+     * @param <T> <p>the type of the response</p>
+     * @return <p>the deferred response</p>
      */
-    private NextMoveResource getMoveStrategyRandomNextMove() {
-        return new NextMoveResource(randomMoveStrategy.getNextMove());
+    private <T> DeferredResult<T> deferTimed(RegisteredMoveStrategy moveStrategy, Supplier<T> response) {
+        long startNanos = System.nanoTime();
+        moveStrategy.countRequest();
+        return inducedLatency.defer(() -> {
+            T timedResponse = response.get();
+            moveStrategy.recordLatencySince(startNanos);
+            return timedResponse;
+        });
     }
 
     /**
-     * Simulates a slow response service, forcing it to wait for the induced latency milliseconds when above zero
+     * Selects the given number of next moves from the given MoveStrategy
+     * @param moveStrategy <p>the MoveStrategy to select the next moves from</p>
+     * @param count <p>the number of next moves to select</p>
+     * @return <p>a NextMovesResource representing the next moves in the MoveStrategy, in order</p>
      */
-    private void simulateInducedLatency() {
-        if (inducedLatencyMilliseconds > 0) {
-            try {
-                Thread.sleep(inducedLatencyMilliseconds);
-            } catch (InterruptedException e) {
-                logger.error("Something went wrong when simulating service latency ", e);
-            }
+    private NextMovesResource getNextMoves(RegisteredMoveStrategy moveStrategy, int count) {
+        List<NextMoveResource> nextMoves = new ArrayList<>(count);
+        for (int move = 0; move < count; move++) {
+            nextMoves.add(new NextMoveResource(moveStrategy.getNextMove()));
         }
+        return new NextMovesResource(nextMoves);
     }
 }
@@ -0,0 +1,17 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+/**
+ * A Resource representing the Move submitted by the player of a GameSession
+ */
+public class SubmittedMoveResource {
+
+    private String move;
+
+    public String getMove() {
+        return move;
+    }
+
+    public void setMove(String move) {
+        this.move = move;
+    }
+}
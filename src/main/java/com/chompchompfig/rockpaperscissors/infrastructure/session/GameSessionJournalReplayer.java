@@ -0,0 +1,91 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.session;
+
+import com.chompchompfig.rockpaperscissors.domain.GameSession;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.Result;
+import com.chompchompfig.rockpaperscissors.infrastructure.journal.GameJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Rebuilds the GameSessions still open in a GameJournal, as it is replayed after a restart. Every session opened is
+ * recreated against an opponent playing the MoveStrategy with the same name, the Result of each one of its game plays
+ * is counted again, and closed sessions are dropped. Sessions restated by the snapshot at the start of a segment take
+ * the counts it holds, which cover the game plays in the segments before it, whether they were retained or not.
+ * Sessions whose MoveStrategy is no longer served are skipped
+ */
+public class GameSessionJournalReplayer implements GameJournal.RecordVisitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameSessionJournalReplayer.class);
+
+    private Function<String, MoveStrategy> moveStrategiesByName;
+    private Map<UUID, GameSession> gameSessions = new LinkedHashMap<>();
+
+    /**
+     * Creates a new replayer
+     * @param moveStrategiesByName <p>looks up the MoveStrategy of an opponent by name, giving null if there is none</p>
+     */
+    public GameSessionJournalReplayer(Function<String, MoveStrategy> moveStrategiesByName) {
+        this.moveStrategiesByName = moveStrategiesByName;
+    }
+
+    @Override
+    public void opened(long sequence, UUID sessionId, String playerName, String strategyName) {
+        if (gameSessions.containsKey(sessionId)) {
+            return;
+        }
+        MoveStrategy moveStrategy = moveStrategiesByName.apply(strategyName);
+        if (moveStrategy == null) {
+            logger.warn("Skipping GameSession {} against the unknown MoveStrategy {}", sessionId, strategyName);
+            return;
+        }
+        try {
+            Player opponent = Player.newPlayer(Player.PlayerName.of(strategyName), moveStrategy);
+            gameSessions.put(sessionId, new GameSession(Player.PlayerName.of(playerName), opponent));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping invalid GameSession {}", sessionId, e);
+        }
+    }
+
+    @Override
+    public void played(long sequence, UUID sessionId, int playerOrdinal, int opponentOrdinal, Result playerResult) {
+        GameSession gameSession = gameSessions.get(sessionId);
+        if (gameSession != null) {
+            gameSession.replay(playerResult);
+        }
+    }
+
+    @Override
+    public void counted(long sequence, UUID sessionId, long drawGamePlays, long gamePlaysWon, long gamePlaysLost) {
+        GameSession gameSession = gameSessions.get(sessionId);
+        if (gameSession != null) {
+            gameSession.restore(drawGamePlays, gamePlaysWon, gamePlaysLost);
+        }
+    }
+
+    @Override
+    public void closed(long sequence, UUID sessionId) {
+        gameSessions.remove(sessionId);
+    }
+
+    /**
+     * @return <p>the number of sessions still open so far</p>
+     */
+    public int size() {
+        return gameSessions.size();
+    }
+
+    /**
+     * Puts every session still open back into the given store, under the ids they had before
+     * @param gameSessionStore <p>the store to put the sessions back into</p>
+     */
+    public void restoreInto(GameSessionStore gameSessionStore) {
+        gameSessions.forEach((sessionId, gameSession) -> gameSessionStore.restore(sessionId.toString(), gameSession));
+    }
+}
@@ -0,0 +1,154 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.session;
+
+import com.chompchompfig.rockpaperscissors.domain.GameSession;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The in-memory store of the GameSessions being played, by id. Sessions are spread over a number of stripes, each one
+ * with a lock and an access ordered queue of its own, so concurrent requests only contend when their sessions land in
+ * the same stripe, and there is no global lock. Sessions left idle for longer than the TTL are evicted, and so are
+ * the least recently played ones in a stripe once the store holds the maximum number of sessions, so the heap taken
+ * by sessions stays bounded however many clients come and go. Evictions are done along the way, by the reads and
+ * writes on each stripe, rather than by a background thread, which hand the id of every session evicted over to the
+ * eviction listener, if any
+ */
+@Component
+public class GameSessionStore {
+
+    public static final String STRIPES_VALIDATION_ERROR_MSG = "GameSession store stripes must be positive";
+    public static final String IDLE_TTL_VALIDATION_ERROR_MSG = "GameSession idle TTL must be positive";
+    public static final String MAX_SESSIONS_VALIDATION_ERROR_MSG = "GameSession store max sessions must be positive";
+    public static final String UNKNOWN_SESSION_ERROR_MSG = "Unknown or expired GameSession ";
+
+    private Cache<String, GameSession> sessions;
+    private volatile Consumer<String> evictionListener;
+
+    /**
+     * Creates a new, empty, store
+     * @param stripes <p>the number of stripes sessions are spread over</p>
+     * @param idleTtlMillis <p>the time in milliseconds a session can be left idle before being evicted</p>
+     * @param maxSessions <p>the maximum number of sessions held at once</p>
+     * @throws IllegalArgumentException <p>in case any of the arguments is not positive</p>
+     */
+    @Autowired
+    public GameSessionStore(@Value("${rockpapersicssors.api.sessions.stripes:64}") int stripes,
+                            @Value("${rockpapersicssors.api.sessions.idle.ttl.millis:600000}") long idleTtlMillis,
+                            @Value("${rockpapersicssors.api.sessions.max:500000}") long maxSessions) {
+        this(stripes, idleTtlMillis, maxSessions, Ticker.systemTicker());
+    }
+
+    GameSessionStore(int stripes, long idleTtlMillis, long maxSessions, Ticker ticker) {
+        validate(stripes, idleTtlMillis, maxSessions);
+        this.sessions = CacheBuilder.newBuilder().concurrencyLevel(stripes)
+                .expireAfterAccess(idleTtlMillis, TimeUnit.MILLISECONDS).maximumSize(maxSessions).ticker(ticker)
+                .removalListener((RemovalListener<String, GameSession>) this::onRemoval).build();
+    }
+
+    private static void validate(int stripes, long idleTtlMillis, long maxSessions) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException(STRIPES_VALIDATION_ERROR_MSG);
+        }
+        if (idleTtlMillis <= 0) {
+            throw new IllegalArgumentException(IDLE_TTL_VALIDATION_ERROR_MSG);
+        }
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException(MAX_SESSIONS_VALIDATION_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Sets the listener told about every session evicted, either for being idle for longer than the TTL, or for
+     * being the least recently played one once the store is full. Sessions removed, or put back, are not evictions
+     * @param evictionListener <p>takes the id of every session evicted, on the thread evicting it</p>
+     */
+    public void setEvictionListener(Consumer<String> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    private void onRemoval(RemovalNotification<String, GameSession> removal) {
+        Consumer<String> evictionListener = this.evictionListener;
+        if (removal.wasEvicted() && (evictionListener != null)) {
+            evictionListener.accept(removal.getKey());
+        }
+    }
+
+    /**
+     * Adds a new session to the store, under a new random id
+     * @param gameSession <p>the session to add</p>
+     * @return <p>the id of the session</p>
+     */
+    public String add(GameSession gameSession) {
+        String sessionId = UUID.randomUUID().toString();
+        add(sessionId, gameSession);
+        return sessionId;
+    }
+
+    /**
+     * Adds a new session to the store, under an id picked beforehand, typically one it was already journaled under
+     * @param sessionId <p>the id of the session</p>
+     * @param gameSession <p>the session to add</p>
+     */
+    public void add(String sessionId, GameSession gameSession) {
+        sessions.put(sessionId, gameSession);
+    }
+
+    /**
+     * Puts back a session recovered after a restart, under the id it had before
+     * @param sessionId <p>the id of the session</p>
+     * @param gameSession <p>the session to put back</p>
+     */
+    public void restore(String sessionId, GameSession gameSession) {
+        sessions.put(sessionId, gameSession);
+    }
+
+    /**
+     * Gets the session with the given id, resetting its idle time
+     * @param sessionId <p>the id of the session</p>
+     * @return <p>the session with the given id</p>
+     * @throws NoSuchElementException <p>in case there is no session with the given id, or it was already evicted</p>
+     */
+    public GameSession get(String sessionId) {
+        GameSession gameSession = sessions.getIfPresent(sessionId);
+        if (gameSession == null) {
+            throw new NoSuchElementException(UNKNOWN_SESSION_ERROR_MSG + sessionId);
+        }
+        return gameSession;
+    }
+
+    /**
+     * Removes the session with the given id
+     * @param sessionId <p>the id of the session</p>
+     * @throws NoSuchElementException <p>in case there is no session with the given id, or it was already evicted</p>
+     */
+    public void remove(String sessionId) {
+        if (sessions.asMap().remove(sessionId) == null) {
+            throw new NoSuchElementException(UNKNOWN_SESSION_ERROR_MSG + sessionId);
+        }
+    }
+
+    /**
+     * @return <p>the approximate number of sessions in the store, evicted ones not yet cleaned up included</p>
+     */
+    public long size() {
+        return sessions.size();
+    }
+
+    /**
+     * Evicts every idle session right away, rather than waiting for the next reads and writes on their stripes
+     */
+    public void evictIdle() {
+        sessions.cleanUp();
+    }
+}
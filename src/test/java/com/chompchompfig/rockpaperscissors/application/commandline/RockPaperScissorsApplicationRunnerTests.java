@@ -1,18 +1,38 @@
 package com.chompchompfig.rockpaperscissors.application.commandline;
 
+import com.chompchompfig.rockpaperscissors.domain.Game;
 import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
 import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.Tournament;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.FixedMoveStrategy;
+import com.chompchompfig.rockpaperscissors.infrastructure.output.AsyncConsoleTextSink;
+import com.chompchompfig.rockpaperscissors.infrastructure.playlog.PlayLogCompression;
+import com.chompchompfig.rockpaperscissors.infrastructure.rest.MoveStrategyRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import com.chompchompfig.rockpaperscissors.utils.FixtureFactory;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.chompchompfig.rockpaperscissors.application.commandline.RockPaperScissorsApplicationRunner.*;
 import static com.chompchompfig.rockpaperscissors.application.commandline.RockPaperScissorsApplicationRunner.GameMode.FAIR;
@@ -34,6 +54,23 @@ public class RockPaperScissorsApplicationRunnerTests {
     private static final String INVALID_DESTINATION_FILE_NAME = "./E./" + VALID_DESTINATION_FILE_NAME;
     private static final String COMMAND_LINE_OPTION_PREFIX = "--";
     private static final String SOME_RANDOM_COMMAND_LINE_OPTION = COMMAND_LINE_OPTION_PREFIX + "somethingElse";
+    private static final String CLASSIC_GAME_FIELD_NAME = "classicGame";
+    private static final int VALID_PARALLELISM_VALUE = 4;
+    private static final String VALID_PARALLELISM = String.valueOf(VALID_PARALLELISM_VALUE);
+    private static final String INVALID_ZERO_PARALLELISM = "0";
+    private static final String INVALID_FILE_FORMAT_NAME = "Something";
+    private static final String VALID_PLAY_LOG_FILE_NAME = "./somefilename.rpslog";
+    private static final String OUTPUT_COMPRESSION_FIELD_NAME = "outputCompression";
+    private static final int SOME_CONSOLE_RING_SIZE = 2;
+    private static final String REMOTE_MOVE_STRATEGY_FIELD_NAME = "remoteMoveStrategy";
+    private static final String ASYNC_REMOTE_MOVE_STRATEGY_FIELD_NAME = "asyncRemoteMoveStrategy";
+    private static final String REMOTE_CLIENT_FIELD_NAME = "remoteClient";
+    private static final String MOVE_STRATEGY_REGISTRY_FIELD_NAME = "moveStrategyRegistry";
+    private static final String ROCK_STRATEGY_NAME = "rock";
+    private static final String PAPER_STRATEGY_NAME = "paper";
+    private static final int VALID_TOURNAMENT_PLAYERS_VALUE = 3;
+    private static final String VALID_TOURNAMENT_PLAYERS = String.valueOf(VALID_TOURNAMENT_PLAYERS_VALUE);
+    private static final String INVALID_SINGLE_TOURNAMENT_PLAYER = "1";
 
     private RockPaperScissorsApplicationRunner rockPaperScissorsApplicationRunner =
             new RockPaperScissorsApplicationRunner();
@@ -139,29 +176,95 @@ public class RockPaperScissorsApplicationRunnerTests {
     }
 
     @Test
-    public void givenValidDestinationFilenameGamePlaysAndSummaryWhenPrintToSelectedThenPrintToFile()
-            throws FileNotFoundException {
+    public void givenValidDestinationFilenameAndGamePlaysWhenPrintToSelectedThenPrintToFile()
+            throws IOException {
         Optional<String> validDestinationFileName = Optional.of(VALID_DESTINATION_FILE_NAME);
-        List<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays();
-        GameSummary gameSummary = FixtureFactory.newPlayerOneAlwaysWinsGameSummary();
+        Stream<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays().stream();
 
         RockPaperScissorsApplicationRunner spyRockPaperScissorsApplicationRunner =
                 Mockito.spy(rockPaperScissorsApplicationRunner);
         doNothing().when(spyRockPaperScissorsApplicationRunner).printToFile(
-                VALID_DESTINATION_FILE_NAME, performedGamePlays, gameSummary);
+                VALID_DESTINATION_FILE_NAME, performedGamePlays);
 
-        spyRockPaperScissorsApplicationRunner.printToSelected(validDestinationFileName, performedGamePlays, gameSummary);
+        spyRockPaperScissorsApplicationRunner.printToSelected(validDestinationFileName, performedGamePlays);
 
         Mockito.verify(spyRockPaperScissorsApplicationRunner).printToFile(
-                VALID_DESTINATION_FILE_NAME, performedGamePlays, gameSummary);
+                VALID_DESTINATION_FILE_NAME, performedGamePlays);
     }
 
     @Test(expected = FileNotFoundException.class)
-    public void givenInvalidDestinationFilenameValidGamePlaysAndSummaryWhenPrintToFileThenThrowException()
-            throws FileNotFoundException {
+    public void givenInvalidDestinationFilenameAndValidGamePlaysWhenPrintToFileThenThrowException()
+            throws IOException {
+        Stream<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays().stream();
+        rockPaperScissorsApplicationRunner.printToFile(INVALID_DESTINATION_FILE_NAME, performedGamePlays);
+    }
+
+    @Test
+    public void givenValidDestinationFileAndGamePlaysWhenPrintToFileThenWriteGamePlaysAndSummary()
+            throws IOException {
         List<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays();
-        GameSummary gameSummary = FixtureFactory.newPlayerOneAlwaysWinsGameSummary();
-        rockPaperScissorsApplicationRunner.printToFile(INVALID_DESTINATION_FILE_NAME, performedGamePlays, gameSummary);
+        File destinationFile = newTemporaryFile();
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, CLASSIC_GAME_FIELD_NAME, new Game());
+
+        rockPaperScissorsApplicationRunner.printToFile(destinationFile.getPath(), performedGamePlays.stream());
+
+        List<String> expectedLines = new ArrayList<>();
+        performedGamePlays.forEach(gamePlay -> expectedLines.add(gamePlay.toString()));
+        expectedLines.add(GAME_SUMMARY_HORIZONTAL_LINE);
+        expectedLines.add(FixtureFactory.newPlayerOneAlwaysWinsGameSummary().toString());
+        assertEquals(expectedLines, Files.readAllLines(destinationFile.toPath()));
+    }
+
+    @Test
+    public void givenGamePlaysWhenPrintToConsoleThenWriteGamePlaysAndSummaryThroughTheConsoleSink()
+            throws IOException {
+        List<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays();
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, CLASSIC_GAME_FIELD_NAME, new Game());
+        RockPaperScissorsApplicationRunner spyRockPaperScissorsApplicationRunner =
+                Mockito.spy(rockPaperScissorsApplicationRunner);
+        doReturn(new AsyncConsoleTextSink(console, SOME_CONSOLE_RING_SIZE, AsyncConsoleTextSink.DEFAULT_BATCH_SIZE))
+                .when(spyRockPaperScissorsApplicationRunner).newConsoleSink();
+
+        spyRockPaperScissorsApplicationRunner.printToConsole(performedGamePlays.stream());
+
+        StringBuilder expectedText = new StringBuilder();
+        performedGamePlays.forEach(gamePlay -> expectedText.append(gamePlay).append(System.lineSeparator()));
+        expectedText.append(GAME_SUMMARY_HORIZONTAL_LINE).append(System.lineSeparator());
+        expectedText.append(FixtureFactory.newPlayerOneAlwaysWinsGameSummary()).append(System.lineSeparator());
+        assertEquals(expectedText.toString(), new String(console.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenBlockingRemoteClientWhenGetRemoteMoveStrategyThenReturnTheBlockingOne() {
+        MoveStrategy blockingMoveStrategy = new FixedMoveStrategy(ClassicMoves.PAPER_MOVE);
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, REMOTE_MOVE_STRATEGY_FIELD_NAME,
+                blockingMoveStrategy);
+        assertSame(blockingMoveStrategy, rockPaperScissorsApplicationRunner.getRemoteMoveStrategy());
+    }
+
+    @Test
+    public void givenAsyncRemoteClientWhenGetRemoteMoveStrategyThenReturnTheAsyncOne() {
+        MoveStrategy asyncMoveStrategy = new FixedMoveStrategy(ClassicMoves.SCISSORS_MOVE);
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, ASYNC_REMOTE_MOVE_STRATEGY_FIELD_NAME,
+                asyncMoveStrategy);
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, REMOTE_CLIENT_FIELD_NAME,
+                RemoteClient.ASYNC);
+        assertSame(asyncMoveStrategy, rockPaperScissorsApplicationRunner.getRemoteMoveStrategy());
+    }
+
+    @Test
+    public void givenGamePlaysWhenGetGameSummaryThenPrintEachGamePlayOnceAndSummarizeThem() {
+        List<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays();
+        List<GamePlay> printedGamePlays = new ArrayList<>();
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, CLASSIC_GAME_FIELD_NAME, new Game());
+
+        GameSummary gameSummary = rockPaperScissorsApplicationRunner.getGameSummary(
+                performedGamePlays.stream(), printedGamePlays::add);
+
+        assertEquals(performedGamePlays, printedGamePlays);
+        assertEquals(FixtureFactory.newPlayerOneAlwaysWinsGameSummary().getGamePlaysWonByPlayerName(),
+                gameSummary.getGamePlaysWonByPlayerName());
     }
 
     @Test
@@ -175,6 +278,128 @@ public class RockPaperScissorsApplicationRunnerTests {
         givenInvalidCommandLineArgumentsWhenRunThenExitWithFailure(
                 new DefaultApplicationArguments(newCommandLineArgumentsWithIterations(INVALID_NEGATIVE_ITERATIONS_VALUE)));
     }
+    @Test
+    public void givenCommandLineArgumentsWithNoParallelismWhenGetGameParallelismThenReturnEmpty() {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithRandomOptions());
+        assertFalse(rockPaperScissorsApplicationRunner.getGameParallelism(applicationArguments).isPresent());
+    }
+
+    @Test
+    public void givenCommandLineArgumentsWithValidParallelismWhenGetGameParallelismThenReturnCorrectValue() {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithParallelism(VALID_PARALLELISM));
+        assertEquals(rockPaperScissorsApplicationRunner.getGameParallelism(applicationArguments),
+                Optional.of(Game.Parallelism.of(VALID_PARALLELISM_VALUE)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenCommandLineArgumentsWithZeroParallelismWhenGetGameParallelismThenThrowException() {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithParallelism(INVALID_ZERO_PARALLELISM));
+        rockPaperScissorsApplicationRunner.getGameParallelism(applicationArguments);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenTournamentModeWhenGetPlayerTwoMoveStrategyThenThrowException() {
+        rockPaperScissorsApplicationRunner.getPlayerTwoMoveStrategy(GameMode.TOURNAMENT);
+    }
+
+    @Test
+    public void givenCommandLineArgumentsWithParallelismWhenRunThenPerformPlaysInParallelAndPrintSummaryOnly()
+            throws IOException {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithParallelism(VALID_PARALLELISM));
+        Game.Parallelism parallelism = Game.Parallelism.of(VALID_PARALLELISM_VALUE);
+        GameSummary gameSummary = FixtureFactory.newPlayerOneAlwaysWinsGameSummary();
+
+        RockPaperScissorsApplicationRunner spyRockPaperScissorsApplicationRunner =
+                Mockito.spy(rockPaperScissorsApplicationRunner);
+        doReturn(gameSummary).when(spyRockPaperScissorsApplicationRunner)
+                .performSelectedGamePlaysInParallel(DEFAULT_GAME_MODE, DEFAULT_GAME_ITERATIONS, parallelism);
+        doNothing().when(spyRockPaperScissorsApplicationRunner).exitApplicationWithSuccess();
+
+        spyRockPaperScissorsApplicationRunner.run(applicationArguments);
+
+        Mockito.verify(spyRockPaperScissorsApplicationRunner)
+                .performSelectedGamePlaysInParallel(DEFAULT_GAME_MODE, DEFAULT_GAME_ITERATIONS, parallelism);
+        Mockito.verify(spyRockPaperScissorsApplicationRunner).printSummaryToSelected(Optional.empty(), gameSummary);
+        Mockito.verify(spyRockPaperScissorsApplicationRunner).exitApplicationWithSuccess();
+    }
+
+    @Test
+    public void givenCommandLineArgumentsWithNoFormatWhenGetFileFormatThenReturnText() {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithRandomOptions());
+        assertEquals(rockPaperScissorsApplicationRunner.getFileFormat(applicationArguments), FileFormat.TEXT);
+    }
+
+    @Test
+    public void givenCommandLineArgumentsWithLowercaseBinaryFormatWhenGetFileFormatThenReturnBinary() {
+        ApplicationArguments applicationArguments = new DefaultApplicationArguments(
+                newCommandLineArgumentsWithFormat(FileFormat.BINARY.name().toLowerCase()));
+        assertEquals(rockPaperScissorsApplicationRunner.getFileFormat(applicationArguments), FileFormat.BINARY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenCommandLineArgumentsWithInvalidFormatWhenGetFileFormatThenThrowException() {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithFormat(INVALID_FILE_FORMAT_NAME));
+        rockPaperScissorsApplicationRunner.getFileFormat(applicationArguments);
+    }
+
+    @Test
+    public void givenCommandLineArgumentsWithBinaryFormatAndNoFileWhenRunThenExitWithFailure() {
+        givenInvalidCommandLineArgumentsWhenRunThenExitWithFailure(new DefaultApplicationArguments(
+                newCommandLineArgumentsWithFormat(FileFormat.BINARY.name())));
+    }
+
+    @Test
+    public void givenCommandLineArgumentsWithConvertWhenRunThenConvertPlayLogToSelected() throws IOException {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithConvert(VALID_PLAY_LOG_FILE_NAME));
+
+        RockPaperScissorsApplicationRunner spyRockPaperScissorsApplicationRunner =
+                Mockito.spy(rockPaperScissorsApplicationRunner);
+        doNothing().when(spyRockPaperScissorsApplicationRunner)
+                .convertPlayLogToSelected(VALID_PLAY_LOG_FILE_NAME, Optional.empty());
+        doNothing().when(spyRockPaperScissorsApplicationRunner).exitApplicationWithSuccess();
+
+        spyRockPaperScissorsApplicationRunner.run(applicationArguments);
+
+        Mockito.verify(spyRockPaperScissorsApplicationRunner)
+                .convertPlayLogToSelected(VALID_PLAY_LOG_FILE_NAME, Optional.empty());
+        Mockito.verify(spyRockPaperScissorsApplicationRunner).exitApplicationWithSuccess();
+    }
+
+    @Test
+    public void givenGamePlaysPrintedToBinaryFileWhenConvertPlayLogThenPrintSameTextAsPrintToFile()
+            throws IOException {
+        givenGamePlaysPrintedToBinaryFileWhenConvertPlayLogThenPrintSameTextAsPrintToFile(PlayLogCompression.NONE);
+    }
+
+    @Test
+    public void givenGamePlaysPrintedToDeflatedBinaryFileWhenConvertPlayLogThenPrintSameTextAsPrintToFile()
+            throws IOException {
+        givenGamePlaysPrintedToBinaryFileWhenConvertPlayLogThenPrintSameTextAsPrintToFile(PlayLogCompression.DEFLATE);
+    }
+
+    private void givenGamePlaysPrintedToBinaryFileWhenConvertPlayLogThenPrintSameTextAsPrintToFile(
+            PlayLogCompression compression) throws IOException {
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, OUTPUT_COMPRESSION_FIELD_NAME, compression);
+        List<GamePlay> performedGamePlays = FixtureFactory.newAssortedGamePlays();
+        File playLogFile = newTemporaryFile();
+        File convertedFile = newTemporaryFile();
+        File textFile = newTemporaryFile();
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, CLASSIC_GAME_FIELD_NAME, new Game());
+
+        rockPaperScissorsApplicationRunner.printToBinaryFile(playLogFile.getPath(), performedGamePlays.stream());
+        rockPaperScissorsApplicationRunner.convertPlayLogToSelected(playLogFile.getPath(),
+                Optional.of(convertedFile.getPath()));
+        rockPaperScissorsApplicationRunner.printToFile(textFile.getPath(), performedGamePlays.stream());
+
+        assertEquals(Files.readAllLines(textFile.toPath()), Files.readAllLines(convertedFile.toPath()));
+    }
 
     private void givenInvalidCommandLineArgumentsWhenRunThenExitWithFailure(
             ApplicationArguments applicationArgumentsWithInvalidOption) {
@@ -186,24 +411,23 @@ public class RockPaperScissorsApplicationRunnerTests {
     }
 
     @Test
-    public void givenValidCommandLineArgumentsWhenRunThenPerformPlaysPrintToConsoleAndExitWithSuccess() {
+    public void givenValidCommandLineArgumentsWhenRunThenPerformPlaysPrintToConsoleAndExitWithSuccess()
+            throws IOException {
         ApplicationArguments validApplicationArguments =
                 new DefaultApplicationArguments(newCommandLineArgumentsWithRandomOptions());
-        List<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays();
-        GameSummary gameSummary = FixtureFactory.newPlayerOneAlwaysWinsGameSummary();
+        Stream<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays().stream();
 
         RockPaperScissorsApplicationRunner spyRockPaperScissorsApplicationRunner =
                 Mockito.spy(rockPaperScissorsApplicationRunner);
         doReturn(performedGamePlays).when(spyRockPaperScissorsApplicationRunner)
                 .performFairPlays(DEFAULT_GAME_ITERATIONS);
-        doReturn(gameSummary).when(spyRockPaperScissorsApplicationRunner).getGameSummary(performedGamePlays);
-        doNothing().when(spyRockPaperScissorsApplicationRunner).printToConsole(performedGamePlays, gameSummary);
+        doNothing().when(spyRockPaperScissorsApplicationRunner).printToConsole(performedGamePlays);
         doNothing().when(spyRockPaperScissorsApplicationRunner).exitApplicationWithSuccess();
 
         spyRockPaperScissorsApplicationRunner.run(validApplicationArguments);
 
         Mockito.verify(spyRockPaperScissorsApplicationRunner).performFairPlays(DEFAULT_GAME_ITERATIONS);
-        Mockito.verify(spyRockPaperScissorsApplicationRunner).printToConsole(performedGamePlays, gameSummary);
+        Mockito.verify(spyRockPaperScissorsApplicationRunner).printToConsole(performedGamePlays);
         Mockito.verify(spyRockPaperScissorsApplicationRunner).exitApplicationWithSuccess();
     }
 
@@ -211,14 +435,12 @@ public class RockPaperScissorsApplicationRunnerTests {
     public void givenCommandLineArgumentsWithInvalidFileWhenRunThenExitWithFileWritingFailure() {
         ApplicationArguments applicationArgumentsWithInvalidOption =
                 new DefaultApplicationArguments(newCommandLineArgumentsWithFiles(INVALID_DESTINATION_FILE_NAME));
-        List<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays();
-        GameSummary gameSummary = FixtureFactory.newPlayerOneAlwaysWinsGameSummary();
+        Stream<GamePlay> performedGamePlays = FixtureFactory.newPlayerOneAlwaysWinsGamePlays().stream();
 
         RockPaperScissorsApplicationRunner spyRockPaperScissorsApplicationRunner =
                 Mockito.spy(rockPaperScissorsApplicationRunner);
         doReturn(performedGamePlays).when(spyRockPaperScissorsApplicationRunner)
                 .performFairPlays(DEFAULT_GAME_ITERATIONS);
-        doReturn(gameSummary).when(spyRockPaperScissorsApplicationRunner).getGameSummary(performedGamePlays);
         doNothing().when(spyRockPaperScissorsApplicationRunner).exitApplicationWithFileWritingFailure(any());
 
         spyRockPaperScissorsApplicationRunner.run(applicationArgumentsWithInvalidOption);
@@ -227,6 +449,72 @@ public class RockPaperScissorsApplicationRunnerTests {
         Mockito.verify(spyRockPaperScissorsApplicationRunner).exitApplicationWithFileWritingFailure(any());
     }
 
+    @Test
+    public void givenCommandLineArgumentsWithNoPlayersWhenGetTournamentPlayersThenReturnEmpty() {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithRandomOptions());
+        assertFalse(rockPaperScissorsApplicationRunner.getTournamentPlayers(applicationArguments).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenCommandLineArgumentsWithSinglePlayerWhenGetTournamentPlayersThenThrowException() {
+        ApplicationArguments applicationArguments =
+                new DefaultApplicationArguments(newCommandLineArgumentsWithPlayers(INVALID_SINGLE_TOURNAMENT_PLAYER));
+        rockPaperScissorsApplicationRunner.getTournamentPlayers(applicationArguments);
+    }
+
+    @Test
+    public void givenNoNumberOfPlayersWhenNewTournamentPlayersThenReturnAPlayerPerStrategy() {
+        setFixedMoveStrategyRegistry();
+        List<Player> tournamentPlayers = rockPaperScissorsApplicationRunner.newTournamentPlayers(Optional.empty());
+        assertEquals(2, tournamentPlayers.size());
+        assertEquals(PAPER_STRATEGY_NAME, tournamentPlayers.get(0).getPlayerName().getValue());
+        assertEquals(ROCK_STRATEGY_NAME, tournamentPlayers.get(1).getPlayerName().getValue());
+    }
+
+    @Test
+    public void givenNumberOfPlayersWhenNewTournamentPlayersThenTakeTheStrategiesInTurns() {
+        setFixedMoveStrategyRegistry();
+        List<Player> tournamentPlayers =
+                rockPaperScissorsApplicationRunner.newTournamentPlayers(Optional.of(VALID_TOURNAMENT_PLAYERS_VALUE));
+        assertEquals(VALID_TOURNAMENT_PLAYERS_VALUE, tournamentPlayers.size());
+        assertEquals(PAPER_STRATEGY_NAME + "-2", tournamentPlayers.get(2).getPlayerName().getValue());
+        assertEquals(ClassicMoves.PAPER_MOVE, tournamentPlayers.get(2).performMove());
+    }
+
+    @Test
+    public void givenTournamentModeWhenRunThenPrintTheRankingOfEveryPlayer() throws IOException {
+        setFixedMoveStrategyRegistry();
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, CLASSIC_GAME_FIELD_NAME, new Game());
+        String[] arguments = Stream.of(newCommandLineArgumentsWithMode(GameMode.TOURNAMENT.name()),
+                newCommandLineArgumentsWithPlayers(VALID_TOURNAMENT_PLAYERS),
+                newCommandLineArgumentsWithFiles(VALID_DESTINATION_FILE_NAME)).flatMap(Arrays::stream)
+                .toArray(String[]::new);
+        RockPaperScissorsApplicationRunner spyRockPaperScissorsApplicationRunner =
+                Mockito.spy(rockPaperScissorsApplicationRunner);
+        doNothing().when(spyRockPaperScissorsApplicationRunner).exitApplicationWithSuccess();
+
+        spyRockPaperScissorsApplicationRunner.run(new DefaultApplicationArguments(arguments));
+
+        File destinationFile = new File(VALID_DESTINATION_FILE_NAME);
+        List<String> lines = Files.readAllLines(destinationFile.toPath(), StandardCharsets.UTF_8);
+        destinationFile.delete();
+        Mockito.verify(spyRockPaperScissorsApplicationRunner).printRankingToSelected(
+                Mockito.eq(Optional.of(VALID_DESTINATION_FILE_NAME)), any(Tournament.ScoreMatrix.class));
+        Mockito.verify(spyRockPaperScissorsApplicationRunner).exitApplicationWithSuccess();
+        assertEquals(VALID_TOURNAMENT_PLAYERS_VALUE, lines.size());
+        assertEquals(String.format(TOURNAMENT_RANKING_LINE_PATTERN, 1, PAPER_STRATEGY_NAME + "-0",
+                DEFAULT_GAME_ITERATIONS_VALUE, 0, DEFAULT_GAME_ITERATIONS_VALUE), lines.get(0));
+    }
+
+    private void setFixedMoveStrategyRegistry() {
+        Map<String, MoveStrategy> moveStrategies = new LinkedHashMap<>();
+        moveStrategies.put(ROCK_STRATEGY_NAME, FixtureFactory.FIXED_ROCK_MOVE_STRATEGY);
+        moveStrategies.put(PAPER_STRATEGY_NAME, FixtureFactory.FIXED_PAPER_MOVE_STRATEGY);
+        ReflectionTestUtils.setField(rockPaperScissorsApplicationRunner, MOVE_STRATEGY_REGISTRY_FIELD_NAME,
+                new MoveStrategyRegistry(moveStrategies, new SimpleMeterRegistry()));
+    }
+
     private String[] newCommandLineArgumentsWithMode(String modeName) {
         String gameModeOption = COMMAND_LINE_OPTION_PREFIX + GAME_MODE_OPTION_ARG_NAME + "=" + modeName;
         return new String[] { gameModeOption };
@@ -237,6 +525,27 @@ public class RockPaperScissorsApplicationRunnerTests {
         return new String[] { gameIterationsOption };
     }
 
+    private String[] newCommandLineArgumentsWithParallelism(String parallelism) {
+        String gameParallelismOption =
+                COMMAND_LINE_OPTION_PREFIX + GAME_PARALLELISM_OPTION_ARG_NAME + "=" + parallelism;
+        return new String[] { gameParallelismOption };
+    }
+
+    private String[] newCommandLineArgumentsWithPlayers(String players) {
+        String playersOption = COMMAND_LINE_OPTION_PREFIX + GAME_PLAYERS_OPTION_ARG_NAME + "=" + players;
+        return new String[] { playersOption };
+    }
+
+    private String[] newCommandLineArgumentsWithFormat(String fileFormat) {
+        String fileFormatOption = COMMAND_LINE_OPTION_PREFIX + GAME_FILE_FORMAT_OPTION_ARG_NAME + "=" + fileFormat;
+        return new String[] { fileFormatOption };
+    }
+
+    private String[] newCommandLineArgumentsWithConvert(String playLogFileName) {
+        String convertOption = COMMAND_LINE_OPTION_PREFIX + GAME_CONVERT_OPTION_ARG_NAME + "=" + playLogFileName;
+        return new String[] { convertOption };
+    }
+
     private String[] newCommandLineArgumentsWithFiles(String... destinationFilenames) {
          return Arrays.stream(destinationFilenames).map(
                  d -> newCommandLineArgumentsFilesOption(d)).collect(Collectors.toList()).toArray(
@@ -274,4 +583,10 @@ public class RockPaperScissorsApplicationRunnerTests {
         return new String[] { emptyGameFileOption };
     }
 
+    private File newTemporaryFile() throws IOException {
+        File file = File.createTempFile("rockpaperscissors", ".out");
+        file.deleteOnExit();
+        return file;
+    }
+
 }
@@ -0,0 +1,90 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissors101Moves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissorsLizardSpockMoves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.RandomMoveStrategy;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.*;
+import static org.junit.Assert.*;
+
+public class GamePlayBatchTests {
+
+    private static final int MANY_GAME_ITERATIONS_VALUE = 1000;
+    private static final String LIZARD_MOVE_NAME = "Lizard";
+
+    private Game game = new Game();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenANullMoveSetWhenNewGamePlayBatchThenThrowException() {
+        new GamePlayBatch(validPlayerOneName(), validPlayerTwoName(), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAClassicGamePlayBatchWhenAddMoveFromAnotherMoveSetThenThrowException() {
+        GamePlayBatch gamePlayBatch = new GamePlayBatch(validPlayerOneName(), validPlayerTwoName(),
+                ClassicMoves.MOVE_SET);
+        gamePlayBatch.add(ClassicMoves.ROCK_MOVE, RockPaperScissorsLizardSpockMoves.MOVE_SET.from(LIZARD_MOVE_NAME));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void givenAnEmptyGamePlayBatchWhenGetThenThrowException() {
+        new GamePlayBatch(validPlayerOneName(), validPlayerTwoName(), ClassicMoves.MOVE_SET).get(0);
+    }
+
+    @Test
+    public void givenManyGamePlaysWhenAddedToGamePlayBatchThenGetReturnsTheSameMovesInOrder() {
+        List<GamePlay> gamePlays = newRandomGamePlays();
+        GamePlayBatch gamePlayBatch = new GamePlayBatch(validPlayerOneName(), validPlayerTwoName(),
+                ClassicMoves.MOVE_SET, 0);
+        gamePlays.forEach(gamePlayBatch::add);
+
+        assertEquals(gamePlayBatch.size(), gamePlays.size());
+        for (int index = 0; index < gamePlays.size(); index++) {
+            GamePlay gamePlayView = gamePlayBatch.get(index);
+            assertEquals(gamePlayView.getPlayerOneMove(), gamePlays.get(index).getPlayerOneMove());
+            assertEquals(gamePlayView.getPlayerTwoMove(), gamePlays.get(index).getPlayerTwoMove());
+            assertEquals(gamePlayBatch.getPlayerOneResult(index), gamePlays.get(index).getPlayerOneResult());
+        }
+    }
+
+    @Test
+    public void givenAGamePlayBatchWhenSummarizeBatchThenReturnSameSummaryAsTheGamePlays() {
+        Player randomPlayerOne = newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, new RandomMoveStrategy(ClassicMoves.ALL));
+        Player randomPlayerTwo = newFixedMovingPlayer(VALID_PLAYER_NAME_TWO, new RandomMoveStrategy(ClassicMoves.ALL));
+        GamePlayBatch gamePlayBatch = game.playBatch(Game.Iterations.of(MANY_GAME_ITERATIONS_VALUE),
+                randomPlayerOne, randomPlayerTwo);
+
+        GameSummary batchSummary = game.summarizeBatch(gamePlayBatch);
+        GameSummary gamePlaysSummary = game.summarizeStream(gamePlayBatch.stream());
+
+        assertEquals(gamePlayBatch.size(), MANY_GAME_ITERATIONS_VALUE);
+        assertEquals(batchSummary.getDrawGamePlays(), gamePlaysSummary.getDrawGamePlays());
+        assertEquals(batchSummary.getGamePlaysWonByPlayerName(), gamePlaysSummary.getGamePlaysWonByPlayerName());
+    }
+
+    @Test
+    public void givenRps101GamePlaysWhenAddedToGamePlayBatchThenGetReturnsTheSameMovesInOrder() {
+        MoveSet moveSet = RockPaperScissors101Moves.MOVE_SET;
+        GamePlayBatch gamePlayBatch = new GamePlayBatch(validPlayerOneName(), validPlayerTwoName(), moveSet);
+        for (int ordinal = 0; ordinal < moveSet.size(); ordinal++) {
+            gamePlayBatch.add(moveSet.getMove(ordinal), moveSet.getMove(moveSet.size() - 1 - ordinal));
+        }
+        for (int ordinal = 0; ordinal < moveSet.size(); ordinal++) {
+            assertEquals(gamePlayBatch.getPlayerOneMoveOrdinal(ordinal), ordinal);
+            assertEquals(gamePlayBatch.getPlayerTwoMoveOrdinal(ordinal), moveSet.size() - 1 - ordinal);
+        }
+    }
+
+    private List<GamePlay> newRandomGamePlays() {
+        Player randomPlayerOne = newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, new RandomMoveStrategy(ClassicMoves.ALL));
+        Player randomPlayerTwo = newFixedMovingPlayer(VALID_PLAYER_NAME_TWO, new RandomMoveStrategy(ClassicMoves.ALL));
+        return game.playLazily(Game.Iterations.of(MANY_GAME_ITERATIONS_VALUE), randomPlayerOne, randomPlayerTwo)
+                .collect(Collectors.toList());
+    }
+}
@@ -17,7 +17,7 @@ public class GamePlayTests {
     @Test
     public void givenAGamePlayWithTwoValidRockMovingPlayersWhenGetWinnerThenReturnEmpty() {
         GamePlay doubleRockMoveGamePlay = GamePlay.of(VALID_PLAYER_ONE, VALID_PLAYER_TWO);
-        Optional<Player> winner = doubleRockMoveGamePlay.getWinner();
+        Optional<Player.PlayerName> winner = doubleRockMoveGamePlay.getWinner();
         assertNotNull(winner);
         assertFalse(winner.isPresent());
     }
@@ -39,9 +39,9 @@ public class GamePlayTests {
     private void givenAGamePlayWithFixedMovingPlayersWhenGetWinnerThenReturnExpectedPlayer(
             Player playerOne, Player playerTwo, Player expectedWinner) {
         GamePlay fixedMoveGamePlay = GamePlay.of(playerOne, playerTwo);
-        Optional<Player> winner = fixedMoveGamePlay.getWinner();
+        Optional<Player.PlayerName> winner = fixedMoveGamePlay.getWinner();
         assertNotNull(winner);
         assertTrue(winner.isPresent());
-        assertEquals(winner.get(), expectedWinner);
+        assertEquals(winner.get(), expectedWinner.getPlayerName());
     }
 }
@@ -0,0 +1,110 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import org.junit.Test;
+
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class GameSessionTests {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenOpponentWithThePlayerNameWhenNewGameSessionThenThrowException() {
+        new GameSession(validPlayerOneName(), VALID_PLAYER_ONE);
+    }
+
+    @Test
+    public void givenSubmittedMoveWhenPlayThenReturnGamePlayAgainstTheOpponentCounterMove() {
+        GameSession gameSession = new GameSession(validPlayerOneName(), VALID_PLAYER_TWO);
+        GamePlay gamePlay = gameSession.play(ClassicMoves.PAPER_MOVE);
+        assertEquals(validPlayerOneName(), gamePlay.getPlayerOneName());
+        assertSame(ClassicMoves.PAPER_MOVE, gamePlay.getPlayerOneMove());
+        assertSame(ClassicMoves.ROCK_MOVE, gamePlay.getPlayerTwoMove());
+        assertEquals(Result.WINS, gamePlay.getPlayerOneResult());
+    }
+
+    @Test
+    public void givenConsumerWhenPlayThenHandTheGamePlayOverBeforeCountingIt() {
+        GameSession gameSession = new GameSession(validPlayerOneName(), VALID_PLAYER_TWO);
+        GamePlay[] consumedGamePlay = new GamePlay[1];
+        GamePlay gamePlay = gameSession.play(ClassicMoves.PAPER_MOVE, playedGamePlay -> {
+            assertEquals(0, gameSession.getGameSummary().getGamePlaysWonByPlayerName().size());
+            consumedGamePlay[0] = playedGamePlay;
+        });
+        assertSame(gamePlay, consumedGamePlay[0]);
+        assertEquals(Long.valueOf(1L), gameSession.getGameSummary().getGamePlaysWonByPlayerName()
+                .get(validPlayerOneName()));
+    }
+
+    @Test
+    public void givenFailingConsumerWhenPlayThenDontCountTheGamePlay() {
+        GameSession gameSession = new GameSession(validPlayerOneName(), VALID_PLAYER_TWO);
+        try {
+            gameSession.play(ClassicMoves.PAPER_MOVE, gamePlay -> {
+                throw new IllegalStateException();
+            });
+            fail("Expected the consumer exception to be thrown back");
+        } catch (IllegalStateException e) {
+            assertEquals(0, gameSession.getGameSummary().getGamePlaysWonByPlayerName().size());
+        }
+    }
+
+    @Test
+    public void givenNoGamePlaysWhenGetGameSummaryThenReturnEmptyGameSummary() {
+        GameSummary gameSummary = new GameSession(validPlayerOneName(), VALID_PLAYER_TWO).getGameSummary();
+        assertEquals(0L, gameSummary.getDrawGamePlays());
+        assertEquals(0, gameSummary.getGamePlaysWonByPlayerName().size());
+    }
+
+    @Test
+    public void givenAssortedGamePlaysWhenGetGameSummaryThenCountDrawsWinsAndLosses() {
+        GameSession gameSession = new GameSession(validPlayerOneName(), VALID_PLAYER_TWO);
+        gameSession.play(ClassicMoves.PAPER_MOVE);
+        gameSession.play(ClassicMoves.PAPER_MOVE);
+        gameSession.play(ClassicMoves.ROCK_MOVE);
+        gameSession.play(ClassicMoves.SCISSORS_MOVE);
+        GameSummary gameSummary = gameSession.getGameSummary();
+        assertEquals(1L, gameSummary.getDrawGamePlays());
+        assertEquals(Long.valueOf(2L), gameSummary.getGamePlaysWonByPlayerName().get(validPlayerOneName()));
+        assertEquals(Long.valueOf(1L), gameSummary.getGamePlaysWonByPlayerName().get(validPlayerTwoName()));
+    }
+
+    @Test
+    public void givenPlayerNeverLostWhenGetGameSummaryThenOpponentIsNotInGameSummary() {
+        GameSession gameSession = new GameSession(validPlayerOneName(), VALID_PLAYER_TWO);
+        gameSession.play(ClassicMoves.PAPER_MOVE);
+        assertNull(gameSession.getGameSummary().getGamePlaysWonByPlayerName().get(validPlayerTwoName()));
+    }
+
+    @Test
+    public void givenReplayedResultsWhenGetGameSummaryThenCountThemWithoutPlayingTheOpponent() {
+        Player opponent = Player.newPlayer(validPlayerTwoName(), () -> {
+            throw new UnsupportedOperationException();
+        });
+        GameSession gameSession = new GameSession(validPlayerOneName(), opponent);
+        gameSession.replay(Result.WINS);
+        gameSession.replay(Result.DRAWS);
+        gameSession.replay(Result.LOSES);
+        gameSession.replay(Result.LOSES);
+        GameSummary gameSummary = gameSession.getGameSummary();
+        assertEquals(1L, gameSummary.getDrawGamePlays());
+        assertEquals(Long.valueOf(1L), gameSummary.getGamePlaysWonByPlayerName().get(validPlayerOneName()));
+        assertEquals(Long.valueOf(2L), gameSummary.getGamePlaysWonByPlayerName().get(validPlayerTwoName()));
+    }
+
+    @Test
+    public void givenRestoredCountsWhenGetGameSummaryThenReplaceTheOnesCountedSoFar() {
+        GameSession gameSession = new GameSession(validPlayerOneName(), Player.newPlayer(validPlayerTwoName(),
+                () -> ClassicMoves.ROCK_MOVE));
+        gameSession.replay(Result.WINS);
+        gameSession.restore(3, 2, 1);
+        GameSummary gameSummary = gameSession.getGameSummary();
+        assertEquals(3L, gameSummary.getDrawGamePlays());
+        assertEquals(Long.valueOf(2L), gameSummary.getGamePlaysWonByPlayerName().get(validPlayerOneName()));
+        assertEquals(Long.valueOf(1L), gameSummary.getGamePlaysWonByPlayerName().get(validPlayerTwoName()));
+    }
+}
@@ -2,17 +2,28 @@ package com.chompchompfig.rockpaperscissors.domain;
 
 import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
 import com.chompchompfig.rockpaperscissors.domain.Game.Iterations;
+import com.chompchompfig.rockpaperscissors.domain.Game.Parallelism;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.RandomMoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.SplittableRandomMoveStrategy;
 import org.assertj.core.util.Lists;
 import org.junit.Test;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.*;
 import static org.junit.Assert.*;
 
 public class GameTests {
 
+    private static final int MANY_GAME_ITERATIONS_VALUE = 1001;
+    private static final int SOME_PARALLELISM_VALUE = 4;
+    private static final long SOME_RANDOM_SEED = 42L;
+
     private Game game = new Game();
 
     @Test(expected = NullPointerException.class)
@@ -27,6 +38,29 @@ public class GameTests {
         assertEquals(gamePlays.size(), GREATER_ZERO_GAME_ITERATIONS_VALUE);
     }
 
+    @Test
+    public void givenValidGameWhenPlayLazilyWithValidIterationsAndPlayersThenPlayOnlyWhenConsumed() {
+        AtomicInteger movesPerformed = new AtomicInteger();
+        Player countingPlayer = newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, () -> {
+            movesPerformed.incrementAndGet();
+            return ClassicMoves.ROCK_MOVE;
+        });
+        Stream<GamePlay> gamePlays = game.playLazily(GREATER_ZERO_GAME_ITERATIONS, countingPlayer, VALID_PLAYER_TWO);
+        assertEquals(movesPerformed.get(), 0);
+        assertEquals(gamePlays.collect(Collectors.toList()).size(), GREATER_ZERO_GAME_ITERATIONS_VALUE);
+        assertEquals(movesPerformed.get(), GREATER_ZERO_GAME_ITERATIONS_VALUE);
+    }
+
+    @Test
+    public void givenManyIterationsWhenPlayLazilyThenPlayAllOfThemInBlocks() {
+        Player alwaysMovingPaperPlayerOne = newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, FIXED_PAPER_MOVE_STRATEGY);
+        List<GamePlay> gamePlays = game.playLazily(Iterations.of(MANY_GAME_ITERATIONS_VALUE * 3),
+                alwaysMovingPaperPlayerOne, VALID_PLAYER_TWO).collect(Collectors.toList());
+        assertEquals(gamePlays.size(), MANY_GAME_ITERATIONS_VALUE * 3);
+        assertTrue(gamePlays.stream().allMatch(g -> g.getPlayerOneMove().equals(ClassicMoves.PAPER_MOVE)
+                && g.getPlayerTwoMove().equals(ClassicMoves.ROCK_MOVE)));
+    }
+
     @Test(expected = NullPointerException.class)
     public void givenValidGameWhenPlayWithGreaterZeroIterationsAndNullPlayerThenThrowException() {
         game.play(GREATER_ZERO_GAME_ITERATIONS, VALID_PLAYER_ONE, INVALID_PLAYER_TWO);
@@ -78,6 +112,74 @@ public class GameTests {
         assertEquals(gameSummary.getGamePlaysWonByPlayerName().get(validPlayerTwoName()), Long.valueOf(1L));
     }
 
+    @Test
+    public void givenAssortedGamePlaysStreamWhenSummarizeStreamThenReturnCorrectGameSummary() {
+        GameSummary gameSummary = game.summarizeStream(newAssortedGamePlays().stream());
+        assertEquals(gameSummary.getDrawGamePlays(), 1L);
+        assertEquals(gameSummary.getGamePlaysWonByPlayerName().size(), 2);
+        assertEquals(gameSummary.getGamePlaysWonByPlayerName().get(validPlayerOneName()), Long.valueOf(1L));
+        assertEquals(gameSummary.getGamePlaysWonByPlayerName().get(validPlayerTwoName()), Long.valueOf(1L));
+    }
+
+    @Test
+    public void givenAlwaysWinsPlayerOneWhenPlayInParallelThenSummarizeAllIterations() {
+        Player alwaysMovingPaperPlayerOne = newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, FIXED_PAPER_MOVE_STRATEGY);
+        GameSummary gameSummary = game.playInParallel(Iterations.of(MANY_GAME_ITERATIONS_VALUE),
+                Parallelism.of(SOME_PARALLELISM_VALUE), alwaysMovingPaperPlayerOne, VALID_PLAYER_TWO);
+        assertEquals(gameSummary.getDrawGamePlays(), 0L);
+        assertEquals(gameSummary.getGamePlaysWonByPlayerName().size(), 1);
+        assertEquals(gameSummary.getGamePlaysWonByPlayerName().get(validPlayerOneName()),
+                Long.valueOf(MANY_GAME_ITERATIONS_VALUE));
+    }
+
+    @Test
+    public void givenRandomPlayersWhenPlayInParallelThenSummarizeAllIterations() {
+        Player randomPlayerOne = newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, new RandomMoveStrategy(ClassicMoves.ALL));
+        Player randomPlayerTwo = newFixedMovingPlayer(VALID_PLAYER_NAME_TWO, new RandomMoveStrategy(ClassicMoves.ALL));
+        GameSummary gameSummary = game.playInParallel(Iterations.of(MANY_GAME_ITERATIONS_VALUE),
+                Parallelism.of(SOME_PARALLELISM_VALUE), randomPlayerOne, randomPlayerTwo);
+        long gamePlaysWon = gameSummary.getGamePlaysWonByPlayerName().values().stream().mapToLong(w -> w).sum();
+        assertEquals(gameSummary.getDrawGamePlays() + gamePlaysWon, MANY_GAME_ITERATIONS_VALUE);
+    }
+
+    @Test
+    public void givenSeededRandomPlayersWhenPlayInParallelTwiceThenReturnTheSameGameSummary() {
+        GameSummary aGameSummary = playSeededRandomPlayersInParallel();
+        GameSummary anotherGameSummary = playSeededRandomPlayersInParallel();
+        assertEquals(aGameSummary.getDrawGamePlays(), anotherGameSummary.getDrawGamePlays());
+        assertEquals(aGameSummary.getGamePlaysWonByPlayerName(), anotherGameSummary.getGamePlaysWonByPlayerName());
+    }
+
+    private GameSummary playSeededRandomPlayersInParallel() {
+        MoveStrategy seededRandomMoveStrategy = new SplittableRandomMoveStrategy(ClassicMoves.ALL, SOME_RANDOM_SEED);
+        Player randomPlayerOne = newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, seededRandomMoveStrategy);
+        Player randomPlayerTwo = newFixedMovingPlayer(VALID_PLAYER_NAME_TWO, seededRandomMoveStrategy);
+        return game.playInParallel(Iterations.of(MANY_GAME_ITERATIONS_VALUE), Parallelism.of(SOME_PARALLELISM_VALUE),
+                randomPlayerOne, randomPlayerTwo);
+    }
+
+    @Test
+    public void givenMoreParallelismThanIterationsWhenPlayInParallelThenSummarizeAllIterations() {
+        GameSummary gameSummary = game.playInParallel(GREATER_ZERO_GAME_ITERATIONS,
+                Parallelism.of(SOME_PARALLELISM_VALUE), VALID_PLAYER_ONE, VALID_PLAYER_TWO);
+        assertEquals(gameSummary.getDrawGamePlays(), GREATER_ZERO_GAME_ITERATIONS_VALUE);
+    }
+
+    @Test
+    public void givenTwoGameSummariesWhenMergeThenAddUpTheirGamePlays() {
+        GameSummary assortedGameSummary = game.summarize(newAssortedGamePlays());
+        GameSummary mergedGameSummary = assortedGameSummary.merge(newPlayerOneAlwaysWinsGameSummary());
+        assertEquals(mergedGameSummary.getDrawGamePlays(), 1L);
+        assertEquals(mergedGameSummary.getGamePlaysWonByPlayerName().get(validPlayerOneName()), Long.valueOf(3L));
+        assertEquals(mergedGameSummary.getGamePlaysWonByPlayerName().get(validPlayerTwoName()), Long.valueOf(1L));
+        assertEquals(assortedGameSummary.getGamePlaysWonByPlayerName().get(validPlayerOneName()), Long.valueOf(1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroParallelismValueWhenParallelismOfThenThrowException() {
+        Parallelism.of(0);
+    }
+
     private GameSummary givenValidGamePlaysWhenSummarizeThenReturnExpectedGameSummary(
             List<GamePlay> validGamePlays, long expectedDrawPlays, int expectedWinnersSize) {
         GameSummary gameSummary = game.summarize(validGamePlays);
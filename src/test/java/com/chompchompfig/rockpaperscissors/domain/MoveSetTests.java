@@ -0,0 +1,97 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissors101Moves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissorsLizardSpockMoves;
+import org.assertj.core.util.Lists;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MoveSetTests {
+
+    private static final int RPS_101_NUMBER_OF_MOVES = 101;
+    private static final String ROCK_MOVE_NAME = "Rock";
+    private static final String PAPER_MOVE_NAME = "Paper";
+    private static final String SCISSORS_MOVE_NAME = "Scissors";
+    private static final String LIZARD_MOVE_NAME = "Lizard";
+    private static final String SPOCK_MOVE_NAME = "Spock";
+    private static final String TEST_MOVE_SET_NAME = "Test";
+
+    private MoveSet rpsls = RockPaperScissorsLizardSpockMoves.MOVE_SET;
+    private MoveSet rps101 = RockPaperScissors101Moves.MOVE_SET;
+
+    @Test
+    public void givenTheClassicMoveSetWhenResultOfThenMatchesTheClassicRules() {
+        MoveSet classic = ClassicMoves.MOVE_SET;
+        assertEquals(classic.resultOf(ClassicMoves.ROCK_MOVE, ClassicMoves.SCISSORS_MOVE), Result.WINS);
+        assertEquals(classic.resultOf(ClassicMoves.SCISSORS_MOVE, ClassicMoves.PAPER_MOVE), Result.WINS);
+        assertEquals(classic.resultOf(ClassicMoves.PAPER_MOVE, ClassicMoves.ROCK_MOVE), Result.WINS);
+        assertEquals(classic.resultOf(ClassicMoves.ROCK_MOVE, ClassicMoves.PAPER_MOVE), Result.LOSES);
+        assertEquals(classic.resultOf(ClassicMoves.PAPER_MOVE, ClassicMoves.PAPER_MOVE), Result.DRAWS);
+    }
+
+    @Test
+    public void givenTheRockPaperScissorsLizardSpockMoveSetWhenResultOfThenMatchesItsRules() {
+        assertRpslsWins(SCISSORS_MOVE_NAME, PAPER_MOVE_NAME);
+        assertRpslsWins(PAPER_MOVE_NAME, ROCK_MOVE_NAME);
+        assertRpslsWins(ROCK_MOVE_NAME, LIZARD_MOVE_NAME);
+        assertRpslsWins(LIZARD_MOVE_NAME, SPOCK_MOVE_NAME);
+        assertRpslsWins(SPOCK_MOVE_NAME, SCISSORS_MOVE_NAME);
+        assertRpslsWins(SCISSORS_MOVE_NAME, LIZARD_MOVE_NAME);
+        assertRpslsWins(LIZARD_MOVE_NAME, PAPER_MOVE_NAME);
+        assertRpslsWins(PAPER_MOVE_NAME, SPOCK_MOVE_NAME);
+        assertRpslsWins(SPOCK_MOVE_NAME, ROCK_MOVE_NAME);
+        assertRpslsWins(ROCK_MOVE_NAME, SCISSORS_MOVE_NAME);
+    }
+
+    private void assertRpslsWins(String moveName, String otherMoveName) {
+        assertEquals(rpsls.from(moveName).playedAgainst(rpsls.from(otherMoveName)), Result.WINS);
+        assertEquals(rpsls.from(otherMoveName).playedAgainst(rpsls.from(moveName)), Result.LOSES);
+    }
+
+    @Test
+    public void givenTheRps101MoveSetWhenResultOfThenEveryMoveBeatsHalfOfTheOthers() {
+        assertEquals(rps101.size(), RPS_101_NUMBER_OF_MOVES);
+        for (Move move : rps101.getMoves()) {
+            long wins = rps101.getMoves().stream().filter(m -> move.playedAgainst(m) == Result.WINS).count();
+            long loses = rps101.getMoves().stream().filter(m -> move.playedAgainst(m) == Result.LOSES).count();
+            assertEquals(wins, RPS_101_NUMBER_OF_MOVES / 2);
+            assertEquals(loses, RPS_101_NUMBER_OF_MOVES / 2);
+            assertEquals(move.playedAgainst(move), Result.DRAWS);
+        }
+    }
+
+    @Test
+    public void givenTheRps101MoveSetWhenResultOfClassicMovesThenMatchesTheClassicRules() {
+        assertEquals(rps101.from(ROCK_MOVE_NAME).playedAgainst(rps101.from(SCISSORS_MOVE_NAME)), Result.WINS);
+        assertEquals(rps101.from(SCISSORS_MOVE_NAME).playedAgainst(rps101.from(PAPER_MOVE_NAME)), Result.WINS);
+        assertEquals(rps101.from(PAPER_MOVE_NAME).playedAgainst(rps101.from(ROCK_MOVE_NAME)), Result.WINS);
+    }
+
+    @Test
+    public void givenAMoveSetWhenFromMoveNameInAnyCaseThenReturnsTheMove() {
+        assertEquals(rpsls.from(SPOCK_MOVE_NAME.toUpperCase()).toString(), SPOCK_MOVE_NAME);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAMoveSetWhenFromUnknownMoveNameThenThrowException() {
+        ClassicMoves.MOVE_SET.from(LIZARD_MOVE_NAME);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAMoveSetWhenResultOfAForeignMoveThenThrowException() {
+        rpsls.resultOf(rpsls.from(ROCK_MOVE_NAME), ClassicMoves.ROCK_MOVE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAnEvenNumberOfMovesWhenBalancedOfNamesThenThrowException() {
+        MoveSet.balancedOfNames(TEST_MOVE_SET_NAME, Lists.newArrayList(ROCK_MOVE_NAME, PAPER_MOVE_NAME));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenMovesOutOfOrdinalOrderWhenBalancedThenThrowException() {
+        MoveSet.balanced(TEST_MOVE_SET_NAME, Lists.newArrayList(ClassicMoves.PAPER_MOVE, ClassicMoves.ROCK_MOVE,
+                ClassicMoves.SCISSORS_MOVE));
+    }
+}
@@ -0,0 +1,62 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+import org.junit.Test;
+
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SummaryAccumulatorTests {
+
+    private Game game = new Game();
+
+    @Test
+    public void givenAnEmptySummaryAccumulatorWhenToGameSummaryThenReturnEmptyGameSummary() {
+        GameSummary gameSummary = new SummaryAccumulator().toGameSummary();
+        assertEquals(gameSummary.getDrawGamePlays(), 0L);
+        assertTrue(gameSummary.getGamePlaysWonByPlayerName().isEmpty());
+    }
+
+    @Test
+    public void givenAssortedGamePlaysWhenAddedThenReturnTheSameGameSummaryAsSummarize() {
+        SummaryAccumulator summaryAccumulator = new SummaryAccumulator();
+        newAssortedGamePlays().forEach(summaryAccumulator::add);
+        GameSummary gameSummary = summaryAccumulator.toGameSummary();
+        GameSummary expectedGameSummary = game.summarize(newAssortedGamePlays());
+        assertEquals(gameSummary.getDrawGamePlays(), expectedGameSummary.getDrawGamePlays());
+        assertEquals(gameSummary.getGamePlaysWonByPlayerName(), expectedGameSummary.getGamePlaysWonByPlayerName());
+        assertEquals(gameSummary.toString(), expectedGameSummary.toString());
+    }
+
+    @Test
+    public void givenTwoSummaryAccumulatorsWhenMergeThenAddUpTheirGamePlays() {
+        SummaryAccumulator summaryAccumulator = new SummaryAccumulator();
+        newAssortedGamePlays().forEach(summaryAccumulator::add);
+        SummaryAccumulator otherSummaryAccumulator = new SummaryAccumulator();
+        newPlayerOneAlwaysWinsGamePlays().forEach(otherSummaryAccumulator::add);
+
+        GameSummary gameSummary = summaryAccumulator.merge(otherSummaryAccumulator).toGameSummary();
+
+        assertEquals(gameSummary.getDrawGamePlays(), 1L);
+        assertEquals(gameSummary.getGamePlaysWonByPlayerName().get(validPlayerOneName()), Long.valueOf(3L));
+        assertEquals(gameSummary.getGamePlaysWonByPlayerName().get(validPlayerTwoName()), Long.valueOf(1L));
+        assertEquals(otherSummaryAccumulator.toGameSummary().getGamePlaysWonByPlayerName().get(validPlayerOneName()),
+                Long.valueOf(2L));
+    }
+
+    @Test
+    public void givenZeroGamePlaysWonWhenAddGamePlaysWonThenPlayerIsNotInGameSummary() {
+        SummaryAccumulator summaryAccumulator = new SummaryAccumulator();
+        summaryAccumulator.addGamePlaysWon(validPlayerOneName(), 0);
+        assertTrue(summaryAccumulator.toGameSummary().getGamePlaysWonByPlayerName().isEmpty());
+    }
+
+    @Test
+    public void givenAParallelStreamOfGamePlaysWhenCollectedThenCountEveryGamePlay() {
+        GameSummary gameSummary = newAllDrawGamePlays().parallelStream()
+                .collect(SummaryAccumulator.toGameSummaryCollector());
+        assertEquals(gameSummary.getDrawGamePlays(), 2L);
+    }
+
+}
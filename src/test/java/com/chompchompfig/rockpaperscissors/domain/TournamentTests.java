@@ -0,0 +1,103 @@
+package com.chompchompfig.rockpaperscissors.domain;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.Iterations;
+import com.chompchompfig.rockpaperscissors.domain.Game.Parallelism;
+import com.chompchompfig.rockpaperscissors.domain.Tournament.ScoreMatrix;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.SplittableRandomMoveStrategy;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TournamentTests {
+
+    private static final int SOME_GAME_ITERATIONS_VALUE = 10;
+    private static final int MANY_GAME_ITERATIONS_VALUE = 1 << 14;
+    private static final int SOME_PARALLELISM_VALUE = 4;
+    private static final int MANY_PLAYERS = 41;
+    private static final long SOME_RANDOM_SEED = 7L;
+    private static final String VALID_PLAYER_NAME_THREE = "THREE";
+
+    private Tournament tournament = new Tournament(new Game());
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenSinglePlayerWhenPlayThenThrowException() {
+        tournament.play(Iterations.of(SOME_GAME_ITERATIONS_VALUE), Parallelism.of(SOME_PARALLELISM_VALUE),
+                Collections.singletonList(VALID_PLAYER_ONE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenPlayersWithTheSameNameWhenPlayThenThrowException() {
+        tournament.play(Iterations.of(SOME_GAME_ITERATIONS_VALUE), Parallelism.of(SOME_PARALLELISM_VALUE),
+                Arrays.asList(VALID_PLAYER_ONE, newRockMovingPlayer(VALID_PLAYER_NAME_ONE)));
+    }
+
+    @Test
+    public void givenFixedMovingPlayersWhenPlayThenScoreEveryMatchup() {
+        ScoreMatrix scoreMatrix = tournament.play(Iterations.of(SOME_GAME_ITERATIONS_VALUE),
+                Parallelism.of(SOME_PARALLELISM_VALUE), Arrays.asList(
+                        newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, FIXED_ROCK_MOVE_STRATEGY),
+                        newFixedMovingPlayer(VALID_PLAYER_NAME_TWO, FIXED_PAPER_MOVE_STRATEGY),
+                        newFixedMovingPlayer(VALID_PLAYER_NAME_THREE, FIXED_ROCK_MOVE_STRATEGY)));
+        assertEquals(3, scoreMatrix.size());
+        assertEquals(validPlayerTwoName(), scoreMatrix.getPlayerName(1));
+        assertEquals(SOME_GAME_ITERATIONS_VALUE, scoreMatrix.getGamePlaysWon(1, 0));
+        assertEquals(SOME_GAME_ITERATIONS_VALUE, scoreMatrix.getGamePlaysLost(0, 1));
+        assertEquals(0L, scoreMatrix.getGamePlaysWon(0, 1));
+        assertEquals(SOME_GAME_ITERATIONS_VALUE, scoreMatrix.getDrawGamePlays(0, 2));
+        assertEquals(0L, scoreMatrix.getDrawGamePlays(1, 1));
+        assertEquals(2L * SOME_GAME_ITERATIONS_VALUE, scoreMatrix.getTotalGamePlaysWon(1));
+        assertEquals(SOME_GAME_ITERATIONS_VALUE, scoreMatrix.getTotalGamePlaysLost(2));
+        assertArrayEquals(new int[] { 1, 0, 2 }, scoreMatrix.getRanking());
+    }
+
+    @Test
+    public void givenManyPlayersWhenPlayThenPlayEveryMatchupForAllIterations() {
+        List<Player> players = new ArrayList<>();
+        for (int player = 0; player < MANY_PLAYERS; player++) {
+            players.add(newFixedMovingPlayer(String.valueOf(player),
+                    (player % 2 == 0) ? FIXED_ROCK_MOVE_STRATEGY : FIXED_PAPER_MOVE_STRATEGY));
+        }
+        ScoreMatrix scoreMatrix = tournament.play(Iterations.of(MANY_GAME_ITERATIONS_VALUE),
+                Parallelism.of(SOME_PARALLELISM_VALUE), players);
+        for (int player = 0; player < MANY_PLAYERS; player++) {
+            for (int opponent = 0; opponent < MANY_PLAYERS; opponent++) {
+                boolean paperAgainstRock = (player % 2 == 1) && (opponent % 2 == 0);
+                assertEquals(paperAgainstRock ? MANY_GAME_ITERATIONS_VALUE : 0L,
+                        scoreMatrix.getGamePlaysWon(player, opponent));
+            }
+        }
+        assertEquals(1, scoreMatrix.getRanking()[0]);
+    }
+
+    @Test
+    public void givenRandomPlayersWhenPlayThenNeverScoreMoreThanTheIterationsOfAMatchup() {
+        List<Player> players = new ArrayList<>();
+        for (int player = 0; player < MANY_PLAYERS; player++) {
+            players.add(newFixedMovingPlayer(String.valueOf(player),
+                    new SplittableRandomMoveStrategy(ClassicMoves.ALL, SOME_RANDOM_SEED + player)));
+        }
+        ScoreMatrix scoreMatrix = tournament.play(Iterations.of(SOME_GAME_ITERATIONS_VALUE),
+                Parallelism.of(SOME_PARALLELISM_VALUE), players);
+        for (int player = 0; player < MANY_PLAYERS; player++) {
+            for (int opponent = player + 1; opponent < MANY_PLAYERS; opponent++) {
+                assertTrue(scoreMatrix.getDrawGamePlays(player, opponent) >= 0);
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void givenPlayerOutOfBoundsWhenGetGamePlaysWonThenThrowException() {
+        ScoreMatrix scoreMatrix = tournament.play(Iterations.of(SOME_GAME_ITERATIONS_VALUE),
+                Parallelism.of(SOME_PARALLELISM_VALUE), Arrays.asList(VALID_PLAYER_ONE, VALID_PLAYER_TWO));
+        scoreMatrix.getGamePlaysWon(0, 2);
+    }
+}
@@ -0,0 +1,124 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RandomDigitsTests {
+
+    private static final long SOME_SEED = 42L;
+    private static final int MANY_DIGITS = 300000;
+    private static final int CLASSIC_BASE = 3;
+    private static final int CLASSIC_DIGITS_PER_WORD = 38;
+    private static final int RPSLS_BASE = 5;
+    private static final int RPS_101_BASE = 101;
+    // bases whose best power used to reach 2^63, leaving negative remainders
+    private static final int BASE_40 = 40;
+    private static final int BASE_255 = 255;
+    // chi-square critical values for a 0.001 significance level, by degrees of freedom
+    private static final double CHI_SQUARE_CRITICAL_VALUE_2_DF = 13.816;
+    private static final double CHI_SQUARE_CRITICAL_VALUE_4_DF = 18.467;
+    private static final double CHI_SQUARE_CRITICAL_VALUE_8_DF = 26.124;
+    private static final double CHI_SQUARE_CRITICAL_VALUE_39_DF = 72.055;
+    private static final double CHI_SQUARE_CRITICAL_VALUE_100_DF = 149.449;
+    private static final double CHI_SQUARE_CRITICAL_VALUE_254_DF = 329.4;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAZeroBaseWhenNewRandomDigitsThenThrowException() {
+        new RandomDigits(0, new SplittableRandom(SOME_SEED)::nextLong);
+    }
+
+    @Test
+    public void givenTheClassicBaseWhenNewRandomDigitsThenExtractManyDigitsPerWord() {
+        assertEquals(new RandomDigits(CLASSIC_BASE, new SplittableRandom(SOME_SEED)::nextLong).getDigitsPerWord(),
+                CLASSIC_DIGITS_PER_WORD);
+    }
+
+    @Test
+    public void givenBaseOneWhenNextDigitThenReturnZeroWithoutDrawingWords() {
+        AtomicInteger wordsDrawn = new AtomicInteger();
+        RandomDigits randomDigits = new RandomDigits(1, () -> wordsDrawn.incrementAndGet());
+        assertEquals(randomDigits.nextDigit(), 0);
+        assertEquals(wordsDrawn.get(), 0);
+    }
+
+    @Test
+    public void givenAWordAboveTheAcceptanceLimitWhenNextDigitThenRejectItAndDrawAnother() {
+        AtomicInteger wordsDrawn = new AtomicInteger();
+        RandomDigits randomDigits = new RandomDigits(CLASSIC_BASE, () -> (wordsDrawn.incrementAndGet() == 1) ? -1L : 5L);
+        assertEquals(randomDigits.nextDigit(), 2);
+        assertEquals(randomDigits.nextDigit(), 1);
+        assertEquals(randomDigits.nextDigit(), 0);
+        assertEquals(wordsDrawn.get(), 2);
+    }
+
+    @Test
+    public void givenTheClassicBaseWhenManyDigitsThenDigitsAreUniform() {
+        assertTrue(chiSquareOfDigits(CLASSIC_BASE) < CHI_SQUARE_CRITICAL_VALUE_2_DF);
+    }
+
+    @Test
+    public void givenTheRockPaperScissorsLizardSpockBaseWhenManyDigitsThenDigitsAreUniform() {
+        assertTrue(chiSquareOfDigits(RPSLS_BASE) < CHI_SQUARE_CRITICAL_VALUE_4_DF);
+    }
+
+    @Test
+    public void givenTheRps101BaseWhenManyDigitsThenDigitsAreUniform() {
+        assertTrue(chiSquareOfDigits(RPS_101_BASE) < CHI_SQUARE_CRITICAL_VALUE_100_DF);
+    }
+
+    @Test
+    public void givenBase40WhenManyDigitsThenDigitsAreInRangeAndUniform() {
+        assertDigitsInRange(BASE_40);
+        assertTrue(chiSquareOfDigits(BASE_40) < CHI_SQUARE_CRITICAL_VALUE_39_DF);
+    }
+
+    @Test
+    public void givenBase255WhenManyDigitsThenDigitsAreInRangeAndUniform() {
+        assertDigitsInRange(BASE_255);
+        assertTrue(chiSquareOfDigits(BASE_255) < CHI_SQUARE_CRITICAL_VALUE_254_DF);
+    }
+
+    @Test
+    public void givenTheClassicBaseWhenManyDigitsThenConsecutiveDigitPairsAreUniform() {
+        RandomDigits randomDigits = new RandomDigits(CLASSIC_BASE, new SplittableRandom(SOME_SEED)::nextLong);
+        long[] pairCounts = new long[CLASSIC_BASE * CLASSIC_BASE];
+        for (int pair = 0; pair < MANY_DIGITS; pair++) {
+            pairCounts[randomDigits.nextDigit() * CLASSIC_BASE + randomDigits.nextDigit()]++;
+        }
+        assertTrue(chiSquare(pairCounts, MANY_DIGITS) < CHI_SQUARE_CRITICAL_VALUE_8_DF);
+    }
+
+    private void assertDigitsInRange(int base) {
+        RandomDigits randomDigits = new RandomDigits(base, new SplittableRandom(SOME_SEED)::nextLong);
+        for (int index = 0; index < MANY_DIGITS; index++) {
+            int digit = randomDigits.nextDigit();
+            assertTrue((digit >= 0) && (digit < base));
+        }
+    }
+
+    private double chiSquareOfDigits(int base) {
+        RandomDigits randomDigits = new RandomDigits(base, new SplittableRandom(SOME_SEED)::nextLong);
+        byte[] digits = new byte[MANY_DIGITS];
+        randomDigits.fill(digits, 0, MANY_DIGITS);
+        long[] digitCounts = new long[base];
+        for (byte digit : digits) {
+            digitCounts[digit & 0xFF]++;
+        }
+        return chiSquare(digitCounts, MANY_DIGITS);
+    }
+
+    private double chiSquare(long[] counts, long total) {
+        double expected = (double) total / counts.length;
+        double chiSquare = 0;
+        for (long count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        return chiSquare;
+    }
+
+}
@@ -4,10 +4,15 @@ import org.junit.Test;
 import org.assertj.core.util.Lists;
 import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class RandomMoveStrategyTests {
 
+    private static final int SOME_ORDINALS_LENGTH = 10;
+    private static final int SOME_OFFSET = 2;
+    private static final int SOME_COUNT = 5;
+
     @Test(expected = IllegalArgumentException.class)
     public void givenAnEmptyMovesListWhenNewRandomMoveStrategyThenThrowsException() {
         new RandomMoveStrategy(Lists.emptyList());
@@ -24,4 +29,15 @@ public class RandomMoveStrategyTests {
         assertTrue(ClassicMoves.ALL.contains(randomMoveStrategy.getNextMove()));
     }
 
+    @Test
+    public void givenARandomMoveStrategyWithOneMoveWhenFillNextMovesThenFillOnlyTheGivenBlockWithItsOrdinal() {
+        RandomMoveStrategy randomMoveStrategy = new RandomMoveStrategy(Lists.newArrayList(ClassicMoves.PAPER_MOVE));
+        byte[] ordinals = new byte[SOME_ORDINALS_LENGTH];
+        randomMoveStrategy.fillNextMoves(ordinals, SOME_OFFSET, SOME_COUNT);
+        for (int index = 0; index < ordinals.length; index++) {
+            boolean inBlock = (index >= SOME_OFFSET) && (index < SOME_OFFSET + SOME_COUNT);
+            assertEquals(ordinals[index], inBlock ? ClassicMoves.PAPER_MOVE.getOrdinal() : 0);
+        }
+    }
+
 }
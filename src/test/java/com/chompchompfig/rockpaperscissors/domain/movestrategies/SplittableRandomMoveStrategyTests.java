@@ -0,0 +1,62 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import org.assertj.core.util.Lists;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SplittableRandomMoveStrategyTests {
+
+    private static final long SOME_SEED = 42L;
+    private static final int MANY_MOVES = 100;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAnEmptyMovesListWhenNewSplittableRandomMoveStrategyThenThrowsException() {
+        new SplittableRandomMoveStrategy(Lists.emptyList());
+    }
+
+    @Test
+    public void givenASplittableRandomMoveStrategyWithAllMovesWhenGetNextMoveThenReturnsAValidMove() {
+        SplittableRandomMoveStrategy randomMoveStrategy = new SplittableRandomMoveStrategy(ClassicMoves.ALL);
+        assertTrue(ClassicMoves.ALL.contains(randomMoveStrategy.getNextMove()));
+    }
+
+    @Test
+    public void givenTwoStrategiesWithTheSameSeedWhenGetNextMovesThenReturnTheSameMoves() {
+        assertEquals(getNextMoves(new SplittableRandomMoveStrategy(ClassicMoves.ALL, SOME_SEED)),
+                getNextMoves(new SplittableRandomMoveStrategy(ClassicMoves.ALL, SOME_SEED)));
+    }
+
+    @Test
+    public void givenTwoStrategiesWithTheSameSeedWhenSplitThenSplitsReturnTheSameMoves() {
+        MoveStrategy aStrategy = new SplittableRandomMoveStrategy(ClassicMoves.ALL, SOME_SEED);
+        MoveStrategy anotherStrategy = new SplittableRandomMoveStrategy(ClassicMoves.ALL, SOME_SEED);
+        aStrategy.split();
+        anotherStrategy.split();
+        assertEquals(getNextMoves(aStrategy.split()), getNextMoves(anotherStrategy.split()));
+    }
+
+    @Test
+    public void givenTwoStrategiesWithTheSameSeedWhenFillNextMovesThenFillTheSameOrdinalsAsGetNextMove() {
+        MoveStrategy aStrategy = new SplittableRandomMoveStrategy(ClassicMoves.ALL, SOME_SEED);
+        MoveStrategy anotherStrategy = new SplittableRandomMoveStrategy(ClassicMoves.ALL, SOME_SEED);
+        byte[] ordinals = new byte[MANY_MOVES];
+        aStrategy.fillNextMoves(ordinals, 0, MANY_MOVES);
+        for (byte ordinal : ordinals) {
+            assertEquals(ordinal, anotherStrategy.getNextMove().getOrdinal());
+        }
+    }
+
+    private List<Move> getNextMoves(MoveStrategy moveStrategy) {
+        return IntStream.range(0, MANY_MOVES).mapToObj(i -> moveStrategy.getNextMove()).collect(Collectors.toList());
+    }
+
+}
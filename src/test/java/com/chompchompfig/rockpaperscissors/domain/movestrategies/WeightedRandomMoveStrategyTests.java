@@ -0,0 +1,60 @@
+package com.chompchompfig.rockpaperscissors.domain.movestrategies;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WeightedRandomMoveStrategyTests {
+
+    private static final int MANY_MOVES = 100000;
+    private static final double FREQUENCY_TOLERANCE = 0.02;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAnEmptyMovesListWhenNewWeightedRandomMoveStrategyThenThrowsException() {
+        new WeightedRandomMoveStrategy(Collections.emptyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenFewerWeightsThanMovesWhenNewWeightedRandomMoveStrategyThenThrowsException() {
+        new WeightedRandomMoveStrategy(ClassicMoves.ALL, 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenANegativeWeightWhenNewWeightedRandomMoveStrategyThenThrowsException() {
+        new WeightedRandomMoveStrategy(ClassicMoves.ALL, 1, -1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAllWeightsZeroWhenNewWeightedRandomMoveStrategyThenThrowsException() {
+        new WeightedRandomMoveStrategy(ClassicMoves.ALL, 0, 0, 0);
+    }
+
+    @Test
+    public void givenZeroWeightedMovesWhenGetNextMoveThenNeverReturnThem() {
+        WeightedRandomMoveStrategy weightedMoveStrategy = new WeightedRandomMoveStrategy(ClassicMoves.ALL, 0, 1, 0);
+        for (int move = 0; move < MANY_MOVES; move++) {
+            assertEquals(ClassicMoves.ALL.get(1), weightedMoveStrategy.getNextMove());
+        }
+    }
+
+    @Test
+    public void givenWeightsWhenGetNextMoveThenReturnMovesInProportionToTheirWeights() {
+        int[] weights = { 5, 3, 2 };
+        WeightedRandomMoveStrategy weightedMoveStrategy = new WeightedRandomMoveStrategy(ClassicMoves.ALL, weights);
+        Map<Move, Integer> frequencies = new HashMap<>();
+        for (int move = 0; move < MANY_MOVES; move++) {
+            frequencies.merge(weightedMoveStrategy.getNextMove(), 1, Integer::sum);
+        }
+        for (int index = 0; index < weights.length; index++) {
+            double frequency = frequencies.getOrDefault(ClassicMoves.ALL.get(index), 0) / (double) MANY_MOVES;
+            assertTrue(Math.abs(frequency - weights[index] / 10.0) < FREQUENCY_TOLERANCE);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.journal;
+
+import com.chompchompfig.rockpaperscissors.domain.Result;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GameJournalTests {
+
+    private static final int FEW_RECORDS_PER_SEGMENT = 4;
+    private static final int VALID_MAX_SEGMENTS = 16;
+    private static final int FEW_MAX_SEGMENTS = 2;
+    private static final long COMMIT_EVERY_RECORD = 0;
+    private static final long LONG_COMMIT_INTERVAL_MILLIS = 3600000;
+    private static final long VALID_AWAIT_MILLIS = 1000;
+    private static final String VALID_PLAYER_NAME = "ONE";
+    private static final String VALID_STRATEGY_NAME = "random";
+    private static final String TOO_LONG_NAME = "ThisNameIsTooLongToJournal";
+    private static final UUID VALID_SESSION_ID = UUID.randomUUID();
+
+    private File directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("journal").toFile();
+    }
+
+    @After
+    public void deleteDirectory() {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroRecordsPerSegmentWhenNewGameJournalThenThrowException() throws IOException {
+        new GameJournal(directory, 0, VALID_MAX_SEGMENTS, COMMIT_EVERY_RECORD, new RecordingVisitor());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroMaxSegmentsWhenNewGameJournalThenThrowException() throws IOException {
+        new GameJournal(directory, FEW_RECORDS_PER_SEGMENT, 0, COMMIT_EVERY_RECORD, new RecordingVisitor());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenTooLongNameWhenAppendOpenedThenThrowException() throws IOException {
+        try (GameJournal gameJournal = newGameJournal(VALID_MAX_SEGMENTS)) {
+            gameJournal.appendOpened(VALID_SESSION_ID, TOO_LONG_NAME, VALID_STRATEGY_NAME);
+        }
+    }
+
+    @Test
+    public void givenAppendedRecordsWhenReopenThenReplayThemInOrder() throws IOException {
+        try (GameJournal gameJournal = newGameJournal(VALID_MAX_SEGMENTS)) {
+            assertEquals(1L, gameJournal.appendOpened(VALID_SESSION_ID, VALID_PLAYER_NAME, VALID_STRATEGY_NAME));
+            assertEquals(2L, gameJournal.appendPlayed(VALID_SESSION_ID, 1, 0, Result.WINS));
+            assertEquals(3L, gameJournal.appendClosed(VALID_SESSION_ID));
+        }
+        RecordingVisitor visitor = new RecordingVisitor();
+        try (GameJournal gameJournal = new GameJournal(directory, FEW_RECORDS_PER_SEGMENT, VALID_MAX_SEGMENTS,
+                COMMIT_EVERY_RECORD, visitor)) {
+            assertEquals(3L, gameJournal.getLastSequence());
+            assertEquals(4L, gameJournal.appendClosed(VALID_SESSION_ID));
+        }
+        assertEquals(3, visitor.records.size());
+        assertEquals("1 opened " + VALID_SESSION_ID + " " + VALID_PLAYER_NAME + " " + VALID_STRATEGY_NAME,
+                visitor.records.get(0));
+        assertEquals("2 played " + VALID_SESSION_ID + " 1 0 WINS", visitor.records.get(1));
+        assertEquals("3 closed " + VALID_SESSION_ID, visitor.records.get(2));
+    }
+
+    @Test
+    public void givenMoreRecordsThanFitInASegmentWhenReplayThenReplayThemAcrossSegments() throws IOException {
+        try (GameJournal gameJournal = newGameJournal(VALID_MAX_SEGMENTS)) {
+            appendPlayed(gameJournal, FEW_RECORDS_PER_SEGMENT * 2 + 1);
+        }
+        RecordingVisitor visitor = new RecordingVisitor();
+        assertEquals(FEW_RECORDS_PER_SEGMENT * 2 + 1, GameJournal.replay(directory, visitor));
+        assertEquals(FEW_RECORDS_PER_SEGMENT * 2 + 1, visitor.records.size());
+    }
+
+    @Test
+    public void givenMoreSegmentsThanRetainedWhenReplayThenReplayFromTheOldestSegmentRetained() throws IOException {
+        try (GameJournal gameJournal = newGameJournal(FEW_MAX_SEGMENTS)) {
+            appendPlayed(gameJournal, FEW_RECORDS_PER_SEGMENT * 3 + 1);
+        }
+        RecordingVisitor visitor = new RecordingVisitor();
+        assertEquals(FEW_RECORDS_PER_SEGMENT * 3 + 1, GameJournal.replay(directory, visitor));
+        assertEquals(FEW_RECORDS_PER_SEGMENT + 1, visitor.records.size());
+        assertTrue(visitor.records.get(0).startsWith((FEW_RECORDS_PER_SEGMENT * 2 + 1) + " played"));
+    }
+
+    @Test
+    public void givenSessionOpenedBeforeTheOldestSegmentRetainedWhenReplayThenReplayItsSnapshot() throws IOException {
+        try (GameJournal gameJournal = newGameJournal(FEW_MAX_SEGMENTS)) {
+            gameJournal.appendOpened(VALID_SESSION_ID, VALID_PLAYER_NAME, VALID_STRATEGY_NAME);
+            gameJournal.appendPlayed(VALID_SESSION_ID, 1, 0, Result.WINS);
+            gameJournal.appendPlayed(VALID_SESSION_ID, 0, 1, Result.LOSES);
+            appendPlayed(gameJournal, FEW_RECORDS_PER_SEGMENT * 3);
+        }
+        RecordingVisitor visitor = new RecordingVisitor();
+        GameJournal.replay(directory, visitor);
+        assertFalse(GameJournalFormat.segmentFile(directory, 1).exists());
+        assertTrue(visitor.records.get(0).endsWith(" opened " + VALID_SESSION_ID + " " + VALID_PLAYER_NAME + " "
+                + VALID_STRATEGY_NAME));
+        assertTrue(visitor.records.get(1).endsWith(" counted " + VALID_SESSION_ID + " 5 1 1"));
+    }
+
+    @Test
+    public void givenSessionClosedWhenRollSegmentThenLeaveItOutOfTheSnapshot() throws IOException {
+        try (GameJournal gameJournal = newGameJournal(VALID_MAX_SEGMENTS)) {
+            gameJournal.appendOpened(VALID_SESSION_ID, VALID_PLAYER_NAME, VALID_STRATEGY_NAME);
+            gameJournal.appendClosed(VALID_SESSION_ID);
+            appendPlayed(gameJournal, FEW_RECORDS_PER_SEGMENT);
+        }
+        RecordingVisitor visitor = new RecordingVisitor();
+        assertEquals(FEW_RECORDS_PER_SEGMENT + 2, GameJournal.replay(directory, visitor));
+        assertEquals(FEW_RECORDS_PER_SEGMENT + 2, visitor.records.size());
+    }
+
+    @Test
+    public void givenTornRecordWhenReopenThenReplayUpToItAndAppendAfterTheLastValidRecord() throws IOException {
+        try (GameJournal gameJournal = newGameJournal(VALID_MAX_SEGMENTS)) {
+            appendPlayed(gameJournal, 3);
+        }
+        try (RandomAccessFile segment = new RandomAccessFile(GameJournalFormat.segmentFile(directory, 1), "rw")) {
+            segment.seek(GameJournalFormat.RECORD_SIZE + GameJournalFormat.PLAYER_NAME_OFFSET);
+            segment.write(0xFF);
+        }
+        RecordingVisitor visitor = new RecordingVisitor();
+        try (GameJournal gameJournal = new GameJournal(directory, FEW_RECORDS_PER_SEGMENT, VALID_MAX_SEGMENTS,
+                COMMIT_EVERY_RECORD, visitor)) {
+            assertEquals(1, visitor.records.size());
+            assertEquals(2L, gameJournal.appendClosed(VALID_SESSION_ID));
+        }
+        RecordingVisitor reopenedVisitor = new RecordingVisitor();
+        assertEquals(2L, GameJournal.replay(directory, reopenedVisitor));
+        assertEquals("2 closed " + VALID_SESSION_ID, reopenedVisitor.records.get(1));
+    }
+
+    @Test
+    public void givenGroupCommitsWhenCommitThenAdvanceTheCommittedSequence() throws IOException,
+            InterruptedException {
+        try (GameJournal gameJournal = new GameJournal(directory, FEW_RECORDS_PER_SEGMENT, VALID_MAX_SEGMENTS,
+                LONG_COMMIT_INTERVAL_MILLIS, new RecordingVisitor())) {
+            long sequence = gameJournal.appendClosed(VALID_SESSION_ID);
+            assertEquals(0L, gameJournal.getCommittedSequence());
+            assertFalse(gameJournal.awaitCommit(sequence, 0));
+            gameJournal.commit();
+            assertEquals(sequence, gameJournal.getCommittedSequence());
+            assertTrue(gameJournal.awaitCommit(sequence, VALID_AWAIT_MILLIS));
+        }
+    }
+
+    @Test
+    public void givenNoCommitIntervalWhenAppendThenCommitEveryRecord() throws IOException {
+        try (GameJournal gameJournal = newGameJournal(VALID_MAX_SEGMENTS)) {
+            long sequence = gameJournal.appendClosed(VALID_SESSION_ID);
+            assertEquals(sequence, gameJournal.getCommittedSequence());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void givenClosedJournalWhenAppendThenThrowException() throws IOException {
+        GameJournal gameJournal = newGameJournal(VALID_MAX_SEGMENTS);
+        gameJournal.close();
+        gameJournal.appendClosed(VALID_SESSION_ID);
+    }
+
+    private GameJournal newGameJournal(int maxSegments) throws IOException {
+        return new GameJournal(directory, FEW_RECORDS_PER_SEGMENT, maxSegments, COMMIT_EVERY_RECORD,
+                new RecordingVisitor());
+    }
+
+    private static void appendPlayed(GameJournal gameJournal, int records) {
+        for (int record = 0; record < records; record++) {
+            gameJournal.appendPlayed(VALID_SESSION_ID, 0, 0, Result.DRAWS);
+        }
+    }
+
+    private static class RecordingVisitor implements GameJournal.RecordVisitor {
+
+        private List<String> records = new ArrayList<>();
+
+        @Override
+        public void opened(long sequence, UUID sessionId, String playerName, String strategyName) {
+            records.add(sequence + " opened " + sessionId + " " + playerName + " " + strategyName);
+        }
+
+        @Override
+        public void played(long sequence, UUID sessionId, int playerOrdinal, int opponentOrdinal,
+                           Result playerResult) {
+            records.add(sequence + " played " + sessionId + " " + playerOrdinal + " " + opponentOrdinal + " "
+                    + playerResult);
+        }
+
+        @Override
+        public void closed(long sequence, UUID sessionId) {
+            records.add(sequence + " closed " + sessionId);
+        }
+
+        @Override
+        public void counted(long sequence, UUID sessionId, long drawGamePlays, long gamePlaysWon,
+                            long gamePlaysLost) {
+            records.add(sequence + " counted " + sessionId + " " + drawGamePlays + " " + gamePlaysWon + " "
+                    + gamePlaysLost);
+        }
+    }
+}
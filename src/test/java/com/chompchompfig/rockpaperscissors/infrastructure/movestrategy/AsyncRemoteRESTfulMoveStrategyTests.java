@@ -0,0 +1,122 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.moves.Paper;
+import com.chompchompfig.rockpaperscissors.domain.moves.Rock;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncRemoteRESTfulMoveStrategyTests {
+
+    private static final String VALID_FALLBACK_MOVE_NAME = Rock.MOVE_NAME;
+    private static final String NEXT_MOVE_PATH = "/api/movestrategy/random/nextmove";
+    private static final String VALID_NEXT_MOVE_RESPONSE = "{\"move\":\"" + Paper.MOVE_NAME + "\"}";
+    private static final String INVALID_NEXT_MOVE_RESPONSE = "{\"move\":\"Lizard\"}";
+    private static final int SOME_MAX_IN_FLIGHT = 16;
+    private static final int SOME_TIMEOUT_MILLIS = 1000;
+    private static final int SHORT_TIMEOUT_MILLIS = 50;
+    private static final long SERVICE_LATENCY_MILLIS = 20L;
+    private static final int MANY_MOVES = 100;
+
+    private HttpServer httpServer;
+    private ExecutorService httpServerExecutor;
+    private volatile String nextMoveResponse = VALID_NEXT_MOVE_RESPONSE;
+    private volatile long serviceLatencyMillis = SERVICE_LATENCY_MILLIS;
+    private AtomicLong servedRequests = new AtomicLong();
+    private AtomicInteger concurrentRequests = new AtomicInteger();
+    private AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+    @Before
+    public void setUp() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServerExecutor = Executors.newFixedThreadPool(SOME_MAX_IN_FLIGHT);
+        httpServer.setExecutor(httpServerExecutor);
+        httpServer.createContext(NEXT_MOVE_PATH, exchange -> {
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(serviceLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = nextMoveResponse.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+            concurrentRequests.decrementAndGet();
+            servedRequests.incrementAndGet();
+        });
+        httpServer.start();
+    }
+
+    @After
+    public void tearDown() {
+        httpServer.stop(0);
+        httpServerExecutor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroRequestsInFlightWhenNewAsyncRemoteRESTfulMoveStrategyThenThrowException() {
+        new AsyncRemoteRESTfulMoveStrategy(getNextMoveUrl(), VALID_FALLBACK_MOVE_NAME, 0, SOME_TIMEOUT_MILLIS);
+    }
+
+    @Test
+    public void givenServiceUpWhenGetManyNextMovesThenReturnMovesReceivedWithRequestsInFlight() throws IOException {
+        try (AsyncRemoteRESTfulMoveStrategy asyncRemoteRESTfulMoveStrategy = new AsyncRemoteRESTfulMoveStrategy(
+                getNextMoveUrl(), VALID_FALLBACK_MOVE_NAME, SOME_MAX_IN_FLIGHT, SOME_TIMEOUT_MILLIS)) {
+            for (int move = 0; move < MANY_MOVES; move++) {
+                assertEquals(ClassicMoves.PAPER_MOVE, asyncRemoteRESTfulMoveStrategy.getNextMove());
+            }
+            assertTrue(servedRequests.get() <= MANY_MOVES + SOME_MAX_IN_FLIGHT);
+            assertTrue(maxConcurrentRequests.get() > 1);
+        }
+    }
+
+    @Test
+    public void givenSlowServiceWhenGetNextMoveThenReturnFallbackMove() throws IOException {
+        serviceLatencyMillis = SHORT_TIMEOUT_MILLIS * 4;
+        try (AsyncRemoteRESTfulMoveStrategy asyncRemoteRESTfulMoveStrategy = new AsyncRemoteRESTfulMoveStrategy(
+                getNextMoveUrl(), VALID_FALLBACK_MOVE_NAME, SOME_MAX_IN_FLIGHT, SHORT_TIMEOUT_MILLIS)) {
+            assertEquals(ClassicMoves.ROCK_MOVE, asyncRemoteRESTfulMoveStrategy.getNextMove());
+        }
+    }
+
+    @Test
+    public void givenInvalidMoveReceivedWhenGetNextMoveThenReturnFallbackMove() throws IOException {
+        nextMoveResponse = INVALID_NEXT_MOVE_RESPONSE;
+        try (AsyncRemoteRESTfulMoveStrategy asyncRemoteRESTfulMoveStrategy = new AsyncRemoteRESTfulMoveStrategy(
+                getNextMoveUrl(), VALID_FALLBACK_MOVE_NAME, SOME_MAX_IN_FLIGHT, SOME_TIMEOUT_MILLIS)) {
+            assertEquals(ClassicMoves.ROCK_MOVE, asyncRemoteRESTfulMoveStrategy.getNextMove());
+        }
+    }
+
+    @Test
+    public void givenServiceDownWhenGetNextMoveThenReturnFallbackMove() throws IOException {
+        String nextMoveUrl = getNextMoveUrl();
+        httpServer.stop(0);
+        try (AsyncRemoteRESTfulMoveStrategy asyncRemoteRESTfulMoveStrategy = new AsyncRemoteRESTfulMoveStrategy(
+                nextMoveUrl, VALID_FALLBACK_MOVE_NAME, SOME_MAX_IN_FLIGHT, SOME_TIMEOUT_MILLIS)) {
+            assertEquals(ClassicMoves.ROCK_MOVE, asyncRemoteRESTfulMoveStrategy.getNextMove());
+        }
+    }
+
+    private String getNextMoveUrl() {
+        return "http://localhost:" + httpServer.getAddress().getPort() + NEXT_MOVE_PATH;
+    }
+}
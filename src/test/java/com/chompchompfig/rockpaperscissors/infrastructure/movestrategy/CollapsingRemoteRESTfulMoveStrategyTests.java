@@ -0,0 +1,136 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.moves.Paper;
+import com.chompchompfig.rockpaperscissors.domain.moves.Rock;
+import com.chompchompfig.rockpaperscissors.utils.FixtureFactory;
+import com.netflix.hystrix.HystrixCommandProperties.ExecutionIsolationStrategy;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+public class CollapsingRemoteRESTfulMoveStrategyTests {
+
+    private static final String VALID_FALLBACK_MOVE_NAME = Paper.MOVE_NAME;
+    private static final String VALID_RESPONSE_MOVE_NAME = Rock.MOVE_NAME;
+    private static final String VALID_RANDOM_MOVE_STRATEGY_NEXT_MOVES_API_URI_STRING =
+            "http://localhost:8080/api/movestrategy/random/nextmoves";
+    private static final int SHORT_WINDOW_MILLIS = 1;
+    private static final int LONG_WINDOW_MILLIS = 200;
+    private static final int VALID_MAX_BATCH_SIZE = 100;
+    private static final int VALID_MAX_CONCURRENT = 4;
+    private static final int CONCURRENT_CALLERS = 8;
+
+    private RestTemplate restTemplate;
+
+    @Before
+    public void setUp() {
+        restTemplate = Mockito.mock(RestTemplate.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenNegativeWindowWhenNewCollapsingRemoteRESTfulMoveStrategyThenThrowException() {
+        newCollapsingRemoteRESTfulMoveStrategy(-1, ExecutionIsolationStrategy.THREAD);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroMaxConcurrentWhenNewCollapsingRemoteRESTfulMoveStrategyThenThrowException() {
+        new CollapsingRemoteRESTfulMoveStrategy(restTemplate, VALID_RANDOM_MOVE_STRATEGY_NEXT_MOVES_API_URI_STRING,
+                VALID_FALLBACK_MOVE_NAME, SHORT_WINDOW_MILLIS, VALID_MAX_BATCH_SIZE, ExecutionIsolationStrategy.THREAD,
+                0);
+    }
+
+    @Test
+    public void givenServiceUpWhenGetNextMoveThenReturnMoveFromTheBatchEndpoint() {
+        setUpRestTemplateRespondingWithCountMoves();
+        CollapsingRemoteRESTfulMoveStrategy collapsingMoveStrategy =
+                newCollapsingRemoteRESTfulMoveStrategy(SHORT_WINDOW_MILLIS, ExecutionIsolationStrategy.SEMAPHORE);
+        assertEquals(ClassicMoves.ROCK_MOVE, collapsingMoveStrategy.getNextMove());
+    }
+
+    @Test
+    public void givenConcurrentCallersWhenGetNextMoveThenCollapseThemIntoFewerRequests() throws Exception {
+        setUpRestTemplateRespondingWithCountMoves();
+        CollapsingRemoteRESTfulMoveStrategy collapsingMoveStrategy =
+                newCollapsingRemoteRESTfulMoveStrategy(LONG_WINDOW_MILLIS, ExecutionIsolationStrategy.THREAD);
+        assertEquals(Collections.nCopies(CONCURRENT_CALLERS, ClassicMoves.ROCK_MOVE),
+                getNextMovesConcurrently(collapsingMoveStrategy));
+        verify(restTemplate, atMost(CONCURRENT_CALLERS - 1))
+                .getForObject(any(URI.class), eq(RemoteNextMovesResource.class));
+    }
+
+    @Test
+    public void givenServiceDownWhenGetNextMoveThenReturnFallbackMove() {
+        doThrow(new RestClientException("Service down")).when(restTemplate)
+                .getForObject(any(URI.class), eq(RemoteNextMovesResource.class));
+        CollapsingRemoteRESTfulMoveStrategy collapsingMoveStrategy =
+                newCollapsingRemoteRESTfulMoveStrategy(SHORT_WINDOW_MILLIS, ExecutionIsolationStrategy.THREAD);
+        assertEquals(ClassicMoves.PAPER_MOVE, collapsingMoveStrategy.getNextMove());
+    }
+
+    @Test
+    public void givenShortResponseWhenGetNextMoveConcurrentlyThenFallBackForTheMissingMoves() throws Exception {
+        doReturn(FixtureFactory.newRemoteNextMovesResource()).when(restTemplate)
+                .getForObject(any(URI.class), eq(RemoteNextMovesResource.class));
+        CollapsingRemoteRESTfulMoveStrategy collapsingMoveStrategy =
+                newCollapsingRemoteRESTfulMoveStrategy(LONG_WINDOW_MILLIS, ExecutionIsolationStrategy.SEMAPHORE);
+        assertEquals(Collections.nCopies(CONCURRENT_CALLERS, ClassicMoves.PAPER_MOVE),
+                getNextMovesConcurrently(collapsingMoveStrategy));
+    }
+
+    private CollapsingRemoteRESTfulMoveStrategy newCollapsingRemoteRESTfulMoveStrategy(
+            int windowMillis, ExecutionIsolationStrategy isolationStrategy) {
+        return new CollapsingRemoteRESTfulMoveStrategy(restTemplate,
+                VALID_RANDOM_MOVE_STRATEGY_NEXT_MOVES_API_URI_STRING, VALID_FALLBACK_MOVE_NAME, windowMillis,
+                VALID_MAX_BATCH_SIZE, isolationStrategy, VALID_MAX_CONCURRENT);
+    }
+
+    /**
+     * Sets up the RestTemplate to respond with as many moves as the count query parameter asks for
+     */
+    private void setUpRestTemplateRespondingWithCountMoves() {
+        doAnswer(invocation -> {
+            URI nextMovesUri = invocation.getArgument(0);
+            int count = Integer.parseInt(nextMovesUri.getQuery().replace("count=", ""));
+            return FixtureFactory.newRemoteNextMovesResource(
+                    Collections.nCopies(count, VALID_RESPONSE_MOVE_NAME).toArray(new String[0]));
+        }).when(restTemplate).getForObject(any(URI.class), eq(RemoteNextMovesResource.class));
+    }
+
+    private List<Move> getNextMovesConcurrently(CollapsingRemoteRESTfulMoveStrategy collapsingMoveStrategy)
+            throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        try {
+            List<Callable<Move>> nextMoveCalls =
+                    Collections.nCopies(CONCURRENT_CALLERS, collapsingMoveStrategy::getNextMove);
+            List<Move> nextMoves = new ArrayList<>();
+            for (Future<Move> nextMove : callers.invokeAll(nextMoveCalls)) {
+                nextMoves.add(nextMove.get());
+            }
+            return nextMoves;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HTTP;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConfigurableKeepAliveStrategyTests {
+
+    private static final long VALID_KEEP_ALIVE_MILLIS = 30000L;
+    private static final long INVALID_KEEP_ALIVE_MILLIS = 0L;
+    private static final String SHORTER_SERVER_KEEP_ALIVE = "timeout=5";
+    private static final long SHORTER_SERVER_KEEP_ALIVE_MILLIS = 5000L;
+    private static final String LONGER_SERVER_KEEP_ALIVE = "timeout=600, max=100";
+
+    private ConfigurableKeepAliveStrategy keepAliveStrategy =
+            new ConfigurableKeepAliveStrategy(VALID_KEEP_ALIVE_MILLIS);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenNonPositiveKeepAliveWhenNewConfigurableKeepAliveStrategyThenThrowException() {
+        new ConfigurableKeepAliveStrategy(INVALID_KEEP_ALIVE_MILLIS);
+    }
+
+    @Test
+    public void givenResponseWithNoKeepAliveHeaderWhenGetKeepAliveDurationThenReturnConfiguredDuration() {
+        assertEquals(VALID_KEEP_ALIVE_MILLIS,
+                keepAliveStrategy.getKeepAliveDuration(newResponse(), new BasicHttpContext()));
+    }
+
+    @Test
+    public void givenResponseWithShorterKeepAliveHeaderWhenGetKeepAliveDurationThenReturnServerDuration() {
+        HttpResponse response = newResponse();
+        response.addHeader(HTTP.CONN_KEEP_ALIVE, SHORTER_SERVER_KEEP_ALIVE);
+        assertEquals(SHORTER_SERVER_KEEP_ALIVE_MILLIS,
+                keepAliveStrategy.getKeepAliveDuration(response, new BasicHttpContext()));
+    }
+
+    @Test
+    public void givenResponseWithLongerKeepAliveHeaderWhenGetKeepAliveDurationThenReturnConfiguredDuration() {
+        HttpResponse response = newResponse();
+        response.addHeader(HTTP.CONN_KEEP_ALIVE, LONGER_SERVER_KEEP_ALIVE);
+        assertEquals(VALID_KEEP_ALIVE_MILLIS,
+                keepAliveStrategy.getKeepAliveDuration(response, new BasicHttpContext()));
+    }
+
+    private HttpResponse newResponse() {
+        return new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.chompchompfig.rockpaperscissors.infrastructure.movestrategy.HttpClientPoolMetrics.*;
+import static org.junit.Assert.assertEquals;
+
+public class HttpClientPoolMetricsTests {
+
+    private static final int SOME_MAX_TOTAL_CONNECTIONS = 7;
+    private static final HttpRoute SOME_ROUTE = new HttpRoute(new HttpHost("localhost", 8080));
+    private static final double DELTA = 0.0;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private MeterRegistry meterRegistry;
+
+    @Before
+    public void setUp() {
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(SOME_MAX_TOTAL_CONNECTIONS);
+        meterRegistry = new SimpleMeterRegistry();
+        new HttpClientPoolMetrics(connectionManager).bindTo(meterRegistry);
+    }
+
+    @After
+    public void tearDown() {
+        connectionManager.shutdown();
+    }
+
+    @Test
+    public void givenAnIdlePoolWhenBindToThenGaugesReportNoConnectionsAndTheMaximum() {
+        assertEquals(0, gaugeValue(LEASED_METRIC_NAME), DELTA);
+        assertEquals(0, gaugeValue(PENDING_METRIC_NAME), DELTA);
+        assertEquals(0, gaugeValue(AVAILABLE_METRIC_NAME), DELTA);
+        assertEquals(SOME_MAX_TOTAL_CONNECTIONS, gaugeValue(MAX_METRIC_NAME), DELTA);
+    }
+
+    @Test
+    public void givenALeasedConnectionWhenReleasedThenLeasedGaugeFollowsThePool() throws Exception {
+        HttpClientConnection connection =
+                connectionManager.requestConnection(SOME_ROUTE, null).get(1, TimeUnit.SECONDS);
+        assertEquals(1, gaugeValue(LEASED_METRIC_NAME), DELTA);
+        connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+        assertEquals(0, gaugeValue(LEASED_METRIC_NAME), DELTA);
+    }
+
+    private double gaugeValue(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
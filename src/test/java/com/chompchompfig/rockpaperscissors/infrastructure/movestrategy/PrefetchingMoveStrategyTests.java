@@ -0,0 +1,100 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.movestrategy;
+
+import com.chompchompfig.rockpaperscissors.domain.Move;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.FixedMoveStrategy;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PrefetchingMoveStrategyTests {
+
+    private static final int SOME_DEPTH = 16;
+    private static final int SOME_FETCHERS = 8;
+    private static final long SOME_DEADLINE_MILLIS = 1000L;
+    private static final long SHORT_DEADLINE_MILLIS = 10L;
+    private static final long SLOW_MOVE_MILLIS = 10L;
+    private static final int MANY_MOVES = 200;
+    private static final Move FALLBACK_MOVE = ClassicMoves.ROCK_MOVE;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroDepthWhenNewPrefetchingMoveStrategyThenThrowException() {
+        new PrefetchingMoveStrategy(new FixedMoveStrategy(ClassicMoves.PAPER_MOVE), FALLBACK_MOVE, 0,
+                SOME_FETCHERS, SOME_DEADLINE_MILLIS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroFetchersWhenNewPrefetchingMoveStrategyThenThrowException() {
+        new PrefetchingMoveStrategy(new FixedMoveStrategy(ClassicMoves.PAPER_MOVE), FALLBACK_MOVE, SOME_DEPTH, 0,
+                SOME_DEADLINE_MILLIS);
+    }
+
+    @Test
+    public void givenAWorkingMoveStrategyWhenGetNextMoveThenReturnItsMoves() {
+        try (PrefetchingMoveStrategy prefetchingMoveStrategy = new PrefetchingMoveStrategy(
+                new FixedMoveStrategy(ClassicMoves.PAPER_MOVE), FALLBACK_MOVE, SOME_DEPTH, SOME_FETCHERS,
+                SOME_DEADLINE_MILLIS)) {
+            for (int move = 0; move < MANY_MOVES; move++) {
+                assertEquals(ClassicMoves.PAPER_MOVE, prefetchingMoveStrategy.getNextMove());
+            }
+        }
+    }
+
+    @Test
+    public void givenAHangingMoveStrategyWhenGetNextMoveThenReturnFallbackMoveAfterTheDeadline() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        MoveStrategy hangingMoveStrategy = () -> {
+            try {
+                neverReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ClassicMoves.PAPER_MOVE;
+        };
+        try (PrefetchingMoveStrategy prefetchingMoveStrategy = new PrefetchingMoveStrategy(hangingMoveStrategy,
+                FALLBACK_MOVE, SOME_DEPTH, SOME_FETCHERS, SHORT_DEADLINE_MILLIS)) {
+            assertEquals(FALLBACK_MOVE, prefetchingMoveStrategy.getNextMove());
+        }
+    }
+
+    @Test
+    public void givenAFailingMoveStrategyWhenGetNextMoveThenReturnFallbackMove() {
+        MoveStrategy failingMoveStrategy = () -> {
+            throw new IllegalStateException();
+        };
+        try (PrefetchingMoveStrategy prefetchingMoveStrategy = new PrefetchingMoveStrategy(failingMoveStrategy,
+                FALLBACK_MOVE, SOME_DEPTH, SOME_FETCHERS, SHORT_DEADLINE_MILLIS)) {
+            assertEquals(FALLBACK_MOVE, prefetchingMoveStrategy.getNextMove());
+        }
+    }
+
+    @Test
+    public void givenASlowMoveStrategyWhenGetManyNextMovesThenFetchThemConcurrently() {
+        AtomicInteger fetchedMoves = new AtomicInteger();
+        MoveStrategy slowMoveStrategy = () -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(SLOW_MOVE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            fetchedMoves.incrementAndGet();
+            return ClassicMoves.PAPER_MOVE;
+        };
+        try (PrefetchingMoveStrategy prefetchingMoveStrategy = new PrefetchingMoveStrategy(slowMoveStrategy,
+                FALLBACK_MOVE, SOME_DEPTH, SOME_FETCHERS, SOME_DEADLINE_MILLIS)) {
+            long start = System.nanoTime();
+            for (int move = 0; move < MANY_MOVES; move++) {
+                assertEquals(ClassicMoves.PAPER_MOVE, prefetchingMoveStrategy.getNextMove());
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsedMillis < MANY_MOVES * SLOW_MOVE_MILLIS / 2);
+            assertTrue(fetchedMoves.get() <= MANY_MOVES + SOME_DEPTH + SOME_FETCHERS);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.output;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncConsoleTextSinkTests {
+
+    private static final int SMALL_RING_SIZE = 16;
+    private static final int SMALL_BATCH_SIZE = 16;
+    private static final int NON_POWER_OF_TWO_RING_SIZE = 12;
+    private static final int TOO_SMALL_BATCH_SIZE = 15;
+    private static final int MANY_LINES = 1000;
+    private static final String SOME_MULTIBYTE_LINE = "Piedra, Papel o Tijera ¡ñ €";
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenNonPowerOfTwoRingSizeWhenNewAsyncConsoleTextSinkThenThrowException() {
+        new AsyncConsoleTextSink(new ByteArrayOutputStream(), NON_POWER_OF_TWO_RING_SIZE, SMALL_BATCH_SIZE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenTooSmallBatchSizeWhenNewAsyncConsoleTextSinkThenThrowException() {
+        new AsyncConsoleTextSink(new ByteArrayOutputStream(), SMALL_RING_SIZE, TOO_SMALL_BATCH_SIZE);
+    }
+
+    @Test
+    public void givenManyLinesWhenPrintlnThenOutputHasAllLinesInOrderOnceClosed() throws IOException {
+        List<String> lines = newManyLines();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (AsyncConsoleTextSink sink = new AsyncConsoleTextSink(output, SMALL_RING_SIZE,
+                AsyncConsoleTextSink.DEFAULT_BATCH_SIZE)) {
+            lines.forEach(sink::println);
+        }
+        assertEquals(lines, toLines(output));
+    }
+
+    @Test
+    public void givenLinesLongerThanTheBatchWhenWriteThenOutputHasAllLines() throws IOException {
+        List<String> lines = Collections.nCopies(MANY_LINES / 10,
+                String.join("", Collections.nCopies(SMALL_BATCH_SIZE, SOME_MULTIBYTE_LINE)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (AsyncConsoleTextSink sink = new AsyncConsoleTextSink(output, SMALL_RING_SIZE, SMALL_BATCH_SIZE)) {
+            lines.forEach(line -> sink.write((line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8)));
+        }
+        assertEquals(lines, toLines(output));
+    }
+
+    @Test
+    public void givenASlowOutputWhenPrintlnThenLinesAreWrittenInBatchesAndInOrder() throws IOException {
+        List<String> lines = newManyLines();
+        SlowOutputStream output = new SlowOutputStream();
+        try (AsyncConsoleTextSink sink = new AsyncConsoleTextSink(output, SMALL_RING_SIZE,
+                AsyncConsoleTextSink.DEFAULT_BATCH_SIZE)) {
+            lines.forEach(sink::println);
+        }
+        assertEquals(lines, toLines(output));
+        assertTrue(output.writes < MANY_LINES / 4);
+    }
+
+    @Test(expected = IOException.class)
+    public void givenAFailingOutputWhenCloseThenThrowException() throws IOException {
+        AsyncConsoleTextSink sink = new AsyncConsoleTextSink(new FailingOutputStream(), SMALL_RING_SIZE,
+                SMALL_BATCH_SIZE);
+        sink.println(SOME_MULTIBYTE_LINE);
+        sink.close();
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void givenAFailingOutputWhenTheRingGetsFullThenThrowException() throws IOException {
+        try (AsyncConsoleTextSink sink = new AsyncConsoleTextSink(new FailingOutputStream(), SMALL_RING_SIZE,
+                SMALL_BATCH_SIZE)) {
+            newManyLines().forEach(sink::println);
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class, timeout = 10000)
+    public void givenAnOutputThrowingRuntimeExceptionsWhenTheRingGetsFullThenThrowException() throws IOException {
+        try (AsyncConsoleTextSink sink = new AsyncConsoleTextSink(new RuntimeExceptionThrowingOutputStream(),
+                SMALL_RING_SIZE, SMALL_BATCH_SIZE)) {
+            newManyLines().forEach(sink::println);
+        }
+    }
+
+    @Test
+    public void givenAnOutputThrowingRuntimeExceptionsWhenCloseThenThrowExceptionCausedByIt() {
+        AsyncConsoleTextSink sink = new AsyncConsoleTextSink(new RuntimeExceptionThrowingOutputStream(),
+                SMALL_RING_SIZE, SMALL_BATCH_SIZE);
+        sink.println(SOME_MULTIBYTE_LINE);
+        try {
+            sink.close();
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void givenAClosedSinkWhenPrintlnThenThrowException() throws IOException {
+        AsyncConsoleTextSink sink = new AsyncConsoleTextSink(new ByteArrayOutputStream(), SMALL_RING_SIZE,
+                SMALL_BATCH_SIZE);
+        sink.close();
+        sink.println(SOME_MULTIBYTE_LINE);
+    }
+
+    private List<String> newManyLines() {
+        return IntStream.range(0, MANY_LINES).mapToObj(i -> "GamePlay " + i + " " + SOME_MULTIBYTE_LINE)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> toLines(ByteArrayOutputStream output) {
+        return Arrays.asList(new String(output.toByteArray(), StandardCharsets.UTF_8).split(System.lineSeparator()));
+    }
+
+    private static class SlowOutputStream extends ByteArrayOutputStream {
+
+        private int writes;
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            writes++;
+            try {
+                TimeUnit.MILLISECONDS.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.write(bytes, offset, length);
+        }
+    }
+
+    private static class FailingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            throw new IOException();
+        }
+    }
+
+    private static class RuntimeExceptionThrowingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+            throw new IllegalStateException();
+        }
+    }
+}
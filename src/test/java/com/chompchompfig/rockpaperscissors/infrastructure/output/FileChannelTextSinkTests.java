@@ -0,0 +1,96 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.output;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class FileChannelTextSinkTests {
+
+    private static final int SMALL_BUFFER_SIZE = 16;
+    private static final int TOO_SMALL_BUFFER_SIZE = 15;
+    private static final int MANY_LINES = 1000;
+    private static final String INVALID_DESTINATION_FILE_NAME = "./E././somefilename.out";
+    private static final String SOME_MULTIBYTE_LINE = "Piedra, Papel o Tijera ¡ñ €";
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenTooSmallBufferSizeWhenNewFileChannelTextSinkThenThrowException() throws IOException {
+        new FileChannelTextSink(newTemporaryFile(), TOO_SMALL_BUFFER_SIZE, FileChannelTextSink.FsyncPolicy.NEVER);
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void givenInvalidFileWhenNewFileChannelTextSinkThenThrowException() throws IOException {
+        new FileChannelTextSink(new File(INVALID_DESTINATION_FILE_NAME));
+    }
+
+    @Test
+    public void givenManyLinesWhenPrintlnThenFileHasAllLinesInOrder() throws IOException {
+        List<String> lines = IntStream.range(0, MANY_LINES).mapToObj(i -> "GamePlay " + i)
+                .collect(Collectors.toList());
+        assertEquals(lines, printAndReadBack(lines, SMALL_BUFFER_SIZE, FileChannelTextSink.FsyncPolicy.NEVER));
+    }
+
+    @Test
+    public void givenLinesLongerThanTheBufferWhenPrintlnThenFileHasAllLines() throws IOException {
+        List<String> lines = Collections.nCopies(MANY_LINES / 10,
+                String.join("", Collections.nCopies(SMALL_BUFFER_SIZE * 3, SOME_MULTIBYTE_LINE)));
+        assertEquals(lines, printAndReadBack(lines, SMALL_BUFFER_SIZE, FileChannelTextSink.FsyncPolicy.ON_FLUSH));
+    }
+
+    @Test
+    public void givenMultibyteLinesWhenPrintlnThenFileHasThemEncodedInUtf8() throws IOException {
+        List<String> lines = Collections.nCopies(MANY_LINES, SOME_MULTIBYTE_LINE);
+        assertEquals(lines, printAndReadBack(lines, SMALL_BUFFER_SIZE, FileChannelTextSink.FsyncPolicy.ON_CLOSE));
+    }
+
+    @Test
+    public void givenTextAppendedInPiecesWhenCloseThenFileHasTheWholeText() throws IOException {
+        File file = newTemporaryFile();
+        try (FileChannelTextSink sink = new FileChannelTextSink(file)) {
+            sink.append("Rock");
+            sink.append(new StringBuilder(", Paper"));
+            sink.println(", Scissors");
+        }
+        assertEquals(Collections.singletonList("Rock, Paper, Scissors"),
+                Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenEncodedBytesLongerThanTheBufferWhenWriteThenFileHasTheSameText() throws IOException {
+        File file = newTemporaryFile();
+        String line = String.join("", Collections.nCopies(SMALL_BUFFER_SIZE, SOME_MULTIBYTE_LINE));
+        try (FileChannelTextSink sink = new FileChannelTextSink(file, SMALL_BUFFER_SIZE,
+                FileChannelTextSink.FsyncPolicy.NEVER)) {
+            sink.append("Rock, ");
+            sink.write(line.getBytes(StandardCharsets.UTF_8));
+            sink.println("");
+        }
+        assertEquals(Collections.singletonList("Rock, " + line),
+                Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    private List<String> printAndReadBack(List<String> lines, int bufferSize,
+                                          FileChannelTextSink.FsyncPolicy fsyncPolicy) throws IOException {
+        File file = newTemporaryFile();
+        try (FileChannelTextSink sink = new FileChannelTextSink(file, bufferSize, fsyncPolicy)) {
+            lines.forEach(sink::println);
+        }
+        return new ArrayList<>(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    private File newTemporaryFile() throws IOException {
+        File file = File.createTempFile("filechanneltextsink", ".out");
+        file.deleteOnExit();
+        return file;
+    }
+}
@@ -0,0 +1,97 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.output;
+
+import com.chompchompfig.rockpaperscissors.domain.Game;
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissorsLizardSpockMoves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.RandomMoveStrategy;
+import com.chompchompfig.rockpaperscissors.utils.FixtureFactory;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class GameTextRendererTests {
+
+    private static final int MANY_GAME_ITERATIONS_VALUE = 1000;
+    private static final String SOME_OTHER_PLAYER_NAME = "Ñandú";
+
+    private GameTextRenderer classicGameTextRenderer = new GameTextRenderer(ClassicMoves.MOVE_SET);
+
+    @Test
+    public void givenAssortedGamePlaysWhenRenderThenReturnTheSameTextAsToString() {
+        for (GamePlay gamePlay : FixtureFactory.newAssortedGamePlays()) {
+            assertEquals(gamePlay.toString(), classicGameTextRenderer.render(gamePlay));
+        }
+    }
+
+    @Test
+    public void givenTheSameGamePlayTwiceWhenRenderThenReturnTheSameString() {
+        GamePlay gamePlay = FixtureFactory.newAssortedGamePlays().get(0);
+        assertSame(classicGameTextRenderer.render(gamePlay), classicGameTextRenderer.render(gamePlay));
+    }
+
+    @Test
+    public void givenGamePlaysBetweenDifferentPlayersWhenRenderThenReturnTheSameTextAsToString() {
+        assertRendersAsToString(classicGameTextRenderer, newRandomGamePlays(ClassicMoves.MOVE_SET,
+                VALID_PLAYER_NAME_ONE, VALID_PLAYER_NAME_TWO));
+        assertRendersAsToString(classicGameTextRenderer, newRandomGamePlays(ClassicMoves.MOVE_SET,
+                SOME_OTHER_PLAYER_NAME, VALID_PLAYER_NAME_ONE));
+    }
+
+    @Test
+    public void givenGamePlaysFromAnotherMoveSetWhenRenderThenReturnTheSameTextAsToString() {
+        assertRendersAsToString(classicGameTextRenderer, newRandomGamePlays(RockPaperScissorsLizardSpockMoves.MOVE_SET,
+                VALID_PLAYER_NAME_ONE, VALID_PLAYER_NAME_TWO));
+    }
+
+    @Test
+    public void givenGamePlaysWhenRenderLineToSinkThenFileHasTheSameLinesAsToString() throws IOException {
+        List<GamePlay> gamePlays = newRandomGamePlays(ClassicMoves.MOVE_SET, SOME_OTHER_PLAYER_NAME,
+                VALID_PLAYER_NAME_TWO);
+        File file = File.createTempFile("gametextrenderer", ".out");
+        file.deleteOnExit();
+        try (FileChannelTextSink sink = new FileChannelTextSink(file)) {
+            gamePlays.forEach(gamePlay -> classicGameTextRenderer.renderLine(gamePlay, sink));
+        }
+        assertEquals(gamePlays.stream().map(GamePlay::toString).collect(Collectors.toList()),
+                Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenAGameSummaryWhenRenderThenReturnTheSameTextAsToString() {
+        GameSummary gameSummary = FixtureFactory.newPlayerOneAlwaysWinsGameSummary()
+                .merge(new Game().summarizeStream(FixtureFactory.newAssortedGamePlays().stream()));
+        assertEquals(gameSummary.toString(), GameTextRenderer.render(gameSummary, new StringBuilder()).toString());
+    }
+
+    @Test
+    public void givenAnEmptyGameSummaryWhenRenderThenReturnTheSameTextAsToString() {
+        GameSummary gameSummary = GameSummary.empty();
+        assertEquals(gameSummary.toString(), GameTextRenderer.render(gameSummary, new StringBuilder()).toString());
+    }
+
+    private void assertRendersAsToString(GameTextRenderer gameTextRenderer, List<GamePlay> gamePlays) {
+        for (GamePlay gamePlay : gamePlays) {
+            assertEquals(gamePlay.toString(), gameTextRenderer.render(gamePlay));
+        }
+    }
+
+    private List<GamePlay> newRandomGamePlays(MoveSet moveSet, String playerOneName, String playerTwoName) {
+        Player playerOne = newFixedMovingPlayer(playerOneName, new RandomMoveStrategy(moveSet.getMoves()));
+        Player playerTwo = newFixedMovingPlayer(playerTwoName, new RandomMoveStrategy(moveSet.getMoves()));
+        return new Game(moveSet).playLazily(Game.Iterations.of(MANY_GAME_ITERATIONS_VALUE), playerOne, playerTwo)
+                .collect(Collectors.toList());
+    }
+}
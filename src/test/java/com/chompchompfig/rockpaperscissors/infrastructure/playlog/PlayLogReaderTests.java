@@ -0,0 +1,213 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.playlog;
+
+import com.chompchompfig.rockpaperscissors.domain.Game;
+import com.chompchompfig.rockpaperscissors.domain.GamePlay;
+import com.chompchompfig.rockpaperscissors.domain.GamePlayBatch;
+import com.chompchompfig.rockpaperscissors.domain.MoveSet;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissors101Moves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.RandomMoveStrategy;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.*;
+import static org.junit.Assert.*;
+
+public class PlayLogReaderTests {
+
+    private static final int MANY_GAME_ITERATIONS_VALUE = 10000;
+    private static final int SOME_PLAYS_PER_BLOCK = 1000;
+    private static final int SOME_PLAY_INDEX = 7531;
+    private static final int MINIMUM_COMPRESSION_RATIO = 10;
+    private static final int SOME_PARALLELISM = 4;
+
+    @Test
+    public void givenAPlayLogWhenStreamThenReturnTheSameGamePlaysInOrder() throws IOException {
+        List<GamePlay> gamePlays = newRandomGamePlays(ClassicMoves.MOVE_SET);
+        try (PlayLogReader playLogReader = new PlayLogReader(writePlayLog(ClassicMoves.MOVE_SET, gamePlays))) {
+            assertEquals(gamePlays.size(), playLogReader.size());
+            assertEquals(toStrings(gamePlays), toStrings(playLogReader.stream().collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    public void givenAPlayLogWhenOpenThenReturnThePlayersAndMoveSetItWasWrittenWith() throws IOException {
+        File playLog = writePlayLog(ClassicMoves.MOVE_SET, newRandomGamePlays(ClassicMoves.MOVE_SET));
+        try (PlayLogReader playLogReader = new PlayLogReader(playLog)) {
+            assertEquals(validPlayerOneName(), playLogReader.getPlayerOneName());
+            assertEquals(validPlayerTwoName(), playLogReader.getPlayerTwoName());
+            assertSame(ClassicMoves.MOVE_SET, playLogReader.getMoveSet());
+            assertEquals(MANY_GAME_ITERATIONS_VALUE / SOME_PLAYS_PER_BLOCK, playLogReader.getBlockCount());
+        }
+    }
+
+    @Test
+    public void givenAPlayLogWhenGetThenReturnTheGamePlayAtThatPosition() throws IOException {
+        List<GamePlay> gamePlays = newRandomGamePlays(ClassicMoves.MOVE_SET);
+        try (PlayLogReader playLogReader = new PlayLogReader(writePlayLog(ClassicMoves.MOVE_SET, gamePlays))) {
+            GamePlay gamePlay = playLogReader.get(SOME_PLAY_INDEX);
+            assertEquals(gamePlays.get(SOME_PLAY_INDEX).getPlayerOneMove(), gamePlay.getPlayerOneMove());
+            assertEquals(gamePlays.get(SOME_PLAY_INDEX).getPlayerTwoMove(), gamePlay.getPlayerTwoMove());
+        }
+    }
+
+    @Test
+    public void givenAPlayLogWhenGetEveryPlayThenReturnTheSameGamePlaysInOrder() throws IOException {
+        for (MoveSet moveSet : Arrays.asList(ClassicMoves.MOVE_SET, RockPaperScissors101Moves.MOVE_SET)) {
+            List<GamePlay> gamePlays = newRandomGamePlays(moveSet);
+            try (PlayLogReader playLogReader = new PlayLogReader(writePlayLog(moveSet, gamePlays))) {
+                assertEquals(toStrings(gamePlays), toStrings(getEveryPlay(playLogReader)));
+            }
+        }
+    }
+
+    @Test
+    public void givenADeflatedPlayLogWhenGetPlaysOfAlternatingBlocksThenReturnTheGamePlaysAtThosePositions()
+            throws IOException {
+        List<GamePlay> gamePlays = newRandomGamePlays(ClassicMoves.MOVE_SET);
+        File playLog = writePlayLog(ClassicMoves.MOVE_SET, gamePlays, PlayLogCompression.DEFLATE, null);
+        try (PlayLogReader playLogReader = new PlayLogReader(playLog)) {
+            for (int index = SOME_PLAY_INDEX; index < SOME_PLAY_INDEX + SOME_PLAYS_PER_BLOCK; index++) {
+                int otherIndex = index - SOME_PLAYS_PER_BLOCK;
+                assertEquals(gamePlays.get(index).toString(), playLogReader.get(index).toString());
+                assertEquals(gamePlays.get(otherIndex).toString(), playLogReader.get(otherIndex).toString());
+            }
+            assertEquals(toStrings(gamePlays), toStrings(getEveryPlay(playLogReader)));
+        }
+    }
+
+    @Test
+    public void givenAPlayLogWithAPartialLastBlockWhenReadBlockOrdinalsThenReturnTheRemainingPlays()
+            throws IOException {
+        List<GamePlay> gamePlays = newRandomGamePlays(ClassicMoves.MOVE_SET).subList(0, SOME_PLAY_INDEX);
+        try (PlayLogReader playLogReader = new PlayLogReader(writePlayLog(ClassicMoves.MOVE_SET, gamePlays))) {
+            int lastBlock = playLogReader.getBlockCount() - 1;
+            byte[] playerOneOrdinals = new byte[SOME_PLAYS_PER_BLOCK];
+            byte[] playerTwoOrdinals = new byte[SOME_PLAYS_PER_BLOCK];
+            int plays = playLogReader.readBlockOrdinals(lastBlock, playerOneOrdinals, playerTwoOrdinals);
+            assertEquals(SOME_PLAY_INDEX % SOME_PLAYS_PER_BLOCK, plays);
+            GamePlay lastGamePlay = gamePlays.get(gamePlays.size() - 1);
+            assertEquals(lastGamePlay.getPlayerOneMove().getOrdinal(), playerOneOrdinals[plays - 1]);
+            assertEquals(lastGamePlay.getPlayerTwoMove().getOrdinal(), playerTwoOrdinals[plays - 1]);
+        }
+    }
+
+    @Test
+    public void givenAnRps101PlayLogWhenStreamThenReturnTheSameGamePlaysInOrder() throws IOException {
+        MoveSet moveSet = RockPaperScissors101Moves.MOVE_SET;
+        List<GamePlay> gamePlays = newRandomGamePlays(moveSet);
+        try (PlayLogReader playLogReader = new PlayLogReader(writePlayLog(moveSet, gamePlays))) {
+            assertSame(moveSet, playLogReader.getMoveSet());
+            assertEquals(toStrings(gamePlays), toStrings(playLogReader.stream().collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    public void givenAPlayLogWhenComparedToItsTextThenItIsMoreThanTenTimesSmaller() throws IOException {
+        List<GamePlay> gamePlays = newRandomGamePlays(ClassicMoves.MOVE_SET);
+        File textLog = newTemporaryFile();
+        try (PrintWriter textLogWriter = new PrintWriter(textLog)) {
+            gamePlays.forEach(textLogWriter::println);
+        }
+        assertTrue(writePlayLog(ClassicMoves.MOVE_SET, gamePlays).length() * MINIMUM_COMPRESSION_RATIO
+                < textLog.length());
+    }
+
+    @Test
+    public void givenADeflatedPlayLogWhenParallelStreamThenReturnTheSameGamePlaysInOrder() throws IOException {
+        List<GamePlay> gamePlays = newRandomGamePlays(ClassicMoves.MOVE_SET);
+        ExecutorService compressionExecutor = new ForkJoinPool(SOME_PARALLELISM);
+        try (PlayLogReader playLogReader = new PlayLogReader(writePlayLog(ClassicMoves.MOVE_SET, gamePlays,
+                PlayLogCompression.DEFLATE, compressionExecutor))) {
+            assertEquals(PlayLogCompression.DEFLATE, playLogReader.getCompression());
+            assertEquals(toStrings(gamePlays),
+                    toStrings(playLogReader.stream().parallel().collect(Collectors.toList())));
+        } finally {
+            compressionExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void givenADeflatedPlayLogWhenGetThenReturnTheGamePlayAtThatPosition() throws IOException {
+        List<GamePlay> gamePlays = newRandomGamePlays(ClassicMoves.MOVE_SET);
+        File playLog = writePlayLog(ClassicMoves.MOVE_SET, gamePlays, PlayLogCompression.DEFLATE, null);
+        try (PlayLogReader playLogReader = new PlayLogReader(playLog)) {
+            assertEquals(gamePlays.get(SOME_PLAY_INDEX).toString(), playLogReader.get(SOME_PLAY_INDEX).toString());
+        }
+    }
+
+    @Test
+    public void givenRepetitiveGamePlaysWhenDeflatedThenPlayLogIsMuchSmallerThanUncompressed() throws IOException {
+        Player rockPlayerOne = newRockMovingPlayer(VALID_PLAYER_NAME_ONE);
+        Player rockPlayerTwo = newRockMovingPlayer(VALID_PLAYER_NAME_TWO);
+        List<GamePlay> gamePlays = new Game().playLazily(Game.Iterations.of(MANY_GAME_ITERATIONS_VALUE),
+                rockPlayerOne, rockPlayerTwo).collect(Collectors.toList());
+        File uncompressedPlayLog = writePlayLog(ClassicMoves.MOVE_SET, gamePlays);
+        File deflatedPlayLog = writePlayLog(ClassicMoves.MOVE_SET, gamePlays, PlayLogCompression.DEFLATE, null);
+        assertTrue(deflatedPlayLog.length() * MINIMUM_COMPRESSION_RATIO < uncompressedPlayLog.length());
+    }
+
+    @Test(expected = IOException.class)
+    public void givenATextFileWhenNewPlayLogReaderThenThrowException() throws IOException {
+        File textLog = newTemporaryFile();
+        try (PrintWriter textLogWriter = new PrintWriter(textLog)) {
+            newRandomGamePlays(ClassicMoves.MOVE_SET).forEach(textLogWriter::println);
+        }
+        new PlayLogReader(textLog);
+    }
+
+    @Test
+    public void givenAPlayLogWhenReadBlockThenBatchHasThePlayerNamesInTheHeader() throws IOException {
+        File playLog = writePlayLog(ClassicMoves.MOVE_SET, newRandomGamePlays(ClassicMoves.MOVE_SET));
+        try (PlayLogReader playLogReader = new PlayLogReader(playLog)) {
+            GamePlayBatch gamePlayBatch = playLogReader.readBlock(0);
+            assertEquals(validPlayerOneName(), gamePlayBatch.getPlayerOneName());
+            assertEquals(validPlayerTwoName(), gamePlayBatch.getPlayerTwoName());
+        }
+    }
+
+    private List<GamePlay> newRandomGamePlays(MoveSet moveSet) {
+        Player playerOne = newFixedMovingPlayer(VALID_PLAYER_NAME_ONE, new RandomMoveStrategy(moveSet.getMoves()));
+        Player playerTwo = newFixedMovingPlayer(VALID_PLAYER_NAME_TWO, new RandomMoveStrategy(moveSet.getMoves()));
+        return new Game(moveSet).playLazily(Game.Iterations.of(MANY_GAME_ITERATIONS_VALUE), playerOne, playerTwo)
+                .collect(Collectors.toList());
+    }
+
+    private File writePlayLog(MoveSet moveSet, List<GamePlay> gamePlays) throws IOException {
+        return writePlayLog(moveSet, gamePlays, PlayLogCompression.NONE, null);
+    }
+
+    private File writePlayLog(MoveSet moveSet, List<GamePlay> gamePlays, PlayLogCompression compression,
+                              ExecutorService compressionExecutor) throws IOException {
+        File playLog = newTemporaryFile();
+        try (PlayLogWriter playLogWriter = new PlayLogWriter(playLog, validPlayerOneName(), validPlayerTwoName(),
+                moveSet, SOME_PLAYS_PER_BLOCK, compression, compressionExecutor)) {
+            gamePlays.forEach(playLogWriter::write);
+        }
+        return playLog;
+    }
+
+    private List<GamePlay> getEveryPlay(PlayLogReader playLogReader) {
+        return LongStream.range(0, playLogReader.size()).mapToObj(playLogReader::get).collect(Collectors.toList());
+    }
+
+    private List<String> toStrings(List<GamePlay> gamePlays) {
+        return gamePlays.stream().map(GamePlay::toString).collect(Collectors.toList());
+    }
+
+    private File newTemporaryFile() throws IOException {
+        File file = File.createTempFile("playlog", ".rpslog");
+        file.deleteOnExit();
+        return file;
+    }
+}
@@ -0,0 +1,59 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.playlog;
+
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.moves.RockPaperScissorsLizardSpockMoves;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.validPlayerOneName;
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.validPlayerTwoName;
+import static org.junit.Assert.assertEquals;
+
+public class PlayLogWriterTests {
+
+    private static final int INVALID_PLAYS_PER_BLOCK = 0;
+    private static final int SOME_PLAYS = 3;
+    private static final String INVALID_DESTINATION_FILE_NAME = "./E././somefilename.rpslog";
+    private static final String LIZARD_MOVE_NAME = "Lizard";
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenInvalidPlaysPerBlockWhenNewPlayLogWriterThenThrowException() throws IOException {
+        new PlayLogWriter(newTemporaryFile(), validPlayerOneName(), validPlayerTwoName(), ClassicMoves.MOVE_SET,
+                INVALID_PLAYS_PER_BLOCK);
+    }
+
+    @Test(expected = FileNotFoundException.class)
+    public void givenInvalidFileWhenNewPlayLogWriterThenThrowException() throws IOException {
+        new PlayLogWriter(new File(INVALID_DESTINATION_FILE_NAME), validPlayerOneName(), validPlayerTwoName(),
+                ClassicMoves.MOVE_SET);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAClassicPlayLogWhenWriteMoveFromAnotherMoveSetThenThrowException() throws IOException {
+        try (PlayLogWriter playLogWriter = new PlayLogWriter(newTemporaryFile(), validPlayerOneName(),
+                validPlayerTwoName(), ClassicMoves.MOVE_SET)) {
+            playLogWriter.write(ClassicMoves.ROCK_MOVE,
+                    RockPaperScissorsLizardSpockMoves.MOVE_SET.from(LIZARD_MOVE_NAME));
+        }
+    }
+
+    @Test
+    public void givenSomePlaysWhenWriteThenSizeIsTheNumberOfPlays() throws IOException {
+        try (PlayLogWriter playLogWriter = new PlayLogWriter(newTemporaryFile(), validPlayerOneName(),
+                validPlayerTwoName(), ClassicMoves.MOVE_SET)) {
+            for (int play = 0; play < SOME_PLAYS; play++) {
+                playLogWriter.write(ClassicMoves.ROCK_MOVE, ClassicMoves.PAPER_MOVE);
+            }
+            assertEquals(SOME_PLAYS, playLogWriter.size());
+        }
+    }
+
+    private File newTemporaryFile() throws IOException {
+        File file = File.createTempFile("playlog", ".rpslog");
+        file.deleteOnExit();
+        return file;
+    }
+}
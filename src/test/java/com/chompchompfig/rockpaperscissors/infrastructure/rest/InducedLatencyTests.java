@@ -0,0 +1,138 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InducedLatencyTests {
+
+    private static final long VALID_LATENCY_MILLIS = 100;
+    private static final long VALID_MIN_LATENCY_MILLIS = 20;
+    private static final long VALID_P99_LATENCY_MILLIS = 1000;
+    private static final long SHORT_LATENCY_MILLIS = 20;
+    private static final int VALID_THREADS = 2;
+    private static final int MANY_SAMPLES = 100000;
+    private static final long SOME_RANDOM_SEED = 42L;
+    private static final double PERCENTILE_TOLERANCE = 0.1;
+    private static final long COMPLETION_TIMEOUT_SECONDS = 5;
+
+    private InducedLatency inducedLatency;
+
+    @After
+    public void tearDown() {
+        if (inducedLatency != null) {
+            inducedLatency.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenNegativeLatencyWhenNewInducedLatencyThenThrowException() {
+        new InducedLatency(InducedLatency.Distribution.FIXED, -1, 0, 0, VALID_THREADS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenUniformMinimumAboveLatencyWhenNewInducedLatencyThenThrowException() {
+        new InducedLatency(InducedLatency.Distribution.UNIFORM, VALID_MIN_LATENCY_MILLIS, VALID_LATENCY_MILLIS, 0,
+                VALID_THREADS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenLognormalP99BelowMedianWhenNewInducedLatencyThenThrowException() {
+        new InducedLatency(InducedLatency.Distribution.LOGNORMAL, VALID_LATENCY_MILLIS, 0, VALID_MIN_LATENCY_MILLIS,
+                VALID_THREADS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroThreadsWhenNewInducedLatencyThenThrowException() {
+        new InducedLatency(InducedLatency.Distribution.FIXED, VALID_LATENCY_MILLIS, 0, 0, 0);
+    }
+
+    @Test
+    public void givenFixedDistributionWhenNextLatencyThenAlwaysReturnTheLatency() {
+        inducedLatency = new InducedLatency(InducedLatency.Distribution.FIXED, VALID_LATENCY_MILLIS, 0, 0,
+                VALID_THREADS);
+        for (long latency : sampleLatencies(inducedLatency)) {
+            assertEquals(VALID_LATENCY_MILLIS, latency);
+        }
+    }
+
+    @Test
+    public void givenUniformDistributionWhenNextLatencyThenReturnLatenciesWithinTheBounds() {
+        inducedLatency = new InducedLatency(InducedLatency.Distribution.UNIFORM, VALID_LATENCY_MILLIS,
+                VALID_MIN_LATENCY_MILLIS, 0, VALID_THREADS);
+        long[] latencies = sampleLatencies(inducedLatency);
+        assertEquals(VALID_MIN_LATENCY_MILLIS, latencies[0]);
+        assertEquals(VALID_LATENCY_MILLIS, latencies[latencies.length - 1]);
+    }
+
+    @Test
+    public void givenLognormalDistributionWhenNextLatencyThenReturnLatenciesWithTheMedianAndP99() {
+        inducedLatency = new InducedLatency(InducedLatency.Distribution.LOGNORMAL, VALID_LATENCY_MILLIS, 0,
+                VALID_P99_LATENCY_MILLIS, VALID_THREADS);
+        long[] latencies = sampleLatencies(inducedLatency);
+        assertWithinTolerance(VALID_LATENCY_MILLIS, latencies[latencies.length / 2]);
+        assertWithinTolerance(VALID_P99_LATENCY_MILLIS, latencies[latencies.length * 99 / 100]);
+    }
+
+    @Test
+    public void givenNoLatencyWhenDeferThenCompleteStraightAway() {
+        inducedLatency = InducedLatency.none();
+        DeferredResult<Object> deferredResult = inducedLatency.defer(() -> ClassicMoves.ROCK_MOVE);
+        assertTrue(deferredResult.hasResult());
+        assertSame(ClassicMoves.ROCK_MOVE, deferredResult.getResult());
+    }
+
+    @Test
+    public void givenFixedLatencyWhenDeferThenCompleteOnceTheLatencyElapsed() throws InterruptedException {
+        inducedLatency = new InducedLatency(InducedLatency.Distribution.FIXED, SHORT_LATENCY_MILLIS, 0, 0,
+                VALID_THREADS);
+        long startNanos = System.nanoTime();
+        DeferredResult<Object> deferredResult = inducedLatency.defer(() -> ClassicMoves.ROCK_MOVE);
+        assertFalse(deferredResult.hasResult());
+        awaitResult(deferredResult);
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(SHORT_LATENCY_MILLIS));
+        assertSame(ClassicMoves.ROCK_MOVE, deferredResult.getResult());
+    }
+
+    @Test
+    public void givenFailingResponseWhenDeferThenCompleteWithTheError() throws InterruptedException {
+        inducedLatency = new InducedLatency(InducedLatency.Distribution.FIXED, SHORT_LATENCY_MILLIS, 0, 0,
+                VALID_THREADS);
+        IllegalStateException failure = new IllegalStateException();
+        DeferredResult<Object> deferredResult = inducedLatency.defer(() -> { throw failure; });
+        awaitResult(deferredResult);
+        assertSame(failure, deferredResult.getResult());
+    }
+
+    private long[] sampleLatencies(InducedLatency inducedLatency) {
+        Random random = new Random(SOME_RANDOM_SEED);
+        long[] latencies = new long[MANY_SAMPLES];
+        for (int sample = 0; sample < MANY_SAMPLES; sample++) {
+            latencies[sample] = inducedLatency.nextLatencyMillis(random);
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void assertWithinTolerance(long expected, long actual) {
+        assertTrue("Expected about " + expected + " but was " + actual,
+                Math.abs(actual - expected) <= expected * PERCENTILE_TOLERANCE);
+    }
+
+    private void awaitResult(DeferredResult<Object> deferredResult) throws InterruptedException {
+        CountDownLatch completed = new CountDownLatch(1);
+        deferredResult.setResultHandler(result -> completed.countDown());
+        assertTrue(completed.await(COMPLETION_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,74 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.utils.FixtureFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MoveStrategyRegistryTests {
+
+    private static final String ROCK_STRATEGY_NAME = "rock";
+    private static final String PAPER_STRATEGY_NAME = "paper";
+    private static final String UNKNOWN_STRATEGY_NAME = "unknown";
+
+    private MeterRegistry meterRegistry;
+    private MoveStrategyRegistry moveStrategyRegistry;
+
+    @Before
+    public void setUp() {
+        Map<String, MoveStrategy> moveStrategies = new LinkedHashMap<>();
+        moveStrategies.put(ROCK_STRATEGY_NAME, FixtureFactory.FIXED_ROCK_MOVE_STRATEGY);
+        moveStrategies.put(PAPER_STRATEGY_NAME, FixtureFactory.FIXED_PAPER_MOVE_STRATEGY);
+        meterRegistry = new SimpleMeterRegistry();
+        moveStrategyRegistry = new MoveStrategyRegistry(moveStrategies, meterRegistry);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenEmptyNameWhenNewMoveStrategyRegistryThenThrowException() {
+        new MoveStrategyRegistry(Collections.singletonMap("", FixtureFactory.FIXED_ROCK_MOVE_STRATEGY),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void givenRegisteredNameWhenGetThenReturnTheNamedMoveStrategy() {
+        MoveStrategyRegistry.RegisteredMoveStrategy moveStrategy = moveStrategyRegistry.get(PAPER_STRATEGY_NAME);
+        assertEquals(PAPER_STRATEGY_NAME, moveStrategy.getName());
+        assertSame(FixtureFactory.FIXED_PAPER_MOVE_STRATEGY, moveStrategy.getMoveStrategy());
+        assertSame(ClassicMoves.PAPER_MOVE, moveStrategy.getNextMove());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void givenUnknownNameWhenGetThenThrowException() {
+        moveStrategyRegistry.get(UNKNOWN_STRATEGY_NAME);
+    }
+
+    @Test
+    public void givenRegisteredMoveStrategiesWhenGetNamesThenReturnSortedNames() {
+        assertEquals("[paper, rock]", moveStrategyRegistry.getNames().toString());
+    }
+
+    @Test
+    public void givenServedRequestsWhenCountRequestAndRecordLatencyThenUpdateTheMetersOfThatStrategyOnly() {
+        MoveStrategyRegistry.RegisteredMoveStrategy moveStrategy = moveStrategyRegistry.get(ROCK_STRATEGY_NAME);
+        moveStrategy.countRequest();
+        moveStrategy.recordLatencySince(System.nanoTime());
+        moveStrategy.countRequest();
+        assertEquals(2.0, meterRegistry.get(MoveStrategyRegistry.REQUESTS_METRIC_NAME)
+                .tag(MoveStrategyRegistry.STRATEGY_TAG_NAME, ROCK_STRATEGY_NAME).counter().count(), 0.0);
+        assertEquals(1, meterRegistry.get(MoveStrategyRegistry.LATENCY_METRIC_NAME)
+                .tag(MoveStrategyRegistry.STRATEGY_TAG_NAME, ROCK_STRATEGY_NAME).timer().count());
+        assertEquals(0.0, meterRegistry.get(MoveStrategyRegistry.REQUESTS_METRIC_NAME)
+                .tag(MoveStrategyRegistry.STRATEGY_TAG_NAME, PAPER_STRATEGY_NAME).counter().count(), 0.0);
+    }
+}
@@ -0,0 +1,49 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class NextMoveJsonBodiesTests {
+
+    private NextMoveJsonBodies nextMoveJsonBodies = new NextMoveJsonBodies(new ObjectMapper());
+
+    @Test
+    public void givenMoveWhenGetThenReturnOkWithTheSerializedNextMoveResource() throws Exception {
+        ResponseEntity<byte[]> response = nextMoveJsonBodies.get(ClassicMoves.PAPER_MOVE);
+        byte[] expectedBody = new ObjectMapper().writeValueAsBytes(new NextMoveResource(ClassicMoves.PAPER_MOVE));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(expectedBody, response.getBody());
+    }
+
+    @Test
+    public void givenMoveWhenGetThenReturnJsonContentTypeAndBodyContentLength() {
+        ResponseEntity<byte[]> response = nextMoveJsonBodies.get(ClassicMoves.ROCK_MOVE);
+        assertEquals(MediaType.APPLICATION_JSON_UTF8, response.getHeaders().getContentType());
+        assertEquals(response.getBody().length, response.getHeaders().getContentLength());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void givenSharedResponseWhenSetHeaderThenThrowException() {
+        nextMoveJsonBodies.get(ClassicMoves.ROCK_MOVE).getHeaders().setContentLength(0);
+    }
+
+    @Test
+    public void givenSameMoveTwiceWhenGetThenReturnTheSameResponse() {
+        assertSame(nextMoveJsonBodies.get(ClassicMoves.SCISSORS_MOVE),
+                nextMoveJsonBodies.get(ClassicMoves.SCISSORS_MOVE));
+    }
+
+    @Test
+    public void givenDifferentMovesWhenGetThenReturnDifferentResponses() {
+        assertNotSame(nextMoveJsonBodies.get(ClassicMoves.ROCK_MOVE), nextMoveJsonBodies.get(ClassicMoves.PAPER_MOVE));
+    }
+}
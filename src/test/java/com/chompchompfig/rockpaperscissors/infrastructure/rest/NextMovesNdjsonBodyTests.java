@@ -0,0 +1,89 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.RandomMoveStrategy;
+import com.chompchompfig.rockpaperscissors.utils.FixtureFactory;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class NextMovesNdjsonBodyTests {
+
+    private static final int MANY_MOVES = 10000;
+    private static final int SMALL_BUFFER_SIZE = 64;
+    private static final int TINY_BUFFER_SIZE = 4;
+    private static final String ROCK_MOVE_LINE = "{\"move\":\"Rock\"}";
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroBufferSizeWhenNewNextMovesNdjsonBodyThenThrowException() {
+        new NextMovesNdjsonBody(FixtureFactory.FIXED_ROCK_MOVE_STRATEGY, MANY_MOVES, 0);
+    }
+
+    @Test
+    public void givenFixedMoveStrategyWhenWriteToThenWriteOneJsonLinePerMove() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new NextMovesNdjsonBody(FixtureFactory.FIXED_ROCK_MOVE_STRATEGY, MANY_MOVES, SMALL_BUFFER_SIZE)
+                .writeTo(outputStream);
+        assertEquals(Collections.nCopies(MANY_MOVES, ROCK_MOVE_LINE), toLines(outputStream));
+    }
+
+    @Test
+    public void givenRandomMoveStrategyWhenWriteToThenEveryLineIsAClassicMove() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new NextMovesNdjsonBody(new RandomMoveStrategy(ClassicMoves.ALL), MANY_MOVES,
+                NextMovesNdjsonBody.DEFAULT_BUFFER_SIZE).writeTo(outputStream);
+        List<String> lines = toLines(outputStream);
+        assertEquals(MANY_MOVES, lines.size());
+        for (String line : lines) {
+            assertNotNull(ClassicMoves.from(line.replace("{\"move\":\"", "").replace("\"}", "")));
+        }
+    }
+
+    @Test
+    public void givenManyMovesWhenWriteToThenWriteInChunksNoLargerThanTheBuffer() throws IOException {
+        ChunkRecordingOutputStream outputStream = new ChunkRecordingOutputStream();
+        new NextMovesNdjsonBody(FixtureFactory.FIXED_ROCK_MOVE_STRATEGY, MANY_MOVES, SMALL_BUFFER_SIZE)
+                .writeTo(outputStream);
+        assertTrue(outputStream.chunks > 1);
+        assertTrue(outputStream.largestChunk <= SMALL_BUFFER_SIZE);
+    }
+
+    @Test
+    public void givenBufferSmallerThanALineWhenWriteToThenWriteEveryLine() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new NextMovesNdjsonBody(FixtureFactory.FIXED_ROCK_MOVE_STRATEGY, MANY_MOVES, TINY_BUFFER_SIZE)
+                .writeTo(outputStream);
+        assertEquals(Collections.nCopies(MANY_MOVES, ROCK_MOVE_LINE), toLines(outputStream));
+    }
+
+    private List<String> toLines(ByteArrayOutputStream outputStream) {
+        return Arrays.asList(new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\n"));
+    }
+
+    private static class ChunkRecordingOutputStream extends OutputStream {
+
+        private int chunks;
+        private int largestChunk;
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            chunks++;
+            largestChunk = Math.max(largestChunk, length);
+        }
+    }
+}
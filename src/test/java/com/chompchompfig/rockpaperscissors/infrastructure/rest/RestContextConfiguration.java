@@ -1,13 +1,20 @@
 package com.chompchompfig.rockpaperscissors.infrastructure.rest;
 
 import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.movestrategies.FixedMoveStrategy;
 import com.chompchompfig.rockpaperscissors.domain.movestrategies.RandomMoveStrategy;
+import com.chompchompfig.rockpaperscissors.infrastructure.session.GameSessionStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.Mockito;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @ComponentScan("com.chompchompfig.rockpaperscissors.infrastructure.rest")
 @Configuration
 public class RestContextConfiguration {
@@ -17,6 +24,19 @@ public class RestContextConfiguration {
         return new RandomMoveStrategy(ClassicMoves.ALL);
     }
 
+    @Bean
+    public MoveStrategyRegistry moveStrategyRegistry(RandomMoveStrategy randomMoveClassicStrategy) {
+        Map<String, MoveStrategy> moveStrategies = new LinkedHashMap<>();
+        moveStrategies.put("random", randomMoveClassicStrategy);
+        moveStrategies.put("rock", new FixedMoveStrategy(ClassicMoves.ROCK_MOVE));
+        return new MoveStrategyRegistry(moveStrategies, new SimpleMeterRegistry());
+    }
+
+    @Bean
+    public GameSessionStore gameSessionStore() {
+        return new GameSessionStore(4, 60000, 1000);
+    }
+
     @Bean
     public RestTemplate restTemplate() {
         return Mockito.mock(RestTemplate.class);
@@ -0,0 +1,155 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.rest;
+
+import com.chompchompfig.rockpaperscissors.domain.Result;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.infrastructure.journal.GameJournal;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.util.UriTemplate;
+
+import java.text.MessageFormat;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@RunWith(SpringRunner.class)
+@WebMvcTest(RockPaperScissorsGameSessionController.class)
+@ContextConfiguration(classes=RestContextConfiguration.class)
+public class RockPaperScissorsGameSessionControllerTests {
+
+    public static final String VALID_PLAYER_NAME = "ONE";
+    public static final String ROCK_STRATEGY_NAME = "rock";
+    public static final String UNKNOWN_STRATEGY_NAME = "unknown";
+    public static final String UNKNOWN_SESSION_ID = "unknown";
+    public static final String NEW_GAME_SESSION_JSON_PATTERN = "'{'\"playerName\":\"{0}\",\"strategy\":\"{1}\"'}'";
+    public static final String SUBMITTED_MOVE_JSON_PATTERN = "'{'\"move\":\"{0}\"'}'";
+    public static final String JSONPATH_RESPONSE_ID_PROPERTY_PATTERN = "$.id";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private GameJournal gameJournal;
+
+    @Test
+    public void givenValidPlayerAndStrategyWhenCreateGameSessionThenReturn201AndLocateTheSession() throws Exception {
+        MvcResult result = createGameSession(VALID_PLAYER_NAME, ROCK_STRATEGY_NAME)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.playerName").value(VALID_PLAYER_NAME))
+                .andExpect(jsonPath("$.opponentName").value(ROCK_STRATEGY_NAME)).andReturn();
+        String sessionId = JsonPath.read(result.getResponse().getContentAsString(),
+                JSONPATH_RESPONSE_ID_PROPERTY_PATTERN);
+        assertTrue(result.getResponse().getHeader(HttpHeaders.LOCATION).endsWith(sessionId));
+    }
+
+    @Test
+    public void givenUnknownStrategyWhenCreateGameSessionThenReturn404() throws Exception {
+        createGameSession(VALID_PLAYER_NAME, UNKNOWN_STRATEGY_NAME).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void givenPlayerNamedAfterTheStrategyWhenCreateGameSessionThenReturn400() throws Exception {
+        createGameSession(ROCK_STRATEGY_NAME, ROCK_STRATEGY_NAME).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void givenGameSessionWhenPlayGameSessionThenReturnCounterMoveAndResult() throws Exception {
+        String sessionId = createValidGameSession();
+        playGameSession(sessionId, ClassicMoves.PAPER_MOVE.toString())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.move").value(ClassicMoves.PAPER_MOVE.toString()))
+                .andExpect(jsonPath("$.counterMove").value(ClassicMoves.ROCK_MOVE.toString()))
+                .andExpect(jsonPath("$.result").value(Result.WINS.name()));
+    }
+
+    @Test
+    public void givenInvalidMoveWhenPlayGameSessionThenReturn400() throws Exception {
+        playGameSession(createValidGameSession(), "Lizard").andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void givenUnknownSessionWhenPlayGameSessionThenReturn404() throws Exception {
+        playGameSession(UNKNOWN_SESSION_ID, ClassicMoves.PAPER_MOVE.toString()).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void givenPlayedGameSessionWhenGetGameSessionSummaryThenReturnTheRunningGameSummary() throws Exception {
+        String sessionId = createValidGameSession();
+        playGameSession(sessionId, ClassicMoves.PAPER_MOVE.toString());
+        playGameSession(sessionId, ClassicMoves.ROCK_MOVE.toString());
+        playGameSession(sessionId, ClassicMoves.SCISSORS_MOVE.toString());
+        UriTemplate template = new UriTemplate(RockPaperScissorsGameSessionController.API_GAME_SESSION_SUMMARY_URI);
+        this.mockMvc.perform(MockMvcRequestBuilders.get(template.expand(sessionId)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+                .andExpect(jsonPath("$.drawGamePlays").value(1))
+                .andExpect(jsonPath("$.gamePlaysWonByPlayerName." + VALID_PLAYER_NAME).value(1))
+                .andExpect(jsonPath("$.gamePlaysWonByPlayerName." + ROCK_STRATEGY_NAME).value(1));
+    }
+
+    @Test
+    public void givenDeletedGameSessionWhenGetGameSessionThenReturn404() throws Exception {
+        String sessionId = createValidGameSession();
+        UriTemplate template = new UriTemplate(RockPaperScissorsGameSessionController.API_GAME_SESSION_URI);
+        this.mockMvc.perform(MockMvcRequestBuilders.delete(template.expand(sessionId)))
+                .andExpect(status().isNoContent());
+        this.mockMvc.perform(MockMvcRequestBuilders.get(template.expand(sessionId)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void givenFailingJournalWhenPlayGameSessionThenReturn503AndDontCountTheGamePlay() throws Exception {
+        String sessionId = createValidGameSession();
+        doThrow(new IllegalStateException()).when(gameJournal).appendPlayed(any(), anyInt(), anyInt(), any());
+        playGameSession(sessionId, ClassicMoves.PAPER_MOVE.toString()).andExpect(status().isServiceUnavailable());
+        UriTemplate template = new UriTemplate(RockPaperScissorsGameSessionController.API_GAME_SESSION_SUMMARY_URI);
+        this.mockMvc.perform(MockMvcRequestBuilders.get(template.expand(sessionId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.drawGamePlays").value(0))
+                .andExpect(jsonPath("$.gamePlaysWonByPlayerName." + VALID_PLAYER_NAME).doesNotExist());
+    }
+
+    @Test
+    public void givenFailingJournalWhenDeleteGameSessionThenReturn503AndKeepTheSession() throws Exception {
+        String sessionId = createValidGameSession();
+        doThrow(new IllegalStateException()).when(gameJournal).appendClosed(any());
+        UriTemplate template = new UriTemplate(RockPaperScissorsGameSessionController.API_GAME_SESSION_URI);
+        this.mockMvc.perform(MockMvcRequestBuilders.delete(template.expand(sessionId)))
+                .andExpect(status().isServiceUnavailable());
+        this.mockMvc.perform(MockMvcRequestBuilders.get(template.expand(sessionId)))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions createGameSession(String playerName, String strategy) throws Exception {
+        return this.mockMvc.perform(
+                MockMvcRequestBuilders.post(RockPaperScissorsGameSessionController.API_GAME_SESSIONS_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(MessageFormat.format(NEW_GAME_SESSION_JSON_PATTERN, playerName, strategy)));
+    }
+
+    private String createValidGameSession() throws Exception {
+        MvcResult result = createGameSession(VALID_PLAYER_NAME, ROCK_STRATEGY_NAME).andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), JSONPATH_RESPONSE_ID_PROPERTY_PATTERN);
+    }
+
+    private ResultActions playGameSession(String sessionId, String move) throws Exception {
+        UriTemplate template = new UriTemplate(RockPaperScissorsGameSessionController.API_GAME_SESSION_GAME_PLAYS_URI);
+        return this.mockMvc.perform(MockMvcRequestBuilders.post(template.expand(sessionId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(MessageFormat.format(SUBMITTED_MOVE_JSON_PATTERN, move)));
+    }
+}
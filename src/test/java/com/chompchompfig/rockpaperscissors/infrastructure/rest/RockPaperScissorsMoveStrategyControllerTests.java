@@ -12,10 +12,15 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.web.util.UriTemplate;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @RunWith(SpringRunner.class)
@@ -24,19 +29,89 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class RockPaperScissorsMoveStrategyControllerTests {
 
     public static final String RANDOM_STRATEGY_RESOURCE_NAME = "random";
+    public static final String ROCK_STRATEGY_RESOURCE_NAME = "rock";
+    public static final String UNKNOWN_STRATEGY_RESOURCE_NAME = "unknown";
     public static final String JSONPATH_RESPONSE_MOVE_PROPERTY_PATTERN = "$.move";
+    public static final String JSONPATH_RESPONSE_MOVES_PROPERTY_PATTERN = "$.moves";
+    public static final String JSONPATH_RESPONSE_FIRST_MOVE_PROPERTY_PATTERN = "$.moves[0].move";
+    public static final int VALID_NEXT_MOVES_COUNT = 3;
+    public static final int VALID_STREAMED_NEXT_MOVES_COUNT = 5000;
+    public static final int INVALID_NEXT_MOVES_COUNT = RockPaperScissorsMoveStrategyController.MAX_NEXT_MOVES_COUNT + 1;
     @Autowired
     private MockMvc mockMvc;
 
     @Test
     public void givenValidConfigurationWhenApiMoveStrategyRandomNextMoveThenReturn200kAndRandomMove() throws Exception{
         UriTemplate template = new UriTemplate(RockPaperScissorsMoveStrategyController.API_MOVE_STRATEGY_NEXT_MOVE_URI);
-        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.get(template.expand(RANDOM_STRATEGY_RESOURCE_NAME)))
+        MvcResult result = performAsync(MockMvcRequestBuilders.get(template.expand(RANDOM_STRATEGY_RESOURCE_NAME)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
                 .andExpect(jsonPath(JSONPATH_RESPONSE_MOVE_PROPERTY_PATTERN).hasJsonPath())
                 .andExpect(jsonPath(JSONPATH_RESPONSE_MOVE_PROPERTY_PATTERN).isString()).andReturn();
         assertResponseIsClassicMove(result.getResponse().getContentAsString());
+        assertEquals(result.getResponse().getContentAsByteArray().length, result.getResponse().getContentLength());
+    }
+
+    @Test
+    public void givenFixedStrategyNameWhenApiMoveStrategyNextMoveThenReturn200kAndFixedMove() throws Exception{
+        UriTemplate template = new UriTemplate(RockPaperScissorsMoveStrategyController.API_MOVE_STRATEGY_NEXT_MOVE_URI);
+        performAsync(MockMvcRequestBuilders.get(template.expand(ROCK_STRATEGY_RESOURCE_NAME)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(JSONPATH_RESPONSE_MOVE_PROPERTY_PATTERN).value(ClassicMoves.ROCK_MOVE.toString()));
+    }
+
+    @Test
+    public void givenUnknownStrategyNameWhenApiMoveStrategyNextMoveThenReturn404() throws Exception{
+        UriTemplate template = new UriTemplate(RockPaperScissorsMoveStrategyController.API_MOVE_STRATEGY_NEXT_MOVE_URI);
+        this.mockMvc.perform(MockMvcRequestBuilders.get(template.expand(UNKNOWN_STRATEGY_RESOURCE_NAME)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void givenValidCountWhenApiMoveStrategyRandomNextMovesThenReturn200kAndCountRandomMoves() throws Exception{
+        UriTemplate template = new UriTemplate(RockPaperScissorsMoveStrategyController.API_MOVE_STRATEGY_NEXT_MOVES_URI);
+        performAsync(MockMvcRequestBuilders.get(template.expand(RANDOM_STRATEGY_RESOURCE_NAME))
+                .param(RockPaperScissorsMoveStrategyController.NEXT_MOVES_COUNT_PARAM_NAME,
+                        String.valueOf(VALID_NEXT_MOVES_COUNT)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+                .andExpect(jsonPath(JSONPATH_RESPONSE_MOVES_PROPERTY_PATTERN, hasSize(VALID_NEXT_MOVES_COUNT)))
+                .andExpect(jsonPath(JSONPATH_RESPONSE_FIRST_MOVE_PROPERTY_PATTERN).isString());
+    }
+
+    @Test
+    public void givenTooLargeCountWhenApiMoveStrategyRandomNextMovesThenReturn400() throws Exception{
+        UriTemplate template = new UriTemplate(RockPaperScissorsMoveStrategyController.API_MOVE_STRATEGY_NEXT_MOVES_URI);
+        this.mockMvc.perform(MockMvcRequestBuilders.get(template.expand(RANDOM_STRATEGY_RESOURCE_NAME))
+                .param(RockPaperScissorsMoveStrategyController.NEXT_MOVES_COUNT_PARAM_NAME,
+                        String.valueOf(INVALID_NEXT_MOVES_COUNT)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void givenValidCountWhenApiMoveStrategyRandomNextMovesStreamThenStreamOneMovePerLine() throws Exception{
+        UriTemplate template =
+                new UriTemplate(RockPaperScissorsMoveStrategyController.API_MOVE_STRATEGY_NEXT_MOVES_STREAM_URI);
+        MvcResult deferredResult = this.mockMvc.perform(
+                MockMvcRequestBuilders.get(template.expand(RANDOM_STRATEGY_RESOURCE_NAME))
+                .param(RockPaperScissorsMoveStrategyController.NEXT_MOVES_COUNT_PARAM_NAME,
+                        String.valueOf(VALID_STREAMED_NEXT_MOVES_COUNT))
+                .accept(RockPaperScissorsMoveStrategyController.APPLICATION_NDJSON_VALUE))
+                .andExpect(request().asyncStarted()).andReturn();
+        MvcResult result = performAsync(asyncDispatch(deferredResult)).andExpect(status().isOk()).andReturn();
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(VALID_STREAMED_NEXT_MOVES_COUNT, lines.length);
+        for (String line : lines) {
+            assertResponseIsClassicMove(line);
+        }
+    }
+
+    /**
+     * Performs a request whose response is completed asynchronously, dispatching it again once it is completed
+     */
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult asyncResult = this.mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+        return this.mockMvc.perform(asyncDispatch(asyncResult));
     }
 
     private void assertResponseIsClassicMove(String jsonResponse) throws java.io.IOException {
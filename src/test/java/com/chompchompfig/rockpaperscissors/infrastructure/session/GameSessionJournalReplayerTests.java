@@ -0,0 +1,91 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.session;
+
+import com.chompchompfig.rockpaperscissors.domain.Game.GameSummary;
+import com.chompchompfig.rockpaperscissors.domain.MoveStrategy;
+import com.chompchompfig.rockpaperscissors.domain.Player;
+import com.chompchompfig.rockpaperscissors.domain.Result;
+import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
+import com.chompchompfig.rockpaperscissors.infrastructure.journal.GameJournal;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+
+public class GameSessionJournalReplayerTests {
+
+    private static final String VALID_PLAYER_NAME = "ONE";
+    private static final String ROCK_STRATEGY_NAME = "rock";
+    private static final String UNKNOWN_STRATEGY_NAME = "unknown";
+    private static final MoveStrategy ROCK_MOVE_STRATEGY = () -> ClassicMoves.ROCK_MOVE;
+    private static final UUID VALID_SESSION_ID = UUID.randomUUID();
+    private static final UUID OTHER_SESSION_ID = UUID.randomUUID();
+
+    private GameSessionJournalReplayer replayer = new GameSessionJournalReplayer(name ->
+            ROCK_STRATEGY_NAME.equals(name) ? ROCK_MOVE_STRATEGY : null);
+
+    @Test
+    public void givenOpenedAndPlayedSessionWhenRestoreIntoThenRestoreItsGameSummary() {
+        replayer.opened(1, VALID_SESSION_ID, VALID_PLAYER_NAME, ROCK_STRATEGY_NAME);
+        replayer.played(2, VALID_SESSION_ID, 1, 0, Result.WINS);
+        replayer.played(3, VALID_SESSION_ID, 0, 0, Result.DRAWS);
+        GameSessionStore gameSessionStore = new GameSessionStore(4, 60000, 100);
+        replayer.restoreInto(gameSessionStore);
+        GameSummary gameSummary = gameSessionStore.get(VALID_SESSION_ID.toString()).getGameSummary();
+        assertEquals(1L, gameSummary.getDrawGamePlays());
+        assertEquals(Long.valueOf(1L),
+                gameSummary.getGamePlaysWonByPlayerName().get(Player.PlayerName.of(VALID_PLAYER_NAME)));
+        assertEquals(ClassicMoves.ROCK_MOVE,
+                gameSessionStore.get(VALID_SESSION_ID.toString()).play(ClassicMoves.ROCK_MOVE).getPlayerTwoMove());
+    }
+
+    @Test
+    public void givenSessionOpenedBeforeTheOldestSegmentRetainedWhenReplayJournalThenRestoreItsGameSummary()
+            throws IOException {
+        File directory = Files.createTempDirectory("journal").toFile();
+        try {
+            try (GameJournal gameJournal = new GameJournal(directory, 2, 1, 0, replayer)) {
+                gameJournal.appendOpened(VALID_SESSION_ID, VALID_PLAYER_NAME, ROCK_STRATEGY_NAME);
+                gameJournal.appendPlayed(VALID_SESSION_ID, 1, 0, Result.WINS);
+                gameJournal.appendPlayed(VALID_SESSION_ID, 0, 0, Result.DRAWS);
+                gameJournal.appendPlayed(VALID_SESSION_ID, 2, 0, Result.LOSES);
+                gameJournal.appendPlayed(VALID_SESSION_ID, 1, 0, Result.WINS);
+            }
+            GameSessionJournalReplayer restartReplayer = new GameSessionJournalReplayer(name ->
+                    ROCK_STRATEGY_NAME.equals(name) ? ROCK_MOVE_STRATEGY : null);
+            new GameJournal(directory, 2, 1, 0, restartReplayer).close();
+            GameSessionStore gameSessionStore = new GameSessionStore(4, 60000, 100);
+            restartReplayer.restoreInto(gameSessionStore);
+            GameSummary gameSummary = gameSessionStore.get(VALID_SESSION_ID.toString()).getGameSummary();
+            assertEquals(1L, gameSummary.getDrawGamePlays());
+            assertEquals(Long.valueOf(2L),
+                    gameSummary.getGamePlaysWonByPlayerName().get(Player.PlayerName.of(VALID_PLAYER_NAME)));
+            assertEquals(Long.valueOf(1L),
+                    gameSummary.getGamePlaysWonByPlayerName().get(Player.PlayerName.of(ROCK_STRATEGY_NAME)));
+        } finally {
+            for (File file : directory.listFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    @Test
+    public void givenClosedSessionWhenReplayThenDropIt() {
+        replayer.opened(1, VALID_SESSION_ID, VALID_PLAYER_NAME, ROCK_STRATEGY_NAME);
+        replayer.opened(2, OTHER_SESSION_ID, VALID_PLAYER_NAME, ROCK_STRATEGY_NAME);
+        replayer.closed(3, VALID_SESSION_ID);
+        assertEquals(1, replayer.size());
+    }
+
+    @Test
+    public void givenUnknownStrategyOrInvalidSessionWhenReplayThenSkipIt() {
+        replayer.opened(1, VALID_SESSION_ID, VALID_PLAYER_NAME, UNKNOWN_STRATEGY_NAME);
+        replayer.opened(2, OTHER_SESSION_ID, ROCK_STRATEGY_NAME, ROCK_STRATEGY_NAME);
+        replayer.played(3, VALID_SESSION_ID, 1, 0, Result.WINS);
+        assertEquals(0, replayer.size());
+    }
+}
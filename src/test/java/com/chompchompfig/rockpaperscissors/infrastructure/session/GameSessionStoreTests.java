@@ -0,0 +1,179 @@
+package com.chompchompfig.rockpaperscissors.infrastructure.session;
+
+import com.chompchompfig.rockpaperscissors.domain.GameSession;
+import com.google.common.base.Ticker;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.chompchompfig.rockpaperscissors.utils.FixtureFactory.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class GameSessionStoreTests {
+
+    private static final int SINGLE_STRIPE = 1;
+    private static final int VALID_STRIPES = 4;
+    private static final long VALID_IDLE_TTL_MILLIS = 1000;
+    private static final long VALID_MAX_SESSIONS = 100;
+    private static final long FEW_MAX_SESSIONS = 2;
+    private static final String UNKNOWN_SESSION_ID = "unknown";
+
+    private AtomicLong nanos = new AtomicLong();
+    private Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroStripesWhenNewGameSessionStoreThenThrowException() {
+        new GameSessionStore(0, VALID_IDLE_TTL_MILLIS, VALID_MAX_SESSIONS, ticker);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroIdleTtlWhenNewGameSessionStoreThenThrowException() {
+        new GameSessionStore(VALID_STRIPES, 0, VALID_MAX_SESSIONS, ticker);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenZeroMaxSessionsWhenNewGameSessionStoreThenThrowException() {
+        new GameSessionStore(VALID_STRIPES, VALID_IDLE_TTL_MILLIS, 0, ticker);
+    }
+
+    @Test
+    public void givenAddedSessionsWhenGetThenReturnEachSessionByItsId() {
+        GameSessionStore gameSessionStore = newGameSessionStore(VALID_MAX_SESSIONS);
+        GameSession gameSession = newGameSession();
+        GameSession otherGameSession = newGameSession();
+        String sessionId = gameSessionStore.add(gameSession);
+        String otherSessionId = gameSessionStore.add(otherGameSession);
+        assertNotEquals(sessionId, otherSessionId);
+        assertSame(gameSession, gameSessionStore.get(sessionId));
+        assertSame(otherGameSession, gameSessionStore.get(otherSessionId));
+        assertEquals(2, gameSessionStore.size());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void givenUnknownSessionIdWhenGetThenThrowException() {
+        newGameSessionStore(VALID_MAX_SESSIONS).get(UNKNOWN_SESSION_ID);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void givenRemovedSessionWhenGetThenThrowException() {
+        GameSessionStore gameSessionStore = newGameSessionStore(VALID_MAX_SESSIONS);
+        String sessionId = gameSessionStore.add(newGameSession());
+        gameSessionStore.remove(sessionId);
+        gameSessionStore.get(sessionId);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void givenUnknownSessionIdWhenRemoveThenThrowException() {
+        newGameSessionStore(VALID_MAX_SESSIONS).remove(UNKNOWN_SESSION_ID);
+    }
+
+    @Test
+    public void givenSessionIdleForLongerThanTheTtlWhenGetThenThrowException() {
+        GameSessionStore gameSessionStore = newGameSessionStore(VALID_MAX_SESSIONS);
+        String sessionId = gameSessionStore.add(newGameSession());
+        advanceMillis(VALID_IDLE_TTL_MILLIS + 1);
+        try {
+            gameSessionStore.get(sessionId);
+            fail("Expected the idle session to be evicted");
+        } catch (NoSuchElementException e) {
+            gameSessionStore.evictIdle();
+            assertEquals(0, gameSessionStore.size());
+        }
+    }
+
+    @Test
+    public void givenSessionPlayedWithinTheTtlWhenGetThenKeepTheSession() {
+        GameSessionStore gameSessionStore = newGameSessionStore(VALID_MAX_SESSIONS);
+        GameSession gameSession = newGameSession();
+        String sessionId = gameSessionStore.add(gameSession);
+        advanceMillis(VALID_IDLE_TTL_MILLIS - 1);
+        gameSessionStore.get(sessionId);
+        advanceMillis(VALID_IDLE_TTL_MILLIS - 1);
+        assertSame(gameSession, gameSessionStore.get(sessionId));
+    }
+
+    @Test
+    public void givenMaxSessionsReachedWhenAddThenEvictTheLeastRecentlyPlayedSession() {
+        GameSessionStore gameSessionStore = newGameSessionStore(FEW_MAX_SESSIONS);
+        String leastRecentlyPlayedSessionId = gameSessionStore.add(newGameSession());
+        String recentlyPlayedSessionId = gameSessionStore.add(newGameSession());
+        gameSessionStore.get(recentlyPlayedSessionId);
+        String newSessionId = gameSessionStore.add(newGameSession());
+        assertEquals(FEW_MAX_SESSIONS, gameSessionStore.size());
+        gameSessionStore.get(recentlyPlayedSessionId);
+        gameSessionStore.get(newSessionId);
+        try {
+            gameSessionStore.get(leastRecentlyPlayedSessionId);
+            fail("Expected the least recently played session to be evicted");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void givenRestoredSessionWhenGetThenReturnItUnderItsFormerId() {
+        GameSessionStore gameSessionStore = newGameSessionStore(VALID_MAX_SESSIONS);
+        GameSession gameSession = newGameSession();
+        String sessionId = UUID.randomUUID().toString();
+        gameSessionStore.restore(sessionId, gameSession);
+        assertSame(gameSession, gameSessionStore.get(sessionId));
+    }
+
+    @Test
+    public void givenEvictionListenerWhenSessionIdleForLongerThanTheTtlThenTellTheListener() {
+        GameSessionStore gameSessionStore = newGameSessionStore(VALID_MAX_SESSIONS);
+        List<String> evictedSessionIds = new ArrayList<>();
+        gameSessionStore.setEvictionListener(evictedSessionIds::add);
+        String sessionId = gameSessionStore.add(newGameSession());
+        advanceMillis(VALID_IDLE_TTL_MILLIS + 1);
+        gameSessionStore.evictIdle();
+        assertEquals(Collections.singletonList(sessionId), evictedSessionIds);
+    }
+
+    @Test
+    public void givenEvictionListenerWhenMaxSessionsReachedThenTellTheListener() {
+        GameSessionStore gameSessionStore = newGameSessionStore(FEW_MAX_SESSIONS);
+        List<String> evictedSessionIds = new ArrayList<>();
+        gameSessionStore.setEvictionListener(evictedSessionIds::add);
+        String leastRecentlyPlayedSessionId = gameSessionStore.add(newGameSession());
+        gameSessionStore.add(newGameSession());
+        gameSessionStore.add(newGameSession());
+        assertEquals(Collections.singletonList(leastRecentlyPlayedSessionId), evictedSessionIds);
+    }
+
+    @Test
+    public void givenEvictionListenerWhenRemoveThenDontTellTheListener() {
+        GameSessionStore gameSessionStore = newGameSessionStore(VALID_MAX_SESSIONS);
+        List<String> evictedSessionIds = new ArrayList<>();
+        gameSessionStore.setEvictionListener(evictedSessionIds::add);
+        gameSessionStore.remove(gameSessionStore.add(newGameSession()));
+        gameSessionStore.evictIdle();
+        assertEquals(Collections.emptyList(), evictedSessionIds);
+    }
+
+    private GameSessionStore newGameSessionStore(long maxSessions) {
+        return new GameSessionStore(SINGLE_STRIPE, VALID_IDLE_TTL_MILLIS, maxSessions, ticker);
+    }
+
+    private GameSession newGameSession() {
+        return new GameSession(validPlayerOneName(), VALID_PLAYER_TWO);
+    }
+
+    private void advanceMillis(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -9,11 +9,14 @@ import com.chompchompfig.rockpaperscissors.domain.Player.PlayerName;
 import com.chompchompfig.rockpaperscissors.domain.moves.ClassicMoves;
 import com.chompchompfig.rockpaperscissors.domain.movestrategies.FixedMoveStrategy;
 import com.chompchompfig.rockpaperscissors.infrastructure.movestrategy.RemoteNextMoveResource;
+import com.chompchompfig.rockpaperscissors.infrastructure.movestrategy.RemoteNextMovesResource;
 import com.google.common.collect.Lists;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class FixtureFactory {
 
@@ -94,4 +97,11 @@ public class FixtureFactory {
         return nextMoveResource;
     }
 
+    public static RemoteNextMovesResource newRemoteNextMovesResource(String... moveNames) {
+        RemoteNextMovesResource nextMovesResource = new RemoteNextMovesResource();
+        nextMovesResource.setMoves(Stream.of(moveNames).map(FixtureFactory::newRemoteNextMoveResource)
+                .collect(Collectors.toList()));
+        return nextMovesResource;
+    }
+
 }